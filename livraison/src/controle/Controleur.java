@@ -22,6 +22,7 @@ import model.factoryJoueur.JoueurFactory;
 import model.factoryJoueur.Mode;
 import model.factoryJoueur.JoueurFactory.TypeJoueurEnum;
 import model.factoryJoueur.TypeJoueur;
+import model.ia.Difficulte;
 import utils.configuration.Parametres;
 import utils.configuration.TypeEquipement;
 import utils.strategyMessage.MessageHandler;
@@ -34,6 +35,7 @@ public class Controleur {
     private Grille grille;
     private List<TypeJoueur> joueurs;
     private int indiceJoueurActuel = 0;
+    private Difficulte difficulteAI = Difficulte.PAR_DEFAUT;
     private boolean partieEnCours = true;
     private PropertyChangeSupport pcs = new PropertyChangeSupport(this);
 
@@ -97,42 +99,32 @@ public class Controleur {
         grille.gererExplosionsDifferrees();
         pcs.firePropertyChange("modeleMisAJour", null, null);
 
-        for (Position positionExplosif : grille.getPositionsExplosif()) {
-            afficherExplosion(positionExplosif);
-        }
+        frame.animerDetonations(grille.getDetonationsDernierTour());
 
         if (grille.isOver()) {
             partieEnCours = false;
+            terminerJoueurs();
             afficherResultatFinal();
             return;
         }
 
+        TypeJoueur.lancerReflexions(joueurs, joueurActuel, grille);
+
         indiceJoueurActuel++;
         if (indiceJoueurActuel >= joueurs.size()) {
             indiceJoueurActuel = 0;
         }
     }
 
-    private void afficherExplosion(Position position) {
-        SwingUtilities.invokeLater(() -> {
-
-        	String cheminExplosion = "ressources/explosion.png";  
-            setImage(position, cheminExplosion);  
-
-            Timer timer = new Timer(1000, e -> {
-                String cheminImageOriginale = getImagePourPosition(position.getX(), position.getY());
-                setImage(position, cheminImageOriginale); 
-                pcs.firePropertyChange("modeleMisAJour", null, null);  
-            });
-            timer.setRepeats(false);
-            timer.start();
-        });
+    /**
+     * Signale la fin de la partie à chaque joueur, qui arrête sa réflexion.
+     */
+    private void terminerJoueurs() {
+        for (TypeJoueur joueur : joueurs) {
+            joueur.terminer();
+        }
     }
 
-    
-
-
-
     /**
      * Affiche le résultat final de la partie.
      */
@@ -161,17 +153,51 @@ public class Controleur {
      * @return Le chemin de l'image pour cette position.
      */
     public String getImagePourPosition(int x, int y) {
+        if (frame != null && frame.estExplosionAffichee(x, y)) {
+            return "ressources/explosion.png";
+        }
         Position position = new Position(x, y);
         Case caseGrille = grille.getCase(position); // Grille est un attribut de type Grille qui contient toutes les cases
 
         if (caseGrille == null) {
             return null;
         }
+        if (!caseGrille.estUnMur() && !estCaseVisible(x, y)) {
+            return "ressources/background.png";
+        }
 
         // Appeler la méthode pour obtenir le chemin de l'image de cette case
         return obtenirImagePourCase(caseGrille);
     }
 
+    /**
+     * Vérifie si une case est affichée avec son contenu. Avec le brouillard de guerre, seules les cases
+     * du champ de vision d'un combattant vivant des joueurs humains le sont ; sans joueur humain
+     * vivant, la partie est regardée en spectateur et toute la grille est affichée.
+     *
+     * @param x La coordonnée x de la case.
+     * @param y La coordonnée y de la case.
+     * @return true si le contenu de la case est affiché, false s'il est caché par le brouillard.
+     */
+    public boolean estCaseVisible(int x, int y) {
+        if (!Parametres.brouillard) {
+            return true;
+        }
+        boolean humainVivant = false;
+        for (TypeJoueur joueur : joueurs) {
+            if (joueur.getType() != TypeJoueurEnum.HUMAIN) {
+                continue;
+            }
+            for (Combattant combattant : joueur.getCombattantsVivants()) {
+                humainVivant = true;
+                if (grille.getChampsDeVision().estVisible(combattant, Parametres.rayonVision, x, y)) {
+                    return true;
+                }
+            }
+        }
+        return !humainVivant;
+    }
+
     /**
      * Récupère le chemin de l'image correspondant à une case.
      *
@@ -282,7 +308,7 @@ private String obtenirImagePourCase(Case caseGrille) {
     }
 
     /**
-     * Demande à l'utilisateur la répartition des types de joueurs.
+     * Demande à l'utilisateur la répartition des types de joueurs et la difficulté des joueurs AI.
      *
      * @param totalJoueurs Le nombre total de joueurs.
      * @return Une liste de champs texte contenant les valeurs saisies.
@@ -302,8 +328,19 @@ private String obtenirImagePourCase(Case caseGrille) {
             panel.add(row);
         }
 
+        JPanel rowDifficulte = new JPanel(new FlowLayout());
+        rowDifficulte.add(new JLabel("Difficulté des joueurs AI :"));
+        JComboBox<Difficulte> choixDifficulte = new JComboBox<>(Difficulte.values());
+        choixDifficulte.setSelectedItem(difficulteAI);
+        rowDifficulte.add(choixDifficulte);
+        panel.add(rowDifficulte);
+
         int result = JOptionPane.showConfirmDialog(null, panel, "Configuration des joueurs", JOptionPane.OK_CANCEL_OPTION, JOptionPane.PLAIN_MESSAGE);
-        return result == JOptionPane.OK_OPTION ? champsTexte : null;
+        if (result == JOptionPane.OK_OPTION) {
+            difficulteAI = (Difficulte) choixDifficulte.getSelectedItem();
+            return champsTexte;
+        }
+        return null;
     }
 
     /**
@@ -355,7 +392,7 @@ private String obtenirImagePourCase(Case caseGrille) {
         List<TypeJoueur> joueursCrees = new ArrayList<>();
         for (int i = 0; i < nombre; i++) {
             List<Combattant> combattants = CombattantFactory.creerListeCombattants(1, grille, message);
-            joueursCrees.add(JoueurFactory.creerJoueurAvecStrategie(type, combattants , Mode.GRAPHIC));
+            joueursCrees.add(JoueurFactory.creerJoueurAvecStrategie(type, combattants , Mode.GRAPHIC, difficulteAI));
         }
         return joueursCrees;
     }
@@ -434,6 +471,7 @@ private String obtenirImagePourCase(Case caseGrille) {
     	if (frame != null) {
             frame.dispose();
         }
+    	terminerJoueurs();
     	joueurs.clear();
         grille = new Grille(message);
         partieEnCours = true;
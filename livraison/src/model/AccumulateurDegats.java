@@ -0,0 +1,124 @@
+package model;
+
+import java.util.Arrays;
+
+/**
+ * Accumulateur des dégâts d'une phase de jeu : un tir, ou la vague d'explosions d'un explosif.
+ * <p>
+ * Pendant la phase, chaque source de dégâts ajoute ses coups par victime, avec les dégâts subis
+ * sans et avec bouclier. À la fin de la phase, {@link #appliquer(Rapport)} résout tout en une fois :
+ * le bouclier de chaque victime est pris en compte, les pertes d'énergie sont infligées à toutes les
+ * victimes, puis chaque victime reçoit un seul rapport de ses dégâts cumulés, suivi de son
+ * élimination si elle a perdu sa dernière énergie pendant la phase. Le résultat ne dépend donc pas
+ * de l'ordre des coups d'une même phase.
+ * <p>
+ * Les victimes et leurs dégâts sont tenus dans des tableaux réutilisés d'une phase à l'autre, dans
+ * l'ordre de leur premier coup ; une phase n'alloue rien tant que ses victimes tiennent dans les
+ * tableaux.
+ */
+public class AccumulateurDegats {
+
+    /**
+     * Rapport des dégâts d'une victime, émis une fois par victime à la fin de la phase.
+     */
+    @FunctionalInterface
+    public interface Rapport {
+
+        /**
+         * Signale les dégâts subis par une victime pendant la phase.
+         *
+         * @param victime Le combattant touché.
+         * @param degats  Les dégâts cumulés infligés, bouclier compris.
+         */
+        void signaler(Combattant victime, int degats);
+    }
+
+    /** Capacité initiale des tableaux de victimes. */
+    private static final int CAPACITE_INITIALE = 4;
+
+    private Combattant[] victimes = new Combattant[CAPACITE_INITIALE];
+    private int[] degats = new int[CAPACITE_INITIALE];
+    private int[] degatsAvecBouclier = new int[CAPACITE_INITIALE];
+    private boolean[] enVie = new boolean[CAPACITE_INITIALE];
+    private int nombre;
+
+    /**
+     * Ajoute un coup à la phase en cours.
+     *
+     * @param victime            Le combattant touché.
+     * @param degats             Les dégâts subis sans bouclier.
+     * @param degatsAvecBouclier Les dégâts subis avec le bouclier actif.
+     * @throws IllegalArgumentException Si la victime est nulle ou si des dégâts sont négatifs.
+     */
+    public void ajouter(Combattant victime, int degats, int degatsAvecBouclier) {
+        if (victime == null) {
+            throw new IllegalArgumentException("La victime ne peut pas être nulle.");
+        }
+        if (degats < 0 || degatsAvecBouclier < 0) {
+            throw new IllegalArgumentException("Les dégâts ne peuvent pas être négatifs.");
+        }
+        int index = 0;
+        while (index < nombre && victimes[index] != victime) {
+            index++;
+        }
+        if (index == nombre) {
+            if (nombre == victimes.length) {
+                agrandir();
+            }
+            victimes[nombre] = victime;
+            this.degats[nombre] = 0;
+            this.degatsAvecBouclier[nombre] = 0;
+            nombre++;
+        }
+        this.degats[index] += degats;
+        this.degatsAvecBouclier[index] += degatsAvecBouclier;
+    }
+
+    /**
+     * Obtient le nombre de victimes de la phase en cours.
+     *
+     * @return Le nombre de combattants touchés depuis le début de la phase.
+     */
+    public int getNombreVictimes() {
+        return nombre;
+    }
+
+    /**
+     * Termine la phase : inflige les dégâts cumulés de chaque victime selon son bouclier, émet un
+     * rapport par victime, puis élimine les victimes qui ont perdu leur dernière énergie.
+     *
+     * @param rapport Le rapport à émettre pour chaque victime, ou null.
+     * @return Le nombre de victimes de la phase.
+     */
+    public int appliquer(Rapport rapport) {
+        int victimesPhase = nombre;
+        for (int i = 0; i < victimesPhase; i++) {
+            Combattant victime = victimes[i];
+            enVie[i] = victime.estEnVie();
+            if (victime.estBouclierActif()) {
+                degats[i] = degatsAvecBouclier[i];
+            }
+            victime.perdreEnergie(degats[i]);
+        }
+        for (int i = 0; i < victimesPhase; i++) {
+            Combattant victime = victimes[i];
+            if (rapport != null) {
+                rapport.signaler(victime, degats[i]);
+            }
+            if (enVie[i]) {
+                victime.verifierElimination();
+            }
+            victimes[i] = null;
+        }
+        nombre = 0;
+        return victimesPhase;
+    }
+
+    private void agrandir() {
+        int capacite = 2 * victimes.length;
+        victimes = Arrays.copyOf(victimes, capacite);
+        degats = Arrays.copyOf(degats, capacite);
+        degatsAvecBouclier = Arrays.copyOf(degatsAvecBouclier, capacite);
+        enVie = Arrays.copyOf(enVie, capacite);
+    }
+}
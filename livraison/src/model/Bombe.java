@@ -2,8 +2,21 @@ package model;
 
 import utils.configuration.TypeEquipement;
 
+/**
+ * Bombe : explosif à retardement, visible de tous, qui explose à l'expiration de son délai ou
+ * immédiatement lorsqu'un combattant entre sur sa case.
+ * <p>
+ * Une fois posée sur une grille, la bombe est planifiée par l'{@link EcheancierBombes} de la grille,
+ * qui retient son tour d'échéance ; son délai restant est alors déduit du tour courant de la grille.
+ */
 public class Bombe extends Explosif {
 
+    /** Case où la bombe a été planifiée, ou null tant qu'elle n'est pas posée. */
+    private Case casePlanifiee;
+
+    /** Tour de la grille à la fin duquel la bombe explose, une fois posée. */
+    private long echeance;
+
 	public Bombe(Combattant porteur, TypeEquipement type) {
         super(porteur, type);
     }
@@ -15,26 +28,15 @@ public class Bombe extends Explosif {
      * @param caseCible La case où se trouve la bombe.
      */
     private void explosionImmediatement(Combattant combattant, Case caseCible) {
-        if (combattant != null) {
-
-        	int degats = combattant.estBouclierActif() ? getCoutEnergieAvecBouclier() : getImpactEnergie();
-            combattant.perdreEnergie(degats);
-
-            if (combattant.getMessageHandler() != null) {
-                combattant.getMessageHandler().afficherMessage(
-                    "Une bombe a explosé directement sur " +
-                    combattant.getNom() + " à la position (" + caseCible.getPosition().getX() +
-                    ", " + caseCible.getPosition().getY() + "), infligeant " + degats + " points de dégâts."
-                );
-            }
+        if (combattant.getMessageHandler() != null) {
+            combattant.getMessageHandler().afficherMessage(
+                "Une bombe a explosé directement sur " +
+                combattant.getNom() + " à la position (" + caseCible.getPosition().getX() +
+                ", " + caseCible.getPosition().getY() + ")."
+            );
         }
 
-        impacterVoisins(caseCible);
-       
-        caseCible.retirerExplosif();
-    
-
-    
+        detoner(caseCible, combattant);
     }
 
     /**
@@ -43,23 +45,73 @@ public class Bombe extends Explosif {
      * @param caseCible La case où se trouve la bombe.
      */
     private void explosionAvecDelai(Case caseCible) {
-        if (super.getDelaiExplosion() > 0) {
-            super.setDelaiExplosion(super.getDelaiExplosion()-1); 
-            return; 
+        if (getDelaiExplosion() > 0) {
+            return;
         }
 
-        impacterVoisins(caseCible);
-
         if (caseCible.getOccupant() != null && caseCible.getOccupant().getMessageHandler() != null) {
             caseCible.getOccupant().getMessageHandler().afficherMessage(
                 "La bombe sur la case (" + caseCible.getPosition().getX() +
                 ", " + caseCible.getPosition().getY() + ") a explosé aprés expiration de son delai."
             );
         }
-      
 
-        caseCible.retirerExplosif();
-        caseCible.setExplosif(null);
+        detoner(caseCible, null);
+    }
+
+    /**
+     * Obtient le délai restant avant l'explosion, en tours de joueur.
+     * Pour une bombe posée, il est déduit de son échéance et du tour courant de la grille.
+     *
+     * @return Le délai restant.
+     */
+    @Override
+    public int getDelaiExplosion() {
+        if (casePlanifiee == null) {
+            return super.getDelaiExplosion();
+        }
+        return (int) Math.max(0, echeance - casePlanifiee.getGrille().getTourCourant());
+    }
+
+    /**
+     * Modifie le délai restant avant l'explosion. Une bombe posée est replanifiée en conséquence.
+     *
+     * @param delaiExplosion Le nouveau délai, en tours de joueur.
+     */
+    @Override
+    public void setDelaiExplosion(int delaiExplosion) {
+        super.setDelaiExplosion(delaiExplosion);
+        if (casePlanifiee != null && casePlanifiee.getExplosif() == this) {
+            Grille grille = casePlanifiee.getGrille();
+            grille.getEcheancierBombes().planifier(this, casePlanifiee, this.delaiExplosion);
+            grille.signalerModification(TypeModification.EXPLOSIF, casePlanifiee.getPosition());
+        }
+    }
+
+    /**
+     * Obtient la case où la bombe a été planifiée.
+     *
+     * @return La case de la bombe, ou null si elle n'a pas été posée.
+     */
+    Case getCasePlanifiee() {
+        return casePlanifiee;
+    }
+
+    /**
+     * Obtient le tour de la grille à la fin duquel la bombe explose.
+     *
+     * @return Le tour d'échéance, significatif une fois la bombe posée.
+     */
+    long getEcheance() {
+        return echeance;
+    }
+
+    /**
+     * Enregistre la case et le tour d'échéance de la bombe. Appelée par l'échéancier de la grille.
+     */
+    void setEcheance(Case casePlanifiee, long echeance) {
+        this.casePlanifiee = casePlanifiee;
+        this.echeance = echeance;
     }
 
     /**
@@ -78,6 +130,19 @@ public class Bombe extends Explosif {
         }
     }
 
+    /**
+     * Crée une copie de la bombe, avec son délai restant, pour un autre porteur.
+     *
+     * @param nouveauPorteur Le porteur de la copie.
+     * @return La copie.
+     */
+    @Override
+    public Explosif copier(Combattant nouveauPorteur) {
+        Bombe copie = new Bombe(nouveauPorteur, getType());
+        copie.setDelaiExplosion(getDelaiExplosion());
+        return copie;
+    }
+
     @Override
     public String toString() {
         return "3"; 
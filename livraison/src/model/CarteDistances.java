@@ -0,0 +1,253 @@
+package model;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Cache de cartes de distances partagé par toutes les stratégies d'une même grille.
+ * <p>
+ * Une carte de distances associe à chaque case (indexée par {@link Grille#indexDe(int, int)}) le nombre
+ * minimal de déplacements orthogonaux nécessaires pour atteindre la source la plus proche
+ * (pastilles d'énergie, ennemis d'une équipe, position donnée). Elle est calculée par un parcours
+ * en largeur unique depuis toutes les sources, puis conservée tant que les murs, les occupants
+ * ou les pastilles de la grille ne changent pas.
+ * <p>
+ * Les cases occupées par un combattant reçoivent une distance mais ne sont pas traversées,
+ * puisqu'un combattant ne peut pas se déplacer sur une case occupée.
+ */
+public class CarteDistances {
+
+    /** Distance attribuée aux cases qu'aucune source ne permet d'atteindre. */
+    public static final short INACCESSIBLE = Short.MAX_VALUE;
+
+    /** Nombre maximal de cartes conservées simultanément dans le cache. */
+    private static final int TAILLE_MAX_CACHE = 64;
+
+    /** Clé de la carte des distances aux pastilles d'énergie. */
+    private static final Object CLE_PASTILLES = new Object();
+
+    /** La grille sur laquelle les distances sont calculées. */
+    private final Grille grille;
+
+    /** Cartes déjà calculées, indexées par leur clé de sources. */
+    private final Map<Object, Entree> cartes = new LinkedHashMap<Object, Entree>(16, 0.75f, true) {
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Object, Entree> eldest) {
+            return size() > TAILLE_MAX_CACHE;
+        }
+    };
+
+    /** File réutilisée par les parcours en largeur. */
+    private int[] file;
+
+    /**
+     * Constructeur de la classe CarteDistances.
+     *
+     * @param grille La grille sur laquelle les distances sont calculées.
+     */
+    public CarteDistances(Grille grille) {
+        this.grille = grille;
+    }
+
+    /**
+     * Obtient la carte des distances à la pastille d'énergie la plus proche.
+     *
+     * @return Le tableau des distances, à ne pas modifier.
+     */
+    public short[] distancesPastilles() {
+        Entree entree = cartes.get(CLE_PASTILLES);
+        if (entree == null || !entree.estValide(grille, true)) {
+            List<Integer> sources = new ArrayList<>();
+            for (int y = 0; y < grille.getLongueur(); y++) {
+                for (int x = 0; x < grille.getLargeur(); x++) {
+                    if (grille.getCase(x, y).contientPastilleEnergie()) {
+                        sources.add(grille.indexDe(x, y));
+                    }
+                }
+            }
+            entree = new Entree(calculer(sources), grille, true);
+            cartes.put(CLE_PASTILLES, entree);
+        }
+        return entree.distances;
+    }
+
+    /**
+     * Obtient la carte des distances à l'ennemi vivant le plus proche d'une équipe.
+     * Tous les combattants vivants n'appartenant pas à l'équipe sont considérés comme ennemis.
+     *
+     * @param equipe Les combattants de l'équipe.
+     * @return Le tableau des distances, à ne pas modifier.
+     */
+    public short[] distancesEnnemis(Collection<Combattant> equipe) {
+        List<Combattant> cle = Collections.unmodifiableList(new ArrayList<>(equipe));
+        Entree entree = cartes.get(cle);
+        if (entree == null || !entree.estValide(grille, false)) {
+            List<Integer> sources = new ArrayList<>();
+            for (Combattant c : grille.getAllCombattants()) {
+                if (c.estEnVie() && !equipe.contains(c) && grille.estPositionValide(c.getPosition())) {
+                    sources.add(grille.indexDe(c.getPosition().getX(), c.getPosition().getY()));
+                }
+            }
+            entree = new Entree(calculer(sources), grille, false);
+            cartes.put(cle, entree);
+        }
+        return entree.distances;
+    }
+
+    /**
+     * Obtient la carte des distances à l'ennemi vivant le plus proche d'un combattant : tout
+     * combattant vivant qui n'est pas son allié (voir {@link Combattant#estAllie(Combattant)}).
+     * La carte est partagée par tous les combattants d'une même équipe.
+     *
+     * @param combattant Le combattant dont les ennemis sont les sources.
+     * @return Le tableau des distances, à ne pas modifier.
+     */
+    public short[] distancesEnnemis(Combattant combattant) {
+        Object cle = combattant.getEquipe() != 0 ? Integer.valueOf(combattant.getEquipe()) : combattant;
+        Entree entree = cartes.get(cle);
+        if (entree == null || !entree.estValide(grille, false)) {
+            List<Integer> sources = new ArrayList<>();
+            for (Combattant c : grille.getAllCombattants()) {
+                if (c.estEnVie() && !c.estAllie(combattant) && grille.estPositionValide(c.getPosition())) {
+                    sources.add(grille.indexDe(c.getPosition().getX(), c.getPosition().getY()));
+                }
+            }
+            entree = new Entree(calculer(sources), grille, false);
+            cartes.put(cle, entree);
+        }
+        return entree.distances;
+    }
+
+    /**
+     * Obtient la carte des distances depuis une position donnée.
+     *
+     * @param position La position de départ.
+     * @return Le tableau des distances, à ne pas modifier.
+     */
+    public short[] distancesDepuis(Position position) {
+        Entree entree = cartes.get(position);
+        if (entree == null || !entree.estValide(grille, false)) {
+            List<Integer> sources = new ArrayList<>();
+            if (grille.estPositionValide(position)) {
+                sources.add(grille.indexDe(position.getX(), position.getY()));
+            }
+            entree = new Entree(calculer(sources), grille, false);
+            cartes.put(position, entree);
+        }
+        return entree.distances;
+    }
+
+    /**
+     * Obtient la distance d'une case dans une carte, ou {@link #INACCESSIBLE} si la position est invalide.
+     *
+     * @param distances La carte de distances.
+     * @param position  La position à consulter.
+     * @return La distance de la position.
+     */
+    public short distance(short[] distances, Position position) {
+        if (!grille.estPositionValide(position)) {
+            return INACCESSIBLE;
+        }
+        return distances[grille.indexDe(position.getX(), position.getY())];
+    }
+
+    /**
+     * Vide le cache. Les cartes seront recalculées à la prochaine demande.
+     */
+    public void vider() {
+        cartes.clear();
+    }
+
+    /**
+     * Effectue un parcours en largeur multi-sources sur la grille.
+     *
+     * @param sources Les index des cases sources.
+     * @return Le tableau des distances.
+     */
+    private short[] calculer(List<Integer> sources) {
+        int largeur = grille.getLargeur();
+        int longueur = grille.getLongueur();
+        int nombreCases = largeur * longueur;
+
+        short[] distances = new short[nombreCases];
+        Arrays.fill(distances, INACCESSIBLE);
+
+        if (file == null || file.length < nombreCases) {
+            file = new int[nombreCases];
+        }
+
+        int debut = 0;
+        int fin = 0;
+        for (int source : sources) {
+            if (distances[source] != 0) {
+                distances[source] = 0;
+                file[fin++] = source;
+            }
+        }
+
+        while (debut < fin) {
+            int index = file[debut++];
+            int x = index % largeur;
+            int y = index / largeur;
+            Case caseCourante = grille.getCase(x, y);
+
+            // Une case occupée (autre qu'une source) est atteinte mais pas traversée.
+            if (distances[index] > 0 && caseCourante.getOccupant() != null) {
+                continue;
+            }
+
+            short suivante = (short) (distances[index] + 1);
+            if (x > 0) fin = visiter(x - 1, y, suivante, distances, fin);
+            if (x < largeur - 1) fin = visiter(x + 1, y, suivante, distances, fin);
+            if (y > 0) fin = visiter(x, y - 1, suivante, distances, fin);
+            if (y < longueur - 1) fin = visiter(x, y + 1, suivante, distances, fin);
+        }
+
+        return distances;
+    }
+
+    /**
+     * Visite une case voisine lors du parcours en largeur.
+     *
+     * @return La nouvelle fin de file.
+     */
+    private int visiter(int x, int y, short distance, short[] distances, int fin) {
+        int index = grille.indexDe(x, y);
+        if (distances[index] != INACCESSIBLE || grille.getCase(x, y).estUnMur()) {
+            return fin;
+        }
+        distances[index] = distance;
+        file[fin] = index;
+        return fin + 1;
+    }
+
+    /**
+     * Carte de distances calculée, accompagnée des versions de la grille au moment du calcul.
+     */
+    private static class Entree {
+        private final short[] distances;
+        private final long versionMurs;
+        private final long versionOccupants;
+        private final long versionPastilles;
+
+        Entree(short[] distances, Grille grille, boolean dependDesPastilles) {
+            this.distances = distances;
+            this.versionMurs = grille.getVersion(TypeModification.MUR);
+            this.versionOccupants = grille.getVersion(TypeModification.OCCUPANT);
+            this.versionPastilles = dependDesPastilles ? grille.getVersion(TypeModification.PASTILLE) : -1;
+        }
+
+        boolean estValide(Grille grille, boolean dependDesPastilles) {
+            return versionMurs == grille.getVersion(TypeModification.MUR)
+                    && versionOccupants == grille.getVersion(TypeModification.OCCUPANT)
+                    && (!dependDesPastilles || versionPastilles == grille.getVersion(TypeModification.PASTILLE));
+        }
+    }
+}
@@ -0,0 +1,273 @@
+package model;
+
+import java.util.Arrays;
+
+/**
+ * Carte des menaces de la grille, partagée par tous les combattants contrôlés par l'IA.
+ * <p>
+ * Pour chaque case (indexée par {@link Grille#indexDe(int, int)}), la carte résume les dégâts
+ * qu'un combattant risque d'y subir :
+ * <ul>
+ *   <li>les zones de souffle des explosifs visibles par tous, avec le délai restant avant la première explosion ;</li>
+ *   <li>les lignes de tir des combattants vivants, en fonction de la portée et des dégâts de leurs armes chargées ;
+ *   les tirs de l'observateur et de ses alliés sont retirés au moment de la consultation.</li>
+ * </ul>
+ * La partie « explosifs » est mise à jour de façon incrémentale à chaque dépôt ou explosion d'un
+ * explosif ; elle retient le tour de la première explosion, si bien que le décompte des délais ne
+ * demande aucune mise à jour. La partie « tirs » est recalculée au plus une fois par tour, ou lorsque les murs,
+ * les occupants ou les armes et munitions des combattants changent. Les explosifs à visibilité partielle ne sont comptés que pour les
+ * combattants qui peuvent les voir, au moment de la consultation.
+ */
+public class CarteMenaces {
+
+    /** Délai attribué aux cases qu'aucun explosif ne menace. */
+    public static final int AUCUN_DELAI = Byte.MAX_VALUE;
+
+    /** La grille dont les menaces sont calculées. */
+    private final Grille grille;
+
+    /** Dégâts des explosifs visibles par tous pouvant atteindre chaque case. */
+    private final int[] degatsExplosifs;
+
+    /** Tour d'échéance le plus proche parmi les explosifs menaçant chaque case. */
+    private final long[] echeancesExplosifs;
+
+    /** Plus grand rayon de souffle parmi les explosifs posés sur la grille depuis sa création. */
+    private int rayonSouffle = 1;
+
+    /** Dégâts maximaux cumulés des tirs pouvant atteindre chaque case. */
+    private final int[] degatsTirs;
+
+    /** Versions de la grille pour lesquelles la partie « tirs » a été calculée. */
+    private long tourTirs = -1;
+    private long versionMursTirs = -1;
+    private long versionOccupantsTirs = -1;
+    private long versionArmesTirs = -1;
+
+    /**
+     * Constructeur de la classe CarteMenaces.
+     *
+     * @param grille La grille dont les menaces sont calculées.
+     */
+    public CarteMenaces(Grille grille) {
+        this.grille = grille;
+        int nombreCases = grille.getLargeur() * grille.getLongueur();
+        this.degatsExplosifs = new int[nombreCases];
+        this.echeancesExplosifs = new long[nombreCases];
+        this.degatsTirs = new int[nombreCases];
+        Arrays.fill(echeancesExplosifs, Long.MAX_VALUE);
+    }
+
+    /**
+     * Obtient les dégâts que les explosifs visibles par tous peuvent infliger sur une case.
+     *
+     * @param x La coordonnée en x.
+     * @param y La coordonnée en y.
+     * @return Les dégâts cumulés des explosifs menaçant la case.
+     */
+    public int getDegatsExplosifs(int x, int y) {
+        return degatsExplosifs[grille.indexDe(x, y)];
+    }
+
+    /**
+     * Obtient le délai restant avant la première explosion pouvant atteindre une case.
+     *
+     * @param x La coordonnée en x.
+     * @param y La coordonnée en y.
+     * @return Le délai restant, ou {@link #AUCUN_DELAI} si aucun explosif ne menace la case.
+     */
+    public int getDelaiExplosion(int x, int y) {
+        long echeance = echeancesExplosifs[grille.indexDe(x, y)];
+        if (echeance == Long.MAX_VALUE) {
+            return AUCUN_DELAI;
+        }
+        return (int) Math.min(AUCUN_DELAI, Math.max(0, echeance - grille.getTourCourant()));
+    }
+
+    /**
+     * Obtient les dégâts que les tirs des combattants adverses peuvent infliger sur une case.
+     *
+     * @param x           La coordonnée en x.
+     * @param y           La coordonnée en y.
+     * @param observateur Le combattant qui consulte la carte, dont les tirs et ceux de ses alliés sont exclus.
+     * @return Les dégâts cumulés des tirs ennemis menaçant la case.
+     */
+    public int getDegatsTirs(int x, int y, Combattant observateur) {
+        mettreAJourTirs();
+        int degats = degatsTirs[grille.indexDe(x, y)];
+        if (observateur != null) {
+            for (Combattant tireur : grille.getAllCombattants()) {
+                if (tireur.estEnVie() && observateur.estAllie(tireur) && grille.estPositionValide(tireur.getPosition())) {
+                    degats -= contributionTirs(tireur, x, y);
+                }
+            }
+        }
+        return degats;
+    }
+
+    /**
+     * Obtient la menace totale d'une case pour un combattant : explosifs visibles, explosif
+     * caché mais connu du combattant sur la case, et tirs des combattants adverses.
+     *
+     * @param x           La coordonnée en x.
+     * @param y           La coordonnée en y.
+     * @param observateur Le combattant qui consulte la carte.
+     * @return Les dégâts que le combattant risque de subir sur la case.
+     */
+    public int getMenace(int x, int y, Combattant observateur) {
+        int menace = getDegatsExplosifs(x, y) + getDegatsTirs(x, y, observateur);
+        Explosif explosif = grille.getCase(x, y).getExplosif();
+        if (explosif != null && explosif.getVisibilite() != Explosif.Visibilite.TOTALE
+                && explosif.estVisiblePour(observateur)) {
+            menace += explosif.getImpactEnergie();
+        }
+        return menace;
+    }
+
+    /**
+     * Indique si une case risque d'être soufflée par un explosif au prochain décompte.
+     *
+     * @param x La coordonnée en x.
+     * @param y La coordonnée en y.
+     * @return true si un explosif visible menace la case et explose au plus tard au prochain tour.
+     */
+    public boolean estExplosionImminente(int x, int y) {
+        return degatsExplosifs[grille.indexDe(x, y)] > 0 && getDelaiExplosion(x, y) <= 1;
+    }
+
+    /**
+     * Met à jour la partie « explosifs » autour d'une case dont l'explosif a changé.
+     * Seules les cases à portée du plus grand souffle posé sont recalculées.
+     *
+     * @param position La position de la case modifiée.
+     */
+    void mettreAJourExplosif(Position position) {
+        Explosif pose = grille.getCase(position).getExplosif();
+        if (pose != null) {
+            rayonSouffle = Math.max(rayonSouffle, Souffle.de(pose).getRayon());
+        }
+        for (int dx = -rayonSouffle; dx <= rayonSouffle; dx++) {
+            for (int dy = -rayonSouffle; dy <= rayonSouffle; dy++) {
+                int x = position.getX() + dx;
+                int y = position.getY() + dy;
+                if (grille.getCase(x, y) != null) {
+                    recalculerCase(x, y);
+                }
+            }
+        }
+    }
+
+    /**
+     * Recalcule la menace des explosifs sur une case à partir des explosifs dont le souffle l'atteint,
+     * en comptant les dégâts atténués par la distance et les dégâts entiers sur la case de l'explosif.
+     */
+    private void recalculerCase(int x, int y) {
+        int degats = 0;
+        long echeance = Long.MAX_VALUE;
+        for (int dx = -rayonSouffle; dx <= rayonSouffle; dx++) {
+            for (int dy = -rayonSouffle; dy <= rayonSouffle; dy++) {
+                Case voisine = grille.getCase(x + dx, y + dy);
+                if (voisine == null) {
+                    continue;
+                }
+                Explosif explosif = voisine.getExplosif();
+                if (explosif == null || explosif.getVisibilite() != Explosif.Visibilite.TOTALE) {
+                    continue;
+                }
+                Souffle souffle = Souffle.de(explosif);
+                if (souffle.atteint(-dx, -dy)) {
+                    int subis = souffle.attenuer(explosif.getImpactEnergie(), souffle.distance(dx, dy));
+                    if (subis > 0) {
+                        degats += subis;
+                        echeance = Math.min(echeance, grille.getTourCourant() + explosif.getDelaiExplosion());
+                    }
+                }
+            }
+        }
+        int index = grille.indexDe(x, y);
+        degatsExplosifs[index] = degats;
+        echeancesExplosifs[index] = echeance;
+    }
+
+    /**
+     * Recalcule la partie « tirs » si un nouveau tour a commencé ou si les murs, les occupants ou
+     * les armes ont changé : un tir qui vide une arme en cours de tour réduit aussitôt la menace.
+     */
+    private void mettreAJourTirs() {
+        long tour = grille.getTourCourant();
+        long versionMurs = grille.getVersion(TypeModification.MUR);
+        long versionOccupants = grille.getVersion(TypeModification.OCCUPANT);
+        long versionArmes = grille.getVersionArmes();
+        if (tour == tourTirs && versionMurs == versionMursTirs && versionOccupants == versionOccupantsTirs
+                && versionArmes == versionArmesTirs) {
+            return;
+        }
+
+        Arrays.fill(degatsTirs, 0);
+        LignesDeTir lignesDeTir = grille.getLignesDeTir();
+        for (Combattant tireur : grille.getAllCombattants()) {
+            Position origine = tireur.getPosition();
+            if (!tireur.estEnVie() || !grille.estPositionValide(origine)) {
+                continue;
+            }
+            int porteeMax = porteeMaximale(tireur);
+            for (int direction = 0; direction < 4; direction++) {
+                int portee = Math.min(porteeMax, lignesDeTir.getCasesLibres(origine.getX(), origine.getY(), direction));
+                for (int k = 1; k <= portee; k++) {
+                    int x = origine.getX() + LignesDeTir.DX[direction] * k;
+                    int y = origine.getY() + LignesDeTir.DY[direction] * k;
+                    degatsTirs[grille.indexDe(x, y)] += degatsMaximaux(tireur, k);
+                }
+            }
+        }
+
+        tourTirs = tour;
+        versionMursTirs = versionMurs;
+        versionOccupantsTirs = versionOccupants;
+        versionArmesTirs = versionArmes;
+    }
+
+    /**
+     * Calcule la part des tirs d'un combattant dans la menace d'une case.
+     */
+    private int contributionTirs(Combattant tireur, int x, int y) {
+        Position origine = tireur.getPosition();
+        int dx = x - origine.getX();
+        int dy = y - origine.getY();
+        if ((dx != 0) == (dy != 0)) {
+            return 0;
+        }
+        int direction = dx > 0 ? LignesDeTir.EST : dx < 0 ? LignesDeTir.OUEST : dy > 0 ? LignesDeTir.SUD : LignesDeTir.NORD;
+        int distance = Math.abs(dx) + Math.abs(dy);
+        if (distance > grille.getLignesDeTir().getCasesLibres(origine.getX(), origine.getY(), direction)) {
+            return 0;
+        }
+        return degatsMaximaux(tireur, distance);
+    }
+
+    /**
+     * Obtient la portée de la plus longue arme chargée d'un combattant.
+     */
+    private static int porteeMaximale(Combattant tireur) {
+        int portee = 0;
+        for (Arme arme : tireur.getArmes()) {
+            if (arme.getMunition() > 0) {
+                portee = Math.max(portee, arme.getPortee());
+            }
+        }
+        return portee;
+    }
+
+    /**
+     * Obtient les dégâts de l'arme chargée la plus puissante d'un combattant pouvant atteindre une distance.
+     */
+    private static int degatsMaximaux(Combattant tireur, int distance) {
+        int degats = 0;
+        for (Arme arme : tireur.getArmes()) {
+            if (arme.getMunition() > 0 && arme.getPortee() >= distance) {
+                degats = Math.max(degats, arme.getCoutEnergie());
+            }
+        }
+        return degats;
+    }
+}
@@ -76,7 +76,10 @@ public class Case {
      * @param occupant Le combattant à placer sur la case.
      */
     public void setOccupant(Combattant occupant) {
-        this.occupant = occupant;
+        if (this.occupant != occupant) {
+            this.occupant = occupant;
+            signalerModification(TypeModification.OCCUPANT);
+        }
     }
 
     /**
@@ -90,13 +93,14 @@ public class Case {
             throw new IllegalStateException("La case contient déjà un explosif !");
         }
         this.explosif = explosif;
+        signalerModification(TypeModification.EXPLOSIF);
     }
 
     /**
      * Retire l'explosif présent sur la case.
      */
     public void retirerExplosif() {
-        this.explosif = null;
+        setExplosif(null);
     }
 
     /**
@@ -114,7 +118,10 @@ public class Case {
      * @param explosif L'explosif à placer sur la case.
      */
     public void setExplosif(Explosif explosif) {
-        this.explosif = explosif;
+        if (this.explosif != explosif) {
+            this.explosif = explosif;
+            signalerModification(TypeModification.EXPLOSIF);
+        }
     }
 
     /**
@@ -132,8 +139,12 @@ public class Case {
      * @param pastilleEnergie La pastille d'énergie à placer sur la case.
      */
     public void setContientPastilleEnergie(Pastille pastilleEnergie) {
+        boolean avant = this.contientPastilleEnergie;
         this.contientPastilleEnergie = (pastilleEnergie != null);
         this.pastilleEnergie = pastilleEnergie;
+        if (avant != this.contientPastilleEnergie) {
+            signalerModification(TypeModification.PASTILLE);
+        }
     }
 
     /**
@@ -151,7 +162,10 @@ public class Case {
      * @param contientPastilleEnergie true si la case contient une pastille d'énergie, false sinon.
      */
     public void setContientPastilleEnergie(boolean contientPastilleEnergie) {
-        this.contientPastilleEnergie = contientPastilleEnergie;
+        if (this.contientPastilleEnergie != contientPastilleEnergie) {
+            this.contientPastilleEnergie = contientPastilleEnergie;
+            signalerModification(TypeModification.PASTILLE);
+        }
     }
 
     /**
@@ -182,7 +196,22 @@ public class Case {
      * @param estMur true si la case est un mur, false sinon.
      */
     public void setEstMur(boolean estMur) {
-        this.estMur = estMur;
+        if (this.estMur != estMur) {
+            this.estMur = estMur;
+            signalerModification(TypeModification.MUR);
+        }
+    }
+
+    /**
+     * Prévient la grille qu'une modification a eu lieu sur cette case,
+     * afin qu'elle invalide les caches qui en dépendent.
+     *
+     * @param type Le type de modification survenue.
+     */
+    private void signalerModification(TypeModification type) {
+        if (grille != null) {
+            grille.signalerModification(type, position);
+        }
     }
 
     /**
@@ -222,9 +251,6 @@ public class Case {
     public Case copierAvecFiltrage(Combattant combattant) {
         Case copie = new Case(this.position, this.grille);
         copie.contientPastilleEnergie = this.contientPastilleEnergie;
-        if (this.contientPastilleEnergie()) {
-            copie.setContientPastilleEnergie(true);
-        }
         copie.estMur = this.estMur;
         copie.occupant = this.occupant;
 
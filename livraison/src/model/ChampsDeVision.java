@@ -0,0 +1,192 @@
+package model;
+
+import java.util.Arrays;
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+/**
+ * Champs de vision des combattants pour le brouillard de guerre, calculés par ombres portées
+ * récursives (« recursive shadowcasting ») et conservés d'une consultation à l'autre.
+ * <p>
+ * Un combattant voit les cases situées dans un disque de rayon donné autour de lui et en ligne de
+ * vue : les murs arrêtent la vue, mais sont eux-mêmes visibles. Chacun des huit octants autour du
+ * combattant est balayé rangée par rangée ; un mur réduit l'intervalle de pentes encore éclairé,
+ * et la partie située derrière lui n'est jamais visitée.
+ * <p>
+ * Le champ d'un combattant est un tableau de bits indexé par {@link Grille#indexDe(int, int)},
+ * mis à jour en place. Il n'est recalculé que si le combattant a bougé, si le rayon demandé a changé
+ * ou si un mur a été modifié à portée de vue de sa dernière position.
+ */
+public class ChampsDeVision {
+
+    /** Multiplicateurs de coordonnées des huit octants : xx, xy, yx, yy. */
+    private static final int[][] OCTANTS = {
+            {1, 0, 0, -1, -1, 0, 0, 1},
+            {0, 1, -1, 0, 0, -1, 1, 0},
+            {0, 1, 1, 0, 0, -1, -1, 0},
+            {1, 0, 0, 1, -1, 0, 0, -1}
+    };
+
+    /** Champ de vision d'un combattant et position pour laquelle il a été calculé. */
+    private static final class Champ {
+        final long[] visibles;
+        int x = -1;
+        int y = -1;
+        int rayon = -1;
+        boolean perime = true;
+
+        Champ(int mots) {
+            this.visibles = new long[mots];
+        }
+    }
+
+    /** La grille dont les champs de vision sont calculés. */
+    private final Grille grille;
+
+    /** Champ de vision de chaque combattant déjà consulté. */
+    private final Map<Combattant, Champ> champs = new IdentityHashMap<>();
+
+    /** Nombre de calculs de champ effectués, pour le suivi des performances. */
+    private long nombreCalculs;
+
+    /**
+     * Constructeur de la classe ChampsDeVision.
+     *
+     * @param grille La grille dont les champs de vision sont calculés.
+     */
+    public ChampsDeVision(Grille grille) {
+        this.grille = grille;
+    }
+
+    /**
+     * Obtient le champ de vision d'un combattant, recalculé seulement s'il est périmé.
+     *
+     * @param combattant Le combattant qui observe.
+     * @param rayon      Le rayon de vision, en cases.
+     * @return Les bits des cases visibles, indexés par {@link Grille#indexDe(int, int)}.
+     * @throws IllegalArgumentException Si le rayon est négatif.
+     */
+    public long[] pour(Combattant combattant, int rayon) {
+        if (rayon < 0) {
+            throw new IllegalArgumentException("Le rayon de vision ne peut pas être négatif.");
+        }
+        Champ champ = champs.get(combattant);
+        if (champ == null) {
+            champ = new Champ((grille.getLargeur() * grille.getLongueur() + 63) >>> 6);
+            champs.put(combattant, champ);
+        }
+        Position position = combattant.getPosition();
+        if (champ.perime || champ.rayon != rayon || champ.x != position.getX() || champ.y != position.getY()) {
+            calculer(champ, position.getX(), position.getY(), rayon);
+        }
+        return champ.visibles;
+    }
+
+    /**
+     * Vérifie si une case est dans le champ de vision d'un combattant.
+     *
+     * @param combattant Le combattant qui observe.
+     * @param rayon      Le rayon de vision, en cases.
+     * @param x          La coordonnée x de la case.
+     * @param y          La coordonnée y de la case.
+     * @return true si la case est visible, false sinon (y compris hors de la grille).
+     */
+    public boolean estVisible(Combattant combattant, int rayon, int x, int y) {
+        if (x < 0 || x >= grille.getLargeur() || y < 0 || y >= grille.getLongueur()) {
+            return false;
+        }
+        int index = grille.indexDe(x, y);
+        return (pour(combattant, rayon)[index >>> 6] & (1L << index)) != 0;
+    }
+
+    /**
+     * Périme les champs de vision calculés à portée d'un mur ajouté ou retiré.
+     *
+     * @param position La position du mur modifié.
+     */
+    public void signalerMur(Position position) {
+        for (Champ champ : champs.values()) {
+            if (Math.abs(position.getX() - champ.x) <= champ.rayon && Math.abs(position.getY() - champ.y) <= champ.rayon) {
+                champ.perime = true;
+            }
+        }
+    }
+
+    /**
+     * Obtient le nombre de champs de vision calculés depuis la création de la grille.
+     *
+     * @return Le nombre de calculs.
+     */
+    public long getNombreCalculs() {
+        return nombreCalculs;
+    }
+
+    private void calculer(Champ champ, int x, int y, int rayon) {
+        Arrays.fill(champ.visibles, 0L);
+        champ.x = x;
+        champ.y = y;
+        champ.rayon = rayon;
+        champ.perime = false;
+        nombreCalculs++;
+        if (grille.getCase(x, y) == null) {
+            return;
+        }
+        marquer(champ.visibles, x, y);
+        for (int octant = 0; octant < 8; octant++) {
+            eclairer(champ.visibles, x, y, 1, 1.0, 0.0, rayon,
+                    OCTANTS[0][octant], OCTANTS[1][octant], OCTANTS[2][octant], OCTANTS[3][octant]);
+        }
+    }
+
+    /**
+     * Balaye un octant à partir d'une rangée, entre deux pentes encore éclairées.
+     */
+    private void eclairer(long[] visibles, int cx, int cy, int rangee, double debut, double fin, int rayon,
+                          int xx, int xy, int yx, int yy) {
+        if (debut < fin) {
+            return;
+        }
+        int rayonCarre = rayon * rayon + rayon;
+        double nouveauDebut = 0.0;
+        for (int j = rangee; j <= rayon; j++) {
+            boolean bloque = false;
+            for (int dx = -j, dy = -j; dx <= 0; dx++) {
+                double penteGauche = (dx - 0.5) / (dy + 0.5);
+                double penteDroite = (dx + 0.5) / (dy - 0.5);
+                if (debut < penteDroite) {
+                    continue;
+                }
+                if (fin > penteGauche) {
+                    break;
+                }
+                int x = cx + dx * xx + dy * xy;
+                int y = cy + dx * yx + dy * yy;
+                Case c = grille.getCase(x, y);
+                boolean opaque = c == null || c.estUnMur();
+                if (c != null && dx * dx + dy * dy <= rayonCarre) {
+                    marquer(visibles, x, y);
+                }
+                if (bloque) {
+                    if (opaque) {
+                        nouveauDebut = penteDroite;
+                    } else {
+                        bloque = false;
+                        debut = nouveauDebut;
+                    }
+                } else if (opaque && j < rayon) {
+                    bloque = true;
+                    eclairer(visibles, cx, cy, j + 1, debut, penteGauche, rayon, xx, xy, yx, yy);
+                    nouveauDebut = penteDroite;
+                }
+            }
+            if (bloque) {
+                break;
+            }
+        }
+    }
+
+    private void marquer(long[] visibles, int x, int y) {
+        int index = grille.indexDe(x, y);
+        visibles[index >>> 6] |= 1L << index;
+    }
+}
@@ -41,6 +41,15 @@ public abstract class Combattant implements CombattantActions {
     /** La grille de jeu où évolue le combattant. */
     private Grille grille;
 
+    /** Nombre total de munitions des armes du combattant, tenu à jour à chaque ajout d'arme et à chaque tir. */
+    private int munitionsTotales;
+
+    /** Indique si la grille suit l'énergie de ce combattant dans ses totaux (combattant placé sur la grille). */
+    boolean suiviParGrille;
+
+    /** Numéro de l'équipe du combattant, partagé par les combattants d'un même joueur ; 0 s'il n'a pas de joueur. */
+    private int equipe;
+
     /**
      * Constructeur de la classe Combattant.
      *
@@ -83,7 +92,9 @@ public abstract class Combattant implements CombattantActions {
      * @param energie La nouvelle valeur de l'énergie.
      */
     public void setEnergie(int energie) {
+        int ancienne = this.energie;
         this.energie = Math.max(energie, 0);
+        signalerVariationEnergie(ancienne);
     }
 
     /**
@@ -163,6 +174,38 @@ public abstract class Combattant implements CombattantActions {
         this.messageHandler = messageHandler;
     }
 
+    /**
+     * Obtient le numéro de l'équipe du combattant.
+     *
+     * @return Le numéro d'équipe, ou 0 si le combattant n'appartient à aucun joueur.
+     */
+    public int getEquipe() {
+        return equipe;
+    }
+
+    /**
+     * Définit le numéro de l'équipe du combattant.
+     *
+     * @param equipe Le numéro d'équipe, ou 0 pour un combattant sans joueur.
+     */
+    public void setEquipe(int equipe) {
+        int ancienne = this.equipe;
+        this.equipe = equipe;
+        if (suiviParGrille && grille != null && ancienne != equipe) {
+            grille.signalerChangementEquipe(this, ancienne);
+        }
+    }
+
+    /**
+     * Indique si un autre combattant est un allié : lui-même, ou un combattant de la même équipe.
+     *
+     * @param autre L'autre combattant.
+     * @return true si l'autre combattant est un allié.
+     */
+    public boolean estAllie(Combattant autre) {
+        return autre == this || (autre != null && equipe != 0 && autre.equipe == equipe);
+    }
+
     /**
      * Obtient la liste des armes du combattant.
      *
@@ -181,6 +224,15 @@ public abstract class Combattant implements CombattantActions {
         return explosifs;
     }
 
+    /**
+     * Obtient le nombre total de munitions des armes du combattant.
+     *
+     * @return Le total des munitions.
+     */
+    public int getMunitionsTotales() {
+        return munitionsTotales;
+    }
+
     // Méthodes d'action
 
     /**
@@ -189,10 +241,33 @@ public abstract class Combattant implements CombattantActions {
      * @param valeur La quantité d'énergie à soustraire.
      */
     public void perdreEnergie(int valeur) {
+        int ancienne = this.energie;
         this.energie -= valeur;
         if (this.energie < 0) {
             this.energie = 0;
         }
+        signalerVariationEnergie(ancienne);
+    }
+
+    /**
+     * Prévient la grille d'une variation d'énergie, afin qu'elle tienne ses totaux à jour.
+     *
+     * @param ancienne L'énergie avant la variation.
+     */
+    private void signalerVariationEnergie(int ancienne) {
+        if (suiviParGrille && grille != null && ancienne != energie) {
+            grille.signalerVariationEnergie(equipe, ancienne, energie);
+        }
+    }
+
+    /**
+     * Prévient la grille d'un changement d'armes ou de munitions, afin que ses caches qui en
+     * dépendent (menaces de tir) soient recalculés.
+     */
+    private void signalerVariationArmes() {
+        if (suiviParGrille && grille != null) {
+            grille.signalerVariationArmes();
+        }
     }
 
     /**
@@ -213,8 +288,10 @@ public abstract class Combattant implements CombattantActions {
     public boolean verifierElimination() {
         if (!estEnVie()) {
             grille.getCase(position).setOccupant(null); // Libère la case
-            messageHandler.afficherMessage(nom + " a été éliminé et a quitté la case (" +
-                    position.getX() + ", " + position.getY() + ").");
+            if (messageHandler != null) {
+                messageHandler.afficherMessage(nom + " a été éliminé et a quitté la case (" +
+                        position.getX() + ", " + position.getY() + ").");
+            }
             return true;
         }
         return false;
@@ -229,6 +306,8 @@ public abstract class Combattant implements CombattantActions {
     public void ajouterArme(Arme arme) {
         if (arme != null) {
             this.armes.add(arme);
+            this.munitionsTotales += arme.getMunition();
+            signalerVariationArmes();
         } else {
             throw new IllegalArgumentException("L'arme ne peut pas être nulle.");
         }
@@ -298,7 +377,8 @@ public abstract class Combattant implements CombattantActions {
      * Déplace le combattant vers une case cible si les conditions le permettent.
      *
      * @param caseCible La case cible vers laquelle se déplacer.
-     * @return true si le déplacement a réussi, false sinon.
+     * @return true si le déplacement a réussi, false sinon. Un combattant éliminé par l'explosif de la
+     *         case cible n'occupe aucune case, mais son déplacement compte comme réussi.
      */
     @Override
     public boolean deplacer(Case caseCible) {
@@ -323,6 +403,10 @@ public abstract class Combattant implements CombattantActions {
         if (caseCible.getExplosif() != null) {
             Explosif explosif = caseCible.getExplosif();
             explosif.explose(this, caseCible);
+            if (!estEnVie()) {
+                // Éliminé par l'explosif, le combattant a déjà quitté sa case et n'occupe pas la case cible
+                return true;
+            }
         }
 
         perdreEnergie(Parametres.coutDeplacement);
@@ -331,6 +415,7 @@ public abstract class Combattant implements CombattantActions {
 
         setPosition(targetPos);
         caseCible.setOccupant(this);
+        verifierElimination();
 
         messageHandler.afficherMessage(this.nom + " s'est déplacé à la position (" +
                 caseCible.getPosition().getX() + ", " + caseCible.getPosition().getY() + ").");
@@ -427,46 +512,29 @@ public abstract class Combattant implements CombattantActions {
         Position currentPosition = this.getPosition();
         int portee = arme.getPortee();
 
-        int deltaX = 0;
-        int deltaY = 0;
-
-        if (direction == Direction.HORIZONTAL) {
-            deltaX = caseCible.getPosition().getX() > currentPosition.getX() ? 1 : -1;
-        } else if (direction == Direction.VERTICAL) {
-            deltaY = caseCible.getPosition().getY() > currentPosition.getY() ? 1 : -1;
+        LignesDeTir lignesDeTir = grille.getLignesDeTir();
+        int directionTir = LignesDeTir.versDirection(direction, currentPosition, caseCible.getPosition());
+
+        Combattant cible = lignesDeTir.premiereCible(currentPosition, directionTir, portee);
+        if (cible != null) {
+            // Le bouclier ne réduit pas les dégâts d'un tir.
+            int degats = arme.getCoutEnergie();
+            AccumulateurDegats accumulateur = grille.getAccumulateurDegats();
+            accumulateur.ajouter(cible, degats, degats);
+            accumulateur.appliquer((victime, subis) ->
+                    messageHandler.afficherMessage(this.nom + " a tiré avec " + arme.getType() +
+                            " et a frappé " + victime.getNom() +
+                            " à la position (" + victime.getPosition().getX() + ", " + victime.getPosition().getY() +
+                            "), infligeant " + subis + " points de dégâts !"));
+            return true;
         }
 
-        Position positionTir = new Position(currentPosition.getX(), currentPosition.getY());
-
-        for (int i = 1; i <= portee; i++) {
-            positionTir = new Position(positionTir.getX() + deltaX, positionTir.getY() + deltaY);
-
-            if (!grille.estPositionValide(positionTir)) {
-                break;
-            }
-
-            Case caseCourante = grille.getCase(positionTir);
-
-            if (caseCourante.getOccupant() != null) {
-                Combattant cible = caseCourante.getOccupant();
-                int degats = arme.getCoutEnergie();
-
-                cible.perdreEnergie(degats);
-                messageHandler.afficherMessage(this.nom + " a tiré avec " + arme.getType() +
-                        " et a frappé " + cible.getNom() +
-                        " à la position (" + caseCourante.getPosition().getX() + ", " + caseCourante.getPosition().getY() +
-                        "), infligeant " + degats + " points de dégâts !");
-
-                cible.verifierElimination();
-                return true;
-            }
-
-            if (caseCourante.estUnMur()) {
-                messageHandler.afficherMessage(this.nom + " a tiré avec " + arme.getType() +
-                        " mais le tir a été bloqué par un mur à la position (" +
-                        caseCourante.getPosition().getX() + ", " + caseCourante.getPosition().getY() + ").");
-                return true;
-            }
+        Position positionMur = lignesDeTir.murBloquant(currentPosition, directionTir, portee);
+        if (positionMur != null) {
+            messageHandler.afficherMessage(this.nom + " a tiré avec " + arme.getType() +
+                    " mais le tir a été bloqué par un mur à la position (" +
+                    positionMur.getX() + ", " + positionMur.getY() + ").");
+            return true;
         }
 
         messageHandler.afficherMessage(this.nom + " a tiré avec " + arme.getType() +
@@ -521,6 +589,8 @@ public abstract class Combattant implements CombattantActions {
             return false;
         } else {
             arme.setMunition(arme.getMunition() - 1);
+            munitionsTotales--;
+            signalerVariationArmes();
             return true;
         }
     }
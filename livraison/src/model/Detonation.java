@@ -0,0 +1,79 @@
+package model;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import utils.configuration.TypeEquipement;
+
+/**
+ * Détonation effective d'un explosif, enregistrée par la grille pour l'affichage.
+ * <p>
+ * Chaque explosif qui détone, directement ou par réaction en chaîne, donne une détonation : sa
+ * case, son type, son souffle et le tour où elle a eu lieu. La zone atteinte n'est calculée qu'à la
+ * demande, les simulations de l'IA n'en ayant pas besoin.
+ */
+public final class Detonation {
+
+    private final Position position;
+    private final TypeEquipement type;
+    private final Souffle souffle;
+    private final long tour;
+    private final int largeur;
+    private final int longueur;
+
+    /**
+     * Constructeur de la classe Detonation.
+     *
+     * @param position La case de l'explosif.
+     * @param type     Le type de l'explosif.
+     * @param souffle  Le souffle de l'explosif.
+     * @param tour     Le tour de la grille pendant lequel l'explosif a détoné.
+     * @param largeur  La largeur de la grille.
+     * @param longueur La longueur de la grille.
+     */
+    Detonation(Position position, TypeEquipement type, Souffle souffle, long tour, int largeur, int longueur) {
+        this.position = position;
+        this.type = type;
+        this.souffle = souffle;
+        this.tour = tour;
+        this.largeur = largeur;
+        this.longueur = longueur;
+    }
+
+    public Position getPosition() {
+        return position;
+    }
+
+    public TypeEquipement getType() {
+        return type;
+    }
+
+    public Souffle getSouffle() {
+        return souffle;
+    }
+
+    public long getTour() {
+        return tour;
+    }
+
+    /**
+     * Calcule les cases atteintes par le souffle, case de l'explosif comprise, dans les limites de la grille.
+     *
+     * @return Les positions des cases atteintes, colonne par colonne.
+     */
+    public List<Position> getZone() {
+        List<Position> zone = new ArrayList<>();
+        int rayon = souffle.getRayon();
+        for (int dx = -rayon; dx <= rayon; dx++) {
+            int x = position.getX() + dx;
+            if (x < 0 || x >= largeur) {
+                continue;
+            }
+            int demiHauteur = souffle.getDemiHauteur(dx);
+            for (int y = Math.max(0, position.getY() - demiHauteur); y <= Math.min(longueur - 1, position.getY() + demiHauteur); y++) {
+                zone.add(new Position(x, y));
+            }
+        }
+        return zone;
+    }
+}
@@ -0,0 +1,173 @@
+package model;
+
+import java.util.Arrays;
+
+/**
+ * Échéancier des explosions différées des bombes posées sur une grille.
+ * <p>
+ * Le délai d'une bombe se décompte en tours de joueur, et non en tours complets : chaque appel de
+ * {@link Grille#gererExplosionsDifferrees()}, fait après le tour de chaque joueur, retire un tour au
+ * délai des bombes posées, et une bombe dont le délai est déjà nul explose lors de cet appel. Une
+ * bombe posée pendant le tour t avec un délai d explose donc à la fin du tour t + d, soit d + 1 fins
+ * de tour après sa pose, celle du tour de la pose comprise.
+ * <p>
+ * Plutôt que de décrémenter chaque bombe à chaque tour, l'échéancier retient le tour d'échéance de la
+ * bombe et la range dans l'alvéole d'une roue indexée par ce tour ; le délai restant de la bombe est
+ * déduit du tour courant. À chaque fin de tour, seule l'alvéole du tour est parcourue, si bien que le
+ * coût ne dépend que du nombre de bombes qui arrivent à échéance. Une bombe qui a déjà explosé
+ * (combattant entré sur sa case, réaction en chaîne) ou dont l'échéance a changé reste dans son
+ * alvéole et y est ignorée. La roue est agrandie lorsqu'une échéance dépasse un tour de roue.
+ */
+public class EcheancierBombes {
+
+    /** Nombre d'alvéoles de la roue et capacité initiale d'une alvéole. */
+    private static final int TAILLE_INITIALE = 8;
+
+    /** La grille dont les bombes sont planifiées. */
+    private final Grille grille;
+
+    /** Alvéoles de la roue, indexées par le tour d'échéance modulo leur nombre. */
+    private Bombe[][] alveoles;
+
+    /** Nombre de bombes rangées dans chaque alvéole. */
+    private int[] tailles;
+
+    /** Bombes arrivées à échéance au tour en cours de traitement. */
+    private Bombe[] echues = new Bombe[TAILLE_INITIALE];
+
+    /**
+     * Constructeur de la classe EcheancierBombes.
+     *
+     * @param grille La grille dont les bombes sont planifiées.
+     */
+    public EcheancierBombes(Grille grille) {
+        this.grille = grille;
+        this.alveoles = new Bombe[TAILLE_INITIALE][];
+        this.tailles = new int[TAILLE_INITIALE];
+    }
+
+    /**
+     * Planifie une bombe qui vient d'être posée sur une case, au tour courant plus son délai.
+     * Une bombe déjà planifiée sur cette case n'est pas replanifiée.
+     *
+     * @param bombe     La bombe posée.
+     * @param caseBombe La case de la bombe.
+     */
+    void signalerPose(Bombe bombe, Case caseBombe) {
+        if (bombe.getCasePlanifiee() != caseBombe) {
+            planifier(bombe, caseBombe, bombe.getDelaiExplosion());
+        }
+    }
+
+    /**
+     * Planifie l'explosion d'une bombe dans un nombre donné de tours de joueur.
+     *
+     * @param bombe     La bombe à planifier.
+     * @param caseBombe La case de la bombe.
+     * @param delai     Le délai avant l'explosion.
+     */
+    void planifier(Bombe bombe, Case caseBombe, int delai) {
+        long echeance = grille.getTourCourant() + Math.max(0, delai);
+        bombe.setEcheance(caseBombe, echeance);
+        while (echeance - grille.getTourCourant() >= alveoles.length) {
+            agrandir();
+        }
+        ranger(bombe, echeance);
+    }
+
+    /**
+     * Fait exploser les bombes dont l'échéance est le tour courant, dans l'ordre des cases de la grille.
+     * Appelée par {@link Grille#gererExplosionsDifferrees()} avant le passage au tour suivant.
+     *
+     * @return Le nombre de bombes arrivées à échéance.
+     */
+    int declencherEchues() {
+        long tour = grille.getTourCourant();
+        int alveole = (int) (tour & (alveoles.length - 1));
+        int nombre = 0;
+        for (int i = 0; i < tailles[alveole]; i++) {
+            Bombe bombe = alveoles[alveole][i];
+            if (estPlanifiee(bombe, tour)) {
+                if (nombre == echues.length) {
+                    echues = Arrays.copyOf(echues, 2 * nombre);
+                }
+                echues[nombre++] = bombe;
+            }
+            alveoles[alveole][i] = null;
+        }
+        tailles[alveole] = 0;
+        trierParCase(nombre);
+
+        for (int i = 0; i < nombre; i++) {
+            Bombe bombe = echues[i];
+            echues[i] = null;
+            // Une bombe échue peut avoir été emportée par l'explosion d'une bombe précédente.
+            if (estPlanifiee(bombe, tour)) {
+                bombe.explose(null, bombe.getCasePlanifiee());
+            }
+        }
+        return nombre;
+    }
+
+    /**
+     * Indique si une bombe est encore sur sa case et doit exploser au tour donné.
+     */
+    private static boolean estPlanifiee(Bombe bombe, long tour) {
+        return bombe.getEcheance() == tour && bombe.getCasePlanifiee().getExplosif() == bombe;
+    }
+
+    /**
+     * Range une bombe dans l'alvéole de son tour d'échéance.
+     */
+    private void ranger(Bombe bombe, long echeance) {
+        int alveole = (int) (echeance & (alveoles.length - 1));
+        if (alveoles[alveole] == null) {
+            alveoles[alveole] = new Bombe[TAILLE_INITIALE];
+        } else if (tailles[alveole] == alveoles[alveole].length) {
+            alveoles[alveole] = Arrays.copyOf(alveoles[alveole], 2 * tailles[alveole]);
+        }
+        alveoles[alveole][tailles[alveole]++] = bombe;
+    }
+
+    /**
+     * Double le nombre d'alvéoles et y range à nouveau les bombes encore planifiées.
+     */
+    private void agrandir() {
+        Bombe[][] anciennes = alveoles;
+        int[] anciennesTailles = tailles;
+        alveoles = new Bombe[2 * anciennes.length][];
+        tailles = new int[alveoles.length];
+        long tour = grille.getTourCourant();
+        for (int a = 0; a < anciennes.length; a++) {
+            for (int i = 0; i < anciennesTailles[a]; i++) {
+                Bombe bombe = anciennes[a][i];
+                if (bombe.getEcheance() >= tour && (int) (bombe.getEcheance() & (anciennes.length - 1)) == a
+                        && bombe.getCasePlanifiee().getExplosif() == bombe) {
+                    ranger(bombe, bombe.getEcheance());
+                }
+            }
+        }
+    }
+
+    /**
+     * Trie les bombes échues par abscisse puis par ordonnée de leur case, l'ordre dans lequel la
+     * grille était parcourue avant l'échéancier.
+     */
+    private void trierParCase(int nombre) {
+        for (int i = 1; i < nombre; i++) {
+            Bombe bombe = echues[i];
+            int j = i - 1;
+            while (j >= 0 && comparer(echues[j], bombe) > 0) {
+                echues[j + 1] = echues[j];
+                j--;
+            }
+            echues[j + 1] = bombe;
+        }
+    }
+
+    private static int comparer(Bombe a, Bombe b) {
+        Position pa = a.getCasePlanifiee().getPosition();
+        Position pb = b.getCasePlanifiee().getPosition();
+        return pa.getX() != pb.getX() ? Integer.compare(pa.getX(), pb.getX()) : Integer.compare(pa.getY(), pb.getY());
+    }
+}
@@ -17,6 +17,7 @@ public abstract class Explosif {
     protected Visibilite visibilite; 
     protected TypeEquipement type; 
     protected Combattant porteur; 
+    protected Souffle souffle;
 
     /**
      * Constructeur de la classe Explosif.
@@ -36,6 +37,7 @@ public abstract class Explosif {
         this.impactEnergie = (int) Parametres.getPropriete(type, ProprieteEquipement.IMPACT_ENERGIE);
         this.coutEnergieAvecBouclier = (int) Parametres.getPropriete(type, ProprieteEquipement.ENERGIE_AVEC_BOUCLIER);
         this.visibilite = Visibilite.valueOf(((String) Parametres.getPropriete(type, ProprieteEquipement.VISIBILITE)).toUpperCase());
+        this.souffle = Souffle.pour(type);
     }
 
     public int getDelaiExplosion() {
@@ -55,6 +57,10 @@ public abstract class Explosif {
         return coutEnergieAvecBouclier;
     }
 
+    public Souffle getSouffle() {
+        return souffle;
+    }
+
     public Visibilite getVisibilite() {
         return visibilite;
     }
@@ -81,36 +87,14 @@ public abstract class Explosif {
     }
 
     /**
-     * Calcule les dégâts infligés à un combattant en fonction de l'état de son bouclier.
+     * Fait détoner l'explosif et résout la vague d'explosions qui en découle
+     * (cf. {@link ReactionEnChaine}).
      *
-     * @param cible Le combattant cible.
-     * @return Les dégâts infligés.
+     * @param caseCible    La case sur laquelle se trouve l'explosif.
+     * @param cibleDirecte Le combattant entré sur la case, ou null.
      */
-    private int calculerDegats(Combattant cible) {
-        return cible.estBouclierActif() ? coutEnergieAvecBouclier : impactEnergie;
-    }
-
-    /**
-     * Impacte les cases voisines d'un explosif.
-     *
-     * @param caseCible La case sur laquelle se trouve l'explosif.
-     */
-    protected void impacterVoisins(Case caseCible) {
-        for (Case voisine : caseCible.getCasesVoisines()) {
-            Combattant occupant = voisine.getOccupant();
-            if (occupant != null) {
-                int degats = calculerDegats(occupant);
-                occupant.perdreEnergie(degats);
-
-                if (occupant.getMessageHandler() != null) {
-                    occupant.getMessageHandler().afficherMessage(
-                            "L'explosif sur la case (" + caseCible.getPosition().getX() + ", " +
-                            caseCible.getPosition().getY() + ") a impacté " + occupant.getNom() +
-                            ", infligeant " + degats + " points de dégâts."
-                    );
-                }
-            }
-        }
+    protected void detoner(Case caseCible, Combattant cibleDirecte) {
+        caseCible.getGrille().getReactionEnChaine().declencher(caseCible, cibleDirecte);
     }
 
     /**
@@ -122,6 +106,15 @@ public abstract class Explosif {
      */
     public abstract void explose(Combattant combattant, Case caseCible);
 
+    /**
+     * Crée une copie de l'explosif, dans son état courant, pour un autre porteur.
+     * Utilisée pour dupliquer une grille lors des simulations.
+     *
+     * @param nouveauPorteur Le porteur de la copie.
+     * @return Une copie de l'explosif.
+     */
+    public abstract Explosif copier(Combattant nouveauPorteur);
+
     @Override
     public String toString() {
         return "Explosif{" +
@@ -0,0 +1,132 @@
+package model;
+
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+/**
+ * Ensembles des cases où chaque combattant voit un explosif, tenus à jour par la grille.
+ * <p>
+ * Chaque ensemble est un tableau de bits indexé par {@link Grille#indexDe} : le bit d'une case est
+ * levé si elle porte un explosif visible pour le combattant ({@link Explosif#estVisiblePour}), c'est-à-dire
+ * un explosif à visibilité totale ou un explosif qu'il a lui-même posé. Les ensembles ne sont modifiés
+ * que lorsqu'un explosif est posé, explose ou est retiré ; une vue filtrée sait alors si une case
+ * contient quelque chose de visible par un seul test de bit, sans consulter l'explosif.
+ * <p>
+ * L'ensemble d'un combattant est créé à sa première demande, puis conservé et mis à jour en place :
+ * le tableau obtenu par {@link #pour} reste donc valable pendant toute la partie.
+ */
+public class ExplosifsVisibles {
+
+    /** La grille dont les explosifs sont suivis. */
+    private final Grille grille;
+
+    /** Cases portant un explosif à visibilité totale. */
+    private final long[] publics;
+
+    /** Poseur de l'explosif caché de chaque case, ou null. */
+    private final Combattant[] poseursCaches;
+
+    /** Ensemble des cases visibles de chaque combattant déjà demandé. */
+    private final Map<Combattant, long[]> visibles = new IdentityHashMap<>();
+
+    /**
+     * Constructeur de la classe ExplosifsVisibles.
+     *
+     * @param grille La grille dont les explosifs sont suivis.
+     */
+    public ExplosifsVisibles(Grille grille) {
+        this.grille = grille;
+        int cases = grille.getLargeur() * grille.getLongueur();
+        this.publics = new long[(cases + 63) >>> 6];
+        this.poseursCaches = new Combattant[cases];
+    }
+
+    /**
+     * Obtient l'ensemble des cases où un combattant voit un explosif.
+     * Le tableau est mis à jour en place à chaque modification d'explosif sur la grille.
+     *
+     * @param combattant Le combattant qui observe.
+     * @return Les bits des cases visibles, indexés par {@link Grille#indexDe}.
+     */
+    public long[] pour(Combattant combattant) {
+        long[] ensemble = visibles.get(combattant);
+        if (ensemble == null) {
+            ensemble = publics.clone();
+            for (int i = 0; i < poseursCaches.length; i++) {
+                if (poseursCaches[i] == combattant) {
+                    ensemble[i >>> 6] |= 1L << i;
+                }
+            }
+            visibles.put(combattant, ensemble);
+        }
+        return ensemble;
+    }
+
+    /**
+     * Vérifie si un combattant voit un explosif sur une case.
+     *
+     * @param combattant Le combattant qui observe.
+     * @param x          La coordonnée x de la case.
+     * @param y          La coordonnée y de la case.
+     * @return true si la case porte un explosif visible pour le combattant, false sinon.
+     */
+    public boolean estVisible(Combattant combattant, int x, int y) {
+        return contient(pour(combattant), grille.indexDe(x, y));
+    }
+
+    /**
+     * Teste le bit d'une case dans un ensemble obtenu par {@link #pour}.
+     *
+     * @param ensemble L'ensemble de cases.
+     * @param index    L'index de la case.
+     * @return true si le bit de la case est levé.
+     */
+    public static boolean contient(long[] ensemble, int index) {
+        return (ensemble[index >>> 6] & (1L << index)) != 0;
+    }
+
+    /**
+     * Met à jour les ensembles après la modification de l'explosif d'une case.
+     *
+     * @param position La position de la case modifiée.
+     */
+    public void mettreAJour(Position position) {
+        int x = position.getX();
+        int y = position.getY();
+        int index = grille.indexDe(x, y);
+        int mot = index >>> 6;
+        long bit = 1L << index;
+
+        boolean etaitPublic = (publics[mot] & bit) != 0;
+        Combattant ancienPoseur = poseursCaches[index];
+
+        Explosif explosif = grille.getCase(x, y).getExplosif();
+        boolean estPublic = explosif != null && explosif.getVisibilite() == Explosif.Visibilite.TOTALE;
+        Combattant nouveauPoseur = explosif != null && !estPublic ? explosif.getPorteur() : null;
+
+        if (etaitPublic != estPublic) {
+            publics[mot] ^= bit;
+            for (long[] ensemble : visibles.values()) {
+                ensemble[mot] = estPublic ? ensemble[mot] | bit : ensemble[mot] & ~bit;
+            }
+        }
+        if (ancienPoseur != nouveauPoseur) {
+            poseursCaches[index] = nouveauPoseur;
+            retirer(ancienPoseur, mot, bit, estPublic);
+            long[] ensemble = nouveauPoseur != null ? visibles.get(nouveauPoseur) : null;
+            if (ensemble != null) {
+                ensemble[mot] |= bit;
+            }
+        }
+    }
+
+    /**
+     * Retire une case de l'ensemble d'un ancien poseur, sauf si elle porte désormais un explosif public.
+     */
+    private void retirer(Combattant poseur, int mot, long bit, boolean estPublic) {
+        long[] ensemble = poseur != null ? visibles.get(poseur) : null;
+        if (ensemble != null && !estPublic) {
+            ensemble[mot] &= ~bit;
+        }
+    }
+}
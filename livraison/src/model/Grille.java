@@ -7,6 +7,7 @@ import java.util.*;
 import java.util.function.Consumer;
 import java.util.function.Predicate;
 
+import model.combattantFactory.CombattantFactory;
 import model.proxy.GrilleInterface;
 
 /**
@@ -26,6 +27,9 @@ public class Grille implements GrilleInterface {
     /** Générateur de nombres aléatoires pour placer les éléments aléatoirement. */
     private Random random;
 
+    /** Graine du générateur, dont dérivent les graines des copies. */
+    private final long graine;
+
     /** Gestionnaire de messages pour afficher les informations du jeu. */
     private MessageHandler messageHandler;
 
@@ -35,18 +39,85 @@ public class Grille implements GrilleInterface {
     /** Longueur de la grille (nombre de cases en Y). */
     private int longueur;
 
+    /** Compteurs de modifications de la grille, un par type de modification. */
+    private final long[] versions = new long[TypeModification.values().length];
+
+    /** Cache des cartes de distances partagé par toutes les stratégies. */
+    private final CarteDistances carteDistances;
+
+    /** Tables des lignes de tir, mises à jour à chaque modification de mur. */
+    private final LignesDeTir lignesDeTir;
+
+    /** Carte des menaces partagée par tous les combattants contrôlés par l'IA. */
+    private final CarteMenaces carteMenaces;
+
+    /** Cases où chaque combattant voit un explosif, mises à jour à chaque modification d'explosif. */
+    private final ExplosifsVisibles explosifsVisibles;
+
+    /** Champs de vision des combattants pour le brouillard de guerre, recalculés à la demande. */
+    private final ChampsDeVision champsDeVision;
+
+    /** Résolution des explosions et de leurs réactions en chaîne. */
+    private final ReactionEnChaine reactionEnChaine;
+
+    /** Accumulateur des dégâts des tirs et des explosions, résolus une fois par phase. */
+    private final AccumulateurDegats accumulateurDegats = new AccumulateurDegats();
+
+    /** Échéancier des explosions différées des bombes posées. */
+    private final EcheancierBombes echeancierBombes;
+
+    /** Réapparition des pastilles ramassées, si la règle est activée. */
+    private final RenaissancePastilles renaissancePastilles;
+
+    /** Détonations du tour de joueur en cours. */
+    private List<Detonation> detonationsTourCourant = new ArrayList<>();
+
+    /** Détonations du dernier tour de joueur terminé. */
+    private List<Detonation> detonationsDernierTour = new ArrayList<>();
+
+    /** Vrai pour une copie de simulation (cf. {@link #copier}), dont les détonations ne sont pas enregistrées. */
+    private boolean simulation;
+
+    /** Nombre de tours de joueur terminés depuis le début de la partie. */
+    private long tourCourant;
+
+    /** Somme des énergies des combattants placés sur la grille, tenue à jour à chaque variation. */
+    private int energieTotale;
+
+    /** Nombre de combattants placés sur la grille encore en vie, tenu à jour à chaque variation d'énergie. */
+    private int nombreVivants;
+
+    /** Énergie totale et nombre de vivants de chaque équipe (numéro non nul), tenus à jour comme les totaux de la grille. */
+    private final Map<Integer, int[]> totauxEquipes = new HashMap<>();
+
+    /** Compteur des changements d'armes ou de munitions des combattants placés sur la grille. */
+    private long versionArmes;
+
     /**
      * Constructeur de la classe Grille.
      *
      * @param messageHandler Le gestionnaire de messages pour afficher les informations du jeu.
      */
     public Grille(MessageHandler messageHandler) {
+        this(messageHandler, new Random().nextLong());
+    }
+
+    /**
+     * Constructeur de la classe Grille avec une graine fixée pour le placement aléatoire,
+     * afin de rejouer des parties à l'identique (parties sans affichage, réglages de l'IA).
+     *
+     * @param messageHandler Le gestionnaire de messages pour afficher les informations du jeu.
+     * @param graine         La graine du générateur aléatoire.
+     */
+    public Grille(MessageHandler messageHandler, long graine) {
         this.largeur = Parametres.largeur;
         this.longueur = Parametres.longueur;
         this.cases = new Case[largeur][longueur];
         this.combattants = new ArrayList<>();
-        this.random = new Random();
+        this.graine = graine;
+        this.random = new Random(graine);
         this.messageHandler = messageHandler;
+        this.carteDistances = new CarteDistances(this);
 
         // Initialisation des cases de la grille
         for (int x = 0; x < largeur; x++) {
@@ -54,6 +125,75 @@ public class Grille implements GrilleInterface {
                 cases[x][y] = new Case(new Position(x, y), this);
             }
         }
+        this.lignesDeTir = new LignesDeTir(this);
+        this.carteMenaces = new CarteMenaces(this);
+        this.explosifsVisibles = new ExplosifsVisibles(this);
+        this.champsDeVision = new ChampsDeVision(this);
+        this.reactionEnChaine = new ReactionEnChaine(this);
+        this.echeancierBombes = new EcheancierBombes(this);
+        this.renaissancePastilles = new RenaissancePastilles(this, random);
+    }
+
+    /**
+     * Crée une copie indépendante de la grille dans son état courant : murs, pastilles, explosifs
+     * posés, combattants (énergie, bouclier, armes et explosifs en inventaire) et numéro de tour.
+     * <p>
+     * Les combattants de la copie sont dans le même ordre que ceux de la grille, ce qui permet de
+     * retrouver la copie d'un combattant par son index. Les actions jouées sur la copie n'ont
+     * aucun effet sur la grille d'origine ; elle sert aux simulations de l'IA.
+     * <p>
+     * La copie ne fait que lire la grille d'origine, dont le générateur n'est pas consommé : la
+     * graine de la copie est dérivée de la graine de la grille et du tour courant. Deux copies d'une
+     * même grille au même tour tirent donc les mêmes nombres, et plusieurs threads peuvent copier la
+     * même grille tant qu'aucun ne la modifie.
+     *
+     * @param messageHandler Le gestionnaire de messages de la copie et de ses combattants.
+     * @return La copie de la grille.
+     */
+    public Grille copier(MessageHandler messageHandler) {
+        Grille copie = new Grille(messageHandler, graineCopie());
+        copie.simulation = true;
+        Map<Combattant, Combattant> copiesCombattants = new HashMap<>();
+
+        for (Combattant combattant : combattants) {
+            Combattant copieCombattant = CombattantFactory.copierCombattant(combattant, messageHandler, copie);
+            copiesCombattants.put(combattant, copieCombattant);
+            copie.inscrireCombattant(copieCombattant);
+        }
+        // Le tour est recopié avant les bombes, dont l'échéance est calculée à partir du tour courant.
+        copie.tourCourant = tourCourant;
+        copie.renaissancePastilles.copierAttentes(renaissancePastilles);
+
+        for (int x = 0; x < largeur; x++) {
+            for (int y = 0; y < longueur; y++) {
+                Case origine = cases[x][y];
+                Case destination = copie.cases[x][y];
+                destination.setEstMur(origine.estUnMur());
+                if (origine.contientPastilleEnergie()) {
+                    destination.setContientPastilleEnergie(new Pastille(destination.getPosition(), copie));
+                }
+                Explosif explosif = origine.getExplosif();
+                if (explosif != null) {
+                    Combattant porteur = copiesCombattants.getOrDefault(explosif.getPorteur(), explosif.getPorteur());
+                    destination.setExplosif(explosif.copier(porteur));
+                }
+                if (origine.getOccupant() != null) {
+                    destination.setOccupant(copiesCombattants.get(origine.getOccupant()));
+                }
+            }
+        }
+        return copie;
+    }
+
+    /**
+     * Dérive la graine d'une copie de la graine de la grille et du tour courant (finaliseur de
+     * SplitMix64), sans toucher au générateur de la grille.
+     */
+    private long graineCopie() {
+        long z = graine + (tourCourant + 1) * 0x9E3779B97F4A7C15L;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
     }
 
     /**
@@ -131,43 +271,198 @@ public class Grille implements GrilleInterface {
     }
 
     /**
-     * Gère les explosions différées des bombes sur la grille.
-     * Parcourt toutes les cases et fait exploser les bombes si nécessaire.
+     * Obtient la case à des coordonnées données, sans créer de position intermédiaire.
+     *
+     * @param x La coordonnée en x.
+     * @param y La coordonnée en y.
+     * @return La case correspondante, ou null si les coordonnées sont invalides.
      */
-    public void gererExplosionsDifferrees() {
-        for (int x = 0; x < largeur; x++) {
-            for (int y = 0; y < longueur; y++) {
-                Case caseCourante = cases[x][y];
-                Explosif explosif = caseCourante.getExplosif();
+    public Case getCase(int x, int y) {
+        if (x < 0 || x >= largeur || y < 0 || y >= longueur) {
+            return null;
+        }
+        return cases[x][y];
+    }
 
-                if (explosif instanceof Bombe) {
-                    Bombe bombe = (Bombe) explosif;
-                    bombe.explose(null, caseCourante);
-                }
-            }
+    /**
+     * Calcule l'index linéaire d'une case, utilisé par les tableaux de données indexés par case.
+     *
+     * @param x La coordonnée en x.
+     * @param y La coordonnée en y.
+     * @return L'index de la case, compris entre 0 et largeur * longueur - 1.
+     */
+    public int indexDe(int x, int y) {
+        return y * largeur + x;
+    }
+
+    /**
+     * Obtient le cache des cartes de distances de la grille.
+     *
+     * @return Le cache des cartes de distances.
+     */
+    public CarteDistances getCarteDistances() {
+        return carteDistances;
+    }
+
+    /**
+     * Obtient les tables des lignes de tir de la grille.
+     *
+     * @return Les tables des lignes de tir.
+     */
+    public LignesDeTir getLignesDeTir() {
+        return lignesDeTir;
+    }
+
+    /**
+     * Obtient la carte des menaces de la grille.
+     *
+     * @return La carte des menaces.
+     */
+    public CarteMenaces getCarteMenaces() {
+        return carteMenaces;
+    }
+
+    /**
+     * Obtient les ensembles des cases où chaque combattant voit un explosif.
+     *
+     * @return Les explosifs visibles de la grille.
+     */
+    public ExplosifsVisibles getExplosifsVisibles() {
+        return explosifsVisibles;
+    }
+
+    /**
+     * Obtient les champs de vision des combattants, utilisés par le brouillard de guerre.
+     *
+     * @return Les champs de vision de la grille.
+     */
+    public ChampsDeVision getChampsDeVision() {
+        return champsDeVision;
+    }
+
+    /**
+     * Obtient le moteur de résolution des explosions de la grille.
+     *
+     * @return La résolution des réactions en chaîne.
+     */
+    public ReactionEnChaine getReactionEnChaine() {
+        return reactionEnChaine;
+    }
+
+    /**
+     * Obtient l'accumulateur des dégâts de la grille, partagé par les tirs et les explosions.
+     *
+     * @return L'accumulateur des dégâts.
+     */
+    public AccumulateurDegats getAccumulateurDegats() {
+        return accumulateurDegats;
+    }
+
+    /**
+     * Obtient la réapparition des pastilles de la grille.
+     *
+     * @return La réapparition des pastilles.
+     */
+    public RenaissancePastilles getRenaissancePastilles() {
+        return renaissancePastilles;
+    }
+
+    /**
+     * Obtient l'échéancier des explosions différées des bombes de la grille.
+     *
+     * @return L'échéancier des bombes.
+     */
+    public EcheancierBombes getEcheancierBombes() {
+        return echeancierBombes;
+    }
+
+    /**
+     * Obtient les détonations du dernier tour de joueur terminé : explosifs déclenchés par les actions
+     * du joueur, puis bombes arrivées à échéance à la fin de son tour, réactions en chaîne comprises.
+     * La liste est remplacée à la fin du tour suivant. Elle reste vide sur une copie de la grille.
+     *
+     * @return Les détonations du dernier tour, dans leur ordre.
+     */
+    public List<Detonation> getDetonationsDernierTour() {
+        return Collections.unmodifiableList(detonationsDernierTour);
+    }
+
+    /**
+     * Enregistre la détonation d'un explosif pendant le tour courant.
+     *
+     * @param position La case de l'explosif.
+     * @param explosif L'explosif qui détone.
+     */
+    void enregistrerDetonation(Position position, Explosif explosif) {
+        if (simulation) {
+            return;
         }
+        detonationsTourCourant.add(new Detonation(position, explosif.getType(), Souffle.de(explosif),
+                tourCourant, largeur, longueur));
     }
 
     /**
-     * Récupère les positions des explosifs (mines, bombes) sur la grille.
+     * Obtient le nombre de tours de joueur terminés depuis le début de la partie.
+     * Un tour se termine à chaque appel de {@link #gererExplosionsDifferrees()}.
      *
-     * @return Une liste des positions des explosifs.
+     * @return Le numéro du tour courant.
      */
-    public List<Position> getPositionsExplosif() {
-        List<Position> positionsExplosifs = new ArrayList<>();
-        
-       for (int i = 0; i < this.getLongueur(); i++) {
-            for (int j = 0; j < this.getLargeur(); j++) {
-                Case caseGrille = this.getCase(new Position(i, j));
-                if (caseGrille != null && caseGrille.getExplosif() != null) {
-                	positionsExplosifs.add(new Position(i, j));
-                }
+    public long getTourCourant() {
+        return tourCourant;
+    }
+
+    /**
+     * Obtient le compteur de modifications associé à un type de modification.
+     * Le compteur augmente à chaque changement effectif de ce type sur la grille.
+     *
+     * @param type Le type de modification.
+     * @return La version courante pour ce type.
+     */
+    public long getVersion(TypeModification type) {
+        return versions[type.ordinal()];
+    }
+
+    /**
+     * Enregistre une modification survenue sur une case de la grille.
+     * Appelée par les cases lorsque leur contenu change réellement.
+     *
+     * @param type     Le type de modification.
+     * @param position La position de la case modifiée.
+     */
+    void signalerModification(TypeModification type, Position position) {
+        versions[type.ordinal()]++;
+        if (type == TypeModification.MUR) {
+            lignesDeTir.mettreAJour(position);
+            champsDeVision.signalerMur(position);
+        } else if (type == TypeModification.EXPLOSIF) {
+            Explosif explosif = getCase(position).getExplosif();
+            if (explosif instanceof Bombe) {
+                echeancierBombes.signalerPose((Bombe) explosif, getCase(position));
             }
+            carteMenaces.mettreAJourExplosif(position);
+            explosifsVisibles.mettreAJour(position);
         }
+        renaissancePastilles.signalerModification(type, position);
+    }
 
-        return positionsExplosifs;
+    /**
+     * Gère les explosions différées des bombes sur la grille et termine le tour du joueur.
+     * <p>
+     * Appelée après le tour de chaque joueur : le délai des bombes se décompte donc en tours de
+     * joueur. Seules les bombes dont l'échéance est le tour courant explosent ; le délai des autres
+     * diminue d'un tour avec le passage au tour suivant (voir {@link EcheancierBombes}). Les pastilles
+     * dont la réapparition est échue sont ensuite posées (voir {@link RenaissancePastilles}).
+     */
+    public void gererExplosionsDifferrees() {
+        echeancierBombes.declencherEchues();
+        renaissancePastilles.faireReapparaitre();
+        List<Detonation> anciennes = detonationsDernierTour;
+        anciennes.clear();
+        detonationsDernierTour = detonationsTourCourant;
+        detonationsTourCourant = anciennes;
+        tourCourant++;
     }
-    
+
     /**
      * Place des éléments sur la grille selon une condition et une action.
      *
@@ -218,12 +513,130 @@ public class Grille implements GrilleInterface {
                     caseCible -> {
                         caseCible.setOccupant(combattant);
                         combattant.setPosition(caseCible.getPosition());
-                        combattants.add(combattant);
+                        inscrireCombattant(combattant);
                     }
             );
         }
     }
 
+    /**
+     * Ajoute un combattant à la liste de la grille et intègre son énergie aux totaux suivis.
+     *
+     * @param combattant Le combattant à inscrire.
+     */
+    void inscrireCombattant(Combattant combattant) {
+        combattants.add(combattant);
+        combattant.suiviParGrille = true;
+        energieTotale += combattant.getEnergie();
+        if (combattant.estEnVie()) {
+            nombreVivants++;
+        }
+        compterDansEquipe(combattant, combattant.getEquipe(), 1);
+        versionArmes++;
+    }
+
+    /**
+     * Ajoute ou retire l'énergie et la vie d'un combattant des totaux d'une équipe.
+     *
+     * @param combattant Le combattant compté.
+     * @param equipe     L'équipe dont les totaux changent (0 : aucune).
+     * @param signe      1 pour ajouter le combattant, -1 pour le retirer.
+     */
+    private void compterDansEquipe(Combattant combattant, int equipe, int signe) {
+        if (equipe == 0) {
+            return;
+        }
+        int[] totaux = totauxEquipes.computeIfAbsent(equipe, e -> new int[2]);
+        totaux[0] += signe * combattant.getEnergie();
+        totaux[1] += combattant.estEnVie() ? signe : 0;
+    }
+
+    /**
+     * Enregistre le changement d'équipe d'un combattant placé sur la grille.
+     *
+     * @param combattant Le combattant, déjà dans sa nouvelle équipe.
+     * @param ancienne   L'équipe qu'il quitte.
+     */
+    void signalerChangementEquipe(Combattant combattant, int ancienne) {
+        compterDansEquipe(combattant, ancienne, -1);
+        compterDansEquipe(combattant, combattant.getEquipe(), 1);
+    }
+
+    /**
+     * Enregistre la variation d'énergie d'un combattant placé sur la grille.
+     *
+     * @param equipe   L'équipe du combattant (0 : aucune).
+     * @param ancienne L'énergie avant la variation.
+     * @param nouvelle L'énergie après la variation.
+     */
+    void signalerVariationEnergie(int equipe, int ancienne, int nouvelle) {
+        int vivants = ancienne > 0 && nouvelle <= 0 ? -1 : ancienne <= 0 && nouvelle > 0 ? 1 : 0;
+        energieTotale += nouvelle - ancienne;
+        nombreVivants += vivants;
+        if (equipe != 0) {
+            int[] totaux = totauxEquipes.computeIfAbsent(equipe, e -> new int[2]);
+            totaux[0] += nouvelle - ancienne;
+            totaux[1] += vivants;
+        }
+    }
+
+    /**
+     * Enregistre un changement d'armes ou de munitions d'un combattant placé sur la grille.
+     */
+    void signalerVariationArmes() {
+        versionArmes++;
+    }
+
+    /**
+     * Obtient le compteur des changements d'armes ou de munitions des combattants placés sur la
+     * grille. Le compteur augmente à chaque arme ajoutée et à chaque munition consommée.
+     *
+     * @return La version courante des armes.
+     */
+    public long getVersionArmes() {
+        return versionArmes;
+    }
+
+    /**
+     * Obtient la somme des énergies des combattants placés sur la grille.
+     *
+     * @return L'énergie totale.
+     */
+    public int getEnergieTotale() {
+        return energieTotale;
+    }
+
+    /**
+     * Obtient le nombre de combattants placés sur la grille encore en vie.
+     *
+     * @return Le nombre de combattants vivants.
+     */
+    public int getNombreVivants() {
+        return nombreVivants;
+    }
+
+    /**
+     * Obtient la somme des énergies des combattants d'une équipe placés sur la grille.
+     *
+     * @param equipe Le numéro d'équipe, non nul.
+     * @return L'énergie totale de l'équipe.
+     */
+    public int getEnergieEquipe(int equipe) {
+        int[] totaux = totauxEquipes.get(equipe);
+        return totaux == null ? 0 : totaux[0];
+    }
+
+    /**
+     * Obtient le nombre de combattants d'une équipe placés sur la grille encore en vie.
+     *
+     * @param equipe Le numéro d'équipe, non nul.
+     * @return Le nombre de vivants de l'équipe.
+     */
+    public int getNombreVivantsEquipe(int equipe) {
+        int[] totaux = totauxEquipes.get(equipe);
+        return totaux == null ? 0 : totaux[1];
+    }
+
     /**
      * Place des pastilles d'énergie aléatoirement sur la grille.
      * Le nombre de pastilles est déterminé par les paramètres du jeu.
@@ -0,0 +1,208 @@
+package model;
+
+/**
+ * Tables de lignes de tir précalculées pour chaque case de la grille.
+ * <p>
+ * Pour chaque case et chacune des quatre directions, la table conserve le nombre de cases
+ * franchissables avant le premier mur ou le bord de la grille. Les murs changeant rarement,
+ * seules la ligne et la colonne d'un mur modifié sont recalculées.
+ * <p>
+ * La résolution d'un tir et la recherche d'une cible atteignable se font ainsi en temps
+ * constant pour la partie « murs », puis en parcourant uniquement la liste des combattants.
+ */
+public class LignesDeTir {
+
+    /** Direction vers les x croissants. */
+    public static final int EST = 0;
+
+    /** Direction vers les x décroissants. */
+    public static final int OUEST = 1;
+
+    /** Direction vers les y croissants. */
+    public static final int SUD = 2;
+
+    /** Direction vers les y décroissants. */
+    public static final int NORD = 3;
+
+    /** Déplacement en x associé à chaque direction. */
+    public static final int[] DX = {1, -1, 0, 0};
+
+    /** Déplacement en y associé à chaque direction. */
+    public static final int[] DY = {0, 0, 1, -1};
+
+    /** La grille dont les lignes de tir sont calculées. */
+    private final Grille grille;
+
+    /** Nombre de cases libres de murs par case et par direction, à l'index {@code indexCase * 4 + direction}. */
+    private final short[] casesLibres;
+
+    /**
+     * Constructeur de la classe LignesDeTir.
+     *
+     * @param grille La grille dont les lignes de tir sont calculées.
+     */
+    public LignesDeTir(Grille grille) {
+        this.grille = grille;
+        this.casesLibres = new short[grille.getLargeur() * grille.getLongueur() * 4];
+        for (int y = 0; y < grille.getLongueur(); y++) {
+            recalculerLigne(y);
+        }
+        for (int x = 0; x < grille.getLargeur(); x++) {
+            recalculerColonne(x);
+        }
+    }
+
+    /**
+     * Convertit une direction de tir (horizontale ou verticale) et une case visée en l'une des quatre directions.
+     *
+     * @param direction La direction du tir.
+     * @param origine   La position du tireur.
+     * @param cible     La position de la case visée.
+     * @return La direction correspondante (EST, OUEST, SUD ou NORD).
+     */
+    public static int versDirection(Direction direction, Position origine, Position cible) {
+        if (direction == Direction.HORIZONTAL) {
+            return cible.getX() > origine.getX() ? EST : OUEST;
+        }
+        return cible.getY() > origine.getY() ? SUD : NORD;
+    }
+
+    /**
+     * Convertit l'une des quatre directions en direction de tir.
+     *
+     * @param direction La direction (EST, OUEST, SUD ou NORD).
+     * @return HORIZONTAL pour EST et OUEST, VERTICAL sinon.
+     */
+    public static Direction versDirectionTir(int direction) {
+        return direction == EST || direction == OUEST ? Direction.HORIZONTAL : Direction.VERTICAL;
+    }
+
+    /**
+     * Obtient le nombre de cases franchissables depuis une case avant le premier mur ou le bord.
+     *
+     * @param x         La coordonnée en x de la case de départ.
+     * @param y         La coordonnée en y de la case de départ.
+     * @param direction La direction (EST, OUEST, SUD ou NORD).
+     * @return Le nombre de cases libres de murs dans cette direction.
+     */
+    public int getCasesLibres(int x, int y, int direction) {
+        return casesLibres[grille.indexDe(x, y) * 4 + direction];
+    }
+
+    /**
+     * Recherche le premier combattant touché par un tir depuis une position dans une direction.
+     *
+     * @param origine   La position du tireur.
+     * @param direction La direction du tir (EST, OUEST, SUD ou NORD).
+     * @param portee    La portée de l'arme.
+     * @return Le premier combattant sur la trajectoire avant un mur et à portée, ou null.
+     */
+    public Combattant premiereCible(Position origine, int direction, int portee) {
+        int porteeEffective = Math.min(portee, getCasesLibres(origine.getX(), origine.getY(), direction));
+        Combattant plusProche = null;
+        int distanceMin = Integer.MAX_VALUE;
+
+        for (Combattant c : grille.getAllCombattants()) {
+            Position p = c.getPosition();
+            if (p == null) {
+                continue;
+            }
+            int distance = distanceSurAxe(origine, p, direction);
+            if (distance > 0 && distance <= porteeEffective && distance < distanceMin
+                    && grille.getCase(p.getX(), p.getY()).getOccupant() == c) {
+                plusProche = c;
+                distanceMin = distance;
+            }
+        }
+
+        return plusProche;
+    }
+
+    /**
+     * Obtient la position du mur qui arrête un tir, s'il se trouve à portée.
+     *
+     * @param origine   La position du tireur.
+     * @param direction La direction du tir (EST, OUEST, SUD ou NORD).
+     * @param portee    La portée de l'arme.
+     * @return La position du mur bloquant, ou null si le tir atteint sa portée ou le bord de la grille.
+     */
+    public Position murBloquant(Position origine, int direction, int portee) {
+        int libres = getCasesLibres(origine.getX(), origine.getY(), direction);
+        if (libres >= portee) {
+            return null;
+        }
+        int x = origine.getX() + DX[direction] * (libres + 1);
+        int y = origine.getY() + DY[direction] * (libres + 1);
+        Case caseMur = grille.getCase(x, y);
+        return caseMur != null && caseMur.estUnMur() ? caseMur.getPosition() : null;
+    }
+
+    /**
+     * Met à jour les tables après la modification d'un mur.
+     * Seules la ligne et la colonne de la case modifiée sont recalculées.
+     *
+     * @param position La position du mur ajouté ou retiré.
+     */
+    void mettreAJour(Position position) {
+        recalculerLigne(position.getY());
+        recalculerColonne(position.getX());
+    }
+
+    /**
+     * Calcule la distance le long d'une direction entre deux positions alignées.
+     *
+     * @return La distance si la cible est dans la direction donnée, -1 sinon.
+     */
+    private static int distanceSurAxe(Position origine, Position cible, int direction) {
+        int dx = cible.getX() - origine.getX();
+        int dy = cible.getY() - origine.getY();
+        switch (direction) {
+            case EST:
+                return dy == 0 && dx > 0 ? dx : -1;
+            case OUEST:
+                return dy == 0 && dx < 0 ? -dx : -1;
+            case SUD:
+                return dx == 0 && dy > 0 ? dy : -1;
+            default:
+                return dx == 0 && dy < 0 ? -dy : -1;
+        }
+    }
+
+    /**
+     * Recalcule les directions EST et OUEST de toutes les cases d'une ligne.
+     *
+     * @param y La coordonnée en y de la ligne.
+     */
+    private void recalculerLigne(int y) {
+        int largeur = grille.getLargeur();
+        short libres = 0;
+        for (int x = largeur - 1; x >= 0; x--) {
+            casesLibres[grille.indexDe(x, y) * 4 + EST] = libres;
+            libres = grille.getCase(x, y).estUnMur() ? 0 : (short) (libres + 1);
+        }
+        libres = 0;
+        for (int x = 0; x < largeur; x++) {
+            casesLibres[grille.indexDe(x, y) * 4 + OUEST] = libres;
+            libres = grille.getCase(x, y).estUnMur() ? 0 : (short) (libres + 1);
+        }
+    }
+
+    /**
+     * Recalcule les directions SUD et NORD de toutes les cases d'une colonne.
+     *
+     * @param x La coordonnée en x de la colonne.
+     */
+    private void recalculerColonne(int x) {
+        int longueur = grille.getLongueur();
+        short libres = 0;
+        for (int y = longueur - 1; y >= 0; y--) {
+            casesLibres[grille.indexDe(x, y) * 4 + SUD] = libres;
+            libres = grille.getCase(x, y).estUnMur() ? 0 : (short) (libres + 1);
+        }
+        libres = 0;
+        for (int y = 0; y < longueur; y++) {
+            casesLibres[grille.indexDe(x, y) * 4 + NORD] = libres;
+            libres = grille.getCase(x, y).estUnMur() ? 0 : (short) (libres + 1);
+        }
+    }
+}
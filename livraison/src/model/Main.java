@@ -10,6 +10,7 @@ import model.factoryJoueur.JoueurFactory;
 import model.factoryJoueur.TypeJoueur;
 import model.factoryJoueur.JoueurFactory.TypeJoueurEnum;
 import model.factoryJoueur.Mode;
+import model.ia.Difficulte;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -139,9 +140,11 @@ public class Main {
             }
         }
 
-        joueurs.addAll(creerJoueursAvecStrategie(TypeJoueurEnum.AI, nombreAI, grille, combattantMessageHandler));
-        joueurs.addAll(creerJoueursAvecStrategie(TypeJoueurEnum.ALEATOIRE, nombreAleatoire, grille, combattantMessageHandler));
-        joueurs.addAll(creerJoueursAvecStrategie(TypeJoueurEnum.HUMAIN, nombreHumain, grille, combattantMessageHandler));
+        Difficulte difficulte = nombreAI > 0 ? demanderDifficulte(scanner, combattantMessageHandler) : Difficulte.PAR_DEFAUT;
+
+        joueurs.addAll(creerJoueursAvecStrategie(TypeJoueurEnum.AI, nombreAI, grille, combattantMessageHandler, difficulte));
+        joueurs.addAll(creerJoueursAvecStrategie(TypeJoueurEnum.ALEATOIRE, nombreAleatoire, grille, combattantMessageHandler, difficulte));
+        joueurs.addAll(creerJoueursAvecStrategie(TypeJoueurEnum.HUMAIN, nombreHumain, grille, combattantMessageHandler, difficulte));
 
         return joueurs;
     }
@@ -162,11 +165,32 @@ public class Main {
         return nombre;
     }
 
-    private static List<TypeJoueur> creerJoueursAvecStrategie(TypeJoueurEnum type, int nombre, Grille grille, MessageHandler combattantMessageHandler) {
+    private static Difficulte demanderDifficulte(Scanner scanner, ConsoleMessageHandler messageHandler) {
+        Difficulte[] difficultes = Difficulte.values();
+        while (true) {
+            messageHandler.afficherMessage("Choisissez la difficulté des joueurs AI :");
+            for (int i = 0; i < difficultes.length; i++) {
+                messageHandler.afficherMessage((i + 1) + ". " + difficultes[i]);
+            }
+            try {
+                int choix = scanner.nextInt();
+                scanner.nextLine();
+                if (choix >= 1 && choix <= difficultes.length) {
+                    return difficultes[choix - 1];
+                }
+                messageHandler.afficherErreur("Le choix doit être entre 1 et " + difficultes.length + ".");
+            } catch (Exception e) {
+                messageHandler.afficherErreur("Entrée invalide. Veuillez entrer un nombre entre 1 et " + difficultes.length + ".");
+                scanner.nextLine();
+            }
+        }
+    }
+
+    private static List<TypeJoueur> creerJoueursAvecStrategie(TypeJoueurEnum type, int nombre, Grille grille, MessageHandler combattantMessageHandler, Difficulte difficulte) {
         List<TypeJoueur> joueurs = new ArrayList<>();
         for (int i = 1; i <= nombre; i++) {
             List<Combattant> combattants = CombattantFactory.creerListeCombattants(1, grille, combattantMessageHandler);
-            TypeJoueur joueur = JoueurFactory.creerJoueurAvecStrategie(type, combattants, Mode.CONSOLE);
+            TypeJoueur joueur = JoueurFactory.creerJoueurAvecStrategie(type, combattants, Mode.CONSOLE, difficulte);
             joueurs.add(joueur);
         }
         System.out.println(joueurs.size() + " joueur(s) de type " + type + " ajouté(s).");
@@ -9,7 +9,8 @@ public class Mine extends Explosif {
     }
     /**
      * Implémentation de l'explosion de la mine.
-     * Affecte uniquement le combattant qui marche dessus et impacte ses voisins via `impacterVoisins`.
+     * Affecte le combattant qui marche dessus et les occupants des cases voisines, et fait détoner
+     * les explosifs voisins (cf. {@link ReactionEnChaine}).
      *
      * @param combattant Le combattant sur la case (ne peut pas être null pour déclencher l'explosion).
      * @param caseCible La case où se trouve la mine.
@@ -20,20 +21,27 @@ public class Mine extends Explosif {
             return; 
         }
 
-        int degats = combattant.estBouclierActif() ? getCoutEnergieAvecBouclier() : getImpactEnergie();
-        combattant.perdreEnergie(degats);
-
         if (combattant.getMessageHandler() != null) {
             combattant.getMessageHandler().afficherMessage(
-                "Une mine a explosé sur " + combattant.getNom() +
-                " à la position (" + caseCible.getPosition().getX() + ", " + caseCible.getPosition().getY() +
-                "), infligeant " + degats + " points de dégâts."
+                "Une mine a explosé sous " + combattant.getNom() +
+                " à la position (" + caseCible.getPosition().getX() + ", " + caseCible.getPosition().getY() + ")."
             );
         }
 
-        impacterVoisins(caseCible);
+        detoner(caseCible, combattant);
+    }
 
-        caseCible.retirerExplosif();
+    /**
+     * Crée une copie de la mine pour un autre porteur.
+     *
+     * @param nouveauPorteur Le porteur de la copie.
+     * @return La copie.
+     */
+    @Override
+    public Explosif copier(Combattant nouveauPorteur) {
+        Mine copie = new Mine(nouveauPorteur, getType());
+        copie.setDelaiExplosion(getDelaiExplosion());
+        return copie;
     }
 
     @Override
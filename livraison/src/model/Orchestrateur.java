@@ -56,6 +56,10 @@ public class Orchestrateur {
                 joueur.jouerTour(grille);
                 grille.gererExplosionsDifferrees();
 
+                if (!grille.isOver()) {
+                    TypeJoueur.lancerReflexions(joueurs, joueur, grille);
+                }
+
                 grille.afficherGrille();
 
                 afficherEnergies();
@@ -71,6 +75,9 @@ public class Orchestrateur {
             }
         }
 
+        for (TypeJoueur joueur : joueurs) {
+            joueur.terminer();
+        }
         afficherResultatFinal();
     }
 
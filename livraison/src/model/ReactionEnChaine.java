@@ -0,0 +1,143 @@
+package model;
+
+import utils.configuration.Parametres;
+
+/**
+ * Résolution des explosions d'une grille, avec réactions en chaîne.
+ * <p>
+ * Lorsqu'un explosif détone, son souffle atteint les cases de sa zone ({@link Souffle}, par défaut
+ * les huit cases voisines) : leurs occupants sont touchés, avec des dégâts atténués selon leur
+ * distance, et, si les réactions en chaîne sont activées ({@code <explosifs><reactionEnChaine>} de
+ * {@code config.xml}), les explosifs qui s'y trouvent détonent à leur tour, quel que soit leur délai.
+ * La zone est parcourue colonne par colonne, à partir du gabarit précalculé du souffle et d'un
+ * tableau des cases indexé comme la grille. La vague est parcourue en largeur à l'aide d'une file
+ * de cases et d'un tableau de bits des cases déjà atteintes : chaque explosif détone au plus une
+ * fois, sans récursion, et le coût de la vague est proportionnel au nombre d'explosifs qui y
+ * prennent part. Chaque détonation est enregistrée par la grille pour l'affichage
+ * ({@link Grille#getDetonationsDernierTour()}).
+ * <p>
+ * Les dégâts de toute la vague sont cumulés par combattant dans l'{@link AccumulateurDegats} de la
+ * grille, puis infligés en une seule fois, dans l'ordre où les combattants ont été touchés. Un
+ * combattant atteint par plusieurs souffles subit la somme des dégâts de chacun, calculés selon
+ * l'état de son bouclier, et il est éliminé s'il a perdu sa dernière énergie.
+ */
+public class ReactionEnChaine {
+
+    /** La grille dont les explosions sont résolues. */
+    private final Grille grille;
+
+    /** Cases de la grille, indexées par {@link Grille#indexDe(int, int)}. */
+    private final Case[] cases;
+
+    /** Cases déjà atteintes par la vague en cours, indexées par {@link Grille#indexDe(int, int)}. */
+    private final long[] atteintes;
+
+    /** File des cases dont l'explosif détone, dans l'ordre de la vague. */
+    private final int[] file;
+
+    /**
+     * Constructeur de la classe ReactionEnChaine.
+     *
+     * @param grille La grille dont les explosions sont résolues.
+     */
+    public ReactionEnChaine(Grille grille) {
+        this.grille = grille;
+        int cases = grille.getLargeur() * grille.getLongueur();
+        this.atteintes = new long[(cases + 63) >>> 6];
+        this.file = new int[cases];
+        this.cases = new Case[cases];
+        for (int x = 0; x < grille.getLargeur(); x++) {
+            for (int y = 0; y < grille.getLongueur(); y++) {
+                this.cases[grille.indexDe(x, y)] = grille.getCase(x, y);
+            }
+        }
+    }
+
+    /**
+     * Fait détoner l'explosif d'une case, puis les explosifs atteints par la vague, et inflige les
+     * dégâts cumulés. Les explosifs qui détonent sont retirés de la grille.
+     *
+     * @param caseExplosif La case de l'explosif qui détone.
+     * @param cibleDirecte Le combattant qui a déclenché l'explosif en entrant sur sa case, ou null.
+     * @return Le nombre d'explosifs qui ont détoné.
+     */
+    public int declencher(Case caseExplosif, Combattant cibleDirecte) {
+        Explosif initial = caseExplosif.getExplosif();
+        if (initial == null) {
+            return 0;
+        }
+        boolean enChaine = Parametres.reactionEnChaine;
+        int depart = grille.indexDe(caseExplosif.getPosition().getX(), caseExplosif.getPosition().getY());
+        file[0] = depart;
+        atteintes[depart >>> 6] |= 1L << depart;
+        int fin = 1;
+        if (cibleDirecte != null) {
+            toucher(cibleDirecte, initial, 0);
+        }
+
+        int largeur = grille.getLargeur();
+        int longueur = grille.getLongueur();
+        for (int tete = 0; tete < fin; tete++) {
+            int index = file[tete];
+            int x = index % largeur;
+            int y = index / largeur;
+            Case courante = cases[index];
+            Explosif explosif = courante.getExplosif();
+            courante.retirerExplosif();
+            grille.enregistrerDetonation(courante.getPosition(), explosif);
+            Souffle souffle = Souffle.de(explosif);
+            int rayon = souffle.getRayon();
+
+            for (int dx = Math.max(-rayon, -x); dx <= Math.min(rayon, largeur - 1 - x); dx++) {
+                int demiHauteur = souffle.getDemiHauteur(dx);
+                int dyMax = Math.min(demiHauteur, longueur - 1 - y);
+                for (int dy = Math.max(-demiHauteur, -y); dy <= dyMax; dy++) {
+                    if (dx == 0 && dy == 0) continue;
+                    int indexVoisine = index + dy * largeur + dx;
+                    Case voisine = cases[indexVoisine];
+                    Combattant occupant = voisine.getOccupant();
+                    if (occupant != null) {
+                        toucher(occupant, explosif, souffle.distance(dx, dy));
+                    }
+                    if (enChaine && voisine.getExplosif() != null) {
+                        if ((atteintes[indexVoisine >>> 6] & (1L << indexVoisine)) == 0) {
+                            atteintes[indexVoisine >>> 6] |= 1L << indexVoisine;
+                            file[fin++] = indexVoisine;
+                        }
+                    }
+                }
+            }
+        }
+
+        for (int i = 0; i < fin; i++) {
+            atteintes[file[i] >>> 6] = 0L;
+        }
+        infligerDegats(caseExplosif, fin);
+        return fin;
+    }
+
+    private void toucher(Combattant combattant, Explosif explosif, int distance) {
+        Souffle souffle = Souffle.de(explosif);
+        int degats = souffle.attenuer(explosif.getImpactEnergie(), distance);
+        int degatsAvecBouclier = souffle.attenuer(explosif.getCoutEnergieAvecBouclier(), distance);
+        if (degats > 0 || degatsAvecBouclier > 0) {
+            grille.getAccumulateurDegats().ajouter(combattant, degats, degatsAvecBouclier);
+        }
+    }
+
+    private void infligerDegats(Case caseExplosif, int detonations) {
+        AccumulateurDegats accumulateur = grille.getAccumulateurDegats();
+        if (accumulateur.getNombreVictimes() == 0) {
+            return;
+        }
+        accumulateur.appliquer((combattant, degats) -> {
+            if (combattant.getMessageHandler() != null) {
+                combattant.getMessageHandler().afficherMessage(
+                        "L'explosion de la case (" + caseExplosif.getPosition().getX() + ", " + caseExplosif.getPosition().getY() + ")"
+                        + (detonations > 1 ? ", propagée à " + detonations + " explosifs," : "")
+                        + " a impacté " + combattant.getNom() + ", infligeant " + degats + " points de dégâts."
+                );
+            }
+        });
+    }
+}
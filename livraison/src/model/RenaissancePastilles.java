@@ -0,0 +1,201 @@
+package model;
+
+import java.util.Random;
+
+import utils.configuration.Parametres;
+
+/**
+ * Réapparition des pastilles d'énergie ramassées, lorsque la règle est activée
+ * ({@code <pastilles><renaissance>} de {@code config.xml}).
+ * <p>
+ * Chaque pastille ramassée programme la réapparition d'une pastille après un délai tiré entre
+ * {@link Parametres#delaiMinRenaissancePastilles} et {@link Parametres#delaiMaxRenaissancePastilles}
+ * tours de joueur, décomptés comme ceux des bombes. Les réapparitions sont comptées dans une roue
+ * indexée par le tour d'échéance : à la fin de chaque tour, seule l'alvéole du tour est lue. La
+ * nouvelle pastille est posée sur une case libre (ni mur, ni occupant, ni explosif, ni pastille)
+ * tirée uniformément dans un ensemble indexé des cases libres, tenu à jour à chaque modification
+ * d'une case : le coût d'un tour ne dépend que du nombre de réapparitions échues, quelle que soit
+ * la taille de la grille. Une réapparition échue est abandonnée si la grille compte déjà
+ * {@link Parametres#plafondPastilles} pastilles ou si aucune case n'est libre.
+ */
+public class RenaissancePastilles {
+
+    /** La grille dont les pastilles réapparaissent. */
+    private final Grille grille;
+
+    /** Générateur de la grille, pour les délais et les cases tirés. */
+    private final Random random;
+
+    /** true si la règle était activée à la création de la grille. */
+    private final boolean active;
+
+    private final int delaiMin;
+    private final int delaiMax;
+    private final int plafond;
+
+    /** Nombre de réapparitions programmées, par tour d'échéance modulo la taille de la roue. */
+    private final int[] reapparitions;
+
+    /** Ensemble des cases libres : index des cases, puis place de chaque case dans ce tableau (-1 si occupée). */
+    private final int[] libres;
+    private final int[] places;
+    private int nombreLibres;
+
+    /** Nombre de pastilles présentes sur la grille. */
+    private int nombrePastilles;
+
+    /**
+     * Constructeur de la classe RenaissancePastilles. Lit la règle dans les paramètres du jeu ;
+     * toutes les cases de la grille, encore vide, sont libres.
+     *
+     * @param grille La grille dont les pastilles réapparaissent.
+     * @param random Le générateur aléatoire de la grille.
+     * @throws IllegalArgumentException Si la règle est activée avec des délais ou un plafond incohérents.
+     */
+    public RenaissancePastilles(Grille grille, Random random) {
+        this.grille = grille;
+        this.random = random;
+        this.active = Parametres.renaissancePastilles;
+        this.delaiMin = Parametres.delaiMinRenaissancePastilles;
+        this.delaiMax = Parametres.delaiMaxRenaissancePastilles;
+        this.plafond = Parametres.plafondPastilles;
+        if (!active) {
+            this.reapparitions = null;
+            this.libres = null;
+            this.places = null;
+            return;
+        }
+        if (delaiMin < 0 || delaiMax < delaiMin) {
+            throw new IllegalArgumentException("Les délais de réapparition des pastilles doivent vérifier 0 <= min <= max : "
+                    + delaiMin + ", " + delaiMax);
+        }
+        if (plafond < 0) {
+            throw new IllegalArgumentException("Le plafond de pastilles ne peut pas être négatif : " + plafond);
+        }
+        this.reapparitions = new int[Integer.highestOneBit(Math.max(1, delaiMax)) << 1];
+        int cases = grille.getLargeur() * grille.getLongueur();
+        this.libres = new int[cases];
+        this.places = new int[cases];
+        for (int index = 0; index < cases; index++) {
+            libres[index] = index;
+            places[index] = index;
+        }
+        this.nombreLibres = cases;
+    }
+
+    /**
+     * Indique si la règle de réapparition est active sur cette grille.
+     *
+     * @return true si les pastilles ramassées réapparaissent.
+     */
+    public boolean estActive() {
+        return active;
+    }
+
+    /**
+     * Obtient le nombre de pastilles présentes sur la grille, suivi lorsque la règle est active.
+     *
+     * @return Le nombre de pastilles.
+     */
+    public int getNombrePastilles() {
+        return nombrePastilles;
+    }
+
+    /**
+     * Obtient le nombre de cases libres, suivi lorsque la règle est active.
+     *
+     * @return Le nombre de cases où une pastille peut réapparaître.
+     */
+    public int getNombreLibres() {
+        return nombreLibres;
+    }
+
+    /**
+     * Obtient le nombre de réapparitions programmées et pas encore échues.
+     *
+     * @return Le nombre de réapparitions en attente.
+     */
+    public int getNombreEnAttente() {
+        int total = 0;
+        if (active) {
+            for (int nombre : reapparitions) {
+                total += nombre;
+            }
+        }
+        return total;
+    }
+
+    /**
+     * Met à jour l'ensemble des cases libres et le compte des pastilles après la modification
+     * d'une case, et programme une réapparition lorsqu'une pastille a disparu.
+     *
+     * @param type     Le type de modification.
+     * @param position La position de la case modifiée.
+     */
+    void signalerModification(TypeModification type, Position position) {
+        if (!active) {
+            return;
+        }
+        Case caseModifiee = grille.getCase(position);
+        if (type == TypeModification.PASTILLE) {
+            if (caseModifiee.contientPastilleEnergie()) {
+                nombrePastilles++;
+            } else {
+                nombrePastilles--;
+                programmer(delaiMin + random.nextInt(delaiMax - delaiMin + 1));
+            }
+        }
+        int index = grille.indexDe(position.getX(), position.getY());
+        boolean libre = !caseModifiee.estOccupee(true) && !caseModifiee.contientPastilleEnergie();
+        if (libre && places[index] < 0) {
+            libres[nombreLibres] = index;
+            places[index] = nombreLibres++;
+        } else if (!libre && places[index] >= 0) {
+            int derniere = libres[--nombreLibres];
+            libres[places[index]] = derniere;
+            places[derniere] = places[index];
+            places[index] = -1;
+        }
+    }
+
+    /**
+     * Fait réapparaître les pastilles dont l'échéance est le tour courant.
+     * Appelée par {@link Grille#gererExplosionsDifferrees()} avant le passage au tour suivant.
+     *
+     * @return Le nombre de pastilles posées.
+     */
+    int faireReapparaitre() {
+        if (!active) {
+            return 0;
+        }
+        int alveole = (int) (grille.getTourCourant() & (reapparitions.length - 1));
+        int echues = reapparitions[alveole];
+        reapparitions[alveole] = 0;
+        int posees = 0;
+        for (int i = 0; i < echues && nombrePastilles < plafond && nombreLibres > 0; i++) {
+            int index = libres[random.nextInt(nombreLibres)];
+            Case caseCible = grille.getCase(index % grille.getLargeur(), index / grille.getLargeur());
+            caseCible.setContientPastilleEnergie(new Pastille(caseCible.getPosition(), grille));
+            posees++;
+        }
+        return posees;
+    }
+
+    /**
+     * Reprend les réapparitions en attente d'une autre grille, pour une copie au même tour.
+     *
+     * @param origine L'échéancier de la grille copiée.
+     */
+    void copierAttentes(RenaissancePastilles origine) {
+        if (active && origine.active && reapparitions.length == origine.reapparitions.length) {
+            System.arraycopy(origine.reapparitions, 0, reapparitions, 0, reapparitions.length);
+        }
+    }
+
+    /**
+     * Programme une réapparition dans un nombre donné de tours de joueur.
+     */
+    private void programmer(int delai) {
+        reapparitions[(int) ((grille.getTourCourant() + delai) & (reapparitions.length - 1))]++;
+    }
+}
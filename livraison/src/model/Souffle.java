@@ -0,0 +1,181 @@
+package model;
+
+import utils.configuration.Parametres;
+import utils.configuration.ProprieteEquipement;
+import utils.configuration.TypeEquipement;
+
+/**
+ * Zone de souffle d'un explosif : forme, rayon et atténuation des dégâts avec la distance.
+ * <p>
+ * La zone est précalculée une fois par type d'explosif sous la forme d'un gabarit de colonnes :
+ * pour chaque décalage en x, la demi-hauteur de la colonne atteinte. Les trois formes (carré, losange,
+ * croix) étant convexes par colonne, parcourir une zone revient à parcourir quelques intervalles de
+ * cases, bornés une fois par colonne aux limites de la grille, sans allocation ni test case par case.
+ * Les dégâts à une distance donnée sont lus dans une table de pourcentages : 100 % jusqu'à la première
+ * couronne, puis l'atténuation configurée est retirée à chaque couronne supplémentaire.
+ * <p>
+ * La distance d'une case au centre est celle de la forme : distance de Tchebychev pour le carré,
+ * distance de Manhattan pour le losange et la croix. Sans configuration, le souffle est un carré de
+ * rayon 1 sans atténuation : les huit cases voisines subissent tous les dégâts.
+ */
+public final class Souffle {
+
+    /** Formes de zone de souffle disponibles, écrites en minuscules dans {@code config.xml}. */
+    public enum Forme {
+        /** Toutes les cases à une distance de Tchebychev au plus égale au rayon. */
+        CARRE,
+        /** Toutes les cases à une distance de Manhattan au plus égale au rayon. */
+        LOSANGE,
+        /** Les cases de la ligne et de la colonne du centre, jusqu'au rayon. */
+        CROIX
+    }
+
+    /** Souffle utilisé lorsque la configuration n'en définit pas pour un explosif. */
+    public static final Souffle DEFAUT = new Souffle(Forme.CARRE, 1, 0);
+
+    /** Dernier souffle construit pour chaque type d'équipement, réutilisé tant que la configuration ne change pas. */
+    private static final Souffle[] PAR_TYPE = new Souffle[TypeEquipement.values().length];
+
+    private final Forme forme;
+    private final int rayon;
+    private final int attenuation;
+
+    /** Demi-hauteur de la colonne atteinte pour chaque décalage en x, indexée par dx + rayon. */
+    private final int[] demiHauteurs;
+
+    /** Pourcentage des dégâts infligé à chaque distance du centre, de 0 au rayon. */
+    private final int[] pourcentages;
+
+    /**
+     * Constructeur de la classe Souffle.
+     *
+     * @param forme       La forme de la zone.
+     * @param rayon       Le rayon de la zone, en cases.
+     * @param attenuation Le pourcentage des dégâts retiré à chaque couronne au-delà de la première.
+     * @throws IllegalArgumentException Si la forme est nulle, si le rayon est inférieur à 1 ou si
+     *                                  l'atténuation n'est pas comprise entre 0 et 100.
+     */
+    public Souffle(Forme forme, int rayon, int attenuation) {
+        if (forme == null) {
+            throw new IllegalArgumentException("La forme du souffle ne peut pas être nulle.");
+        }
+        if (rayon < 1) {
+            throw new IllegalArgumentException("Le rayon du souffle doit être au moins 1 : " + rayon);
+        }
+        if (attenuation < 0 || attenuation > 100) {
+            throw new IllegalArgumentException("L'atténuation du souffle doit être comprise entre 0 et 100 : " + attenuation);
+        }
+        this.forme = forme;
+        this.rayon = rayon;
+        this.attenuation = attenuation;
+
+        this.demiHauteurs = new int[2 * rayon + 1];
+        for (int dx = -rayon; dx <= rayon; dx++) {
+            switch (forme) {
+                case CARRE:
+                    demiHauteurs[dx + rayon] = rayon;
+                    break;
+                case LOSANGE:
+                    demiHauteurs[dx + rayon] = rayon - Math.abs(dx);
+                    break;
+                default:
+                    demiHauteurs[dx + rayon] = dx == 0 ? rayon : 0;
+                    break;
+            }
+        }
+        this.pourcentages = new int[rayon + 1];
+        for (int distance = 0; distance <= rayon; distance++) {
+            pourcentages[distance] = Math.max(0, 100 - attenuation * Math.max(0, distance - 1));
+        }
+    }
+
+    /**
+     * Obtient le souffle d'un explosif, ou {@link #DEFAUT} si l'explosif n'en a pas.
+     *
+     * @param explosif L'explosif.
+     * @return Le souffle de l'explosif, jamais nul.
+     */
+    public static Souffle de(Explosif explosif) {
+        Souffle souffle = explosif.getSouffle();
+        return souffle != null ? souffle : DEFAUT;
+    }
+
+    /**
+     * Obtient le souffle configuré pour un type d'explosif (éléments {@code rayonSouffleExplosif},
+     * {@code formeSouffleExplosif} et {@code attenuationSouffleExplosif} de {@code config.xml}).
+     *
+     * @param type Le type de l'explosif.
+     * @return Le souffle du type, ou {@link #DEFAUT} si la configuration n'en définit pas.
+     */
+    public static Souffle pour(TypeEquipement type) {
+        Object rayon = Parametres.getPropriete(type, ProprieteEquipement.RAYON_SOUFFLE);
+        Object forme = Parametres.getPropriete(type, ProprieteEquipement.FORME_SOUFFLE);
+        Object attenuation = Parametres.getPropriete(type, ProprieteEquipement.ATTENUATION_SOUFFLE);
+        Forme formeSouffle = forme != null ? Forme.valueOf(((String) forme).toUpperCase()) : DEFAUT.forme;
+        int rayonSouffle = rayon != null ? (int) rayon : DEFAUT.rayon;
+        int attenuationSouffle = attenuation != null ? (int) attenuation : DEFAUT.attenuation;
+
+        Souffle souffle = PAR_TYPE[type.ordinal()];
+        if (souffle == null || souffle.forme != formeSouffle || souffle.rayon != rayonSouffle
+                || souffle.attenuation != attenuationSouffle) {
+            souffle = new Souffle(formeSouffle, rayonSouffle, attenuationSouffle);
+            PAR_TYPE[type.ordinal()] = souffle;
+        }
+        return souffle;
+    }
+
+    public Forme getForme() {
+        return forme;
+    }
+
+    public int getRayon() {
+        return rayon;
+    }
+
+    public int getAttenuation() {
+        return attenuation;
+    }
+
+    /**
+     * Obtient la demi-hauteur de la colonne atteinte à un décalage en x du centre.
+     *
+     * @param dx Le décalage en x, compris entre -rayon et rayon.
+     * @return Le plus grand |dy| atteint dans cette colonne.
+     */
+    public int getDemiHauteur(int dx) {
+        return demiHauteurs[dx + rayon];
+    }
+
+    /**
+     * Indique si une case à un décalage donné du centre est dans la zone, centre compris.
+     *
+     * @param dx Le décalage en x.
+     * @param dy Le décalage en y.
+     * @return true si la case est atteinte par le souffle.
+     */
+    public boolean atteint(int dx, int dy) {
+        return dx >= -rayon && dx <= rayon && Math.abs(dy) <= demiHauteurs[dx + rayon];
+    }
+
+    /**
+     * Calcule la distance au centre d'une case de la zone, selon la forme du souffle.
+     *
+     * @param dx Le décalage en x.
+     * @param dy Le décalage en y.
+     * @return La distance, comprise entre 0 et le rayon pour une case de la zone.
+     */
+    public int distance(int dx, int dy) {
+        return forme == Forme.CARRE ? Math.max(Math.abs(dx), Math.abs(dy)) : Math.abs(dx) + Math.abs(dy);
+    }
+
+    /**
+     * Atténue des dégâts selon la distance au centre.
+     *
+     * @param degats   Les dégâts au centre de la zone.
+     * @param distance La distance de la case touchée, comprise entre 0 et le rayon.
+     * @return Les dégâts subis à cette distance.
+     */
+    public int attenuer(int degats, int distance) {
+        return degats * pourcentages[distance] / 100;
+    }
+}
@@ -0,0 +1,21 @@
+package model;
+
+/**
+ * Enumération représentant les types de modifications pouvant survenir sur une case de la grille.
+ * <p>
+ * Utilisée par la grille pour savoir quels caches (distances, lignes de tir, etc.) doivent être invalidés.
+ */
+public enum TypeModification {
+
+    /** Un mur a été ajouté ou retiré. */
+    MUR,
+
+    /** Un combattant est arrivé sur la case ou l'a quittée. */
+    OCCUPANT,
+
+    /** Une pastille d'énergie a été posée ou ramassée. */
+    PASTILLE,
+
+    /** Un explosif a été déposé, a explosé ou a été retiré. */
+    EXPLOSIF
+}
@@ -35,6 +35,16 @@ public class CombattantFactory {
         ENGINEER
     }
 
+    /**
+     * Fixe la graine du générateur aléatoire utilisé pour choisir les types et les équipements,
+     * afin de rejouer des parties à l'identique.
+     *
+     * @param graine La graine du générateur.
+     */
+    public static void initialiserGraine(long graine) {
+        random.setSeed(graine);
+    }
+
     /**
      * Méthode de création de combattants en fonction de leur type.
      *
@@ -69,6 +79,32 @@ public class CombattantFactory {
             throw new IllegalArgumentException("La grille ne peut pas être nulle.");
         }
 
+        Combattant combattant = instancier(typeCombattant, nom, position, messageHandler, grille);
+
+        assignerArmes(combattant, random);
+        assignerExplosifs(combattant, random);
+
+        return combattant;
+    }
+
+    /**
+     * Instancie un combattant du type donné, sans équipement.
+     *
+     * @param typeCombattant Le type de combattant à créer.
+     * @param nom Le nom du combattant.
+     * @param position La position initiale du combattant.
+     * @param messageHandler Gestionnaire de messages pour les interactions du combattant.
+     * @param grille La grille du jeu.
+     * @return Une instance de Combattant correspondant au type spécifié.
+     * @throws IllegalArgumentException Si le type de combattant est inconnu.
+     */
+    private static Combattant instancier(
+            TypeCombattant typeCombattant,
+            String nom,
+            Position position,
+            MessageHandler messageHandler,
+            Grille grille
+    ) {
         Combattant combattant;
 
         switch (typeCombattant) {
@@ -94,12 +130,69 @@ public class CombattantFactory {
                 throw new IllegalArgumentException("Type de combattant inconnu : " + typeCombattant);
         }
 
-        assignerArmes(combattant);
-        assignerExplosifs(combattant);
-
         return combattant;
     }
 
+    /**
+     * Crée une copie d'un combattant, dans son état courant, rattachée à une autre grille.
+     * L'énergie, le bouclier, l'équipe, les armes (avec leurs munitions) et les explosifs en inventaire sont copiés.
+     * Utilisée pour dupliquer une grille lors des simulations.
+     *
+     * @param original Le combattant à copier.
+     * @param messageHandler Gestionnaire de messages de la copie.
+     * @param grille La grille de la copie.
+     * @return La copie du combattant.
+     * @throws IllegalArgumentException Si le combattant est nul ou de type inconnu.
+     */
+    public static Combattant copierCombattant(Combattant original, MessageHandler messageHandler, Grille grille) {
+        if (original == null) {
+            throw new IllegalArgumentException("Le combattant ne peut pas être nul.");
+        }
+
+        Combattant copie = instancier(typeDe(original), original.getNom(), original.getPosition(), messageHandler, grille);
+        copie.setEnergie(original.getEnergie());
+        copie.setBouclierActif(original.estBouclierActif());
+        copie.setTireActif(original.estTireActif());
+        copie.setEquipe(original.getEquipe());
+
+        for (Arme arme : original.getArmes()) {
+            Arme armeCopiee = new Arme(arme.getType());
+            armeCopiee.setPortee(arme.getPortee());
+            armeCopiee.setCoutEnergie(arme.getCoutEnergie());
+            armeCopiee.setMunition(arme.getMunition());
+            copie.ajouterArme(armeCopiee);
+        }
+        for (Explosif explosif : original.getExplosifs()) {
+            copie.ajouterExplosif(explosif.copier(copie));
+        }
+
+        return copie;
+    }
+
+    /**
+     * Détermine le type d'un combattant existant.
+     *
+     * @param combattant Le combattant.
+     * @return Son type.
+     * @throws IllegalArgumentException Si la classe du combattant n'est pas connue de la factory.
+     */
+    private static TypeCombattant typeDe(Combattant combattant) {
+        if (combattant instanceof Guerrier) {
+            return TypeCombattant.GUERRIER;
+        } else if (combattant instanceof Tireur) {
+            return TypeCombattant.TIREUR;
+        } else if (combattant instanceof Sniper) {
+            return TypeCombattant.SNIPER;
+        } else if (combattant instanceof Tank) {
+            return TypeCombattant.TANK;
+        } else if (combattant instanceof Saboteur) {
+            return TypeCombattant.SABOTEUR;
+        } else if (combattant instanceof Engineer) {
+            return TypeCombattant.ENGINEER;
+        }
+        throw new IllegalArgumentException("Type de combattant inconnu : " + combattant.getClass().getSimpleName());
+    }
+
     /**
      * Crée une liste aléatoire de combattants.
      *
@@ -110,6 +203,25 @@ public class CombattantFactory {
      * @throws IllegalArgumentException Si grille ou messageHandler est nul, ou si le nombre est invalide.
      */
     public static List<Combattant> creerListeCombattants(int nombre, Grille grille, MessageHandler messageHandler) {
+        return creerListeCombattants(nombre, grille, messageHandler, random);
+    }
+
+    /**
+     * Crée une liste aléatoire de combattants à partir d'un générateur aléatoire fourni.
+     * Permet de rejouer des parties à l'identique et de jouer plusieurs parties en parallèle
+     * sans partager de générateur.
+     *
+     * @param nombre Nombre de combattants à créer.
+     * @param grille Grille associée aux combattants.
+     * @param messageHandler Gestionnaire de messages pour les combattants.
+     * @param random Générateur aléatoire utilisé pour les types et les équipements.
+     * @return Une liste aléatoire de combattants.
+     * @throws IllegalArgumentException Si grille, messageHandler ou random est nul, ou si le nombre est invalide.
+     */
+    public static List<Combattant> creerListeCombattants(int nombre, Grille grille, MessageHandler messageHandler, Random random) {
+        if (random == null) {
+            throw new IllegalArgumentException("Le générateur aléatoire ne peut pas être nul.");
+        }
         if (grille == null) {
             throw new IllegalArgumentException("La grille ne peut pas être nulle.");
         }
@@ -132,7 +244,9 @@ public class CombattantFactory {
                 throw new IllegalStateException("Aucune position libre disponible pour créer un combattant.");
             }
 
-            Combattant combattant = creerCombattant(typeAleatoire, nomCombattant, position, messageHandler, grille);
+            Combattant combattant = instancier(typeAleatoire, nomCombattant, position, messageHandler, grille);
+            assignerArmes(combattant, random);
+            assignerExplosifs(combattant, random);
             combattants.add(combattant);
         }
 
@@ -143,16 +257,17 @@ public class CombattantFactory {
      * Assigne des armes aléatoires au combattant.
      *
      * @param combattant Le combattant auquel assigner les armes.
+     * @param random Le générateur aléatoire.
      * @throws IllegalArgumentException Si le combattant est nul.
      */
-    private static void assignerArmes(Combattant combattant) {
+    private static void assignerArmes(Combattant combattant, Random random) {
         if (combattant == null) {
             throw new IllegalArgumentException("Le combattant ne peut pas être nul.");
         }
 
         int nombreArmes = random.nextInt(3) + 1; 
         for (int i = 0; i < nombreArmes; i++) {
-            TypeEquipement typeArme = choisirTypeArmeAleatoire();
+            TypeEquipement typeArme = choisirTypeArmeAleatoire(random);
             Arme arme = new Arme(typeArme);
             combattant.ajouterArme(arme);
         }
@@ -162,16 +277,17 @@ public class CombattantFactory {
      * Assigne des explosifs aléatoires au combattant.
      *
      * @param combattant Le combattant auquel assigner les explosifs.
+     * @param random Le générateur aléatoire.
      * @throws IllegalArgumentException Si le combattant est nul.
      */
-    private static void assignerExplosifs(Combattant combattant) {
+    private static void assignerExplosifs(Combattant combattant, Random random) {
         if (combattant == null) {
             throw new IllegalArgumentException("Le combattant ne peut pas être nul.");
         }
 
         int nombreExplosifs = random.nextInt(3) + 1; 
         for (int i = 0; i < nombreExplosifs; i++) {
-            TypeEquipement typeExplosif = choisirTypeExplosifAleatoire();
+            TypeEquipement typeExplosif = choisirTypeExplosifAleatoire(random);
             Explosif explosif;
             if (typeExplosif == TypeEquipement.BOMBE) {
                 explosif = new Bombe(combattant, typeExplosif);
@@ -185,9 +301,10 @@ public class CombattantFactory {
     /**
      * Choisit un type d'arme aléatoire.
      *
+     * @param random Le générateur aléatoire.
      * @return Un TypeEquipement représentant le type d'arme choisi.
      */
-    private static TypeEquipement choisirTypeArmeAleatoire() {
+    private static TypeEquipement choisirTypeArmeAleatoire(Random random) {
         TypeEquipement[] typesArmes = {
                 TypeEquipement.PISTOLET,
                 TypeEquipement.FUSIL,
@@ -200,9 +317,10 @@ public class CombattantFactory {
     /**
      * Choisit un type d'explosif aléatoire.
      *
+     * @param random Le générateur aléatoire.
      * @return Un TypeEquipement représentant le type d'explosif choisi.
      */
-    private static TypeEquipement choisirTypeExplosifAleatoire() {
+    private static TypeEquipement choisirTypeExplosifAleatoire(Random random) {
         TypeEquipement[] typesExplosifs = {
                 TypeEquipement.BOMBE,
                 TypeEquipement.MINE
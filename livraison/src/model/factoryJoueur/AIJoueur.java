@@ -2,57 +2,263 @@ package model.factoryJoueur;
 
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
-import java.util.Optional;
+import java.util.Map;
 import java.util.Random;
 
 import model.Arme;
 import model.Bombe;
+import model.CarteDistances;
+import model.CarteMenaces;
 import model.Case;
 import model.Combattant;
 import model.Direction;
 import model.Grille;
+import model.LignesDeTir;
 import model.Mine;
 import model.Position;
+import model.ia.CoordinateurEquipe;
+import model.ia.CoordinateurEquipe.Objectif;
+import model.ia.Coup;
+import model.ia.DecisionGroupee;
+import model.ia.Difficulte;
+import model.ia.EvaluateurLineaire;
+import model.ia.LivreOuvertures;
+import model.ia.ParametresIA;
+import model.ia.ParametresIA.Regle;
+import model.ia.RechercheCoups;
+import model.ia.RechercheDeterminisee;
+import model.ia.ReflexionAnticipee;
 import model.proxy.ProxyGrille;
+import model.proxy.VuesJoueur;
+import utils.configuration.Parametres;
 import utils.strategyMessage.MessageHandler;
 
 /**
  * Classe représentant un joueur IA avec une stratégie heuristique avancée améliorée.
+ * <p>
+ * Au niveau {@link Difficulte#FACILE}, seules les règles heuristiques sont appliquées. Aux niveaux
+ * supérieurs, le coup est choisi par une recherche par simulation dont le budget de calcul dépend
+ * du niveau, sauf lorsque, dans les premiers tours, le livre d'ouvertures du niveau
+ * ({@link LivreOuvertures}) connaît la situation locale du combattant : le livre n'est alors
+ * consulté qu'une fois par décision. Les règles heuristiques ne servent plus qu'en secours. Les seuils et l'ordre
+ * des règles sont lus dans un profil {@link ParametresIA}.
+ * <p>
+ * En information imparfaite, la recherche ne joue que sur la vue filtrée du combattant et estime
+ * les mines ennemies cachées par tirages ({@link RechercheDeterminisee}) ; le livre d'ouvertures,
+ * calculé en information complète, n'est alors pas consulté. Il en va de même avec le brouillard
+ * de guerre, pour que la recherche ignore les cases hors du champ de vision du combattant.
+ * <p>
+ * Lorsque la difficulté n'évalue qu'un coup de profondeur, sans partie simulée, les coups de tous
+ * les combattants du joueur sont décidés ensemble au début de son tour ({@link DecisionGroupee}),
+ * sans copier la grille ; un coup préparé devenu illégal entre-temps est recherché à nouveau.
+ * <p>
+ * En information complète, le joueur peut aussi réfléchir pendant le tour des autres joueurs
+ * ({@link ReflexionAnticipee}) : les positions qu'il a prévues sont jouées sans nouvelle recherche.
+ * <p>
+ * Lorsque le joueur a plusieurs combattants, les règles heuristiques se répartissent les ennemis à
+ * viser et les pastilles à ramasser au début de chaque tour ({@link CoordinateurEquipe}), afin que
+ * les combattants ne s'acharnent pas tous sur le même ennemi.
  */
 public class AIJoueur implements JoueurStrategy {
     
 	 private final MessageHandler messageHandler;
 	    private final Mode mode;
+	    private final Difficulte difficulte;
+	    private final ParametresIA parametres;
+	    private final Regle[] ordreRegles;
 	    private ProxyGrille proxyGrille;
+	    private final VuesJoueur vues = new VuesJoueur();
+	    private RechercheCoups recherche;
+	    private RechercheDeterminisee rechercheDeterminisee;
+	    private DecisionGroupee decisionGroupee;
+	    private ReflexionAnticipee reflexion;
+	    private LivreOuvertures livre;
+	    private final Random random;
+	    private final Map<Combattant, Integer> coupsPrepares = new HashMap<>();
+	    private final CoordinateurEquipe coordinateur = new CoordinateurEquipe();
+	    private Map<Combattant, Objectif> objectifs = Collections.emptyMap();
 
 	    
 
     /**
-     * Constructeur de la classe AIJoueur.
+     * Constructeur de la classe AIJoueur, au niveau {@link Difficulte#PAR_DEFAUT}.
      *
      * @param messageHandler Le gestionnaire de messages pour interagir avec l'utilisateur.
      */
     public AIJoueur(MessageHandler messageHandler , Mode mode) {
+        this(messageHandler, mode, Difficulte.PAR_DEFAUT);
+    }
+
+    /**
+     * Constructeur de la classe AIJoueur avec un niveau de difficulté.
+     *
+     * @param messageHandler Le gestionnaire de messages pour interagir avec l'utilisateur.
+     * @param mode Le mode d'affichage.
+     * @param difficulte Le niveau de difficulté, qui fixe le budget de calcul de chaque décision.
+     */
+    public AIJoueur(MessageHandler messageHandler, Mode mode, Difficulte difficulte) {
+        this(messageHandler, mode, difficulte, ParametresIA.depuisConfiguration());
+    }
+
+    /**
+     * Constructeur de la classe AIJoueur avec un niveau de difficulté et un profil de paramètres.
+     *
+     * @param messageHandler Le gestionnaire de messages pour interagir avec l'utilisateur.
+     * @param mode Le mode d'affichage.
+     * @param difficulte Le niveau de difficulté, qui fixe le budget de calcul de chaque décision.
+     * @param parametres Les seuils et l'ordre des règles heuristiques.
+     */
+    public AIJoueur(MessageHandler messageHandler, Mode mode, Difficulte difficulte, ParametresIA parametres) {
+        this(messageHandler, mode, difficulte, parametres, Parametres.informationImparfaiteIA);
+    }
+
+    /**
+     * Constructeur de la classe AIJoueur avec un niveau de difficulté, un profil de paramètres
+     * et le choix de l'information disponible pour la recherche.
+     *
+     * @param messageHandler Le gestionnaire de messages pour interagir avec l'utilisateur.
+     * @param mode Le mode d'affichage.
+     * @param difficulte Le niveau de difficulté, qui fixe le budget de calcul de chaque décision.
+     * @param parametres Les seuils et l'ordre des règles heuristiques.
+     * @param informationImparfaite true pour que la recherche ne joue que sur la vue filtrée du combattant.
+     */
+    public AIJoueur(MessageHandler messageHandler, Mode mode, Difficulte difficulte, ParametresIA parametres, boolean informationImparfaite) {
+        this(messageHandler, mode, difficulte, parametres, informationImparfaite, new Random());
+    }
+
+    /**
+     * Constructeur complet de la classe AIJoueur. Tous les tirages du joueur (recherche, réflexion
+     * anticipée, choix des cases d'explosifs) viennent du générateur fourni, afin que deux parties
+     * de même graine se jouent à l'identique.
+     *
+     * @param messageHandler Le gestionnaire de messages pour interagir avec l'utilisateur.
+     * @param mode Le mode d'affichage.
+     * @param difficulte Le niveau de difficulté, qui fixe le budget de calcul de chaque décision.
+     * @param parametres Les seuils et l'ordre des règles heuristiques.
+     * @param informationImparfaite true pour que la recherche ne joue que sur la vue filtrée du combattant.
+     * @param random Le générateur aléatoire du joueur.
+     */
+    public AIJoueur(MessageHandler messageHandler, Mode mode, Difficulte difficulte, ParametresIA parametres, boolean informationImparfaite, Random random) {
     	if (messageHandler == null) {
             throw new IllegalArgumentException("Le MessageHandler ne peut pas être nul.");
         }
         if (mode == null) {
             throw new IllegalArgumentException("Le mode ne peut pas être nul.");
         }
+        if (difficulte == null) {
+            throw new IllegalArgumentException("La difficulté ne peut pas être nulle.");
+        }
+        if (parametres == null) {
+            throw new IllegalArgumentException("Les paramètres de l'IA ne peuvent pas être nuls.");
+        }
+        if (random == null) {
+            throw new IllegalArgumentException("Le générateur aléatoire ne peut pas être nul.");
+        }
         this.messageHandler = messageHandler;
         this.mode = mode;
-    } 
+        this.difficulte = difficulte;
+        this.parametres = parametres;
+        this.ordreRegles = parametres.getOrdreRegles();
+        this.random = random;
+        if (difficulte.utiliseRecherche()) {
+            try {
+                if (informationImparfaite || Parametres.brouillard) {
+                    this.rechercheDeterminisee = new RechercheDeterminisee(difficulte, EvaluateurLineaire.depuisConfiguration(), new Random(random.nextLong()));
+                } else {
+                    EvaluateurLineaire evaluateur = EvaluateurLineaire.depuisConfiguration();
+                    this.livre = LivreOuvertures.pour(difficulte);
+                    this.recherche = new RechercheCoups(difficulte, evaluateur, new Random(random.nextLong()));
+                    if (difficulte.getRollouts() == 0) {
+                        this.decisionGroupee = new DecisionGroupee(evaluateur);
+                    }
+                    if (Parametres.reflexionIA) {
+                        this.reflexion = new ReflexionAnticipee(difficulte, evaluateur, new Random(random.nextLong()));
+                    }
+                }
+            } catch (Exception e) {
+                messageHandler.afficherErreur("Poids d'évaluation indisponibles, l'IA se limite aux règles heuristiques : " + e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Obtient le profil des paramètres des règles heuristiques.
+     *
+     * @return Les paramètres de l'IA.
+     */
+    public ParametresIA getParametres() {
+        return parametres;
+    }
+
+    /**
+     * Obtient le niveau de difficulté du joueur.
+     *
+     * @return La difficulté.
+     */
+    public Difficulte getDifficulte() {
+        return difficulte;
+    }
 
 
     /**
-     * Initialise le ProxyGrille pour le combattant.
+     * Sélectionne la vue filtrée du combattant, conservée d'un tour à l'autre.
      *
      * @param combattant Le combattant auquel cette stratégie est associée.
      * @param grille La grille réelle du jeu.
      */
     public void initialiserGrille(Combattant combattant, Grille grille) {
-        this.proxyGrille = new ProxyGrille(grille, combattant);
+        this.proxyGrille = vues.pour(combattant, grille);
+    }
+
+    /**
+     * Répartit les objectifs entre les combattants du joueur, et décide ensemble de leurs coups
+     * lorsque la difficulté le permet.
+     *
+     * @param combattants Les combattants vivants du joueur.
+     * @param grille La grille du jeu.
+     */
+    @Override
+    public void preparerTour(List<Combattant> combattants, Grille grille) {
+        if (reflexion != null) {
+            reflexion.arreter();
+        }
+        coupsPrepares.clear();
+        objectifs = combattants.size() > 1
+                ? coordinateur.affecter(combattants, grille, parametres.getSeuilPastille())
+                : Collections.<Combattant, Objectif>emptyMap();
+        if (decisionGroupee == null || combattants.isEmpty()) {
+            return;
+        }
+        int[] coups = decisionGroupee.choisirCoups(combattants, grille, random);
+        for (int j = 0; j < coups.length; j++) {
+            coupsPrepares.put(combattants.get(j), coups[j]);
+        }
+    }
+
+    /**
+     * Commence à réfléchir au prochain tour du joueur sur une copie de la grille.
+     *
+     * @param combattants Les combattants vivants du joueur.
+     * @param equipesAvant Les combattants des joueurs qui joueront avant lui.
+     * @param grille La grille du jeu.
+     */
+    @Override
+    public void reflechir(List<Combattant> combattants, List<List<Combattant>> equipesAvant, Grille grille) {
+        if (reflexion != null) {
+            reflexion.lancer(combattants, equipesAvant, grille);
+        }
+    }
+
+    /**
+     * Arrête la réflexion du joueur et libère son thread.
+     */
+    @Override
+    public void terminer() {
+        if (reflexion != null) {
+            reflexion.fermer();
+        }
     }
 
     /**
@@ -71,47 +277,42 @@ public class AIJoueur implements JoueurStrategy {
             initialiserGrille(combattant, grille);
         }
 
-        proxyGrille.clearCache(); 
-
         // Afficher la grille uniquement en mode console
         if (this.mode == Mode.CONSOLE) {
             proxyGrille.afficherGrille();
         }
 
-        Position posIA = combattant.getPosition();
-
-        List<Combattant> ennemisProches = grille.getCombattantsProches(posIA, 5); 
-
-        List<Integer> actionsDisponibles = determineActionsDisponibles(combattant, grille);
-
-        if (!ennemisProches.isEmpty() && actionsDisponibles.contains(0)) { 
-            boolean actionEffectuee = tenterTirer(combattant, grille, ennemisProches);
-            if (actionEffectuee) {
+        if (rechercheDeterminisee != null) {
+            int coup = rechercheDeterminisee.choisirCoup(combattant, proxyGrille);
+            if (Coup.appliquer(coup, combattant, grille)) {
                 return;
             }
-        }
-
-        if (combattant.getEnergie() < 20 && !combattant.estBouclierActif() && actionsDisponibles.contains(1)) {
-            boolean bouclierActivé = combattant.activerBouclier();
-            if (bouclierActivé) {
-                // Utilisez MessageHandler pour afficher les messages
-                messageHandler.afficherMessage(combattant.getNom() + " a activé son bouclier.");
+        } else if (recherche != null) {
+            Integer prepare = coupsPrepares.remove(combattant);
+            int duLivre = livre == null ? LivreOuvertures.ABSENT : livre.chercher(combattant, grille);
+            if (duLivre != LivreOuvertures.ABSENT && Coup.estLegal(duLivre, combattant, grille)
+                    && Coup.appliquer(duLivre, combattant, grille)) {
                 return;
-            } else {
-                messageHandler.afficherMessage(combattant.getNom() + " a tenté d'activer le bouclier mais a échoué.");
             }
-        }
-
-        if ((actionsDisponibles.contains(2) || actionsDisponibles.contains(3))) {
-            boolean actionExplosif = tenterDeposerExplosif(combattant, grille);
-            if (actionExplosif) {
+            int prevu = reflexion == null ? ReflexionAnticipee.ABSENT : reflexion.chercher(combattant, grille);
+            if (prevu != ReflexionAnticipee.ABSENT && Coup.estLegal(prevu, combattant, grille)
+                    && Coup.appliquer(prevu, combattant, grille)) {
+                return;
+            }
+            if (prepare != null && Coup.estLegal(prepare, combattant, grille)
+                    && Coup.appliquer(prepare, combattant, grille)) {
+                return;
+            }
+            int coup = recherche.choisirCoup(combattant, grille);
+            if (Coup.appliquer(coup, combattant, grille)) {
                 return;
             }
         }
 
-        if (actionsDisponibles.contains(4)) { 
-            boolean deplacementEffectue = tenterDeplacementStrategique(combattant, grille);
-            if (deplacementEffectue) {
+        List<Integer> actionsDisponibles = determineActionsDisponibles(combattant, grille);
+
+        for (Regle regle : ordreRegles) {
+            if (appliquerRegle(regle, combattant, grille, actionsDisponibles)) {
                 return;
             }
         }
@@ -120,6 +321,57 @@ public class AIJoueur implements JoueurStrategy {
         messageHandler.afficherMessage(combattant.getNom() + " a effectué l'action : Attendre.");
     }
 
+    /**
+     * Essaie d'appliquer une règle heuristique.
+     *
+     * @param regle La règle à appliquer.
+     * @param combattant Le combattant qui joue.
+     * @param grille La grille du jeu.
+     * @param actionsDisponibles Les actions disponibles pour le combattant.
+     * @return true si la règle a produit une action, false sinon.
+     */
+    private boolean appliquerRegle(Regle regle, Combattant combattant, Grille grille, List<Integer> actionsDisponibles) {
+        Position posIA = combattant.getPosition();
+
+        switch (regle) {
+            case TIR:
+                List<Combattant> ennemisProches = ennemisProches(combattant, grille, posIA, parametres.getRayonEnnemis());
+                return !ennemisProches.isEmpty() && actionsDisponibles.contains(0)
+                        && tenterTirer(combattant, grille, ennemisProches);
+
+            case FUITE:
+                if (grille.getCarteMenaces().estExplosionImminente(posIA.getX(), posIA.getY())) {
+                    if (actionsDisponibles.contains(4) && tenterFuite(combattant, grille)) {
+                        return true;
+                    }
+                    return !combattant.estBouclierActif() && combattant.activerBouclier();
+                }
+                return false;
+
+            case BOUCLIER:
+                if (combattant.getEnergie() < parametres.getSeuilBouclier() && !combattant.estBouclierActif() && actionsDisponibles.contains(1)) {
+                    boolean bouclierActivé = combattant.activerBouclier();
+                    if (bouclierActivé) {
+                        // Utilisez MessageHandler pour afficher les messages
+                        messageHandler.afficherMessage(combattant.getNom() + " a activé son bouclier.");
+                        return true;
+                    }
+                    messageHandler.afficherMessage(combattant.getNom() + " a tenté d'activer le bouclier mais a échoué.");
+                }
+                return false;
+
+            case EXPLOSIF:
+                return (actionsDisponibles.contains(2) || actionsDisponibles.contains(3))
+                        && tenterDeposerExplosif(combattant, grille);
+
+            case DEPLACEMENT:
+                return actionsDisponibles.contains(4) && tenterDeplacementStrategique(combattant, grille);
+
+            default:
+                return false;
+        }
+    }
+
     /**
      * Détermine les actions disponibles pour le combattant en fonction de son état et de l'environnement.
      *
@@ -137,7 +389,7 @@ public class AIJoueur implements JoueurStrategy {
         }
 
         // Action 1: Activer Bouclier
-        if (!combattant.estBouclierActif() && combattant.getEnergie() >= 20) { 
+        if (!combattant.estBouclierActif() && combattant.getEnergie() >= Parametres.coutUtilisationBouclier) {
             actions.add(1);
         }
 
@@ -161,7 +413,24 @@ public class AIJoueur implements JoueurStrategy {
     }
 
     /**
-     * Tente de tirer sur l'ennemi le plus proche.
+     * Obtient les combattants proches d'une position qui ne sont pas des alliés du combattant
+     * (voir {@link Combattant#estAllie(Combattant)}).
+     *
+     * @param combattant Le combattant qui joue.
+     * @param grille La grille du jeu.
+     * @param position La position autour de laquelle chercher.
+     * @param portee La distance maximale.
+     * @return La liste des ennemis proches.
+     */
+    private static List<Combattant> ennemisProches(Combattant combattant, Grille grille, Position position, int portee) {
+        List<Combattant> ennemis = grille.getCombattantsProches(position, portee);
+        ennemis.removeIf(combattant::estAllie);
+        return ennemis;
+    }
+
+    /**
+     * Tente de tirer sur un ennemi proche atteignable depuis la position actuelle, en visant
+     * d'abord l'ennemi attribué au combattant par la répartition de l'équipe.
      *
      * @param combattant Le combattant qui tire.
      * @param grille La grille du jeu.
@@ -174,59 +443,54 @@ public class AIJoueur implements JoueurStrategy {
             return false;
         }
 
-        Combattant ennemiLePlusProche = ennemis.get(0); 
-
-        Optional<Arme> armeDisponible = combattant.getArmes().stream()
-                .filter(a -> a.getMunition() > 0)
-                .findFirst();
-
-        if (armeDisponible.isPresent()) {
-            Arme arme = armeDisponible.get();
-            Position posIA = combattant.getPosition();
-            Position posEnnemi = ennemiLePlusProche.getPosition();
-
-            Direction direction;
-            int delta;
-            if (posEnnemi.getX() > posIA.getX()) {
-                direction = Direction.HORIZONTAL;
-                delta = 1;
-            } else if (posEnnemi.getX() < posIA.getX()) {
-                direction = Direction.HORIZONTAL;
-                delta = -1;
-            } else if (posEnnemi.getY() > posIA.getY()) {
-                direction = Direction.VERTICAL;
-                delta = 1;
-            } else {
-                direction = Direction.VERTICAL;
-                delta = -1;
-            }
+        Objectif objectif = objectifs.get(combattant);
+        if (objectif != null && objectif.getCible() != null && ennemis.contains(objectif.getCible())
+                && tirerSurUnDes(combattant, grille, Collections.singletonList(objectif.getCible()))) {
+            return true;
+        }
+        return tirerSurUnDes(combattant, grille, ennemis);
+    }
 
-            Position targetPos;
-            if (direction == Direction.HORIZONTAL) {
-                targetPos = new Position(posIA.getX() + delta * arme.getPortee(), posIA.getY());
-            } else { 
-                targetPos = new Position(posIA.getX(), posIA.getY() + delta * arme.getPortee());
-            }
+    /**
+     * Tire sur l'un des ennemis donnés s'il est atteignable depuis la position actuelle.
+     * Toutes les armes chargées et les quatre directions sont examinées grâce aux lignes de tir
+     * précalculées ; l'arme la plus puissante pouvant toucher un ennemi est utilisée.
+     *
+     * @param combattant Le combattant qui tire.
+     * @param grille La grille du jeu.
+     * @param ennemis Les ennemis visés.
+     * @return true si l'action de tir a été effectuée avec succès, false sinon.
+     */
+    private boolean tirerSurUnDes(Combattant combattant, Grille grille, List<Combattant> ennemis) {
+        LignesDeTir lignesDeTir = grille.getLignesDeTir();
+        Position posIA = combattant.getPosition();
 
-            if (grille.estPositionValide(targetPos)) {
-                Case caseCible = grille.getCase(targetPos);
-                if (caseCible != null && caseCible.getOccupant() != null && caseCible.getOccupant().equals(ennemiLePlusProche)) {
-                    boolean tirEffectue = combattant.tirer(arme, caseCible, direction);
-                    if (tirEffectue) {
-                      //  messageHandler.afficherMessage(combattant.getNom() + " a tiré avec " 
-                           // + arme.getType() + " sur " + ennemiLePlusProche.getNom() + " avec succès.");
-                        return true;
-                    } else {
-                    //    messageHandler.afficherMessage(combattant.getNom() + " a échoué à tirer avec " 
-                         //   + arme.getType() + " sur " + ennemiLePlusProche.getNom() + ".");
-                        return false;
-                    }
+        Arme meilleureArme = null;
+        Combattant meilleureCible = null;
+        int meilleureDirection = -1;
+
+        for (Arme arme : combattant.getArmes()) {
+            if (arme.getMunition() <= 0
+                    || (meilleureArme != null && arme.getCoutEnergie() <= meilleureArme.getCoutEnergie())) {
+                continue;
+            }
+            for (int direction = 0; direction < 4; direction++) {
+                Combattant cible = lignesDeTir.premiereCible(posIA, direction, arme.getPortee());
+                if (cible != null && ennemis.contains(cible)) {
+                    meilleureArme = arme;
+                    meilleureCible = cible;
+                    meilleureDirection = direction;
+                    break;
                 }
             }
         }
 
-       // messageHandler.afficherMessage("DEBUG: Tir échoué ou cible invalide.");
-        return false;
+        if (meilleureArme == null) {
+            return false;
+        }
+
+        Case caseCible = grille.getCase(meilleureCible.getPosition());
+        return combattant.tirer(meilleureArme, caseCible, LignesDeTir.versDirectionTir(meilleureDirection));
     }
 
     /**
@@ -247,7 +511,7 @@ public class AIJoueur implements JoueurStrategy {
 
         List<Case> casesCibles = new ArrayList<>();
         for (Case c : casesLibres) {
-            List<Combattant> ennemisProches = grille.getCombattantsProches(c.getPosition(), 3);
+            List<Combattant> ennemisProches = ennemisProches(combattant, grille, c.getPosition(), parametres.getRayonExplosif());
             if (!ennemisProches.isEmpty()) {
                 casesCibles.add(c);
             }
@@ -258,7 +522,7 @@ public class AIJoueur implements JoueurStrategy {
             return false;
         }
 
-        Collections.shuffle(casesCibles, new Random());
+        Collections.shuffle(casesCibles, random);
 
         for (Case caseCible : casesCibles) {
 
@@ -287,12 +551,121 @@ public class AIJoueur implements JoueurStrategy {
 
     /**
      * Tente de déplacer le combattant vers une position stratégique.
+     * Le combattant se rapproche de l'objectif que lui a attribué la répartition de l'équipe ;
+     * sans objectif, de la pastille la plus proche lorsqu'il manque d'énergie, de l'ennemi le
+     * plus proche sinon, et à défaut du centre de la grille.
      *
      * @param combattant Le combattant qui se déplace.
      * @param grille La grille du jeu.
      * @return true si le déplacement a été effectué, false sinon.
      */
     private boolean tenterDeplacementStrategique(Combattant combattant, Grille grille) {
+        CarteDistances carteDistances = grille.getCarteDistances();
+        Objectif objectif = objectifs.get(combattant);
+        short[] distances;
+        if (estToujoursAtteignable(objectif, grille)) {
+            distances = carteDistances.distancesDepuis(objectif.getPosition());
+        } else if (combattant.getEnergie() < parametres.getSeuilPastille()) {
+            distances = carteDistances.distancesPastilles();
+        } else {
+            distances = carteDistances.distancesEnnemis(combattant);
+        }
+
+        Case caseCible = choisirCaseRapprochante(combattant, grille, distances);
+        if (caseCible != null && combattant.deplacer(caseCible)) {
+            return true;
+        }
+
+        return tenterDeplacementVersCentre(combattant, grille);
+    }
+
+    /**
+     * Vérifie qu'un objectif attribué en début de tour vaut encore d'être rejoint : l'ennemi est
+     * toujours en vie, ou la pastille n'a pas été ramassée entre-temps.
+     *
+     * @param objectif L'objectif attribué, ou null.
+     * @param grille La grille du jeu.
+     * @return true si l'objectif existe et reste valable, false sinon.
+     */
+    private boolean estToujoursAtteignable(Objectif objectif, Grille grille) {
+        if (objectif == null) {
+            return false;
+        }
+        return objectif.getCible() != null
+                ? objectif.getCible().estEnVie()
+                : grille.getCase(objectif.getPosition()).contientPastilleEnergie();
+    }
+
+    /**
+     * Choisit la case voisine libre qui rapproche le plus le combattant de sa cible,
+     * d'après une carte de distances partagée.
+     *
+     * @param combattant Le combattant qui se déplace.
+     * @param grille La grille du jeu.
+     * @param distances La carte de distances vers la cible.
+     * @return La case voisine à atteindre, ou null si aucune ne rapproche le combattant.
+     */
+    private Case choisirCaseRapprochante(Combattant combattant, Grille grille, short[] distances) {
+        Position posIA = combattant.getPosition();
+        CarteMenaces carteMenaces = grille.getCarteMenaces();
+        int menaceActuelle = carteMenaces.getMenace(posIA.getX(), posIA.getY(), combattant);
+        int meilleureDistance = distances[grille.indexDe(posIA.getX(), posIA.getY())];
+        Case meilleureCase = null;
+
+        int[][] deplacements = {{1, 0}, {-1, 0}, {0, 1}, {0, -1}};
+        for (int[] delta : deplacements) {
+            Case voisine = grille.getCase(posIA.getX() + delta[0], posIA.getY() + delta[1]);
+            if (voisine == null || voisine.estUnMur() || voisine.estOccupee(false)
+                    || carteMenaces.getMenace(voisine.getPosition().getX(), voisine.getPosition().getY(), combattant) > menaceActuelle) {
+                continue;
+            }
+            int distance = distances[grille.indexDe(voisine.getPosition().getX(), voisine.getPosition().getY())];
+            if (distance < meilleureDistance) {
+                meilleureDistance = distance;
+                meilleureCase = voisine;
+            }
+        }
+
+        return meilleureCase;
+    }
+
+    /**
+     * Tente d'éloigner le combattant d'une case menacée en rejoignant la case voisine libre la moins menacée.
+     *
+     * @param combattant Le combattant qui fuit.
+     * @param grille La grille du jeu.
+     * @return true si le déplacement a été effectué, false sinon.
+     */
+    private boolean tenterFuite(Combattant combattant, Grille grille) {
+        Position posIA = combattant.getPosition();
+        CarteMenaces carteMenaces = grille.getCarteMenaces();
+        int menaceMin = carteMenaces.getMenace(posIA.getX(), posIA.getY(), combattant);
+        Case refuge = null;
+
+        int[][] deplacements = {{1, 0}, {-1, 0}, {0, 1}, {0, -1}};
+        for (int[] delta : deplacements) {
+            Case voisine = grille.getCase(posIA.getX() + delta[0], posIA.getY() + delta[1]);
+            if (voisine == null || voisine.estUnMur() || voisine.estOccupee(true)) {
+                continue;
+            }
+            int menace = carteMenaces.getMenace(voisine.getPosition().getX(), voisine.getPosition().getY(), combattant);
+            if (menace < menaceMin) {
+                menaceMin = menace;
+                refuge = voisine;
+            }
+        }
+
+        return refuge != null && combattant.deplacer(refuge);
+    }
+
+    /**
+     * Tente de déplacer le combattant d'une case en direction du centre de la grille.
+     *
+     * @param combattant Le combattant qui se déplace.
+     * @param grille La grille du jeu.
+     * @return true si le déplacement a été effectué, false sinon.
+     */
+    private boolean tenterDeplacementVersCentre(Combattant combattant, Grille grille) {
 
         Position positionCentrale = grille.getPositionCentrale();
         Position posIA = combattant.getPosition();
@@ -13,6 +13,7 @@ import model.Grille;
 import model.Mine;
 import model.Position;
 import model.proxy.ProxyGrille;
+import model.proxy.VuesJoueur;
 import utils.strategyMessage.MessageHandler;
 
 /**
@@ -23,6 +24,7 @@ public class HumainJoueur implements JoueurStrategy {
     private final MessageHandler messageHandler;
     private final Mode mode;
     private ProxyGrille proxyGrille;
+    private final VuesJoueur vues = new VuesJoueur();
     
     /**
      * Constructeur de la classe HumainJoueur.
@@ -42,13 +44,13 @@ public class HumainJoueur implements JoueurStrategy {
     }
 
     /**
-     * Initialise le ProxyGrille pour le combattant.
+     * Sélectionne la vue filtrée du combattant, conservée d'un tour à l'autre.
      *
      * @param combattant Le combattant auquel cette stratégie est associée.
      * @param grille La grille réelle du jeu.
      */
     public void initialiserGrille(Combattant combattant, Grille grille) {
-        this.proxyGrille = new ProxyGrille(grille, combattant);
+        this.proxyGrille = vues.pour(combattant, grille);
     }
 
     /**
@@ -67,8 +69,6 @@ public class HumainJoueur implements JoueurStrategy {
             initialiserGrille(combattant, grille);
         }
 
-        proxyGrille.clearCache(); 
-
         if (this.mode == Mode.CONSOLE) {
             proxyGrille.afficherGrille();
         }
@@ -1,8 +1,12 @@
 package model.factoryJoueur;
 
 import java.util.List;
+import java.util.Random;
 
 import model.Combattant;
+import model.ia.Difficulte;
+import model.ia.ParametresIA;
+import utils.configuration.Parametres;
 import utils.strategyMessage.MessageHandler;
 
 /**
@@ -16,12 +20,13 @@ public class JoueurFactory {
     public enum TypeJoueurEnum {
         HUMAIN,
         ALEATOIRE,
-        AI;
+        AI,
+        RESEAU;
 
         /**
          * Convertit une chaîne de caractères en TypeJoueurEnum.
          *
-         * @param typeStr La chaîne représentant le type de joueur (HUMAIN, ALEATOIRE, AI).
+         * @param typeStr La chaîne représentant le type de joueur (HUMAIN, ALEATOIRE, AI, RESEAU).
          * @return Une valeur TypeJoueurEnum correspondant.
          * @throws IllegalArgumentException Si le type de joueur est inconnu.
          */
@@ -37,12 +42,42 @@ public class JoueurFactory {
     /**
      * Crée un joueur avec une stratégie spécifique en fonction de son type.
      *
-     * @param type Le type de joueur (TypeJoueurEnum : HUMAIN, ALEATOIRE, AI).
+     * @param type Le type de joueur (TypeJoueurEnum : HUMAIN, ALEATOIRE, AI, RESEAU).
      * @param combattants La liste des combattants associés à ce joueur.
      * @return Une instance de TypeJoueur configurée avec sa stratégie.
      * @throws IllegalArgumentException Si les paramètres sont invalides.
      */
     public static TypeJoueur creerJoueurAvecStrategie(TypeJoueurEnum type, List<Combattant> combattants, Mode mode) {
+        return creerJoueurAvecStrategie(type, combattants, mode, Difficulte.PAR_DEFAUT);
+    }
+
+    /**
+     * Crée un joueur avec une stratégie spécifique en fonction de son type et, pour une IA, de son niveau.
+     *
+     * @param type Le type de joueur (TypeJoueurEnum : HUMAIN, ALEATOIRE, AI, RESEAU).
+     * @param combattants La liste des combattants associés à ce joueur.
+     * @param mode Le mode d'affichage.
+     * @param difficulte Le niveau de difficulté des joueurs AI (ignoré pour les autres types).
+     * @return Une instance de TypeJoueur configurée avec sa stratégie.
+     * @throws IllegalArgumentException Si les paramètres sont invalides.
+     */
+    public static TypeJoueur creerJoueurAvecStrategie(TypeJoueurEnum type, List<Combattant> combattants, Mode mode, Difficulte difficulte) {
+        return creerJoueurAvecStrategie(type, combattants, mode, difficulte, new Random());
+    }
+
+    /**
+     * Crée un joueur dont la stratégie tire ses coups du générateur fourni, afin de rejouer une
+     * partie à l'identique.
+     *
+     * @param type Le type de joueur (TypeJoueurEnum : HUMAIN, ALEATOIRE, AI, RESEAU).
+     * @param combattants La liste des combattants associés à ce joueur.
+     * @param mode Le mode d'affichage.
+     * @param difficulte Le niveau de difficulté des joueurs AI (ignoré pour les autres types).
+     * @param random Le générateur aléatoire de la stratégie.
+     * @return Une instance de TypeJoueur configurée avec sa stratégie.
+     * @throws IllegalArgumentException Si les paramètres sont invalides.
+     */
+    public static TypeJoueur creerJoueurAvecStrategie(TypeJoueurEnum type, List<Combattant> combattants, Mode mode, Difficulte difficulte, Random random) {
         if (type == null) {
             throw new IllegalArgumentException("Le type de joueur ne peut pas être nul.");
         }
@@ -52,6 +87,12 @@ public class JoueurFactory {
         if (mode == null) {
             throw new IllegalArgumentException("Le mode ne peut pas être nul.");
         }
+        if (difficulte == null) {
+            throw new IllegalArgumentException("La difficulté ne peut pas être nulle.");
+        }
+        if (random == null) {
+            throw new IllegalArgumentException("Le générateur aléatoire ne peut pas être nul.");
+        }
 
         MessageHandler handler = combattants.get(0).getMessageHandler();
 
@@ -59,13 +100,17 @@ public class JoueurFactory {
 
         switch (type) {
             case AI:
-                strategie = new AIJoueur(handler, mode);
+                strategie = new AIJoueur(handler, mode, difficulte, ParametresIA.depuisConfiguration(),
+                        Parametres.informationImparfaiteIA, random);
                 break;
             case HUMAIN:
                 strategie = new HumainJoueur(handler, mode);
                 break;
             case ALEATOIRE:
-                strategie = new AleatoireJoueur(handler, mode);
+                strategie = new AleatoireJoueur(handler, mode, random);
+                break;
+            case RESEAU:
+                strategie = new ReseauJoueur(handler, mode, random);
                 break;
             default:
                 throw new IllegalArgumentException("Type de joueur non pris en charge : " + type);
@@ -1,5 +1,7 @@
 package model.factoryJoueur;
 
+import java.util.List;
+
 import model.Combattant;
 import model.Grille;
 
@@ -17,4 +19,33 @@ public interface JoueurStrategy {
      * @param grille     La grille de jeu dans laquelle le combattant évolue.
      */
     void appliquerStrategie(Combattant combattant, Grille grille);
+
+    /**
+     * Prépare le tour d'un joueur avant que ses combattants ne jouent, afin de décider de leurs
+     * coups en une seule fois. Par défaut, rien n'est préparé.
+     *
+     * @param combattants Les combattants vivants du joueur, dans leur ordre de jeu.
+     * @param grille      La grille de jeu.
+     */
+    default void preparerTour(List<Combattant> combattants, Grille grille) {
+    }
+
+    /**
+     * Signale qu'un autre joueur a fini son tour, afin que la stratégie puisse réfléchir à son
+     * prochain tour pendant celui des autres. La grille ne doit pas être modifiée ni conservée :
+     * elle continue d'évoluer dès le retour de la méthode. Par défaut, rien n'est fait.
+     *
+     * @param combattants  Les combattants vivants du joueur, dans leur ordre de jeu.
+     * @param equipesAvant Les combattants vivants des joueurs qui joueront avant lui, joueur par joueur.
+     * @param grille       La grille de jeu.
+     */
+    default void reflechir(List<Combattant> combattants, List<List<Combattant>> equipesAvant, Grille grille) {
+    }
+
+    /**
+     * Signale la fin de la partie, afin que la stratégie libère les ressources qu'elle a réservées,
+     * comme le thread de sa réflexion. Par défaut, rien n'est fait.
+     */
+    default void terminer() {
+    }
 }
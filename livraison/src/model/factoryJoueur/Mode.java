@@ -2,6 +2,6 @@ package model.factoryJoueur;
 
 public enum Mode {
 
-	GRAPHIC,CONSOLE
+	GRAPHIC,CONSOLE,SIMULATION
 	
 }
@@ -0,0 +1,191 @@
+package model.factoryJoueur;
+
+import java.nio.FloatBuffer;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import model.Combattant;
+import model.Grille;
+import model.ia.Coup;
+import model.ia.EncodeurPlateau;
+import model.ia.ReseauNeuronal;
+import model.proxy.ProxyGrille;
+import model.proxy.VuesJoueur;
+import utils.configuration.Parametres;
+import utils.strategyMessage.MessageHandler;
+
+/**
+ * Classe représentant un joueur dont les coups sont choisis par un réseau de neurones.
+ * <p>
+ * La position vue par le combattant est codée en plans ({@link EncodeurPlateau}), le réseau
+ * ({@link ReseauNeuronal}) donne un score à chacun des {@link Coup#NOMBRE} codes de coups, et le
+ * coup légal de meilleur score est joué. Les combattants du joueur, connus au début de son tour,
+ * sont codés comme alliés. Les tampons d'entrée et de coups sont réutilisés d'une décision à l'autre.
+ * <p>
+ * Si le réseau n'a pas pu être lu, ou s'il ne correspond pas à la taille de la grille, le joueur
+ * joue un coup légal au hasard.
+ */
+public class ReseauJoueur implements JoueurStrategy {
+
+    private final MessageHandler messageHandler;
+    private final Mode mode;
+    private final ReseauNeuronal reseau;
+    private final Random random;
+    private final int[] coups = new int[Coup.NOMBRE];
+    private float[] entree = new float[0];
+    private FloatBuffer tamponEntree = FloatBuffer.wrap(entree);
+    private List<Combattant> equipe = Collections.emptyList();
+    private boolean incompatibiliteSignalee;
+    private ProxyGrille proxyGrille;
+    private final VuesJoueur vues = new VuesJoueur();
+
+    /**
+     * Constructeur de la classe ReseauJoueur, avec le réseau désigné par la configuration.
+     *
+     * @param messageHandler Le gestionnaire de messages pour interagir avec l'utilisateur.
+     * @param mode Le mode d'affichage.
+     */
+    public ReseauJoueur(MessageHandler messageHandler, Mode mode) {
+        this(messageHandler, mode, new Random());
+    }
+
+    /**
+     * Constructeur de la classe ReseauJoueur, avec le réseau désigné par la configuration et un
+     * générateur fourni pour les coups joués au hasard.
+     *
+     * @param messageHandler Le gestionnaire de messages pour interagir avec l'utilisateur.
+     * @param mode Le mode d'affichage.
+     * @param random Le générateur des coups joués au hasard.
+     */
+    public ReseauJoueur(MessageHandler messageHandler, Mode mode, Random random) {
+        this(messageHandler, mode, chargerReseau(messageHandler), random);
+    }
+
+    /**
+     * Constructeur de la classe ReseauJoueur.
+     *
+     * @param messageHandler Le gestionnaire de messages pour interagir avec l'utilisateur.
+     * @param mode Le mode d'affichage.
+     * @param reseau Le réseau qui choisit les coups, ou null pour jouer au hasard.
+     */
+    public ReseauJoueur(MessageHandler messageHandler, Mode mode, ReseauNeuronal reseau) {
+        this(messageHandler, mode, reseau, new Random());
+    }
+
+    /**
+     * Constructeur complet de la classe ReseauJoueur.
+     *
+     * @param messageHandler Le gestionnaire de messages pour interagir avec l'utilisateur.
+     * @param mode Le mode d'affichage.
+     * @param reseau Le réseau qui choisit les coups, ou null pour jouer au hasard.
+     * @param random Le générateur des coups joués au hasard.
+     */
+    public ReseauJoueur(MessageHandler messageHandler, Mode mode, ReseauNeuronal reseau, Random random) {
+        if (messageHandler == null) {
+            throw new IllegalArgumentException("Le MessageHandler ne peut pas être nul.");
+        }
+        if (mode == null) {
+            throw new IllegalArgumentException("Le mode ne peut pas être nul.");
+        }
+        if (random == null) {
+            throw new IllegalArgumentException("Le générateur aléatoire ne peut pas être nul.");
+        }
+        this.messageHandler = messageHandler;
+        this.mode = mode;
+        this.reseau = reseau;
+        this.random = random;
+    }
+
+    private static ReseauNeuronal chargerReseau(MessageHandler messageHandler) {
+        try {
+            return ReseauNeuronal.depuisConfiguration();
+        } catch (Exception e) {
+            if (messageHandler != null) {
+                messageHandler.afficherErreur("Réseau indisponible (" + Parametres.fichierReseauIA
+                        + "), le joueur jouera au hasard : " + e.getMessage());
+            }
+            return null;
+        }
+    }
+
+    /**
+     * Sélectionne la vue filtrée du combattant, conservée d'un tour à l'autre.
+     *
+     * @param combattant Le combattant auquel cette stratégie est associée.
+     * @param grille La grille réelle du jeu.
+     */
+    public void initialiserGrille(Combattant combattant, Grille grille) {
+        this.proxyGrille = vues.pour(combattant, grille);
+    }
+
+    /**
+     * Retient les combattants du joueur, codés comme alliés pendant son tour.
+     *
+     * @param combattants Les combattants vivants du joueur.
+     * @param grille La grille du jeu.
+     */
+    @Override
+    public void preparerTour(List<Combattant> combattants, Grille grille) {
+        equipe = combattants;
+    }
+
+    /**
+     * Choisit le coup légal auquel le réseau donne le meilleur score.
+     *
+     * @param combattant Le combattant qui joue.
+     * @param grille La grille du jeu.
+     * @return Le code du coup choisi.
+     */
+    public int choisirCoup(Combattant combattant, Grille grille) {
+        int nombre = Coup.lister(combattant, grille, coups);
+        int taille = EncodeurPlateau.taille(grille);
+        if (reseau == null || reseau.getTailleEntree() != taille || reseau.getTailleSortie() != Coup.NOMBRE) {
+            if (reseau != null && !incompatibiliteSignalee) {
+                incompatibiliteSignalee = true;
+                messageHandler.afficherErreur("Le réseau attend " + reseau.getTailleEntree() + " entrées et "
+                        + reseau.getTailleSortie() + " sorties au lieu de " + taille + " et " + Coup.NOMBRE
+                        + ", le joueur jouera au hasard.");
+            }
+            return coups[random.nextInt(nombre)];
+        }
+
+        if (entree.length != taille) {
+            entree = new float[taille];
+            tamponEntree = FloatBuffer.wrap(entree);
+        }
+        EncodeurPlateau.encoder(combattant, equipe, grille, tamponEntree, 0);
+        float[] scores = reseau.evaluer(entree);
+        int meilleur = coups[0];
+        for (int k = 1; k < nombre; k++) {
+            if (scores[coups[k]] > scores[meilleur]) {
+                meilleur = coups[k];
+            }
+        }
+        return meilleur;
+    }
+
+    /**
+     * Applique la stratégie du réseau en fonction de l'état actuel du jeu.
+     *
+     * @param combattant Le combattant qui exécute l'action.
+     * @param grille La grille du jeu.
+     */
+    @Override
+    public void appliquerStrategie(Combattant combattant, Grille grille) {
+        if (combattant == null || grille == null) {
+            throw new IllegalArgumentException("Le combattant et la grille ne peuvent pas être nuls.");
+        }
+
+        if (this.mode == Mode.CONSOLE) {
+            if (this.proxyGrille == null || !this.proxyGrille.getGrilleReelle().equals(grille) || !this.proxyGrille.getJoueur().equals(combattant)) {
+                initialiserGrille(combattant, grille);
+            }
+            proxyGrille.afficherGrille();
+        }
+
+        if (!Coup.appliquer(choisirCoup(combattant, grille), combattant, grille)) {
+            combattant.attendre();
+        }
+    }
+}
@@ -2,6 +2,7 @@ package model.factoryJoueur;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import model.Combattant;
 import model.Grille;
@@ -11,7 +12,12 @@ import model.factoryJoueur.JoueurFactory.TypeJoueurEnum;
  * Classe représentant un joueur avec un type spécifique et une stratégie.
  */
 public class TypeJoueur {
+
+    /** Dernier numéro d'équipe attribué ; les parties simulées en parallèle en créent depuis plusieurs threads. */
+    private static final AtomicInteger DERNIERE_EQUIPE = new AtomicInteger();
+
     private final TypeJoueurEnum type;
+    private final int equipe = DERNIERE_EQUIPE.incrementAndGet();
     private final List<Combattant> combattants;
     private final JoueurStrategy strategie;
 
@@ -36,6 +42,9 @@ public class TypeJoueur {
         this.type = type;
         this.combattants = new ArrayList<>(combattants);
         this.strategie = strategie;
+        for (Combattant combattant : this.combattants) {
+            combattant.setEquipe(equipe);
+        }
     }
 
     /**
@@ -48,15 +57,19 @@ public class TypeJoueur {
         if (combattant == null) {
             throw new IllegalArgumentException("Le combattant ne peut pas être nul.");
         }
+        combattant.setEquipe(equipe);
         this.combattants.add(combattant);
     }
 
     /**
-     * Exécute un tour pour tous les combattants du joueur en appliquant la stratégie.
+     * Exécute un tour pour tous les combattants du joueur en appliquant la stratégie, après lui
+     * avoir laissé préparer le tour de l'ensemble des combattants vivants.
      *
      * @param grille La grille du jeu.
      */
     public void jouerTour(Grille grille) {
+        this.strategie.preparerTour(getCombattantsVivants(), grille);
+
         for (Combattant combattant : combattants) {
             if (combattant.estEnVie()) {
                 this.strategie.appliquerStrategie(combattant, grille);
@@ -64,6 +77,71 @@ public class TypeJoueur {
         }
     }
 
+    /**
+     * Laisse la stratégie réfléchir au prochain tour du joueur pendant le tour des autres joueurs.
+     * À appeler lorsqu'un autre joueur a fini son tour.
+     *
+     * @param grille       La grille du jeu.
+     * @param joueursAvant Les joueurs qui joueront avant ce joueur, dans l'ordre.
+     */
+    public void reflechir(Grille grille, List<TypeJoueur> joueursAvant) {
+        List<List<Combattant>> equipesAvant = new ArrayList<>();
+        for (TypeJoueur joueur : joueursAvant) {
+            equipesAvant.add(joueur.getCombattantsVivants());
+        }
+        this.strategie.reflechir(getCombattantsVivants(), equipesAvant, grille);
+    }
+
+    /**
+     * Laisse chaque joueur réfléchir à son prochain tour pendant le tour des autres, une fois le tour
+     * d'un joueur terminé. Chacun reçoit la liste des joueurs qui joueront avant lui.
+     *
+     * @param joueurs       Les joueurs de la partie, dans leur ordre de jeu.
+     * @param joueurCourant Le joueur qui vient de finir son tour.
+     * @param grille        La grille du jeu.
+     */
+    public static void lancerReflexions(List<TypeJoueur> joueurs, TypeJoueur joueurCourant, Grille grille) {
+        int indice = joueurs.indexOf(joueurCourant);
+        for (int k = 1; k <= joueurs.size(); k++) {
+            List<TypeJoueur> joueursAvant = new ArrayList<>();
+            for (int j = 1; j < k; j++) {
+                joueursAvant.add(joueurs.get((indice + j) % joueurs.size()));
+            }
+            joueurs.get((indice + k) % joueurs.size()).reflechir(grille, joueursAvant);
+        }
+    }
+
+    /**
+     * Signale la fin de la partie à la stratégie, qui libère ses ressources.
+     */
+    public void terminer() {
+        this.strategie.terminer();
+    }
+
+    /**
+     * Obtient les combattants du joueur encore en vie.
+     *
+     * @return La liste des combattants vivants.
+     */
+    public List<Combattant> getCombattantsVivants() {
+        List<Combattant> vivants = new ArrayList<>();
+        for (Combattant combattant : combattants) {
+            if (combattant.estEnVie()) {
+                vivants.add(combattant);
+            }
+        }
+        return vivants;
+    }
+
+    /**
+     * Obtient le numéro d'équipe attribué aux combattants du joueur.
+     *
+     * @return Le numéro d'équipe.
+     */
+    public int getEquipe() {
+        return equipe;
+    }
+
     /**
      * Obtient le type du joueur.
      *
@@ -0,0 +1,122 @@
+package model.ia;
+
+import model.CarteDistances;
+import model.Case;
+import model.Combattant;
+import model.Grille;
+import model.Position;
+
+/**
+ * Enumération des caractéristiques d'une position utilisées par les fonctions d'évaluation.
+ * <p>
+ * Chaque caractéristique se calcule à partir de données tenues à jour de façon incrémentale par
+ * le moteur de règles (totaux d'énergie de la grille, munitions du combattant, cartes de distances
+ * et de menaces partagées), sans parcourir la grille. Les alliés du combattant (les combattants de
+ * son équipe, voir {@link Combattant#estAllie(Combattant)}) ne comptent jamais comme ennemis.
+ */
+public enum Caracteristique {
+
+    /** Énergie du combattant moins l'énergie moyenne des ennemis vivants. */
+    DIFFERENCE_ENERGIE("differenceEnergie") {
+        @Override
+        public double calculer(Combattant combattant, Grille grille) {
+            int equipe = combattant.getEquipe();
+            int energieAllies = equipe == 0 ? combattant.getEnergie() : grille.getEnergieEquipe(equipe);
+            int alliesVivants = equipe == 0 ? (combattant.estEnVie() ? 1 : 0) : grille.getNombreVivantsEquipe(equipe);
+            int ennemisVivants = grille.getNombreVivants() - alliesVivants;
+            if (ennemisVivants <= 0) {
+                return combattant.getEnergie();
+            }
+            double energieEnnemis = grille.getEnergieTotale() - energieAllies;
+            return combattant.getEnergie() - energieEnnemis / ennemisVivants;
+        }
+    },
+
+    /** Munitions restantes du combattant. */
+    MUNITIONS("munitions") {
+        @Override
+        public double calculer(Combattant combattant, Grille grille) {
+            return combattant.getMunitionsTotales();
+        }
+    },
+
+    /** Nombre d'explosifs encore en inventaire. */
+    EXPLOSIFS("explosifs") {
+        @Override
+        public double calculer(Combattant combattant, Grille grille) {
+            return combattant.getExplosifs().size();
+        }
+    },
+
+    /** Distance à la pastille d'énergie la plus proche, bornée par le périmètre de la grille. */
+    DISTANCE_PASTILLE("distancePastille") {
+        @Override
+        public double calculer(Combattant combattant, Grille grille) {
+            CarteDistances carte = grille.getCarteDistances();
+            int distance = carte.distance(carte.distancesPastilles(), combattant.getPosition());
+            return Math.min(distance, grille.getLargeur() + grille.getLongueur());
+        }
+    },
+
+    /** Distance à l'ennemi le plus proche, bornée par le périmètre de la grille. */
+    DISTANCE_ENNEMI("distanceEnnemi") {
+        @Override
+        public double calculer(Combattant combattant, Grille grille) {
+            CarteDistances carte = grille.getCarteDistances();
+            int distance = carte.distance(carte.distancesEnnemis(combattant), combattant.getPosition());
+            return Math.min(distance, grille.getLargeur() + grille.getLongueur());
+        }
+    },
+
+    /** Nombre de cases voisines orthogonales accessibles. */
+    MOBILITE("mobilite") {
+        @Override
+        public double calculer(Combattant combattant, Grille grille) {
+            Position position = combattant.getPosition();
+            int mobilite = 0;
+            mobilite += estAccessible(grille.getCase(position.getX() + 1, position.getY())) ? 1 : 0;
+            mobilite += estAccessible(grille.getCase(position.getX() - 1, position.getY())) ? 1 : 0;
+            mobilite += estAccessible(grille.getCase(position.getX(), position.getY() + 1)) ? 1 : 0;
+            mobilite += estAccessible(grille.getCase(position.getX(), position.getY() - 1)) ? 1 : 0;
+            return mobilite;
+        }
+    },
+
+    /** Dégâts potentiels sur la case du combattant d'après la carte des menaces. */
+    MENACE("menace") {
+        @Override
+        public double calculer(Combattant combattant, Grille grille) {
+            Position position = combattant.getPosition();
+            return grille.getCarteMenaces().getMenace(position.getX(), position.getY(), combattant);
+        }
+    };
+
+    /** Nom de l'élément XML portant le poids de la caractéristique. */
+    private final String cle;
+
+    Caracteristique(String cle) {
+        this.cle = cle;
+    }
+
+    /**
+     * Obtient le nom de l'élément XML portant le poids de la caractéristique.
+     *
+     * @return La clé de la caractéristique.
+     */
+    public String getCle() {
+        return cle;
+    }
+
+    /**
+     * Calcule la valeur de la caractéristique pour un combattant.
+     *
+     * @param combattant Le combattant évalué.
+     * @param grille     La grille du jeu.
+     * @return La valeur de la caractéristique.
+     */
+    public abstract double calculer(Combattant combattant, Grille grille);
+
+    private static boolean estAccessible(Case caseVoisine) {
+        return caseVoisine != null && !caseVoisine.estOccupee(false);
+    }
+}
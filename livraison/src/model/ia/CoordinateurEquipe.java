@@ -0,0 +1,327 @@
+package model.ia;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import model.Arme;
+import model.CarteDistances;
+import model.Combattant;
+import model.Grille;
+import model.LignesDeTir;
+import model.Position;
+
+/**
+ * Répartition des objectifs entre les combattants d'un même joueur pour un tour.
+ * <p>
+ * Sans coordination, chaque combattant vise l'ennemi le plus proche : plusieurs combattants
+ * s'acharnent sur le même ennemi pendant que d'autres sont ignorés. Le coordinateur attribue à
+ * chaque combattant au plus un objectif, ennemi à viser ou pastille à ramasser, en minimisant la
+ * somme des coûts par la méthode hongroise :
+ * <ul>
+ *   <li>viser un ennemi coûte 0 si l'une des armes chargées du combattant l'atteint déjà
+ *       (lignes de tir de la grille), la distance qui les sépare sinon ;</li>
+ *   <li>un ennemi n'accepte que le nombre de combattants nécessaires pour l'éliminer, estimé
+ *       d'après son énergie et les dégâts de la meilleure arme de l'équipe ;</li>
+ *   <li>une pastille n'est proposée qu'aux combattants dont l'énergie passe sous le seuil
+ *       donné, pour le coût de la distance à parcourir, et à un seul combattant ;</li>
+ *   <li>un combattant peut rester sans objectif, pour un coût supérieur à toute distance.</li>
+ * </ul>
+ * Les distances sont lues dans les cartes partagées de la grille ({@link CarteDistances}). La
+ * durée de la répartition est bornée quel que soit le nombre de combattants : passée la moitié de
+ * la durée maximale, les objectifs restants sont estimés à vol d'oiseau (distance de Manhattan)
+ * au lieu d'une carte de distances ; la méthode hongroise ajoute ensuite les combattants un à un
+ * et, si la durée maximale est atteinte, les combattants restants reçoivent gloutonnement
+ * l'objectif libre le moins coûteux.
+ */
+public class CoordinateurEquipe {
+
+    /** Durée maximale par défaut d'une répartition, en nanosecondes. */
+    public static final long DUREE_MAX_PAR_DEFAUT = 5_000_000L;
+
+    /**
+     * Objectif attribué à un combattant : un ennemi à viser, ou une pastille à ramasser.
+     */
+    public static final class Objectif {
+
+        private final Combattant cible;
+        private final Position position;
+
+        Objectif(Combattant cible, Position position) {
+            this.cible = cible;
+            this.position = position;
+        }
+
+        /**
+         * Obtient l'ennemi à viser.
+         *
+         * @return L'ennemi, ou null si l'objectif est une pastille.
+         */
+        public Combattant getCible() {
+            return cible;
+        }
+
+        /**
+         * Obtient la position à rejoindre : celle de l'ennemi ou de la pastille.
+         *
+         * @return La position de l'objectif.
+         */
+        public Position getPosition() {
+            return position;
+        }
+    }
+
+    private final long dureeMax;
+
+    /** Nombre de combattants placés par la méthode hongroise lors de la dernière répartition. */
+    private int combattantsOptimaux;
+
+    /**
+     * Constructeur de la classe CoordinateurEquipe, avec la durée maximale par défaut.
+     */
+    public CoordinateurEquipe() {
+        this(DUREE_MAX_PAR_DEFAUT);
+    }
+
+    /**
+     * Constructeur de la classe CoordinateurEquipe.
+     *
+     * @param dureeMax La durée maximale d'une répartition, en nanosecondes.
+     * @throws IllegalArgumentException Si la durée n'est pas positive.
+     */
+    public CoordinateurEquipe(long dureeMax) {
+        if (dureeMax <= 0) {
+            throw new IllegalArgumentException("La durée maximale doit être positive.");
+        }
+        this.dureeMax = dureeMax;
+    }
+
+    /**
+     * Répartit les objectifs entre les combattants d'un joueur.
+     *
+     * @param equipe        Les combattants vivants du joueur.
+     * @param grille        La grille du jeu.
+     * @param seuilPastille L'énergie sous laquelle un combattant peut être envoyé vers une pastille.
+     * @return L'objectif de chaque combattant qui en a reçu un.
+     * @throws IllegalArgumentException Si l'équipe ou la grille est nulle.
+     */
+    public Map<Combattant, Objectif> affecter(List<Combattant> equipe, Grille grille, int seuilPastille) {
+        if (equipe == null || grille == null) {
+            throw new IllegalArgumentException("L'équipe et la grille ne peuvent pas être nulles.");
+        }
+        long echeance = System.nanoTime() + dureeMax;
+        Map<Combattant, Objectif> affectations = new HashMap<>();
+        List<Combattant> membres = new ArrayList<>();
+        for (Combattant combattant : equipe) {
+            if (combattant.estEnVie() && grille.estPositionValide(combattant.getPosition())) {
+                membres.add(combattant);
+            }
+        }
+        combattantsOptimaux = 0;
+        if (membres.isEmpty()) {
+            return affectations;
+        }
+
+        List<Objectif> objectifs = listerObjectifs(membres, grille, seuilPastille);
+        int[][] couts = calculerCouts(membres, objectifs, grille, seuilPastille, echeance - dureeMax / 2);
+        int[] colonnes = resoudre(couts, echeance);
+        for (int i = 0; i < membres.size(); i++) {
+            if (colonnes[i] < objectifs.size()) {
+                affectations.put(membres.get(i), objectifs.get(colonnes[i]));
+            }
+        }
+        return affectations;
+    }
+
+    /**
+     * Obtient le nombre de combattants placés par la méthode hongroise lors de la dernière
+     * répartition, les autres l'ayant été gloutonnement faute de temps.
+     *
+     * @return Le nombre de combattants placés de façon optimale.
+     */
+    public int getCombattantsOptimaux() {
+        return combattantsOptimaux;
+    }
+
+    /**
+     * Liste les objectifs : une entrée par combattant nécessaire à l'élimination de chaque ennemi,
+     * puis une par pastille si un membre manque d'énergie.
+     */
+    private static List<Objectif> listerObjectifs(List<Combattant> membres, Grille grille, int seuilPastille) {
+        int degats = 1;
+        boolean manqueEnergie = false;
+        for (Combattant membre : membres) {
+            for (Arme arme : membre.getArmes()) {
+                degats = Math.max(degats, arme.getCoutEnergie());
+            }
+            manqueEnergie |= membre.getEnergie() < seuilPastille;
+        }
+
+        List<Objectif> objectifs = new ArrayList<>();
+        Set<Combattant> equipe = new HashSet<>(membres);
+        for (Combattant autre : grille.getAllCombattants()) {
+            if (autre.estEnVie() && !equipe.contains(autre) && grille.estPositionValide(autre.getPosition())) {
+                Objectif objectif = new Objectif(autre, autre.getPosition());
+                int places = Math.min(membres.size(), (autre.getEnergie() + degats - 1) / degats);
+                for (int k = 0; k < places; k++) {
+                    objectifs.add(objectif);
+                }
+            }
+        }
+        if (manqueEnergie) {
+            for (int y = 0; y < grille.getLongueur(); y++) {
+                for (int x = 0; x < grille.getLargeur(); x++) {
+                    if (grille.getCase(x, y).contientPastilleEnergie()) {
+                        objectifs.add(new Objectif(null, new Position(x, y)));
+                    }
+                }
+            }
+        }
+        return objectifs;
+    }
+
+    /**
+     * Calcule la matrice des coûts : une ligne par membre, une colonne par objectif puis une
+     * colonne « sans objectif » par membre. Après l'échéance donnée, les distances des objectifs
+     * restants sont estimées par la distance de Manhattan.
+     */
+    private static int[][] calculerCouts(List<Combattant> membres, List<Objectif> objectifs, Grille grille, int seuilPastille,
+            long echeanceDistances) {
+        int nombreCases = grille.getLargeur() * grille.getLongueur();
+        int coutLibre = nombreCases + 1;
+        int coutImpossible = 2 * coutLibre;
+        int n = membres.size();
+        int m = objectifs.size();
+        int[][] couts = new int[n][m + n];
+        CarteDistances carteDistances = grille.getCarteDistances();
+        LignesDeTir lignesDeTir = grille.getLignesDeTir();
+
+        List<Set<Combattant>> ciblesAtteintes = new ArrayList<>();
+        for (Combattant membre : membres) {
+            Set<Combattant> cibles = new HashSet<>();
+            for (Arme arme : membre.getArmes()) {
+                if (arme.getMunition() > 0) {
+                    for (int direction = 0; direction < 4; direction++) {
+                        Combattant cible = lignesDeTir.premiereCible(membre.getPosition(), direction, arme.getPortee());
+                        if (cible != null) {
+                            cibles.add(cible);
+                        }
+                    }
+                }
+            }
+            ciblesAtteintes.add(cibles);
+        }
+
+        Objectif precedent = null;
+        short[] distances = null;
+        for (int j = 0; j < m; j++) {
+            Objectif objectif = objectifs.get(j);
+            if (objectif != precedent) {
+                distances = System.nanoTime() < echeanceDistances ? carteDistances.distancesDepuis(objectif.getPosition()) : null;
+                precedent = objectif;
+            }
+            for (int i = 0; i < n; i++) {
+                Combattant membre = membres.get(i);
+                int distance = distances != null
+                        ? carteDistances.distance(distances, membre.getPosition())
+                        : membre.getPosition().distanceTo(objectif.getPosition());
+                if (objectif.getCible() != null && ciblesAtteintes.get(i).contains(objectif.getCible())) {
+                    couts[i][j] = 0;
+                } else if (distance == CarteDistances.INACCESSIBLE
+                        || (objectif.getCible() == null && membre.getEnergie() >= seuilPastille)) {
+                    couts[i][j] = coutImpossible;
+                } else {
+                    couts[i][j] = distance;
+                }
+            }
+        }
+        for (int i = 0; i < n; i++) {
+            Arrays.fill(couts[i], m, m + n, coutLibre);
+        }
+        return couts;
+    }
+
+    /**
+     * Résout l'affectation de coût minimal par la méthode hongroise (potentiels et chemins
+     * augmentants, une ligne à la fois), puis complète gloutonnement si l'échéance est atteinte.
+     *
+     * @return La colonne attribuée à chaque ligne.
+     */
+    private int[] resoudre(int[][] couts, long echeance) {
+        int n = couts.length;
+        int m = couts[0].length;
+        // Tableaux indexés à partir de 1, la colonne 0 servant de sentinelle.
+        long[] u = new long[n + 1];
+        long[] v = new long[m + 1];
+        int[] ligneDeColonne = new int[m + 1];
+        int[] precedente = new int[m + 1];
+        long[] minimum = new long[m + 1];
+        boolean[] vue = new boolean[m + 1];
+
+        int lignes = 0;
+        while (lignes < n && System.nanoTime() < echeance) {
+            int i = ++lignes;
+            ligneDeColonne[0] = i;
+            int colonne = 0;
+            Arrays.fill(minimum, Long.MAX_VALUE);
+            Arrays.fill(vue, false);
+            do {
+                vue[colonne] = true;
+                int ligne = ligneDeColonne[colonne];
+                long delta = Long.MAX_VALUE;
+                int suivante = 0;
+                for (int j = 1; j <= m; j++) {
+                    if (!vue[j]) {
+                        long reduit = couts[ligne - 1][j - 1] - u[ligne] - v[j];
+                        if (reduit < minimum[j]) {
+                            minimum[j] = reduit;
+                            precedente[j] = colonne;
+                        }
+                        if (minimum[j] < delta) {
+                            delta = minimum[j];
+                            suivante = j;
+                        }
+                    }
+                }
+                for (int j = 0; j <= m; j++) {
+                    if (vue[j]) {
+                        u[ligneDeColonne[j]] += delta;
+                        v[j] -= delta;
+                    } else {
+                        minimum[j] -= delta;
+                    }
+                }
+                colonne = suivante;
+            } while (ligneDeColonne[colonne] != 0);
+            do {
+                int anterieure = precedente[colonne];
+                ligneDeColonne[colonne] = ligneDeColonne[anterieure];
+                colonne = anterieure;
+            } while (colonne != 0);
+        }
+        combattantsOptimaux = lignes;
+
+        int[] colonnes = new int[n];
+        Arrays.fill(colonnes, -1);
+        for (int j = 1; j <= m; j++) {
+            if (ligneDeColonne[j] != 0) {
+                colonnes[ligneDeColonne[j] - 1] = j - 1;
+            }
+        }
+        for (int i = lignes; i < n; i++) {
+            int meilleure = -1;
+            for (int j = 0; j < m; j++) {
+                if (ligneDeColonne[j + 1] == 0 && (meilleure < 0 || couts[i][j] < couts[i][meilleure])) {
+                    meilleure = j;
+                }
+            }
+            ligneDeColonne[meilleure + 1] = i + 1;
+            colonnes[i] = meilleure;
+        }
+        return colonnes;
+    }
+}
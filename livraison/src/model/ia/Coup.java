@@ -0,0 +1,350 @@
+package model.ia;
+
+import java.util.List;
+import java.util.Random;
+
+import model.Arme;
+import model.Bombe;
+import model.Case;
+import model.Combattant;
+import model.Explosif;
+import model.Grille;
+import model.LignesDeTir;
+import model.Mine;
+import model.Position;
+import utils.configuration.Parametres;
+
+/**
+ * Codage des actions d'un combattant sous forme d'entiers, utilisé par les stratégies de recherche.
+ * <p>
+ * L'espace des coups est fixe et compte {@link #NOMBRE} codes :
+ * <ul>
+ *   <li>{@link #ATTENDRE} et {@link #BOUCLIER} ;</li>
+ *   <li>un déplacement par direction (EST, OUEST, SUD, NORD, cf. {@link LignesDeTir}) ;</li>
+ *   <li>un tir par emplacement d'arme et par direction ;</li>
+ *   <li>un dépôt de bombe et un dépôt de mine par case voisine (huit voisines).</li>
+ * </ul>
+ * Un coup n'est légal que si l'action correspondante réussirait sur la grille, ce qui évite
+ * d'essayer les actions une à une.
+ */
+public final class Coup {
+
+    /** Ne rien faire pendant le tour. */
+    public static final int ATTENDRE = 0;
+
+    /** Activer le bouclier. */
+    public static final int BOUCLIER = 1;
+
+    /** Premier code de déplacement, suivi d'un code par direction. */
+    public static final int DEPLACER = 2;
+
+    /** Nombre maximal d'armes prises en compte dans l'inventaire d'un combattant. */
+    public static final int EMPLACEMENTS_ARMES = 3;
+
+    /** Premier code de tir, à l'index {@code TIRER + emplacement * 4 + direction}. */
+    public static final int TIRER = DEPLACER + 4;
+
+    /** Premier code de dépôt de bombe, suivi d'un code par case voisine. */
+    public static final int BOMBE = TIRER + EMPLACEMENTS_ARMES * 4;
+
+    /** Premier code de dépôt de mine, suivi d'un code par case voisine. */
+    public static final int MINE = BOMBE + 8;
+
+    /** Nombre total de codes de coups. */
+    public static final int NOMBRE = MINE + 8;
+
+    /** Décalages en x des huit cases voisines. */
+    private static final int[] VOISIN_DX = {-1, 0, 1, -1, 1, -1, 0, 1};
+
+    /** Décalages en y des huit cases voisines. */
+    private static final int[] VOISIN_DY = {-1, -1, -1, 0, 0, 1, 1, 1};
+
+    private Coup() {
+    }
+
+    /**
+     * Obtient le code d'un déplacement.
+     *
+     * @param direction La direction (EST, OUEST, SUD ou NORD).
+     * @return Le code du coup.
+     */
+    public static int deplacer(int direction) {
+        return DEPLACER + direction;
+    }
+
+    /**
+     * Obtient le code d'un tir.
+     *
+     * @param emplacement L'index de l'arme dans l'inventaire du combattant.
+     * @param direction   La direction du tir (EST, OUEST, SUD ou NORD).
+     * @return Le code du coup.
+     */
+    public static int tirer(int emplacement, int direction) {
+        return TIRER + emplacement * 4 + direction;
+    }
+
+    /**
+     * Obtient le code d'un dépôt de bombe.
+     *
+     * @param voisin L'index de la case voisine, de 0 à 7.
+     * @return Le code du coup.
+     */
+    public static int bombe(int voisin) {
+        return BOMBE + voisin;
+    }
+
+    /**
+     * Obtient le code d'un dépôt de mine.
+     *
+     * @param voisin L'index de la case voisine, de 0 à 7.
+     * @return Le code du coup.
+     */
+    public static int mine(int voisin) {
+        return MINE + voisin;
+    }
+
+    /**
+     * Vérifie si un coup peut être joué par un combattant.
+     *
+     * @param coup       Le code du coup.
+     * @param combattant Le combattant qui joue.
+     * @param grille     La grille du jeu.
+     * @return true si l'action correspondante réussirait, false sinon.
+     */
+    public static boolean estLegal(int coup, Combattant combattant, Grille grille) {
+        if (coup == ATTENDRE) {
+            return true;
+        }
+        if (coup == BOUCLIER) {
+            return !combattant.estBouclierActif() && combattant.getEnergie() >= Parametres.coutUtilisationBouclier;
+        }
+        Position position = combattant.getPosition();
+        if (coup < TIRER) {
+            int direction = coup - DEPLACER;
+            Case cible = grille.getCase(position.getX() + LignesDeTir.DX[direction], position.getY() + LignesDeTir.DY[direction]);
+            return cible != null && !cible.estOccupee(false) && combattant.getEnergie() >= Parametres.coutDeplacement;
+        }
+        if (coup < BOMBE) {
+            int emplacement = (coup - TIRER) / 4;
+            int direction = (coup - TIRER) % 4;
+            List<Arme> armes = combattant.getArmes();
+            return emplacement < armes.size() && armes.get(emplacement).getMunition() > 0
+                    && grille.getCase(position.getX() + LignesDeTir.DX[direction], position.getY() + LignesDeTir.DY[direction]) != null;
+        }
+        if (coup < NOMBRE) {
+            boolean bombe = coup < MINE;
+            int voisin = coup - (bombe ? BOMBE : MINE);
+            Case cible = grille.getCase(position.getX() + VOISIN_DX[voisin], position.getY() + VOISIN_DY[voisin]);
+            return cible != null && !cible.estOccupee(true) && possedeExplosif(combattant, bombe);
+        }
+        return false;
+    }
+
+    /**
+     * Obtient le premier combattant que toucherait un coup de tir, sans jouer le coup.
+     *
+     * @param coup       Le code du coup.
+     * @param combattant Le combattant qui joue.
+     * @param grille     La grille du jeu.
+     * @return Le combattant touché, ou null si le coup n'est pas un tir ou ne toucherait personne.
+     */
+    public static Combattant cibleDuTir(int coup, Combattant combattant, Grille grille) {
+        if (coup < TIRER || coup >= BOMBE) {
+            return null;
+        }
+        int emplacement = (coup - TIRER) / 4;
+        List<Arme> armes = combattant.getArmes();
+        if (emplacement >= armes.size()) {
+            return null;
+        }
+        return grille.getLignesDeTir().premiereCible(combattant.getPosition(), (coup - TIRER) % 4, armes.get(emplacement).getPortee());
+    }
+
+    /**
+     * Calcule l'ensemble des coups légaux d'un combattant sous forme de masque : le bit de rang
+     * {@code coup} est levé si et seulement si {@link #estLegal} est vrai pour ce coup.
+     * <p>
+     * L'inventaire du combattant et ses cases voisines ne sont examinés qu'une fois pour tous les
+     * codes, sans allocation ni action jouée sur la grille.
+     *
+     * @param combattant Le combattant qui joue.
+     * @param grille     La grille du jeu.
+     * @return Le masque des coups légaux ({@link #ATTENDRE} est toujours présent).
+     */
+    public static long masqueLegaux(Combattant combattant, Grille grille) {
+        long masque = 1L << ATTENDRE;
+        int energie = combattant.getEnergie();
+        if (!combattant.estBouclierActif() && energie >= Parametres.coutUtilisationBouclier) {
+            masque |= 1L << BOUCLIER;
+        }
+        boolean peutDeplacer = energie >= Parametres.coutDeplacement;
+
+        List<Arme> armes = combattant.getArmes();
+        int emplacements = Math.min(armes.size(), EMPLACEMENTS_ARMES);
+        int armesChargees = 0;
+        for (int emplacement = 0; emplacement < emplacements; emplacement++) {
+            if (armes.get(emplacement).getMunition() > 0) {
+                armesChargees |= 1 << emplacement;
+            }
+        }
+
+        Position position = combattant.getPosition();
+        int x = position.getX();
+        int y = position.getY();
+        for (int direction = 0; direction < 4; direction++) {
+            Case cible = grille.getCase(x + LignesDeTir.DX[direction], y + LignesDeTir.DY[direction]);
+            if (cible == null) {
+                continue;
+            }
+            if (peutDeplacer && !cible.estOccupee(false)) {
+                masque |= 1L << (DEPLACER + direction);
+            }
+            for (int emplacement = 0; emplacement < emplacements; emplacement++) {
+                if ((armesChargees & (1 << emplacement)) != 0) {
+                    masque |= 1L << tirer(emplacement, direction);
+                }
+            }
+        }
+
+        boolean possedeBombe = false;
+        boolean possedeMine = false;
+        for (Explosif explosif : combattant.getExplosifs()) {
+            possedeBombe |= explosif instanceof Bombe;
+            possedeMine |= explosif instanceof Mine;
+        }
+        if (possedeBombe || possedeMine) {
+            for (int voisin = 0; voisin < 8; voisin++) {
+                Case cible = grille.getCase(x + VOISIN_DX[voisin], y + VOISIN_DY[voisin]);
+                if (cible == null || cible.estOccupee(true)) {
+                    continue;
+                }
+                if (possedeBombe) {
+                    masque |= 1L << (BOMBE + voisin);
+                }
+                if (possedeMine) {
+                    masque |= 1L << (MINE + voisin);
+                }
+            }
+        }
+        return masque;
+    }
+
+    /**
+     * Liste les coups légaux d'un combattant.
+     *
+     * @param combattant Le combattant qui joue.
+     * @param grille     La grille du jeu.
+     * @param coups      Le tableau à remplir, d'au moins {@link #NOMBRE} cases.
+     * @return Le nombre de coups écrits au début du tableau.
+     */
+    public static int lister(Combattant combattant, Grille grille, int[] coups) {
+        long masque = masqueLegaux(combattant, grille);
+        int nombre = 0;
+        while (masque != 0) {
+            coups[nombre++] = Long.numberOfTrailingZeros(masque);
+            masque &= masque - 1;
+        }
+        return nombre;
+    }
+
+    /**
+     * Tire un coup légal au hasard, uniformément parmi les coups légaux.
+     * <p>
+     * Le tirage se fait directement dans le masque des coups légaux, sans liste intermédiaire :
+     * ce tirage sert de politique de déroulement aux recherches et doit rester très rapide.
+     *
+     * @param combattant Le combattant qui joue.
+     * @param grille     La grille du jeu.
+     * @param random     Le générateur aléatoire.
+     * @return Le code du coup tiré ({@link #ATTENDRE} est toujours légal).
+     */
+    public static int tirerAuHasard(Combattant combattant, Grille grille, Random random) {
+        long masque = masqueLegaux(combattant, grille);
+        for (int rang = random.nextInt(Long.bitCount(masque)); rang > 0; rang--) {
+            masque &= masque - 1;
+        }
+        return Long.numberOfTrailingZeros(masque);
+    }
+
+    /**
+     * Joue un coup pour un combattant.
+     *
+     * @param coup       Le code du coup.
+     * @param combattant Le combattant qui joue.
+     * @param grille     La grille du jeu.
+     * @return true si l'action a réussi, false sinon.
+     */
+    public static boolean appliquer(int coup, Combattant combattant, Grille grille) {
+        Position position = combattant.getPosition();
+        if (coup == ATTENDRE) {
+            combattant.attendre();
+            return true;
+        }
+        if (coup == BOUCLIER) {
+            return combattant.activerBouclier();
+        }
+        if (coup < TIRER) {
+            int direction = coup - DEPLACER;
+            Case cible = grille.getCase(position.getX() + LignesDeTir.DX[direction], position.getY() + LignesDeTir.DY[direction]);
+            return cible != null && combattant.deplacer(cible);
+        }
+        if (coup < BOMBE) {
+            int emplacement = (coup - TIRER) / 4;
+            int direction = (coup - TIRER) % 4;
+            Case cible = grille.getCase(position.getX() + LignesDeTir.DX[direction], position.getY() + LignesDeTir.DY[direction]);
+            return cible != null && emplacement < combattant.getArmes().size()
+                    && combattant.tirer(combattant.getArmes().get(emplacement), cible, LignesDeTir.versDirectionTir(direction));
+        }
+        if (coup < NOMBRE) {
+            boolean bombe = coup < MINE;
+            int voisin = coup - (bombe ? BOMBE : MINE);
+            Case cible = grille.getCase(position.getX() + VOISIN_DX[voisin], position.getY() + VOISIN_DY[voisin]);
+            if (cible == null) {
+                return false;
+            }
+            return bombe ? combattant.deposerBombe(cible) : combattant.deposerMine(cible);
+        }
+        throw new IllegalArgumentException("Code de coup invalide : " + coup);
+    }
+
+    /**
+     * Retourne une description lisible d'un coup.
+     *
+     * @param coup Le code du coup.
+     * @return La description du coup.
+     */
+    public static String decrire(int coup) {
+        String[] directions = {"est", "ouest", "sud", "nord"};
+        if (coup == ATTENDRE) {
+            return "attendre";
+        }
+        if (coup == BOUCLIER) {
+            return "bouclier";
+        }
+        if (coup < TIRER) {
+            return "déplacement " + directions[coup - DEPLACER];
+        }
+        if (coup < BOMBE) {
+            return "tir arme " + (coup - TIRER) / 4 + " " + directions[(coup - TIRER) % 4];
+        }
+        if (coup < MINE) {
+            return "bombe voisine " + (coup - BOMBE);
+        }
+        if (coup < NOMBRE) {
+            return "mine voisine " + (coup - MINE);
+        }
+        throw new IllegalArgumentException("Code de coup invalide : " + coup);
+    }
+
+    /**
+     * Vérifie si un combattant possède une bombe ou une mine.
+     */
+    private static boolean possedeExplosif(Combattant combattant, boolean bombe) {
+        for (Explosif explosif : combattant.getExplosifs()) {
+            if (bombe ? explosif instanceof Bombe : explosif instanceof Mine) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,258 @@
+package model.ia;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import model.Case;
+import model.Combattant;
+import model.Explosif;
+import model.Grille;
+import model.Mine;
+import model.Position;
+import model.proxy.ProxyGrille;
+import utils.configuration.TypeEquipement;
+import utils.strategyMessage.MessageHandler;
+
+/**
+ * Croyance d'un combattant sur les mines ennemies qu'il ne voit pas.
+ * <p>
+ * Les mines à visibilité partielle n'apparaissent que dans la vue de leur poseur. La croyance ne
+ * s'appuie que sur ce que le combattant observe : sa {@link ProxyGrille} et l'inventaire des autres
+ * combattants. Lorsqu'entre deux observations le nombre de mines cachées d'un ennemi diminue,
+ * celui-ci a déposé une mine sur l'une de ses cases voisines libres, sans se déplacer (une seule
+ * action par tour) ; ces cases deviennent les emplacements possibles du dépôt. Un emplacement est
+ * écarté dès qu'un combattant ou un explosif visible s'y trouve, puisqu'une mine explose lorsqu'on
+ * y entre et qu'un explosif ne peut pas être déposé sur une case qui en contient déjà un ; un
+ * dépôt sans emplacement possible est oublié.
+ * <p>
+ * La croyance produit des grilles plausibles (déterminisations) : la vue du combattant dans
+ * laquelle chaque dépôt est placé au hasard sur l'un de ses emplacements possibles.
+ * <p>
+ * Avec le brouillard de guerre, la vue ne montre ni les pastilles ni les combattants hors du champ
+ * de vision. La croyance retient alors la dernière position où chaque autre combattant a été vu,
+ * et un dépôt n'est déduit que si son poseur est en vue. Dans la grille vue, un ennemi caché est
+ * placé sur la case libre hors de vue la plus proche de sa dernière position vue, ou, s'il n'a
+ * jamais été vu, la plus éloignée du combattant ; les alliés restent à leur place.
+ */
+public class CroyanceMines {
+
+    /**
+     * Dépôt de mine caché : index du poseur parmi les combattants de la grille et emplacements possibles.
+     */
+    private static final class Depot {
+
+        private final int indexPoseur;
+        private final List<Position> emplacements;
+
+        Depot(int indexPoseur, List<Position> emplacements) {
+            this.indexPoseur = indexPoseur;
+            this.emplacements = emplacements;
+        }
+    }
+
+    private final Combattant observateur;
+    private final List<Depot> depots = new ArrayList<>();
+
+    /** Nombre de mines cachées dans l'inventaire de chaque autre combattant lors de la dernière observation. */
+    private final Map<Combattant, Integer> minesEnInventaire = new HashMap<>();
+
+    /** Dernière position où chaque autre combattant a été vu. */
+    private final Map<Combattant, Position> positionsVues = new HashMap<>();
+
+    /**
+     * Constructeur de la classe CroyanceMines.
+     *
+     * @param observateur Le combattant dont la croyance est tenue.
+     * @throws IllegalArgumentException Si le combattant est nul.
+     */
+    public CroyanceMines(Combattant observateur) {
+        if (observateur == null) {
+            throw new IllegalArgumentException("L'observateur ne peut pas être nul.");
+        }
+        this.observateur = observateur;
+    }
+
+    /**
+     * Met à jour la croyance à partir de la vue courante du combattant. À appeler au début de
+     * chacun de ses tours.
+     *
+     * @param vue La vue filtrée de la grille pour le combattant.
+     */
+    public void observer(ProxyGrille vue) {
+        for (Depot depot : depots) {
+            depot.emplacements.removeIf(position -> vue.getCase(position).estOccupee(true));
+        }
+        depots.removeIf(depot -> depot.emplacements.isEmpty());
+
+        Grille grille = vue.getGrilleReelle();
+        List<Combattant> combattants = grille.getAllCombattants();
+        for (int i = 0; i < combattants.size(); i++) {
+            Combattant autre = combattants.get(i);
+            if (autre == observateur) {
+                continue;
+            }
+            Position position = autre.getPosition();
+            boolean enVue = vue.voitCase(position.getX(), position.getY());
+            if (enVue) {
+                positionsVues.put(autre, position);
+            }
+            int mines = compterMinesCachees(autre);
+            Integer avant = minesEnInventaire.put(autre, mines);
+            if (avant == null || mines >= avant || !enVue) {
+                continue;
+            }
+
+            List<Position> emplacements = new ArrayList<>();
+            for (Case voisine : grille.getCase(position).getCasesVoisines()) {
+                if (!vue.getCase(voisine.getPosition()).estOccupee(true)) {
+                    emplacements.add(voisine.getPosition());
+                }
+            }
+            if (emplacements.isEmpty()) {
+                continue;
+            }
+            for (int k = 0; k < avant - mines; k++) {
+                depots.add(new Depot(i, new ArrayList<>(emplacements)));
+            }
+        }
+    }
+
+    /**
+     * Construit la grille vue par le combattant : une copie de la grille réelle dont les explosifs
+     * absents de sa vue filtrée sont retirés. Avec le brouillard de guerre, les pastilles hors de
+     * vue sont aussi retirées et les ennemis cachés sont déplacés à leur position estimée.
+     *
+     * @param vue            La vue filtrée de la grille pour le combattant.
+     * @param messageHandler Le gestionnaire de messages de la copie.
+     * @return La grille vue par le combattant.
+     */
+    public Grille construireVue(ProxyGrille vue, MessageHandler messageHandler) {
+        Grille copie = vue.getGrilleReelle().copier(messageHandler);
+        boolean brouillard = vue.getRayonVision() != ProxyGrille.SANS_BROUILLARD;
+        for (int x = 0; x < copie.getLargeur(); x++) {
+            for (int y = 0; y < copie.getLongueur(); y++) {
+                Case caseCopie = copie.getCase(x, y);
+                if (caseCopie.getExplosif() != null && vue.getCase(x, y).getExplosif() == null) {
+                    caseCopie.setExplosif(null);
+                }
+                if (brouillard && caseCopie.contientPastilleEnergie() && !vue.voitCase(x, y)) {
+                    caseCopie.setContientPastilleEnergie(false);
+                }
+            }
+        }
+        if (brouillard) {
+            placerEnnemisCaches(vue, copie);
+        }
+        return copie;
+    }
+
+    /**
+     * Déplace chaque ennemi hors du champ de vision du combattant sur sa position estimée dans la
+     * copie : d'abord retirés de leurs cases, les ennemis cachés sont ensuite placés un à un.
+     */
+    private void placerEnnemisCaches(ProxyGrille vue, Grille copie) {
+        List<Combattant> reels = vue.getGrilleReelle().getAllCombattants();
+        List<Combattant> copies = copie.getAllCombattants();
+        List<Integer> caches = new ArrayList<>();
+        for (int i = 0; i < reels.size(); i++) {
+            Combattant autre = reels.get(i);
+            Position position = autre.getPosition();
+            if (autre.estEnVie() && !observateur.estAllie(autre) && !vue.voitCase(position.getX(), position.getY())) {
+                copie.getCase(position).setOccupant(null);
+                caches.add(i);
+            }
+        }
+
+        Position origine = observateur.getPosition();
+        for (int i : caches) {
+            Position derniereVue = positionsVues.get(reels.get(i));
+            Case choisie = null;
+            int meilleure = 0;
+            for (int x = 0; x < copie.getLargeur(); x++) {
+                for (int y = 0; y < copie.getLongueur(); y++) {
+                    Case candidate = copie.getCase(x, y);
+                    if (candidate.estOccupee(true) || vue.voitCase(x, y)) {
+                        continue;
+                    }
+                    int score = derniereVue != null
+                            ? -(Math.abs(x - derniereVue.getX()) + Math.abs(y - derniereVue.getY()))
+                            : Math.abs(x - origine.getX()) + Math.abs(y - origine.getY());
+                    if (choisie == null || score > meilleure) {
+                        choisie = candidate;
+                        meilleure = score;
+                    }
+                }
+            }
+            if (choisie != null) {
+                Combattant cache = copies.get(i);
+                cache.setPosition(choisie.getPosition());
+                choisie.setOccupant(cache);
+            }
+        }
+    }
+
+    /**
+     * Tire une grille plausible : une copie de la vue du combattant où chaque dépôt caché est
+     * placé au hasard sur l'un de ses emplacements encore libres. La vue n'est pas modifiée.
+     *
+     * @param vue            La grille vue par le combattant (cf. {@link #construireVue}).
+     * @param messageHandler Le gestionnaire de messages de la grille tirée.
+     * @param random         Le générateur aléatoire du tirage.
+     * @return La grille tirée.
+     */
+    public Grille echantillonner(Grille vue, MessageHandler messageHandler, Random random) {
+        Grille echantillon = vue.copier(messageHandler);
+        placerDepots(echantillon, random);
+        return echantillon;
+    }
+
+    /**
+     * Place au hasard chaque dépôt caché sur l'un de ses emplacements encore libres d'une copie
+     * de la vue du combattant. Seule la copie est lue et modifiée : plusieurs copies préparées à
+     * l'avance peuvent être complétées en parallèle.
+     *
+     * @param echantillon Une copie de la grille vue par le combattant, complétée sur place.
+     * @param random      Le générateur aléatoire du tirage.
+     */
+    public void placerDepots(Grille echantillon, Random random) {
+        List<Combattant> combattants = echantillon.getAllCombattants();
+        for (Depot depot : depots) {
+            Case choisie = null;
+            int libres = 0;
+            for (Position position : depot.emplacements) {
+                Case candidate = echantillon.getCase(position);
+                if (!candidate.estOccupee(true) && random.nextInt(++libres) == 0) {
+                    choisie = candidate;
+                }
+            }
+            if (choisie != null) {
+                choisie.setExplosif(new Mine(combattants.get(depot.indexPoseur), TypeEquipement.MINE));
+            }
+        }
+    }
+
+    /**
+     * Obtient le nombre de mines cachées dont l'emplacement est incertain.
+     *
+     * @return Le nombre de dépôts suivis.
+     */
+    public int getNombreDepots() {
+        return depots.size();
+    }
+
+    /**
+     * Compte les mines cachées aux autres combattants dans l'inventaire d'un combattant.
+     */
+    private static int compterMinesCachees(Combattant combattant) {
+        int mines = 0;
+        for (Explosif explosif : combattant.getExplosifs()) {
+            if (explosif instanceof Mine && explosif.getVisibilite() != Explosif.Visibilite.TOTALE) {
+                mines++;
+            }
+        }
+        return mines;
+    }
+}
@@ -0,0 +1,335 @@
+package model.ia;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import model.Arme;
+import model.Bombe;
+import model.CarteDistances;
+import model.CarteMenaces;
+import model.Case;
+import model.Combattant;
+import model.Explosif;
+import model.Grille;
+import model.LignesDeTir;
+import model.Position;
+import utils.configuration.Parametres;
+
+/**
+ * Décision groupée des coups de tous les combattants d'un joueur pour un tour.
+ * <p>
+ * Au lieu de jouer chaque coup candidat sur une copie de la grille, les coups légaux de tous les
+ * combattants sont rassemblés dans des tableaux plats (combattant, code du coup), puis les
+ * {@link Caracteristique}s de la position obtenue après chaque coup sont déduites de données
+ * calculées une seule fois pour le tour et partagées par tous les combattants :
+ * <ul>
+ *   <li>la carte des distances aux pastilles ;</li>
+ *   <li>la carte des distances aux ennemis de l'équipe, un seul parcours en largeur pour tous ses
+ *       combattants ({@link CarteDistances#distancesEnnemis(java.util.Collection)}) ;</li>
+ *   <li>l'énergie et le nombre de vivants de l'équipe, et les cases qu'elle occupe ;</li>
+ *   <li>la carte des menaces et les lignes de tir de la grille.</li>
+ * </ul>
+ * L'équipe réunit les combattants du joueur et leurs alliés ({@link Combattant#estAllie}) : comme
+ * pour les {@link Caracteristique}s, elle ne compte pas parmi les ennemis, et un tir dont la
+ * première cible en fait partie n'est jamais retenu.
+ * Les caractéristiques sont rangées par colonnes et le score de tous les candidats est obtenu en
+ * une seule passe de sommes pondérées, avant de retenir le meilleur coup de chaque combattant. Le
+ * coût par combattant se limite ainsi à ses quelques dizaines de candidats, le coût des cartes
+ * étant payé une fois par tour quel que soit le nombre de combattants.
+ * <p>
+ * Les caractéristiques sont des estimations : les explosions différées et les pastilles déjà
+ * ramassées ne sont pas prises en compte, ce qui réserve la décision groupée aux niveaux qui
+ * n'évaluent qu'un coup de profondeur. Une instance réutilise ses tableaux d'un tour à l'autre et
+ * ne doit pas être partagée entre plusieurs threads.
+ */
+public class DecisionGroupee {
+
+    private static final Caracteristique[] CARACTERISTIQUES = Caracteristique.values();
+
+    private final double[] poids = new double[CARACTERISTIQUES.length];
+
+    /** Coups candidats : combattant (index dans la liste du tour) et code du coup. */
+    private int[] proprietaires = new int[0];
+    private int[] coups = new int[0];
+
+    /** Valeurs des caractéristiques, une colonne par caractéristique. */
+    private double[][] colonnes = new double[CARACTERISTIQUES.length][0];
+
+    /** Score des candidats, et score imposé (élimination, victoire) ou NaN. */
+    private double[] scores = new double[0];
+    private double[] scoresImposes = new double[0];
+
+    /** Cases occupées par un combattant vivant de l'équipe, indexées par {@link Grille#indexDe}. */
+    private boolean[] casesEquipe = new boolean[0];
+
+    private final int[] coupsLegaux = new int[Coup.NOMBRE];
+
+    /**
+     * Constructeur de la classe DecisionGroupee.
+     *
+     * @param evaluateur L'évaluateur linéaire dont les poids notent les candidats.
+     * @throws IllegalArgumentException Si l'évaluateur est nul.
+     */
+    public DecisionGroupee(EvaluateurLineaire evaluateur) {
+        if (evaluateur == null) {
+            throw new IllegalArgumentException("L'évaluateur ne peut pas être nul.");
+        }
+        for (Caracteristique caracteristique : CARACTERISTIQUES) {
+            poids[caracteristique.ordinal()] = evaluateur.getPoids(caracteristique);
+        }
+    }
+
+    /**
+     * Choisit le coup de chacun des combattants à partir de l'état courant de la grille.
+     *
+     * @param combattants Les combattants du joueur qui jouent ce tour.
+     * @param grille      La grille du jeu, qui n'est pas modifiée.
+     * @param random      Le générateur aléatoire départageant les égalités.
+     * @return Le code du coup choisi pour chaque combattant, dans l'ordre de la liste
+     *         ({@link Coup#ATTENDRE} pour un combattant éliminé ou absent de la grille).
+     * @throws IllegalArgumentException Si l'un des paramètres est nul.
+     */
+    public int[] choisirCoups(List<Combattant> combattants, Grille grille, Random random) {
+        if (combattants == null || grille == null || random == null) {
+            throw new IllegalArgumentException("Les combattants, la grille et le générateur aléatoire ne peuvent pas être nuls.");
+        }
+        int[] debuts = new int[combattants.size() + 1];
+        int nombre = rassembler(combattants, grille, debuts);
+        calculerCaracteristiques(combattants, grille, nombre);
+        noter(nombre);
+
+        int[] choix = new int[combattants.size()];
+        for (int j = 0; j < combattants.size(); j++) {
+            choix[j] = meilleurCandidat(debuts[j], debuts[j + 1], random);
+        }
+        return choix;
+    }
+
+    /**
+     * Rassemble les coups légaux des combattants dans les tableaux plats.
+     *
+     * @param debuts Rempli avec l'index du premier candidat de chaque combattant, et le total en dernière case.
+     * @return Le nombre de candidats.
+     */
+    private int rassembler(List<Combattant> combattants, Grille grille, int[] debuts) {
+        int nombre = 0;
+        for (int j = 0; j < combattants.size(); j++) {
+            debuts[j] = nombre;
+            Combattant combattant = combattants.get(j);
+            if (!combattant.estEnVie() || !grille.estPositionValide(combattant.getPosition())) {
+                continue;
+            }
+            int legaux = Coup.lister(combattant, grille, coupsLegaux);
+            reserver(nombre + legaux);
+            for (int i = 0; i < legaux; i++) {
+                proprietaires[nombre] = j;
+                coups[nombre++] = coupsLegaux[i];
+            }
+        }
+        debuts[combattants.size()] = nombre;
+        return nombre;
+    }
+
+    /**
+     * Agrandit les tableaux des candidats si nécessaire.
+     */
+    private void reserver(int capacite) {
+        if (capacite <= coups.length) {
+            return;
+        }
+        int taille = Math.max(capacite, 2 * coups.length);
+        proprietaires = Arrays.copyOf(proprietaires, taille);
+        coups = Arrays.copyOf(coups, taille);
+        scores = new double[taille];
+        scoresImposes = new double[taille];
+        colonnes = new double[CARACTERISTIQUES.length][taille];
+    }
+
+    /**
+     * Remplit les colonnes de caractéristiques de la position obtenue après chaque candidat.
+     */
+    private void calculerCaracteristiques(List<Combattant> combattants, Grille grille, int nombre) {
+        CarteDistances carteDistances = grille.getCarteDistances();
+        short[] pastilles = carteDistances.distancesPastilles();
+        CarteMenaces menaces = grille.getCarteMenaces();
+        LignesDeTir lignesDeTir = grille.getLignesDeTir();
+        int borne = grille.getLargeur() + grille.getLongueur();
+        int vivants = grille.getNombreVivants();
+        int energieTotale = grille.getEnergieTotale();
+
+        if (casesEquipe.length != grille.getLargeur() * grille.getLongueur()) {
+            casesEquipe = new boolean[grille.getLargeur() * grille.getLongueur()];
+        } else {
+            Arrays.fill(casesEquipe, false);
+        }
+        List<Combattant> equipe = new ArrayList<>();
+        int energieEquipe = 0;
+        int equipeVivants = 0;
+        for (Combattant autre : grille.getAllCombattants()) {
+            if (!estEquipier(autre, combattants)) {
+                continue;
+            }
+            equipe.add(autre);
+            energieEquipe += autre.getEnergie();
+            if (autre.estEnVie() && grille.estPositionValide(autre.getPosition())) {
+                equipeVivants++;
+                casesEquipe[grille.indexDe(autre.getPosition().getX(), autre.getPosition().getY())] = true;
+            }
+        }
+        short[] ennemis = carteDistances.distancesEnnemis(equipe);
+
+        double[] differenceEnergie = colonnes[Caracteristique.DIFFERENCE_ENERGIE.ordinal()];
+        double[] munitions = colonnes[Caracteristique.MUNITIONS.ordinal()];
+        double[] explosifs = colonnes[Caracteristique.EXPLOSIFS.ordinal()];
+        double[] distancePastille = colonnes[Caracteristique.DISTANCE_PASTILLE.ordinal()];
+        double[] distanceEnnemi = colonnes[Caracteristique.DISTANCE_ENNEMI.ordinal()];
+        double[] mobilite = colonnes[Caracteristique.MOBILITE.ordinal()];
+        double[] menace = colonnes[Caracteristique.MENACE.ordinal()];
+
+        for (int i = 0; i < nombre; i++) {
+            Combattant combattant = combattants.get(proprietaires[i]);
+            int coup = coups[i];
+            Position depart = combattant.getPosition();
+            int x = depart.getX();
+            int y = depart.getY();
+            int energie = combattant.getEnergie();
+            int energieEnnemis = energieTotale - energieEquipe;
+            int ennemisVivants = vivants - equipeVivants;
+            int autresVivants = vivants - 1;
+            int munitionsRestantes = combattant.getMunitionsTotales();
+            int explosifsRestants = combattant.getExplosifs().size();
+            int menaceSupplementaire = 0;
+            scoresImposes[i] = Double.NaN;
+
+            if (coup == Coup.BOUCLIER) {
+                energie -= Parametres.coutUtilisationBouclier;
+            } else if (coup < Coup.TIRER && coup >= Coup.DEPLACER) {
+                int direction = coup - Coup.DEPLACER;
+                x += LignesDeTir.DX[direction];
+                y += LignesDeTir.DY[direction];
+                if (grille.getCase(x, y).contientPastilleEnergie()) {
+                    energie += Parametres.energiePastille;
+                }
+                energie = Math.max(0, energie - Parametres.coutDeplacement);
+            } else if (coup >= Coup.TIRER && coup < Coup.BOMBE) {
+                munitionsRestantes--;
+                Arme arme = combattant.getArmes().get((coup - Coup.TIRER) / 4);
+                Combattant cible = lignesDeTir.premiereCible(depart, (coup - Coup.TIRER) % 4, arme.getPortee());
+                if (cible != null && casesEquipe[grille.indexDe(cible.getPosition().getX(), cible.getPosition().getY())]) {
+                    // Un tir sur un combattant de l'équipe n'est jamais retenu.
+                    scoresImposes[i] = RechercheCoups.SCORE_ELIMINATION;
+                } else if (cible != null) {
+                    int degats = Math.min(arme.getCoutEnergie(), cible.getEnergie());
+                    energieEnnemis -= degats;
+                    if (degats == cible.getEnergie()) {
+                        ennemisVivants--;
+                        autresVivants--;
+                    }
+                }
+            } else if (coup >= Coup.BOMBE) {
+                explosifsRestants--;
+                if (coup < Coup.MINE) {
+                    menaceSupplementaire = impactBombe(combattant);
+                }
+            }
+
+            if (energie <= 0) {
+                scoresImposes[i] = RechercheCoups.SCORE_ELIMINATION;
+            } else if (autresVivants == 0 && Double.isNaN(scoresImposes[i])) {
+                scoresImposes[i] = RechercheCoups.SCORE_VICTOIRE;
+            }
+
+            int index = grille.indexDe(x, y);
+            differenceEnergie[i] = ennemisVivants <= 0 ? energie : energie - (double) energieEnnemis / ennemisVivants;
+            munitions[i] = munitionsRestantes;
+            explosifs[i] = explosifsRestants;
+            distancePastille[i] = Math.min(pastilles[index], borne);
+            distanceEnnemi[i] = Math.min(ennemis[index], borne);
+            mobilite[i] = mobilite(grille, x, y, depart);
+            menace[i] = menaces.getMenace(x, y, combattant) + menaceSupplementaire;
+        }
+    }
+
+    /**
+     * Calcule le score de chaque candidat, colonne par colonne.
+     */
+    private void noter(int nombre) {
+        Arrays.fill(scores, 0, nombre, 0.0);
+        for (int k = 0; k < CARACTERISTIQUES.length; k++) {
+            double p = poids[k];
+            if (p == 0) {
+                continue;
+            }
+            double[] colonne = colonnes[k];
+            for (int i = 0; i < nombre; i++) {
+                scores[i] += p * colonne[i];
+            }
+        }
+        for (int i = 0; i < nombre; i++) {
+            if (!Double.isNaN(scoresImposes[i])) {
+                scores[i] = scoresImposes[i];
+            }
+        }
+    }
+
+    /**
+     * Retient le candidat de meilleur score d'un combattant, les égalités étant départagées au hasard.
+     */
+    private int meilleurCandidat(int debut, int fin, Random random) {
+        int meilleur = Coup.ATTENDRE;
+        double meilleurScore = Double.NEGATIVE_INFINITY;
+        int egalites = 0;
+        for (int i = debut; i < fin; i++) {
+            if (scores[i] > meilleurScore) {
+                meilleurScore = scores[i];
+                meilleur = coups[i];
+                egalites = 1;
+            } else if (scores[i] == meilleurScore && random.nextInt(++egalites) == 0) {
+                meilleur = coups[i];
+            }
+        }
+        return meilleur;
+    }
+
+    /**
+     * Obtient les dégâts de la bombe que le combattant déposerait, qui menace aussitôt sa case.
+     */
+    private static int impactBombe(Combattant combattant) {
+        for (Explosif explosif : combattant.getExplosifs()) {
+            if (explosif instanceof Bombe) {
+                return explosif.getImpactEnergie();
+            }
+        }
+        return 0;
+    }
+
+    /**
+     * Compte les cases voisines orthogonales accessibles depuis une case, la case quittée étant libérée.
+     */
+    private static int mobilite(Grille grille, int x, int y, Position depart) {
+        int mobilite = 0;
+        for (int direction = 0; direction < 4; direction++) {
+            int vx = x + LignesDeTir.DX[direction];
+            int vy = y + LignesDeTir.DY[direction];
+            Case voisine = grille.getCase(vx, vy);
+            if (voisine != null && (!voisine.estOccupee(false) || (vx == depart.getX() && vy == depart.getY()))) {
+                mobilite++;
+            }
+        }
+        return mobilite;
+    }
+
+    /**
+     * Indique si un combattant fait partie de l'équipe : l'un des combattants du joueur ou l'un de leurs alliés.
+     */
+    private static boolean estEquipier(Combattant autre, List<Combattant> combattants) {
+        for (Combattant combattant : combattants) {
+            if (combattant.estAllie(autre)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,120 @@
+package model.ia;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import model.Combattant;
+import model.Grille;
+import model.combattantFactory.CombattantFactory;
+import utils.configuration.ConfigLoader;
+import utils.strategyMessage.MessageHandler;
+import utils.strategyMessage.SilencieuxMessageHandler;
+
+/**
+ * Micro-benchmark comparant la durée d'un tour d'équipe au niveau {@link Difficulte#NORMAL} :
+ * décision groupée ({@link DecisionGroupee}) contre une {@link RechercheCoups} par combattant.
+ * <p>
+ * Pour chaque taille d'équipe, la même grille (murs, pastilles, deux ennemis) est décidée en boucle
+ * sans être modifiée ; les caches de distances et de menaces restent donc chauds, comme pendant
+ * le tour d'un joueur.
+ * <p>
+ * Utilisation : {@code java model.ia.DecisionGroupeeBenchmark [dureeMs] [graine]}.
+ */
+public class DecisionGroupeeBenchmark {
+
+    private static final int[] TAILLES_EQUIPE = {1, 2, 4, 8};
+
+    public static void main(String[] args) throws Exception {
+        ConfigLoader.load();
+
+        long dureeMs = args.length > 0 ? Long.parseLong(args[0]) : 2000;
+        long graine = args.length > 1 ? Long.parseLong(args[1]) : 1;
+        EvaluateurLineaire evaluateur = EvaluateurLineaire.depuisConfiguration();
+
+        System.out.println("Taille d'équipe | groupée (µs/tour) | séquentielle (µs/tour) | rapport");
+        for (int taille : TAILLES_EQUIPE) {
+            MessageHandler messageHandler = new SilencieuxMessageHandler();
+            Random random = new Random(graine);
+            Grille grille = new Grille(messageHandler, graine);
+            grille.placerMurs();
+            grille.placerPastillesEnergie();
+            List<Combattant> equipe = CombattantFactory.creerListeCombattants(taille, grille, messageHandler, random);
+            List<Combattant> ennemis = CombattantFactory.creerListeCombattants(2, grille, messageHandler, random);
+            grille.placerCombattants(equipe);
+            grille.placerCombattants(ennemis);
+            for (Combattant combattant : equipe) {
+                combattant.setEquipe(1);
+            }
+            for (Combattant ennemi : ennemis) {
+                ennemi.setEquipe(2);
+            }
+
+            DecisionGroupee decision = new DecisionGroupee(evaluateur);
+            RechercheCoups recherche = new RechercheCoups(Difficulte.NORMAL, evaluateur, new Random(graine));
+
+            // Préchauffage du compilateur JIT
+            mesurerGroupee(decision, equipe, grille, dureeMs / 4);
+            mesurerSequentielle(recherche, equipe, grille, dureeMs / 4);
+
+            double groupee = mesurerGroupee(decision, equipe, grille, dureeMs);
+            double sequentielle = mesurerSequentielle(recherche, equipe, grille, dureeMs);
+            System.out.printf("%15d | %17.1f | %22.1f | %6.1fx%n", taille, groupee, sequentielle, sequentielle / groupee);
+        }
+    }
+
+    /**
+     * Décide les coups de toute l'équipe en boucle pendant une durée donnée.
+     *
+     * @return La durée moyenne d'un tour, en microsecondes.
+     */
+    private static double mesurerGroupee(DecisionGroupee decision, List<Combattant> equipe, Grille grille, long dureeMs) {
+        Random random = new Random(1);
+        long fin = System.nanoTime() + dureeMs * 1_000_000L;
+        long tours = 0;
+        long puits = 0;
+        long debut = System.nanoTime();
+        while (System.nanoTime() < fin) {
+            for (int coup : decision.choisirCoups(equipe, grille, random)) {
+                puits += coup;
+            }
+            tours++;
+        }
+        return afficherPuits(puits, (System.nanoTime() - debut) / 1e3 / tours);
+    }
+
+    /**
+     * Recherche le coup de chaque combattant de l'équipe, l'un après l'autre, en boucle pendant une durée donnée.
+     *
+     * @return La durée moyenne d'un tour, en microsecondes.
+     */
+    private static double mesurerSequentielle(RechercheCoups recherche, List<Combattant> equipe, Grille grille, long dureeMs) {
+        List<Combattant> vivants = new ArrayList<>();
+        for (Combattant combattant : equipe) {
+            if (combattant.estEnVie()) {
+                vivants.add(combattant);
+            }
+        }
+        long fin = System.nanoTime() + dureeMs * 1_000_000L;
+        long tours = 0;
+        long puits = 0;
+        long debut = System.nanoTime();
+        while (System.nanoTime() < fin) {
+            for (Combattant combattant : vivants) {
+                puits += recherche.choisirCoup(combattant, grille);
+            }
+            tours++;
+        }
+        return afficherPuits(puits, (System.nanoTime() - debut) / 1e3 / tours);
+    }
+
+    /**
+     * Empêche le compilateur JIT d'éliminer les décisions mesurées.
+     */
+    private static double afficherPuits(long puits, double duree) {
+        if (puits == Long.MIN_VALUE) {
+            System.out.println(puits);
+        }
+        return duree;
+    }
+}
@@ -0,0 +1,113 @@
+package model.ia;
+
+import utils.configuration.Parametres;
+
+/**
+ * Niveaux de difficulté des joueurs IA, chacun associé à un budget de calcul explicite par décision.
+ * <p>
+ * Le budget se compose :
+ * <ul>
+ *   <li>d'un nombre maximal de nœuds simulés (coups joués sur des copies de la grille) ;</li>
+ *   <li>d'un nombre de parties simulées (rollouts) par coup candidat, et de leur profondeur en tours ;</li>
+ *   <li>d'une durée maximale en millisecondes.</li>
+ * </ul>
+ * La recherche s'arrête dès que l'une des limites est atteinte. Un budget nul de nœuds correspond
+ * aux seules règles heuristiques, sans simulation. La durée peut être plafonnée pour tous les niveaux
+ * par le paramètre {@code plafondMillisecondes} de la configuration, afin de borner le temps de
+ * calcul de chaque joueur IA sur une machine partagée.
+ */
+public enum Difficulte {
+
+    /** Règles heuristiques seules, sans simulation. */
+    FACILE(0, 0, 0, 0),
+
+    /** Chaque coup légal est simulé une fois et la position obtenue est évaluée. */
+    NORMAL(64, 0, 0, 20),
+
+    /** Chaque coup est suivi de quelques parties simulées courtes. */
+    DIFFICILE(1024, 4, 4, 100),
+
+    /** Parties simulées plus nombreuses et plus longues. */
+    EXPERT(16384, 16, 8, 500);
+
+    /**
+     * Niveau retenu lorsqu'aucun n'est choisi : console, interface graphique et sièges de simulation
+     * sans niveau. Il correspond au comportement des IA d'avant les niveaux.
+     */
+    public static final Difficulte PAR_DEFAUT = FACILE;
+
+    private final int noeuds;
+    private final int rollouts;
+    private final int profondeur;
+    private final int millisecondes;
+
+    Difficulte(int noeuds, int rollouts, int profondeur, int millisecondes) {
+        this.noeuds = noeuds;
+        this.rollouts = rollouts;
+        this.profondeur = profondeur;
+        this.millisecondes = millisecondes;
+    }
+
+    /**
+     * Obtient le nombre maximal de nœuds simulés par décision.
+     *
+     * @return Le budget de nœuds, 0 pour les règles heuristiques seules.
+     */
+    public int getNoeuds() {
+        return noeuds;
+    }
+
+    /**
+     * Obtient le nombre de parties simulées par coup candidat.
+     *
+     * @return Le nombre de rollouts.
+     */
+    public int getRollouts() {
+        return rollouts;
+    }
+
+    /**
+     * Obtient la profondeur des parties simulées, en tours complets.
+     *
+     * @return La profondeur des rollouts.
+     */
+    public int getProfondeur() {
+        return profondeur;
+    }
+
+    /**
+     * Obtient la durée maximale d'une décision, en tenant compte du plafond de la configuration.
+     *
+     * @return La durée en millisecondes.
+     */
+    public int getMillisecondes() {
+        if (Parametres.plafondMillisecondesIA > 0) {
+            return Math.min(millisecondes, Parametres.plafondMillisecondesIA);
+        }
+        return millisecondes;
+    }
+
+    /**
+     * Indique si ce niveau s'appuie sur une recherche par simulation.
+     *
+     * @return true si le budget de nœuds est non nul.
+     */
+    public boolean utiliseRecherche() {
+        return noeuds > 0;
+    }
+
+    /**
+     * Convertit une chaîne de caractères en Difficulte.
+     *
+     * @param difficulteStr La chaîne représentant le niveau (FACILE, NORMAL, DIFFICILE, EXPERT).
+     * @return La difficulté correspondante.
+     * @throws IllegalArgumentException Si le niveau est inconnu.
+     */
+    public static Difficulte fromString(String difficulteStr) {
+        try {
+            return Difficulte.valueOf(difficulteStr.trim().toUpperCase());
+        } catch (IllegalArgumentException | NullPointerException e) {
+            throw new IllegalArgumentException("Difficulté inconnue : " + difficulteStr, e);
+        }
+    }
+}
@@ -0,0 +1,189 @@
+package model.ia;
+
+import java.util.List;
+
+import model.Arme;
+import model.Case;
+import model.Combattant;
+import model.Explosif;
+import model.Grille;
+import model.Position;
+
+/**
+ * Empreinte d'un état de jeu sur 64 bits, du point de vue du combattant qui doit jouer.
+ * <p>
+ * L'empreinte complète ({@link #calculer}) couvre tout ce dont dépend le choix d'un coup : le
+ * contenu des cases (murs, pastilles, explosifs posés avec leur délai et leur poseur), l'état de
+ * chaque combattant (position, énergie, bouclier, armes et munitions, explosifs en inventaire) et
+ * l'index du combattant qui joue. Elle ne dépend que de valeurs du jeu, jamais des identités des
+ * objets : deux grilles dans le même état ont la même empreinte, y compris d'un processus à l'autre.
+ * <p>
+ * L'empreinte locale ({@link #calculerLocale}) ne retient que les cases voisines du combattant,
+ * en coordonnées relatives, un résumé de son propre état et la direction de l'ennemi le plus proche. Elle ne dépend pas de la position
+ * absolue ni du reste de la grille : la même situation rencontrée sur deux cartes différentes a la
+ * même empreinte, ce qui en fait la clé des livres d'ouvertures (cf. {@link LivreOuvertures}).
+ */
+public final class Empreinte {
+
+    /**
+     * Rayon de la fenêtre de l'empreinte locale (fenêtre de 3 x 3 cases). Une fenêtre plus large
+     * distingue tant de situations que le livre n'en retrouve presque aucune sur une carte inédite.
+     */
+    public static final int RAYON_LOCAL = 1;
+
+    /** Distance de l'ennemi le plus proche au-delà de laquelle l'empreinte locale ne la distingue plus. */
+    private static final int LIMITE_DISTANCE = 8;
+
+    private Empreinte() {
+    }
+
+    /**
+     * Calcule l'empreinte de l'état de la grille pour le combattant qui doit jouer.
+     *
+     * @param joueur Le combattant qui doit jouer.
+     * @param grille La grille du jeu.
+     * @return L'empreinte de l'état.
+     */
+    public static long calculer(Combattant joueur, Grille grille) {
+        List<Combattant> combattants = grille.getAllCombattants();
+        long empreinte = melanger(grille.getLargeur(), grille.getLongueur());
+
+        for (int x = 0; x < grille.getLargeur(); x++) {
+            for (int y = 0; y < grille.getLongueur(); y++) {
+                Case caseCourante = grille.getCase(x, y);
+                long contenu = 0;
+                if (caseCourante.estUnMur()) {
+                    contenu |= 1;
+                }
+                if (caseCourante.contientPastilleEnergie()) {
+                    contenu |= 2;
+                }
+                Explosif explosif = caseCourante.getExplosif();
+                if (explosif != null) {
+                    contenu |= 4
+                            | (long) explosif.getType().ordinal() << 3
+                            | (long) (explosif.getDelaiExplosion() & 0xFF) << 8
+                            | (long) (combattants.indexOf(explosif.getPorteur()) + 1) << 16;
+                }
+                if (contenu != 0) {
+                    empreinte = melanger(empreinte, (long) grille.indexDe(x, y) << 40 | contenu);
+                }
+            }
+        }
+
+        for (Combattant combattant : combattants) {
+            empreinte = melanger(empreinte, (long) combattant.getPosition().getX() << 48
+                    | (long) combattant.getPosition().getY() << 32
+                    | (combattant.getEnergie() & 0xFFFFL) << 16
+                    | (combattant.estBouclierActif() ? 2 : 0)
+                    | (combattant.estTireActif() ? 1 : 0));
+            for (Arme arme : combattant.getArmes()) {
+                empreinte = melanger(empreinte, (long) arme.getType().ordinal() << 32 | arme.getMunition());
+            }
+            for (Explosif explosif : combattant.getExplosifs()) {
+                empreinte = melanger(empreinte, (long) explosif.getType().ordinal() << 32 | explosif.getDelaiExplosion());
+            }
+        }
+
+        return melanger(empreinte, combattants.indexOf(joueur));
+    }
+
+    /**
+     * Calcule l'empreinte locale de la situation du combattant qui doit jouer : contenu des cases
+     * de la fenêtre (hors grille, mur, pastille, explosif avec son délai et son poseur, combattant
+     * allié ou ennemi avec son énergie par tranches de 10 et son bouclier), état du combattant
+     * (énergie par tranches de 10, bouclier, arme chargée, types d'explosifs en inventaire) et
+     * direction et distance, par tranches de 2 jusqu'à {@value #LIMITE_DISTANCE}, de l'ennemi vivant
+     * le plus proche. Les codes de
+     * coups étant relatifs au combattant (cf. {@link Coup}), un coup retenu pour une empreinte
+     * locale peut être rejoué partout où elle se présente.
+     *
+     * @param joueur Le combattant qui doit jouer.
+     * @param grille La grille du jeu.
+     * @return L'empreinte locale de la situation.
+     */
+    public static long calculerLocale(Combattant joueur, Grille grille) {
+        Position position = joueur.getPosition();
+        long empreinte = melanger(RAYON_LOCAL, 0);
+
+        for (int dx = -RAYON_LOCAL; dx <= RAYON_LOCAL; dx++) {
+            for (int dy = -RAYON_LOCAL; dy <= RAYON_LOCAL; dy++) {
+                Case caseCourante = grille.getCase(position.getX() + dx, position.getY() + dy);
+                long contenu;
+                if (caseCourante == null) {
+                    contenu = 1;
+                } else {
+                    contenu = 0;
+                    if (caseCourante.estUnMur()) {
+                        contenu |= 2;
+                    }
+                    if (caseCourante.contientPastilleEnergie()) {
+                        contenu |= 4;
+                    }
+                    Explosif explosif = caseCourante.getExplosif();
+                    if (explosif != null) {
+                        contenu |= 8
+                                | (explosif.getPorteur() == joueur ? 16 : 0)
+                                | (long) explosif.getType().ordinal() << 8
+                                | (long) (explosif.getDelaiExplosion() & 0xFF) << 16;
+                    }
+                    Combattant occupant = caseCourante.getOccupant();
+                    if (occupant != null && occupant != joueur) {
+                        contenu |= 32
+                                | (occupant.estAllie(joueur) ? 64 : 0)
+                                | (occupant.estBouclierActif() ? 128 : 0)
+                                | (long) (occupant.getEnergie() / 10 & 0xFF) << 24;
+                    }
+                }
+                if (contenu != 0) {
+                    empreinte = melanger(empreinte, (long) (dx + RAYON_LOCAL) << 48 | (long) (dy + RAYON_LOCAL) << 40 | contenu);
+                }
+            }
+        }
+
+        long equipement = 0;
+        for (Arme arme : joueur.getArmes()) {
+            if (arme.getMunition() > 0) {
+                equipement |= 1;
+            }
+        }
+        for (Explosif explosif : joueur.getExplosifs()) {
+            equipement |= 2L << explosif.getType().ordinal();
+        }
+        empreinte = melanger(empreinte, (joueur.getEnergie() / 10 & 0xFFFFL) << 40
+                | equipement << 8
+                | (joueur.estBouclierActif() ? 2 : 0)
+                | (joueur.estTireActif() ? 1 : 0));
+
+        Combattant plusProche = null;
+        int distanceMin = Integer.MAX_VALUE;
+        for (Combattant autre : grille.getAllCombattants()) {
+            if (!autre.estEnVie() || autre.estAllie(joueur)) {
+                continue;
+            }
+            int distance = Math.abs(autre.getPosition().getX() - position.getX())
+                    + Math.abs(autre.getPosition().getY() - position.getY());
+            if (distance < distanceMin) {
+                distanceMin = distance;
+                plusProche = autre;
+            }
+        }
+        if (plusProche != null) {
+            empreinte = melanger(empreinte, (long) (Integer.signum(plusProche.getPosition().getX() - position.getX()) + 1) << 40
+                    | (long) (Integer.signum(plusProche.getPosition().getY() - position.getY()) + 1) << 32
+                    | Math.min(distanceMin, LIMITE_DISTANCE) / 2);
+        }
+        return empreinte;
+    }
+
+    /**
+     * Intègre une valeur à l'empreinte (finaliseur de SplitMix64), de sorte que chaque bit de la
+     * valeur influe sur tous les bits du résultat.
+     */
+    private static long melanger(long empreinte, long valeur) {
+        long z = empreinte * 31 + valeur + 0x9E3779B97F4A7C15L;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+}
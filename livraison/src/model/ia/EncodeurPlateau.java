@@ -0,0 +1,206 @@
+package model.ia;
+
+import java.nio.FloatBuffer;
+import java.util.Collection;
+import java.util.List;
+
+import model.Arme;
+import model.Bombe;
+import model.CarteMenaces;
+import model.Case;
+import model.ChampsDeVision;
+import model.Combattant;
+import model.Explosif;
+import model.ExplosifsVisibles;
+import model.Grille;
+import model.Mine;
+import model.proxy.ProxyGrille;
+import utils.configuration.Parametres;
+
+/**
+ * Codage d'une position sous forme de plans de nombres flottants, entrée d'un {@link ReseauNeuronal}
+ * et format des observations enregistrées pour l'entraînement.
+ * <p>
+ * Le codage compte {@link #CANAUX} plans d'une valeur par case, rangés plan par plan puis ligne par
+ * ligne ({@code canal * largeur * longueur + y * largeur + x}), suivis de {@link #SCALAIRES} valeurs
+ * décrivant le combattant observateur :
+ * <ul>
+ *   <li>plans : mur, pastille, observateur, énergie des alliés, énergie des ennemis, impact des
+ *       explosifs visibles, {@code 1 / (1 + délai)} de ces explosifs, menace de la case
+ *       (cf. {@link CarteMenaces#getMenace}) ;</li>
+ *   <li>valeurs : énergie, bouclier actif, munitions de chaque emplacement d'arme, bombes et mines
+ *       en réserve.</li>
+ * </ul>
+ * Les énergies, impacts et menaces sont rapportés à l'énergie initiale, les munitions à la limite de
+ * munitions. Les explosifs sont filtrés par la règle de {@link ProxyGrille} : seuls ceux que
+ * l'observateur voit sont codés. Avec le brouillard de guerre, les pastilles, les ennemis, les
+ * explosifs qu'il n'a pas posés et les menaces ne sont codés que sur les cases de son champ de
+ * vision ({@link ChampsDeVision}) ; les murs et les alliés le sont partout. Le codage lit directement les cases de la grille réelle et écrit à
+ * des positions absolues du tampon fourni, tableau ou {@link FloatBuffer} (direct ou projeté en
+ * mémoire), sans allouer d'objet par case.
+ */
+public final class EncodeurPlateau {
+
+    /** Nombre de plans d'une valeur par case. */
+    public static final int CANAUX = 8;
+
+    /** Nombre de valeurs décrivant l'observateur, après les plans. */
+    public static final int SCALAIRES = 4 + Coup.EMPLACEMENTS_ARMES;
+
+    private static final int MUR = 0;
+    private static final int PASTILLE = 1;
+    private static final int OBSERVATEUR = 2;
+    private static final int ALLIES = 3;
+    private static final int ENNEMIS = 4;
+    private static final int EXPLOSIFS = 5;
+    private static final int DELAIS = 6;
+    private static final int MENACE = 7;
+
+    private EncodeurPlateau() {
+    }
+
+    /**
+     * Obtient la taille du codage pour une grille.
+     *
+     * @param grille La grille du jeu.
+     * @return Le nombre de valeurs du codage.
+     */
+    public static int taille(Grille grille) {
+        return taille(grille.getLargeur(), grille.getLongueur());
+    }
+
+    /**
+     * Obtient la taille du codage pour des dimensions de grille.
+     *
+     * @param largeur  La largeur de la grille.
+     * @param longueur La longueur de la grille.
+     * @return Le nombre de valeurs du codage.
+     */
+    public static int taille(int largeur, int longueur) {
+        return CANAUX * largeur * longueur + SCALAIRES;
+    }
+
+    /**
+     * Code la vue filtrée d'un combattant, sans allié.
+     *
+     * @param vue    La vue filtrée du combattant.
+     * @param entree Le tableau à remplir, d'au moins {@link #taille(Grille)} cases.
+     * @throws IllegalArgumentException Si la vue est nulle ou si le tableau est trop petit.
+     */
+    public static void encoder(ProxyGrille vue, float[] entree) {
+        if (vue == null) {
+            throw new IllegalArgumentException("La vue ne peut pas être nulle.");
+        }
+        if (entree == null) {
+            throw new IllegalArgumentException("L'entrée ne peut pas être nulle.");
+        }
+        encoder(vue.getJoueur(), null, vue.getGrilleReelle(), vue.getRayonVision(), FloatBuffer.wrap(entree), 0);
+    }
+
+    /**
+     * Code la position telle que la voit un combattant, sans allié.
+     *
+     * @param observateur Le combattant qui joue.
+     * @param grille      La grille réelle du jeu.
+     * @param entree      Le tableau à remplir, d'au moins {@link #taille(Grille)} cases.
+     * @throws IllegalArgumentException Si l'un des paramètres est nul ou si le tableau est trop petit.
+     */
+    public static void encoder(Combattant observateur, Grille grille, float[] entree) {
+        if (entree == null) {
+            throw new IllegalArgumentException("L'entrée ne peut pas être nulle.");
+        }
+        encoder(observateur, null, grille, FloatBuffer.wrap(entree), 0);
+    }
+
+    /**
+     * Code la vue filtrée d'un combattant à partir d'une position d'un tampon.
+     *
+     * @param vue    La vue filtrée du combattant.
+     * @param equipe Les combattants du même joueur, ou null si l'observateur est seul.
+     * @param sortie Le tampon à remplir.
+     * @param debut  L'index de la première valeur écrite.
+     * @throws IllegalArgumentException Si la vue est nulle ou si le tampon est trop petit.
+     */
+    public static void encoder(ProxyGrille vue, Collection<Combattant> equipe, FloatBuffer sortie, int debut) {
+        if (vue == null) {
+            throw new IllegalArgumentException("La vue ne peut pas être nulle.");
+        }
+        encoder(vue.getJoueur(), equipe, vue.getGrilleReelle(), vue.getRayonVision(), sortie, debut);
+    }
+
+    /**
+     * Code la position telle que la voit un combattant à partir d'une position d'un tampon. Seules
+     * les valeurs du codage sont écrites : la position et la limite du tampon ne changent pas.
+     *
+     * @param observateur Le combattant qui joue.
+     * @param equipe      Les combattants du même joueur, ou null si l'observateur est seul.
+     * @param grille      La grille réelle du jeu.
+     * @param sortie      Le tampon à remplir.
+     * @param debut       L'index de la première valeur écrite.
+     * @throws IllegalArgumentException Si l'un des paramètres est nul ou si le tampon est trop petit.
+     */
+    public static void encoder(Combattant observateur, Collection<Combattant> equipe, Grille grille, FloatBuffer sortie, int debut) {
+        encoder(observateur, equipe, grille, Parametres.brouillard ? Parametres.rayonVision : ProxyGrille.SANS_BROUILLARD, sortie, debut);
+    }
+
+    /**
+     * Code la position telle que la voit un combattant avec un rayon de vision donné.
+     */
+    private static void encoder(Combattant observateur, Collection<Combattant> equipe, Grille grille, int rayonVision,
+            FloatBuffer sortie, int debut) {
+        if (observateur == null || grille == null || sortie == null) {
+            throw new IllegalArgumentException("L'observateur, la grille et la sortie ne peuvent pas être nuls.");
+        }
+        if (debut < 0 || sortie.limit() - debut < taille(grille)) {
+            throw new IllegalArgumentException("La sortie doit compter au moins " + taille(grille) + " valeurs à partir de " + debut + ".");
+        }
+        int largeur = grille.getLargeur();
+        int cases = largeur * grille.getLongueur();
+        float echelleEnergie = 1f / Math.max(1, Parametres.energieInitiale);
+        CarteMenaces carteMenaces = grille.getCarteMenaces();
+        long[] explosifsVisibles = grille.getExplosifsVisibles().pour(observateur);
+        long[] champ = rayonVision == ProxyGrille.SANS_BROUILLARD ? null : grille.getChampsDeVision().pour(observateur, rayonVision);
+
+        for (int y = 0; y < grille.getLongueur(); y++) {
+            for (int x = 0; x < largeur; x++) {
+                int i = debut + y * largeur + x;
+                Case c = grille.getCase(x, y);
+                int index = grille.indexDe(x, y);
+                boolean enVue = champ == null || (champ[index >>> 6] & (1L << index)) != 0;
+                Combattant occupant = c.getOccupant();
+                Explosif explosif = ExplosifsVisibles.contient(explosifsVisibles, index) ? c.getExplosif() : null;
+                boolean visible = explosif != null && (enVue || explosif.getPorteur() == observateur);
+                boolean autre = occupant != null && occupant != observateur && occupant.estEnVie();
+                boolean allie = autre && equipe != null && equipe.contains(occupant);
+                sortie.put(MUR * cases + i, c.estUnMur() ? 1f : 0f);
+                sortie.put(PASTILLE * cases + i, enVue && c.contientPastilleEnergie() ? 1f : 0f);
+                sortie.put(OBSERVATEUR * cases + i, occupant == observateur ? 1f : 0f);
+                sortie.put(ALLIES * cases + i, allie ? occupant.getEnergie() * echelleEnergie : 0f);
+                sortie.put(ENNEMIS * cases + i, enVue && autre && !allie ? occupant.getEnergie() * echelleEnergie : 0f);
+                sortie.put(EXPLOSIFS * cases + i, visible ? explosif.getImpactEnergie() * echelleEnergie : 0f);
+                sortie.put(DELAIS * cases + i, visible ? 1f / (1 + Math.max(0, explosif.getDelaiExplosion())) : 0f);
+                sortie.put(MENACE * cases + i, enVue ? carteMenaces.getMenace(x, y, observateur) * echelleEnergie : 0f);
+            }
+        }
+
+        int k = debut + CANAUX * cases;
+        sortie.put(k++, observateur.getEnergie() * echelleEnergie);
+        sortie.put(k++, observateur.estBouclierActif() ? 1f : 0f);
+        List<Arme> armes = observateur.getArmes();
+        float echelleMunitions = 1f / Math.max(1, Parametres.munitionLimite);
+        for (int emplacement = 0; emplacement < Coup.EMPLACEMENTS_ARMES; emplacement++) {
+            sortie.put(k++, emplacement < armes.size() ? armes.get(emplacement).getMunition() * echelleMunitions : 0f);
+        }
+        int bombes = 0;
+        int mines = 0;
+        for (Explosif explosif : observateur.getExplosifs()) {
+            if (explosif instanceof Bombe) {
+                bombes++;
+            } else if (explosif instanceof Mine) {
+                mines++;
+            }
+        }
+        sortie.put(k++, bombes);
+        sortie.put(k, mines);
+    }
+}
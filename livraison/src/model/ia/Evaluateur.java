@@ -0,0 +1,22 @@
+package model.ia;
+
+import model.Combattant;
+import model.Grille;
+
+/**
+ * Interface définissant une fonction d'évaluation statique d'une position.
+ * <p>
+ * Les stratégies de recherche comparent les positions atteignables à l'aide d'un évaluateur,
+ * ce qui permet d'en changer sans modifier le code de recherche.
+ */
+public interface Evaluateur {
+
+    /**
+     * Évalue la position d'un combattant sur la grille.
+     *
+     * @param combattant Le combattant du point de vue duquel la position est évaluée.
+     * @param grille     La grille du jeu.
+     * @return Le score de la position, d'autant plus élevé que la position est favorable.
+     */
+    double evaluer(Combattant combattant, Grille grille);
+}
@@ -0,0 +1,97 @@
+package model.ia;
+
+import java.util.List;
+
+import model.Case;
+import model.Combattant;
+import model.Grille;
+import model.Position;
+import model.combattantFactory.CombattantFactory;
+import utils.configuration.ConfigLoader;
+import utils.strategyMessage.MessageHandler;
+import utils.strategyMessage.SilencieuxMessageHandler;
+
+/**
+ * Micro-benchmark mesurant le nombre d'évaluations par seconde d'un {@link Evaluateur}.
+ * <p>
+ * Deux mesures sont affichées : caches chauds (grille inchangée entre deux évaluations) et
+ * après un déplacement (caches de distances et de menaces invalidés à chaque évaluation).
+ * <p>
+ * Utilisation : {@code java model.ia.EvaluateurBenchmark [nomClasseEvaluateur] [dureeMs]}.
+ */
+public class EvaluateurBenchmark {
+
+    public static void main(String[] args) throws Exception {
+        ConfigLoader.load();
+
+        Evaluateur evaluateur = args.length > 0 && !args[0].isEmpty()
+                ? (Evaluateur) Class.forName(args[0]).getDeclaredConstructor().newInstance()
+                : EvaluateurLineaire.depuisConfiguration();
+        long dureeMs = args.length > 1 ? Long.parseLong(args[1]) : 2000;
+
+        MessageHandler messageHandler = new SilencieuxMessageHandler();
+        Grille grille = new Grille(messageHandler);
+        grille.placerMurs();
+        grille.placerPastillesEnergie();
+        List<Combattant> combattants = CombattantFactory.creerListeCombattants(4, grille, messageHandler);
+        grille.placerCombattants(combattants);
+
+        // Préchauffage du compilateur JIT
+        mesurer(evaluateur, grille, combattants, dureeMs / 4, false);
+
+        double chaud = mesurer(evaluateur, grille, combattants, dureeMs, false);
+        double apresDeplacement = mesurer(evaluateur, grille, combattants, dureeMs, true);
+
+        System.out.println("Évaluateur : " + evaluateur.getClass().getSimpleName());
+        System.out.printf("Caches chauds       : %,.0f évaluations/s%n", chaud);
+        System.out.printf("Après déplacement   : %,.0f évaluations/s%n", apresDeplacement);
+    }
+
+    /**
+     * Évalue les combattants en boucle pendant une durée donnée.
+     *
+     * @param deplacer true pour déplacer un combattant avant chaque évaluation, ce qui invalide les caches.
+     * @return Le nombre d'évaluations par seconde.
+     */
+    private static double mesurer(Evaluateur evaluateur, Grille grille, List<Combattant> combattants,
+                                  long dureeMs, boolean deplacer) {
+        long fin = System.nanoTime() + dureeMs * 1_000_000L;
+        long evaluations = 0;
+        double puits = 0;
+        long debut = System.nanoTime();
+
+        while (System.nanoTime() < fin) {
+            for (int i = 0; i < 1000; i++) {
+                Combattant combattant = combattants.get(i % combattants.size());
+                if (deplacer) {
+                    basculer(grille, combattant);
+                }
+                puits += evaluateur.evaluer(combattant, grille);
+                evaluations++;
+            }
+        }
+
+        double secondes = (System.nanoTime() - debut) / 1e9;
+        if (Double.isNaN(puits)) {
+            System.out.println(puits);
+        }
+        return evaluations / secondes;
+    }
+
+    /**
+     * Déplace le combattant vers une case voisine libre (sans règles ni coût), ou le laisse en place.
+     */
+    private static void basculer(Grille grille, Combattant combattant) {
+        Position position = combattant.getPosition();
+        int[][] deltas = {{1, 0}, {-1, 0}, {0, 1}, {0, -1}};
+        for (int[] delta : deltas) {
+            Case voisine = grille.getCase(position.getX() + delta[0], position.getY() + delta[1]);
+            if (voisine != null && !voisine.estOccupee(true)) {
+                grille.getCase(position).setOccupant(null);
+                voisine.setOccupant(combattant);
+                combattant.setPosition(voisine.getPosition());
+                return;
+            }
+        }
+    }
+}
@@ -0,0 +1,76 @@
+package model.ia;
+
+import java.util.Map;
+
+import org.xml.sax.SAXException;
+
+import model.Combattant;
+import model.Grille;
+import utils.configuration.ValeursLoader;
+
+/**
+ * Évaluateur calculant une somme pondérée des {@link Caracteristique}s d'une position.
+ * <p>
+ * Les poids sont lus depuis le fichier {@code config/evaluation.xml}, placé à côté de {@code config.xml}.
+ * Un combattant éliminé reçoit toujours le score le plus bas.
+ */
+public class EvaluateurLineaire implements Evaluateur {
+
+    /** Chemin du fichier de poids dans le classpath. */
+    public static final String FICHIER_POIDS = "config/evaluation.xml";
+
+    private static final Caracteristique[] CARACTERISTIQUES = Caracteristique.values();
+
+    /** Poids de chaque caractéristique, indexés par son ordinal. */
+    private final double[] poids;
+
+    /**
+     * Constructeur de la classe EvaluateurLineaire.
+     *
+     * @param poids Les poids indexés par clé de caractéristique ; une clé absente vaut 0.
+     */
+    public EvaluateurLineaire(Map<String, Double> poids) {
+        if (poids == null) {
+            throw new IllegalArgumentException("Les poids ne peuvent pas être nuls.");
+        }
+        this.poids = new double[CARACTERISTIQUES.length];
+        for (Caracteristique caracteristique : CARACTERISTIQUES) {
+            this.poids[caracteristique.ordinal()] = poids.getOrDefault(caracteristique.getCle(), 0.0);
+        }
+    }
+
+    /**
+     * Crée un évaluateur à partir du fichier de poids par défaut.
+     *
+     * @return L'évaluateur configuré.
+     * @throws SAXException En cas de problème de lecture du fichier de poids.
+     */
+    public static EvaluateurLineaire depuisConfiguration() throws SAXException {
+        return new EvaluateurLineaire(ValeursLoader.load(FICHIER_POIDS));
+    }
+
+    /**
+     * Obtient le poids d'une caractéristique.
+     *
+     * @param caracteristique La caractéristique.
+     * @return Son poids.
+     */
+    public double getPoids(Caracteristique caracteristique) {
+        return poids[caracteristique.ordinal()];
+    }
+
+    @Override
+    public double evaluer(Combattant combattant, Grille grille) {
+        if (!combattant.estEnVie()) {
+            return -Double.MAX_VALUE;
+        }
+        double score = 0;
+        for (Caracteristique caracteristique : CARACTERISTIQUES) {
+            double p = poids[caracteristique.ordinal()];
+            if (p != 0) {
+                score += p * caracteristique.calculer(combattant, grille);
+            }
+        }
+        return score;
+    }
+}
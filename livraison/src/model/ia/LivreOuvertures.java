@@ -0,0 +1,228 @@
+package model.ia;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.Map;
+
+import model.Combattant;
+import model.Grille;
+import utils.configuration.Parametres;
+
+/**
+ * Livre d'ouvertures : meilleurs coups précalculés pour les premiers tours d'une partie, indexés
+ * par l'empreinte locale de la situation du combattant ({@link Empreinte#calculerLocale}).
+ * <p>
+ * La clé ne dépend ni de la position absolue du combattant ni du reste de la carte : un livre
+ * produit sur un lot de parties sert aussi pour des grilles tirées au hasard, dès qu'un combattant
+ * retrouve une situation locale déjà rencontrée pendant la génération.
+ * <p>
+ * Le livre est produit hors ligne par {@code model.simulation.GenerateurLivre} pour un niveau de
+ * difficulté, puis lu par projection en mémoire ({@link FileChannel#map}) : un coup d'ouverture
+ * coûte une recherche dichotomique au lieu d'une recherche par simulation, et plusieurs processus
+ * lisant le même fichier partagent les mêmes pages du cache système.
+ * <p>
+ * Format du fichier (entiers gros-boutistes) :
+ * <ul>
+ *   <li>en-tête de {@value #TAILLE_ENTETE} octets : nombre magique, version, ordinal de la difficulté,
+ *       nombre de tours couverts, nombre d'entrées, un entier réservé ;</li>
+ *   <li>les empreintes, triées, sur 8 octets chacune ;</li>
+ *   <li>les coups correspondants (cf. {@link Coup}), sur 1 octet chacun, dans le même ordre.</li>
+ * </ul>
+ * Un livre ouvert n'est jamais modifié et peut être consulté par plusieurs threads.
+ */
+public final class LivreOuvertures {
+
+    /** Valeur renvoyée lorsque l'état n'est pas dans le livre. */
+    public static final int ABSENT = -1;
+
+    /** Nombre magique en tête de fichier ("LIVO"). */
+    private static final int MAGIQUE = 0x4C49564F;
+    private static final int VERSION = 2;
+    private static final int TAILLE_ENTETE = 24;
+
+    /** Livres déjà ouverts depuis le répertoire de la configuration, par difficulté. */
+    private static final Map<Difficulte, LivreOuvertures> LIVRES = new EnumMap<>(Difficulte.class);
+
+    private final ByteBuffer contenu;
+    private final Difficulte difficulte;
+    private final int tours;
+    private final int nombre;
+
+    private LivreOuvertures(ByteBuffer contenu, Difficulte difficulte, int tours, int nombre) {
+        this.contenu = contenu;
+        this.difficulte = difficulte;
+        this.tours = tours;
+        this.nombre = nombre;
+    }
+
+    /**
+     * Ouvre un livre en projetant le fichier en mémoire.
+     *
+     * @param fichier Le chemin du fichier.
+     * @return Le livre.
+     * @throws IOException Si le fichier est illisible ou n'est pas un livre d'ouvertures.
+     */
+    public static LivreOuvertures ouvrir(Path fichier) throws IOException {
+        MappedByteBuffer contenu;
+        try (FileChannel canal = FileChannel.open(fichier, StandardOpenOption.READ)) {
+            contenu = canal.map(FileChannel.MapMode.READ_ONLY, 0, canal.size());
+        }
+
+        if (contenu.capacity() < TAILLE_ENTETE || contenu.getInt(0) != MAGIQUE || contenu.getInt(4) != VERSION) {
+            throw new IOException("Livre d'ouvertures invalide : " + fichier);
+        }
+        int ordinal = contenu.getInt(8);
+        int tours = contenu.getInt(12);
+        int nombre = contenu.getInt(16);
+        if (ordinal < 0 || ordinal >= Difficulte.values().length || nombre < 0
+                || contenu.capacity() != TAILLE_ENTETE + (long) nombre * (Long.BYTES + 1)) {
+            throw new IOException("Livre d'ouvertures tronqué ou corrompu : " + fichier);
+        }
+        return new LivreOuvertures(contenu, Difficulte.values()[ordinal], tours, nombre);
+    }
+
+    /**
+     * Obtient le livre d'un niveau de difficulté dans le répertoire de la configuration
+     * ({@code repertoireLivres}). Le fichier n'est ouvert qu'une fois par processus.
+     *
+     * @param difficulte Le niveau de difficulté.
+     * @return Le livre, ou null s'il n'existe pas ou est illisible.
+     */
+    public static synchronized LivreOuvertures pour(Difficulte difficulte) {
+        if (!LIVRES.containsKey(difficulte)) {
+            LivreOuvertures livre = null;
+            Path fichier = fichier(difficulte);
+            if (Files.isReadable(fichier)) {
+                try {
+                    livre = ouvrir(fichier);
+                } catch (IOException e) {
+                    System.err.println(e.getMessage());
+                }
+            }
+            LIVRES.put(difficulte, livre != null && livre.difficulte == difficulte ? livre : null);
+        }
+        return LIVRES.get(difficulte);
+    }
+
+    /**
+     * Obtient le chemin du livre d'un niveau de difficulté dans le répertoire de la configuration.
+     *
+     * @param difficulte Le niveau de difficulté.
+     * @return Le chemin du fichier.
+     */
+    public static Path fichier(Difficulte difficulte) {
+        return Paths.get(Parametres.repertoireLivresIA, "ouvertures-" + difficulte.name().toLowerCase() + ".bin");
+    }
+
+    /**
+     * Écrit un livre d'ouvertures.
+     *
+     * @param fichier    Le chemin du fichier, dont le répertoire est créé au besoin.
+     * @param difficulte Le niveau de difficulté des coups.
+     * @param tours      Le nombre de tours de joueur couverts depuis le début de la partie.
+     * @param coups      Les coups, indexés par empreinte locale.
+     * @throws IOException En cas de problème d'écriture.
+     */
+    public static void ecrire(Path fichier, Difficulte difficulte, int tours, Map<Long, Integer> coups) throws IOException {
+        long[] empreintes = new long[coups.size()];
+        int i = 0;
+        for (long empreinte : coups.keySet()) {
+            empreintes[i++] = empreinte;
+        }
+        Arrays.sort(empreintes);
+
+        ByteBuffer tampon = ByteBuffer.allocate(TAILLE_ENTETE + empreintes.length * (Long.BYTES + 1));
+        tampon.putInt(MAGIQUE).putInt(VERSION).putInt(difficulte.ordinal()).putInt(tours).putInt(empreintes.length).putInt(0);
+        for (long empreinte : empreintes) {
+            tampon.putLong(empreinte);
+        }
+        for (long empreinte : empreintes) {
+            tampon.put((byte) (int) coups.get(empreinte));
+        }
+        tampon.flip();
+
+        Path repertoire = fichier.toAbsolutePath().getParent();
+        if (repertoire != null) {
+            Files.createDirectories(repertoire);
+        }
+        try (FileChannel canal = FileChannel.open(fichier, StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            while (tampon.hasRemaining()) {
+                canal.write(tampon);
+            }
+        }
+    }
+
+    /**
+     * Cherche le coup d'un état par dichotomie sur les empreintes.
+     *
+     * @param empreinte L'empreinte de l'état.
+     * @return Le code du coup, ou {@link #ABSENT}.
+     */
+    public int chercher(long empreinte) {
+        int bas = 0;
+        int haut = nombre - 1;
+        while (bas <= haut) {
+            int milieu = (bas + haut) >>> 1;
+            long valeur = contenu.getLong(TAILLE_ENTETE + milieu * Long.BYTES);
+            if (valeur < empreinte) {
+                bas = milieu + 1;
+            } else if (valeur > empreinte) {
+                haut = milieu - 1;
+            } else {
+                return contenu.get(TAILLE_ENTETE + nombre * Long.BYTES + milieu);
+            }
+        }
+        return ABSENT;
+    }
+
+    /**
+     * Cherche le coup du combattant dans sa situation courante. L'empreinte locale n'est calculée
+     * que si la partie n'a pas dépassé les tours couverts par le livre.
+     *
+     * @param combattant Le combattant qui doit jouer.
+     * @param grille     La grille du jeu.
+     * @return Le code du coup, ou {@link #ABSENT}.
+     */
+    public int chercher(Combattant combattant, Grille grille) {
+        if (grille.getTourCourant() >= tours) {
+            return ABSENT;
+        }
+        return chercher(Empreinte.calculerLocale(combattant, grille));
+    }
+
+    /**
+     * Obtient le niveau de difficulté des coups du livre.
+     *
+     * @return La difficulté.
+     */
+    public Difficulte getDifficulte() {
+        return difficulte;
+    }
+
+    /**
+     * Obtient le nombre de tours de joueur couverts depuis le début de la partie.
+     *
+     * @return Le nombre de tours.
+     */
+    public int getTours() {
+        return tours;
+    }
+
+    /**
+     * Obtient le nombre d'états du livre.
+     *
+     * @return Le nombre d'entrées.
+     */
+    public int getNombre() {
+        return nombre;
+    }
+}
@@ -0,0 +1,335 @@
+package model.ia;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+
+import org.xml.sax.SAXException;
+
+import utils.configuration.ValeursLoader;
+
+/**
+ * Profil des paramètres des règles heuristiques de l'IA.
+ * <p>
+ * Le profil regroupe les seuils utilisés par {@code AIJoueur} (rayon de détection des ennemis,
+ * seuils d'énergie, rayon de recherche des cibles d'explosifs) et la priorité de chaque règle :
+ * les règles sont essayées par priorité croissante. Un profil se lit et s'écrit au format de
+ * {@link ValeursLoader} ; le profil par défaut est {@code config/ia.xml}.
+ * <p>
+ * Pour les réglages automatiques, un profil se convertit en vecteur de valeurs normalisées
+ * entre 0 et 1, chaque paramètre ayant ses bornes propres.
+ */
+public final class ParametresIA {
+
+    /** Chemin du profil par défaut dans le classpath. */
+    public static final String FICHIER_PROFIL = "config/ia.xml";
+
+    /**
+     * Règles heuristiques de l'IA.
+     */
+    public enum Regle {
+        /** Tirer sur un ennemi proche atteignable. */
+        TIR,
+        /** Quitter une case sur le point d'être soufflée, ou activer le bouclier. */
+        FUITE,
+        /** Activer le bouclier lorsque l'énergie est basse. */
+        BOUCLIER,
+        /** Déposer un explosif près d'un ennemi. */
+        EXPLOSIF,
+        /** Se rapprocher d'une pastille ou d'un ennemi. */
+        DEPLACEMENT
+    }
+
+    /**
+     * Paramètres du profil, avec leur clé XML, leurs bornes et leur valeur par défaut.
+     */
+    public enum Parametre {
+        RAYON_ENNEMIS("rayonEnnemis", 1, 12, 5),
+        SEUIL_BOUCLIER("seuilBouclier", 0, 60, 20),
+        SEUIL_PASTILLE("seuilPastille", 0, 60, 20),
+        RAYON_EXPLOSIF("rayonExplosif", 1, 8, 3),
+        PRIORITE_TIR("prioriteTir", 0, 1, 0.1),
+        PRIORITE_FUITE("prioriteFuite", 0, 1, 0.3),
+        PRIORITE_BOUCLIER("prioriteBouclier", 0, 1, 0.5),
+        PRIORITE_EXPLOSIF("prioriteExplosif", 0, 1, 0.7),
+        PRIORITE_DEPLACEMENT("prioriteDeplacement", 0, 1, 0.9);
+
+        private final String cle;
+        private final double min;
+        private final double max;
+        private final double defaut;
+
+        Parametre(String cle, double min, double max, double defaut) {
+            this.cle = cle;
+            this.min = min;
+            this.max = max;
+            this.defaut = defaut;
+        }
+
+        public String getCle() {
+            return cle;
+        }
+
+        public double getMin() {
+            return min;
+        }
+
+        public double getMax() {
+            return max;
+        }
+
+        public double getDefaut() {
+            return defaut;
+        }
+    }
+
+    private static final Parametre[] PARAMETRES = Parametre.values();
+
+    /** Profil lu dans le classpath, chargé une seule fois (un profil est immuable). */
+    private static volatile ParametresIA profilConfiguration;
+
+    /** Valeurs des paramètres, indexées par ordinal. */
+    private final double[] valeurs;
+
+    /** Règles triées par priorité croissante. */
+    private final Regle[] ordreRegles;
+
+    private ParametresIA(double[] valeurs) {
+        this.valeurs = valeurs;
+        for (Parametre parametre : PARAMETRES) {
+            int i = parametre.ordinal();
+            this.valeurs[i] = Math.max(parametre.getMin(), Math.min(parametre.getMax(), this.valeurs[i]));
+        }
+        Regle[] regles = Regle.values();
+        this.ordreRegles = Arrays.copyOf(regles, regles.length);
+        Arrays.sort(this.ordreRegles, Comparator.comparingDouble(this::getPriorite));
+    }
+
+    /**
+     * Crée le profil des valeurs par défaut, qui reproduit le comportement historique de l'IA.
+     *
+     * @return Le profil par défaut.
+     */
+    public static ParametresIA defaut() {
+        double[] valeurs = new double[PARAMETRES.length];
+        for (Parametre parametre : PARAMETRES) {
+            valeurs[parametre.ordinal()] = parametre.getDefaut();
+        }
+        return new ParametresIA(valeurs);
+    }
+
+    /**
+     * Crée un profil à partir de valeurs indexées par clé ; une clé absente prend sa valeur par défaut.
+     *
+     * @param valeursParCle Les valeurs lues (cf. {@link ValeursLoader}).
+     * @return Le profil.
+     * @throws IllegalArgumentException Si les valeurs sont nulles.
+     */
+    public static ParametresIA depuisValeurs(Map<String, Double> valeursParCle) {
+        if (valeursParCle == null) {
+            throw new IllegalArgumentException("Les valeurs du profil ne peuvent pas être nulles.");
+        }
+        double[] valeurs = new double[PARAMETRES.length];
+        for (Parametre parametre : PARAMETRES) {
+            valeurs[parametre.ordinal()] = valeursParCle.getOrDefault(parametre.getCle(), parametre.getDefaut());
+        }
+        return new ParametresIA(valeurs);
+    }
+
+    /**
+     * Charge le profil par défaut depuis le classpath, ou les valeurs par défaut s'il est absent.
+     * Le fichier n'est lu qu'au premier appel.
+     *
+     * @return Le profil.
+     */
+    public static ParametresIA depuisConfiguration() {
+        ParametresIA profil = profilConfiguration;
+        if (profil == null) {
+            try {
+                profil = depuisValeurs(ValeursLoader.load(FICHIER_PROFIL));
+            } catch (SAXException e) {
+                profil = defaut();
+            }
+            profilConfiguration = profil;
+        }
+        return profil;
+    }
+
+    /**
+     * Charge un profil depuis un fichier.
+     *
+     * @param fichier Le chemin du fichier XML.
+     * @return Le profil.
+     * @throws IOException En cas de problème de lecture ou de parsing.
+     */
+    public static ParametresIA charger(Path fichier) throws IOException {
+        try (InputStream inputStream = Files.newInputStream(fichier)) {
+            return depuisValeurs(ValeursLoader.load(inputStream));
+        } catch (SAXException e) {
+            throw new IOException("Profil IA illisible : " + fichier, e);
+        }
+    }
+
+    /**
+     * Crée un profil à partir d'un vecteur de valeurs normalisées entre 0 et 1.
+     *
+     * @param vecteur Une valeur normalisée par paramètre, dans l'ordre de {@link Parametre}.
+     * @return Le profil.
+     * @throws IllegalArgumentException Si la taille du vecteur est incorrecte.
+     */
+    public static ParametresIA depuisVecteur(double[] vecteur) {
+        if (vecteur == null || vecteur.length != PARAMETRES.length) {
+            throw new IllegalArgumentException("Le vecteur doit contenir " + PARAMETRES.length + " valeurs.");
+        }
+        double[] valeurs = new double[PARAMETRES.length];
+        for (Parametre parametre : PARAMETRES) {
+            double t = Math.max(0, Math.min(1, vecteur[parametre.ordinal()]));
+            valeurs[parametre.ordinal()] = parametre.getMin() + t * (parametre.getMax() - parametre.getMin());
+        }
+        return new ParametresIA(valeurs);
+    }
+
+    /**
+     * Convertit le profil en vecteur de valeurs normalisées entre 0 et 1.
+     *
+     * @return Le vecteur, dans l'ordre de {@link Parametre}.
+     */
+    public double[] versVecteur() {
+        double[] vecteur = new double[PARAMETRES.length];
+        for (Parametre parametre : PARAMETRES) {
+            vecteur[parametre.ordinal()] = (valeurs[parametre.ordinal()] - parametre.getMin())
+                    / (parametre.getMax() - parametre.getMin());
+        }
+        return vecteur;
+    }
+
+    /**
+     * Obtient la valeur d'un paramètre.
+     *
+     * @param parametre Le paramètre.
+     * @return Sa valeur.
+     */
+    public double get(Parametre parametre) {
+        return valeurs[parametre.ordinal()];
+    }
+
+    /**
+     * Obtient le rayon de détection des ennemis à portée de tir.
+     *
+     * @return Le rayon, en cases.
+     */
+    public int getRayonEnnemis() {
+        return (int) Math.round(get(Parametre.RAYON_ENNEMIS));
+    }
+
+    /**
+     * Obtient le seuil d'énergie en dessous duquel le bouclier est activé.
+     *
+     * @return Le seuil d'énergie.
+     */
+    public int getSeuilBouclier() {
+        return (int) Math.round(get(Parametre.SEUIL_BOUCLIER));
+    }
+
+    /**
+     * Obtient le seuil d'énergie en dessous duquel le combattant se dirige vers les pastilles.
+     *
+     * @return Le seuil d'énergie.
+     */
+    public int getSeuilPastille() {
+        return (int) Math.round(get(Parametre.SEUIL_PASTILLE));
+    }
+
+    /**
+     * Obtient le rayon autour d'une case voisine dans lequel un ennemi en fait une cible d'explosif.
+     *
+     * @return Le rayon, en cases.
+     */
+    public int getRayonExplosif() {
+        return (int) Math.round(get(Parametre.RAYON_EXPLOSIF));
+    }
+
+    /**
+     * Obtient la priorité d'une règle ; les règles de plus petite priorité sont essayées en premier.
+     *
+     * @param regle La règle.
+     * @return Sa priorité.
+     */
+    public double getPriorite(Regle regle) {
+        switch (regle) {
+            case TIR:
+                return get(Parametre.PRIORITE_TIR);
+            case FUITE:
+                return get(Parametre.PRIORITE_FUITE);
+            case BOUCLIER:
+                return get(Parametre.PRIORITE_BOUCLIER);
+            case EXPLOSIF:
+                return get(Parametre.PRIORITE_EXPLOSIF);
+            default:
+                return get(Parametre.PRIORITE_DEPLACEMENT);
+        }
+    }
+
+    /**
+     * Obtient les règles dans leur ordre d'essai.
+     *
+     * @return Les règles triées par priorité croissante.
+     */
+    public Regle[] getOrdreRegles() {
+        return ordreRegles.clone();
+    }
+
+    /**
+     * Convertit le profil en valeurs indexées par clé.
+     *
+     * @return Les valeurs du profil.
+     */
+    public Map<String, Double> versValeurs() {
+        Map<String, Double> valeursParCle = new LinkedHashMap<>();
+        for (Parametre parametre : PARAMETRES) {
+            valeursParCle.put(parametre.getCle(), valeurs[parametre.ordinal()]);
+        }
+        return valeursParCle;
+    }
+
+    /**
+     * Écrit le profil au format lu par {@link ValeursLoader}.
+     *
+     * @param writer Le flux de sortie.
+     * @throws IOException En cas de problème d'écriture.
+     */
+    public void ecrire(Writer writer) throws IOException {
+        writer.write("<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n");
+        writer.write("<profilIA>\n");
+        writer.write("    <!-- Ordre des règles : " + Arrays.toString(ordreRegles) + " -->\n");
+        for (Parametre parametre : PARAMETRES) {
+            writer.write(String.format(Locale.ROOT, "    <%s>%.4f</%s>%n", parametre.getCle(), valeurs[parametre.ordinal()], parametre.getCle()));
+        }
+        writer.write("</profilIA>\n");
+    }
+
+    /**
+     * Enregistre le profil dans un fichier.
+     *
+     * @param fichier Le chemin du fichier XML.
+     * @throws IOException En cas de problème d'écriture.
+     */
+    public void enregistrer(Path fichier) throws IOException {
+        try (Writer writer = Files.newBufferedWriter(fichier, StandardCharsets.UTF_8)) {
+            ecrire(writer);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return versValeurs() + " ordre=" + Arrays.toString(ordreRegles);
+    }
+}
@@ -0,0 +1,210 @@
+package model.ia;
+
+import java.util.List;
+import java.util.Random;
+
+import model.Combattant;
+import model.Grille;
+import utils.strategyMessage.MessageHandler;
+import utils.strategyMessage.SilencieuxMessageHandler;
+
+/**
+ * Recherche du meilleur coup d'un combattant par simulation, dans la limite d'un budget de calcul.
+ * <p>
+ * Chaque coup légal est d'abord joué sur une copie de la grille et la position obtenue est
+ * évaluée. Si le niveau de difficulté prévoit des parties simulées, chaque coup est ensuite
+ * prolongé par des tours où les autres combattants jouent des coups légaux tirés au hasard, et
+ * le score retenu est la moyenne des évaluations obtenues. Les coups sont visités à tour de rôle
+ * afin qu'un budget épuisé en cours de route laisse des estimations comparables, et tous les coups
+ * d'une même passe sont simulés avec la même suite de tirages, de sorte que les écarts de score
+ * tiennent au coup joué plutôt qu'au hasard des parties simulées. Comme pour la
+ * {@link DecisionGroupee}, un tir dont la première cible est un allié n'est jamais envisagé.
+ */
+public class RechercheCoups {
+
+    /** Score attribué à une position où le combattant est éliminé. */
+    public static final double SCORE_ELIMINATION = -200;
+
+    /** Score attribué à une position où le combattant est le dernier en vie. */
+    public static final double SCORE_VICTOIRE = 200;
+
+    private final Difficulte difficulte;
+    private final Evaluateur evaluateur;
+    private final Random random;
+    private final MessageHandler messageSimulation = new SilencieuxMessageHandler();
+
+    /** Générateur des parties simulées, réinitialisé à la même graine pour tous les coups d'une passe. */
+    private final Random aleaSimulation = new Random();
+    private final int[] coups = new int[Coup.NOMBRE];
+
+    /** Nombre de nœuds simulés lors de la dernière décision. */
+    private int noeudsExplores;
+
+    /**
+     * Constructeur de la classe RechercheCoups.
+     *
+     * @param difficulte Le niveau de difficulté fixant le budget de calcul.
+     * @param evaluateur La fonction d'évaluation des positions.
+     * @param random     Le générateur aléatoire des parties simulées.
+     */
+    public RechercheCoups(Difficulte difficulte, Evaluateur evaluateur, Random random) {
+        if (difficulte == null || evaluateur == null || random == null) {
+            throw new IllegalArgumentException("La difficulté, l'évaluateur et le générateur aléatoire ne peuvent pas être nuls.");
+        }
+        this.difficulte = difficulte;
+        this.evaluateur = evaluateur;
+        this.random = random;
+    }
+
+    /**
+     * Choisit le coup du combattant offrant le meilleur score estimé.
+     *
+     * @param combattant Le combattant qui joue.
+     * @param grille     La grille du jeu, qui n'est pas modifiée.
+     * @return Le code du coup choisi (cf. {@link Coup}).
+     */
+    public int choisirCoup(Combattant combattant, Grille grille) {
+        double[] sommes = new double[Coup.NOMBRE];
+        int[] visites = new int[Coup.NOMBRE];
+        evaluerCoups(combattant, grille, System.nanoTime() + difficulte.getMillisecondes() * 1_000_000L, sommes, visites);
+        return meilleurCoup(sommes, visites, random);
+    }
+
+    /**
+     * Estime le score des coups légaux du combattant dans la limite du budget de nœuds de la
+     * difficulté et d'une échéance ; l'estimation s'arrête aussi dès que le thread appelant est
+     * interrompu. Les scores s'ajoutent à ceux déjà présents dans les tableaux,
+     * indexés par code de coup, ce qui permet de cumuler plusieurs grilles.
+     *
+     * @param combattant Le combattant qui joue.
+     * @param grille     La grille du jeu, qui n'est pas modifiée.
+     * @param echeance   L'instant limite, en nanosecondes ({@link System#nanoTime()}).
+     * @param sommes     Les sommes des scores par coup, d'au moins {@link Coup#NOMBRE} cases.
+     * @param visites    Le nombre de simulations par coup, d'au moins {@link Coup#NOMBRE} cases.
+     */
+    public void evaluerCoups(Combattant combattant, Grille grille, long echeance, double[] sommes, int[] visites) {
+        noeudsExplores = 0;
+        int index = grille.getAllCombattants().indexOf(combattant);
+        int nombreCoups = retirerTirsAllies(combattant, grille, Coup.lister(combattant, grille, coups));
+        if (index < 0 || nombreCoups == 1) {
+            visites[coups[0]]++;
+            return;
+        }
+
+        int passes = 1 + difficulte.getRollouts();
+        for (int passe = 0; passe < passes; passe++) {
+            int profondeur = passe == 0 ? 0 : difficulte.getProfondeur();
+            long graine = random.nextLong();
+            for (int i = 0; i < nombreCoups; i++) {
+                if (noeudsExplores >= difficulte.getNoeuds() || System.nanoTime() >= echeance
+                        || Thread.currentThread().isInterrupted()) {
+                    return;
+                }
+                aleaSimulation.setSeed(graine);
+                sommes[coups[i]] += simuler(grille, index, coups[i], profondeur);
+                visites[coups[i]]++;
+            }
+        }
+    }
+
+    /**
+     * Retire de la liste des coups les tirs dont la première cible est un allié du combattant.
+     *
+     * @return Le nombre de coups restants, au début du tableau.
+     */
+    private int retirerTirsAllies(Combattant combattant, Grille grille, int nombreCoups) {
+        int restants = 0;
+        for (int i = 0; i < nombreCoups; i++) {
+            Combattant cible = Coup.cibleDuTir(coups[i], combattant, grille);
+            if (cible == null || !cible.estAllie(combattant)) {
+                coups[restants++] = coups[i];
+            }
+        }
+        return restants;
+    }
+
+    /**
+     * Obtient le nombre de nœuds simulés lors de la dernière décision.
+     *
+     * @return Le nombre de nœuds.
+     */
+    public int getNoeudsExplores() {
+        return noeudsExplores;
+    }
+
+    /**
+     * Obtient le niveau de difficulté de la recherche.
+     *
+     * @return La difficulté.
+     */
+    public Difficulte getDifficulte() {
+        return difficulte;
+    }
+
+    /**
+     * Joue un coup sur une copie de la grille, prolonge éventuellement la partie au hasard,
+     * puis évalue la position obtenue.
+     *
+     * @param grille     La grille d'origine.
+     * @param index      L'index du combattant dans la liste des combattants de la grille.
+     * @param coup       Le coup à jouer.
+     * @param profondeur Le nombre de tours complets à simuler après le coup.
+     * @return Le score de la position finale.
+     */
+    private double simuler(Grille grille, int index, int coup, int profondeur) {
+        Grille copie = grille.copier(messageSimulation);
+        List<Combattant> combattants = copie.getAllCombattants();
+        Combattant moi = combattants.get(index);
+
+        Coup.appliquer(coup, moi, copie);
+        copie.gererExplosionsDifferrees();
+        noeudsExplores++;
+
+        for (int tour = 0; tour < profondeur && moi.estEnVie() && !copie.isOver(); tour++) {
+            for (int k = 1; k <= combattants.size() && moi.estEnVie(); k++) {
+                Combattant joueur = combattants.get((index + k) % combattants.size());
+                if (joueur.estEnVie() && joueur != moi) {
+                    Coup.appliquer(Coup.tirerAuHasard(joueur, copie, aleaSimulation), joueur, copie);
+                    copie.gererExplosionsDifferrees();
+                    noeudsExplores++;
+                }
+            }
+        }
+
+        if (!moi.estEnVie()) {
+            return SCORE_ELIMINATION;
+        }
+        if (copie.getNombreVivants() == 1) {
+            return SCORE_VICTOIRE;
+        }
+        return evaluateur.evaluer(moi, copie);
+    }
+
+    /**
+     * Retient le coup de meilleure moyenne parmi les coups visités, les égalités étant départagées au hasard.
+     *
+     * @param sommes  Les sommes des scores par code de coup.
+     * @param visites Le nombre de simulations par code de coup.
+     * @param random  Le générateur aléatoire départageant les égalités.
+     * @return Le code du coup retenu, ou {@link Coup#ATTENDRE} si aucun coup n'a été visité.
+     */
+    public static int meilleurCoup(double[] sommes, int[] visites, Random random) {
+        int meilleur = Coup.ATTENDRE;
+        double meilleurScore = Double.NEGATIVE_INFINITY;
+        int egalites = 0;
+        for (int coup = 0; coup < Coup.NOMBRE; coup++) {
+            if (visites[coup] == 0) {
+                continue;
+            }
+            double score = sommes[coup] / visites[coup];
+            if (score > meilleurScore) {
+                meilleurScore = score;
+                meilleur = coup;
+                egalites = 1;
+            } else if (score == meilleurScore && random.nextInt(++egalites) == 0) {
+                meilleur = coup;
+            }
+        }
+        return meilleur;
+    }
+}
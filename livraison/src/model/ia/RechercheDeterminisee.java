@@ -0,0 +1,161 @@
+package model.ia;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+
+import model.Combattant;
+import model.Grille;
+import model.proxy.ProxyGrille;
+import utils.strategyMessage.MessageHandler;
+import utils.strategyMessage.SilencieuxMessageHandler;
+
+/**
+ * Recherche du meilleur coup en information imparfaite : le combattant ne joue qu'à partir de sa
+ * vue filtrée ({@link ProxyGrille}), sans connaître les mines cachées de ses ennemis ni, avec le
+ * brouillard de guerre, le contenu des cases hors de son champ de vision.
+ * <p>
+ * Les mines cachées sont estimées par une {@link CroyanceMines}. Tant qu'aucun dépôt caché n'est
+ * suspecté, une seule recherche est menée sur la vue du combattant. Sinon, des grilles plausibles
+ * sont tirées (déterminisations), une {@link RechercheCoups} estime chaque coup sur chacune
+ * d'elles, et le coup retenu est celui de meilleure moyenne sur l'ensemble des tirages. Les
+ * tirages sont évalués en parallèle, par vagues d'autant de tirages que de threads disponibles,
+ * tant que la durée de décision de la difficulté n'est pas écoulée : le nombre de tirages s'adapte
+ * ainsi au budget de temps et au coût d'une recherche. La grille de chaque tirage et sa graine sont
+ * préparées par le thread appelant, avant l'envoi de la tâche : les tâches ne partagent aucune
+ * grille, et une décision ne dépend que de la graine de la recherche et du nombre de vagues.
+ */
+public class RechercheDeterminisee {
+
+    /** Nombre maximal de grilles tirées par décision. */
+    public static final int ECHANTILLONS_MAX = 32;
+
+    private final Difficulte difficulte;
+    private final Evaluateur evaluateur;
+    private final Random random;
+    private final MessageHandler messageSimulation = new SilencieuxMessageHandler();
+
+    /** Croyance de chaque combattant joué par cette recherche. */
+    private final Map<Combattant, CroyanceMines> croyances = new HashMap<>();
+
+    /** Nombre de grilles évaluées lors de la dernière décision. */
+    private int echantillons;
+
+    /**
+     * Constructeur de la classe RechercheDeterminisee.
+     *
+     * @param difficulte Le niveau de difficulté fixant le budget de calcul de chaque tirage et la durée d'une décision.
+     * @param evaluateur La fonction d'évaluation des positions, partagée par les tirages.
+     * @param random     Le générateur aléatoire des tirages.
+     */
+    public RechercheDeterminisee(Difficulte difficulte, Evaluateur evaluateur, Random random) {
+        if (difficulte == null || evaluateur == null || random == null) {
+            throw new IllegalArgumentException("La difficulté, l'évaluateur et le générateur aléatoire ne peuvent pas être nuls.");
+        }
+        this.difficulte = difficulte;
+        this.evaluateur = evaluateur;
+        this.random = random;
+    }
+
+    /**
+     * Choisit le coup du combattant à partir de sa seule vue filtrée.
+     *
+     * @param combattant Le combattant qui joue.
+     * @param vue        La vue filtrée de la grille pour le combattant, qui n'est pas modifiée.
+     * @return Le code du coup choisi (cf. {@link Coup}).
+     */
+    public int choisirCoup(Combattant combattant, ProxyGrille vue) {
+        long echeance = System.nanoTime() + difficulte.getMillisecondes() * 1_000_000L;
+        CroyanceMines croyance = croyances.computeIfAbsent(combattant, CroyanceMines::new);
+        croyance.observer(vue);
+
+        int index = vue.getGrilleReelle().getAllCombattants().indexOf(combattant);
+        echantillons = 0;
+        if (index < 0) {
+            return Coup.ATTENDRE;
+        }
+
+        Grille grilleVue = croyance.construireVue(vue, messageSimulation);
+        boolean incertain = croyance.getNombreDepots() > 0;
+        int maximum = incertain ? ECHANTILLONS_MAX : 1;
+        int parallelisme = Math.max(1, ForkJoinPool.getCommonPoolParallelism());
+
+        double[] sommes = new double[Coup.NOMBRE];
+        int[] tirages = new int[Coup.NOMBRE];
+        do {
+            int vague = Math.min(parallelisme, maximum - echantillons);
+            List<Future<double[]>> resultats = new ArrayList<>();
+            for (int k = 0; k < vague; k++) {
+                long graine = random.nextLong();
+                Grille grille = incertain ? grilleVue.copier(new SilencieuxMessageHandler()) : grilleVue;
+                if (vague == 1) {
+                    cumuler(evaluerTirage(croyance, grille, index, graine, echeance, incertain), sommes, tirages);
+                } else {
+                    resultats.add(ForkJoinPool.commonPool().submit(
+                            () -> evaluerTirage(croyance, grille, index, graine, echeance, incertain)));
+                }
+            }
+            for (Future<double[]> resultat : resultats) {
+                try {
+                    cumuler(resultat.get(), sommes, tirages);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new IllegalStateException("Recherche interrompue.", e);
+                } catch (ExecutionException e) {
+                    throw new IllegalStateException("Échec de l'évaluation d'une grille tirée : " + e.getCause(), e.getCause());
+                }
+            }
+            echantillons += vague;
+        } while (echantillons < maximum && System.nanoTime() < echeance);
+
+        return RechercheCoups.meilleurCoup(sommes, tirages, random);
+    }
+
+    /**
+     * Obtient le nombre de grilles évaluées lors de la dernière décision.
+     *
+     * @return Le nombre de tirages.
+     */
+    public int getEchantillons() {
+        return echantillons;
+    }
+
+    /**
+     * Complète une grille plausible et estime le score moyen de chaque coup sur cette grille.
+     *
+     * @param grille La copie propre à ce tirage lorsque la grille est incertaine, la vue sinon.
+     * @return Le score moyen par code de coup, NaN pour les coups non évalués.
+     */
+    private double[] evaluerTirage(CroyanceMines croyance, Grille grille, int index, long graine, long echeance, boolean incertain) {
+        Random alea = new Random(graine);
+        if (incertain) {
+            croyance.placerDepots(grille, alea);
+        }
+
+        double[] sommes = new double[Coup.NOMBRE];
+        int[] visites = new int[Coup.NOMBRE];
+        new RechercheCoups(difficulte, evaluateur, alea)
+                .evaluerCoups(grille.getAllCombattants().get(index), grille, echeance, sommes, visites);
+        for (int coup = 0; coup < Coup.NOMBRE; coup++) {
+            sommes[coup] = visites[coup] == 0 ? Double.NaN : sommes[coup] / visites[coup];
+        }
+        return sommes;
+    }
+
+    /**
+     * Ajoute les scores moyens d'un tirage aux sommes de la décision.
+     */
+    private static void cumuler(double[] moyennes, double[] sommes, int[] tirages) {
+        for (int coup = 0; coup < Coup.NOMBRE; coup++) {
+            if (!Double.isNaN(moyennes[coup])) {
+                sommes[coup] += moyennes[coup];
+                tirages[coup]++;
+            }
+        }
+    }
+}
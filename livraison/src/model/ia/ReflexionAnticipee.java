@@ -0,0 +1,206 @@
+package model.ia;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import model.Combattant;
+import model.Grille;
+import utils.strategyMessage.MessageHandler;
+import utils.strategyMessage.SilencieuxMessageHandler;
+
+/**
+ * Réflexion d'un joueur IA pendant le tour des autres joueurs.
+ * <p>
+ * Lorsqu'un autre joueur a fini son tour, la grille est copiée et un thread d'arrière-plan joue
+ * sur cette copie les tours des joueurs qui précèdent encore le joueur IA : une première fois avec
+ * le coup qu'une recherche d'un coup de profondeur attribue à chaque adversaire, puis avec des
+ * variantes où certains adversaires jouent un coup légal tiré au hasard. Sur chaque position ainsi
+ * prévue, le coup de chaque combattant du joueur est recherché comme il le serait pendant son tour,
+ * et retenu sous l'{@link Empreinte} de la position. Quand son tour arrive, le joueur joue aussitôt
+ * le coup retenu si la position réelle a été prévue.
+ * <p>
+ * Le thread d'arrière-plan ne lit et ne modifie que ses propres copies ; seule la copie initiale
+ * est faite sur le thread appelant, pendant que la grille réelle ne change pas. Une réflexion est
+ * arrêtée dès qu'une nouvelle commence ou que le tour du joueur arrive : le thread est interrompu,
+ * la recherche en cours s'arrête à la simulation suivante et son résultat est écarté. Le thread
+ * est libéré par {@link #fermer()} à la fin de la partie.
+ */
+public class ReflexionAnticipee {
+
+    /** Coup renvoyé lorsque la position n'a pas été prévue. */
+    public static final int ABSENT = -1;
+
+    /** Nombre maximal de positions retenues ; au-delà, les coups retenus sont oubliés. */
+    public static final int TAILLE_MAX_CACHE = 4096;
+
+    /** Nombre maximal de suites de tours adverses explorées par réflexion. */
+    public static final int VARIANTES_MAX = 16;
+
+    private final Difficulte difficulte;
+    private final Evaluateur evaluateur;
+    private final Random random;
+    private final MessageHandler messageSimulation = new SilencieuxMessageHandler();
+
+    /** Coups retenus, indexés par empreinte de position. */
+    private final Map<Long, Integer> coups = new ConcurrentHashMap<>();
+
+    private ExecutorService executeur;
+    private Future<?> tache;
+
+    /**
+     * Constructeur de la classe ReflexionAnticipee.
+     *
+     * @param difficulte Le niveau de difficulté des recherches menées sur les positions prévues.
+     * @param evaluateur La fonction d'évaluation des positions, partagée avec le joueur.
+     * @param random     Le générateur aléatoire des variantes.
+     * @throws IllegalArgumentException Si l'un des paramètres est nul.
+     */
+    public ReflexionAnticipee(Difficulte difficulte, Evaluateur evaluateur, Random random) {
+        if (difficulte == null || evaluateur == null || random == null) {
+            throw new IllegalArgumentException("La difficulté, l'évaluateur et le générateur aléatoire ne peuvent pas être nuls.");
+        }
+        this.difficulte = difficulte;
+        this.evaluateur = evaluateur;
+        this.random = random;
+    }
+
+    /**
+     * Arrête la réflexion en cours et en commence une nouvelle à partir de l'état courant de la grille.
+     *
+     * @param combattants  Les combattants vivants du joueur, dans leur ordre de jeu.
+     * @param equipesAvant Les combattants des joueurs qui joueront avant lui, joueur par joueur et dans l'ordre.
+     * @param grille       La grille réelle, copiée avant le retour de la méthode.
+     */
+    public synchronized void lancer(List<Combattant> combattants, List<List<Combattant>> equipesAvant, Grille grille) {
+        arreter();
+        List<Combattant> tous = grille.getAllCombattants();
+        int[] miens = indexer(combattants, tous);
+        if (miens.length == 0 || grille.isOver()) {
+            return;
+        }
+        int[][] avant = new int[equipesAvant.size()][];
+        for (int k = 0; k < avant.length; k++) {
+            avant[k] = indexer(equipesAvant.get(k), tous);
+        }
+        Grille copie = grille.copier(messageSimulation);
+        long graine = random.nextLong();
+
+        if (executeur == null) {
+            executeur = Executors.newSingleThreadExecutor(travail -> {
+                Thread thread = new Thread(travail, "reflexion-ia");
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+        tache = executeur.submit(() -> explorer(copie, miens, avant, graine));
+    }
+
+    /**
+     * Arrête la réflexion en cours, s'il y en a une. Les coups déjà retenus sont conservés.
+     */
+    public synchronized void arreter() {
+        if (tache != null) {
+            tache.cancel(true);
+            tache = null;
+        }
+    }
+
+    /**
+     * Arrête la réflexion en cours et libère le thread d'arrière-plan, à la fin de la partie. Les
+     * coups déjà retenus sont conservés, et une réflexion lancée ensuite reprend sur un nouveau thread.
+     */
+    public synchronized void fermer() {
+        arreter();
+        if (executeur != null) {
+            executeur.shutdownNow();
+            executeur = null;
+        }
+    }
+
+    /**
+     * Obtient le coup retenu pour la position courante d'un combattant.
+     *
+     * @param combattant Le combattant qui joue.
+     * @param grille     La grille réelle.
+     * @return Le code du coup retenu, ou {@link #ABSENT} si la position n'a pas été prévue.
+     */
+    public int chercher(Combattant combattant, Grille grille) {
+        Integer coup = coups.get(Empreinte.calculer(combattant, grille));
+        return coup == null ? ABSENT : coup;
+    }
+
+    /**
+     * Obtient le nombre de positions dont le coup est retenu.
+     *
+     * @return Le nombre de positions.
+     */
+    public int getNombrePositions() {
+        return coups.size();
+    }
+
+    /**
+     * Explore les suites de tours adverses à partir de la copie et retient les coups du joueur.
+     */
+    private void explorer(Grille copie, int[] miens, int[][] avant, long graine) {
+        Random alea = new Random(graine);
+        RechercheCoups recherche = new RechercheCoups(difficulte, evaluateur, alea);
+        RechercheCoups prediction = new RechercheCoups(Difficulte.NORMAL, evaluateur, alea);
+
+        for (int variante = 0; variante < VARIANTES_MAX && !Thread.currentThread().isInterrupted(); variante++) {
+            Grille etat = copie.copier(messageSimulation);
+            List<Combattant> combattants = etat.getAllCombattants();
+            for (int[] equipe : avant) {
+                for (int index : equipe) {
+                    Combattant adversaire = combattants.get(index);
+                    if (adversaire.estEnVie()) {
+                        int coup = variante == 0 || alea.nextBoolean()
+                                ? prediction.choisirCoup(adversaire, etat)
+                                : Coup.tirerAuHasard(adversaire, etat, alea);
+                        Coup.appliquer(coup, adversaire, etat);
+                    }
+                }
+                etat.gererExplosionsDifferrees();
+            }
+
+            for (int index : miens) {
+                Combattant moi = combattants.get(index);
+                if (!moi.estEnVie() || etat.isOver()) {
+                    break;
+                }
+                long empreinte = Empreinte.calculer(moi, etat);
+                Integer coup = coups.get(empreinte);
+                if (coup == null) {
+                    coup = recherche.choisirCoup(moi, etat);
+                    if (Thread.currentThread().isInterrupted()) {
+                        return;
+                    }
+                    if (coups.size() >= TAILLE_MAX_CACHE) {
+                        coups.clear();
+                    }
+                    coups.put(empreinte, coup);
+                }
+                Coup.appliquer(coup, moi, etat);
+            }
+        }
+    }
+
+    /**
+     * Obtient les index des combattants dans la liste des combattants de la grille.
+     */
+    private static int[] indexer(List<Combattant> combattants, List<Combattant> tous) {
+        List<Integer> index = new ArrayList<>();
+        for (Combattant combattant : combattants) {
+            int i = tous.indexOf(combattant);
+            if (i >= 0) {
+                index.add(i);
+            }
+        }
+        return index.stream().mapToInt(Integer::intValue).toArray();
+    }
+}
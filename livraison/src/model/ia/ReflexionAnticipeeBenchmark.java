@@ -0,0 +1,129 @@
+package model.ia;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import model.Combattant;
+import model.Grille;
+import model.combattantFactory.CombattantFactory;
+import utils.configuration.ConfigLoader;
+import utils.strategyMessage.MessageHandler;
+import utils.strategyMessage.SilencieuxMessageHandler;
+
+/**
+ * Micro-benchmark de la {@link ReflexionAnticipee} : part des coups d'un joueur {@link Difficulte#DIFFICILE}
+ * prévus pendant le tour de son adversaire {@link Difficulte#NORMAL}, et durée d'un coup prévu
+ * comparée à celle d'une recherche.
+ * <p>
+ * Les deux joueurs ont deux combattants. Après chaque tour, la réflexion est lancée comme le font
+ * les parties console et graphique, puis le benchmark attend un délai fixe, qui tient lieu de
+ * l'affichage et du temps de jeu des autres joueurs.
+ * <p>
+ * Utilisation : {@code java model.ia.ReflexionAnticipeeBenchmark [pauseMs] [parties] [graine]}.
+ */
+public class ReflexionAnticipeeBenchmark {
+
+    private static final int COMBATTANTS_PAR_JOUEUR = 2;
+    private static final int TOURS_MAX = 50;
+
+    private static int coupsPrevus;
+    private static int coupsRecherches;
+    private static long dureePrevus;
+    private static long dureeRecherches;
+
+    public static void main(String[] args) throws Exception {
+        ConfigLoader.load();
+
+        long pauseMs = args.length > 0 ? Long.parseLong(args[0]) : 300;
+        int parties = args.length > 1 ? Integer.parseInt(args[1]) : 3;
+        long graine = args.length > 2 ? Long.parseLong(args[2]) : 1;
+        EvaluateurLineaire evaluateur = EvaluateurLineaire.depuisConfiguration();
+
+        for (int partie = 0; partie < parties; partie++) {
+            jouer(evaluateur, graine + partie, pauseMs);
+        }
+
+        int coups = coupsPrevus + coupsRecherches;
+        System.out.printf("Coups prévus : %d / %d (pause de %d ms entre les tours)%n", coupsPrevus, coups, pauseMs);
+        System.out.printf("Durée moyenne d'un coup prévu : %.3f ms%n", coupsPrevus == 0 ? 0 : dureePrevus / 1e6 / coupsPrevus);
+        System.out.printf("Durée moyenne d'une recherche : %.3f ms%n", coupsRecherches == 0 ? 0 : dureeRecherches / 1e6 / coupsRecherches);
+    }
+
+    /**
+     * Joue une partie entre le joueur qui réfléchit et son adversaire, en relevant les coups prévus.
+     */
+    private static void jouer(EvaluateurLineaire evaluateur, long graine, long pauseMs) throws InterruptedException {
+        MessageHandler messageHandler = new SilencieuxMessageHandler();
+        Random random = new Random(graine);
+        Grille grille = new Grille(messageHandler, graine);
+        grille.placerMurs();
+        grille.placerPastillesEnergie();
+        List<Combattant> miens = CombattantFactory.creerListeCombattants(COMBATTANTS_PAR_JOUEUR, grille, messageHandler, random);
+        List<Combattant> adversaires = CombattantFactory.creerListeCombattants(COMBATTANTS_PAR_JOUEUR, grille, messageHandler, random);
+        grille.placerCombattants(miens);
+        grille.placerCombattants(adversaires);
+        for (Combattant combattant : miens) {
+            combattant.setEquipe(1);
+        }
+        for (Combattant adversaire : adversaires) {
+            adversaire.setEquipe(2);
+        }
+
+        RechercheCoups recherche = new RechercheCoups(Difficulte.DIFFICILE, evaluateur, new Random(random.nextLong()));
+        RechercheCoups prediction = new RechercheCoups(Difficulte.NORMAL, evaluateur, new Random(random.nextLong()));
+        ReflexionAnticipee reflexion = new ReflexionAnticipee(Difficulte.DIFFICILE, evaluateur, new Random(random.nextLong()));
+        try {
+            for (int tour = 0; tour < TOURS_MAX && !grille.isOver(); tour++) {
+                reflexion.arreter();
+                for (Combattant combattant : vivants(miens)) {
+                    long debut = System.nanoTime();
+                    int coup = reflexion.chercher(combattant, grille);
+                    boolean prevu = coup != ReflexionAnticipee.ABSENT && Coup.estLegal(coup, combattant, grille);
+                    if (!prevu) {
+                        coup = recherche.choisirCoup(combattant, grille);
+                    }
+                    Coup.appliquer(coup, combattant, grille);
+                    long duree = System.nanoTime() - debut;
+                    if (prevu) {
+                        coupsPrevus++;
+                        dureePrevus += duree;
+                    } else {
+                        coupsRecherches++;
+                        dureeRecherches += duree;
+                    }
+                }
+                grille.gererExplosionsDifferrees();
+                if (grille.isOver()) {
+                    break;
+                }
+                reflexion.lancer(vivants(miens), Arrays.asList(vivants(adversaires)), grille);
+                Thread.sleep(pauseMs);
+
+                for (Combattant adversaire : vivants(adversaires)) {
+                    Coup.appliquer(prediction.choisirCoup(adversaire, grille), adversaire, grille);
+                }
+                grille.gererExplosionsDifferrees();
+                if (grille.isOver()) {
+                    break;
+                }
+                reflexion.lancer(vivants(miens), Collections.<List<Combattant>>emptyList(), grille);
+                Thread.sleep(pauseMs);
+            }
+        } finally {
+            reflexion.fermer();
+        }
+    }
+
+    private static List<Combattant> vivants(List<Combattant> combattants) {
+        List<Combattant> vivants = new ArrayList<>();
+        for (Combattant combattant : combattants) {
+            if (combattant.estEnVie()) {
+                vivants.add(combattant);
+            }
+        }
+        return vivants;
+    }
+}
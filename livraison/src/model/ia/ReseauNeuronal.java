@@ -0,0 +1,226 @@
+package model.ia;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Random;
+
+import utils.configuration.Parametres;
+
+/**
+ * Perceptron multicouche évalué en Java pur, utilisé comme politique par {@code ReseauJoueur}.
+ * <p>
+ * Chaque couche calcule {@code sortie = poids * entree + biais}, suivi d'un ReLU sauf pour la
+ * dernière couche, dont les sorties sont les scores bruts. Les poids sont des tableaux
+ * {@code float[]} à plat, rangés entrée par entrée (les poids d'une entrée vers chaque sortie sont
+ * contigus), et les activations sont écrites dans des tampons alloués une fois pour toutes : une
+ * évaluation n'alloue rien. Une instance n'est donc pas sûre entre plusieurs threads.
+ * <p>
+ * Le réseau est entraîné hors du jeu puis lu depuis un fichier binaire (flottants et entiers
+ * gros-boutistes) :
+ * <ul>
+ *   <li>nombre magique, version, nombre de couches {@code n} ;</li>
+ *   <li>les {@code n + 1} tailles, de l'entrée à la sortie ;</li>
+ *   <li>pour chaque couche, les poids ({@code entree * sortie} flottants, entrée par entrée) puis
+ *       les biais.</li>
+ * </ul>
+ */
+public final class ReseauNeuronal {
+
+    /** Nombre magique en tête de fichier ("RESN"). */
+    private static final int MAGIQUE = 0x5245534E;
+    private static final int VERSION = 1;
+    private static final int COUCHES_MAX = 16;
+
+    private final int[] tailles;
+    private final float[][] poids;
+    private final float[][] biais;
+    private final float[][] activations;
+
+    private ReseauNeuronal(int[] tailles, float[][] poids, float[][] biais) {
+        this.tailles = tailles;
+        this.poids = poids;
+        this.biais = biais;
+        this.activations = new float[tailles.length - 1][];
+        for (int couche = 0; couche < activations.length; couche++) {
+            activations[couche] = new float[tailles[couche + 1]];
+        }
+    }
+
+    /**
+     * Lit un réseau depuis un fichier.
+     *
+     * @param fichier Le chemin du fichier.
+     * @return Le réseau.
+     * @throws IOException Si le fichier est illisible ou n'est pas un réseau.
+     */
+    public static ReseauNeuronal charger(Path fichier) throws IOException {
+        ByteBuffer contenu = ByteBuffer.wrap(Files.readAllBytes(fichier));
+        if (contenu.remaining() < 12 || contenu.getInt() != MAGIQUE || contenu.getInt() != VERSION) {
+            throw new IOException("Réseau invalide : " + fichier);
+        }
+        int couches = contenu.getInt();
+        if (couches < 1 || couches > COUCHES_MAX || contenu.remaining() < 4 * (couches + 1)) {
+            throw new IOException("Réseau invalide : " + fichier);
+        }
+        int[] tailles = new int[couches + 1];
+        long attendu = 0;
+        for (int k = 0; k <= couches; k++) {
+            tailles[k] = contenu.getInt();
+            if (tailles[k] <= 0) {
+                throw new IOException("Réseau invalide : " + fichier);
+            }
+            if (k > 0) {
+                attendu += 4L * tailles[k] * (tailles[k - 1] + 1);
+            }
+        }
+        if (contenu.remaining() != attendu) {
+            throw new IOException("Réseau tronqué ou trop long : " + fichier);
+        }
+
+        float[][] poids = new float[couches][];
+        float[][] biais = new float[couches][];
+        for (int couche = 0; couche < couches; couche++) {
+            poids[couche] = new float[tailles[couche + 1] * tailles[couche]];
+            biais[couche] = new float[tailles[couche + 1]];
+            contenu.asFloatBuffer().get(poids[couche]);
+            contenu.position(contenu.position() + 4 * poids[couche].length);
+            contenu.asFloatBuffer().get(biais[couche]);
+            contenu.position(contenu.position() + 4 * biais[couche].length);
+        }
+        return new ReseauNeuronal(tailles, poids, biais);
+    }
+
+    /**
+     * Lit le réseau désigné par la configuration ({@link Parametres#fichierReseauIA}).
+     *
+     * @return Le réseau.
+     * @throws IOException Si le fichier est illisible ou n'est pas un réseau.
+     */
+    public static ReseauNeuronal depuisConfiguration() throws IOException {
+        return charger(Paths.get(Parametres.fichierReseauIA));
+    }
+
+    /**
+     * Crée un réseau aux poids tirés au hasard (initialisation de He, biais nuls), point de départ
+     * d'un entraînement.
+     *
+     * @param random  Le générateur aléatoire.
+     * @param tailles Les tailles des couches, de l'entrée à la sortie.
+     * @return Le réseau.
+     * @throws IllegalArgumentException Si moins de deux tailles sont données ou si une taille n'est pas positive.
+     */
+    public static ReseauNeuronal aleatoire(Random random, int... tailles) {
+        if (random == null || tailles == null || tailles.length < 2 || tailles.length > COUCHES_MAX + 1) {
+            throw new IllegalArgumentException("Un réseau compte entre 1 et " + COUCHES_MAX + " couches.");
+        }
+        int couches = tailles.length - 1;
+        float[][] poids = new float[couches][];
+        float[][] biais = new float[couches][];
+        for (int couche = 0; couche < couches; couche++) {
+            if (tailles[couche] <= 0 || tailles[couche + 1] <= 0) {
+                throw new IllegalArgumentException("Les tailles des couches doivent être positives.");
+            }
+            double ecart = Math.sqrt(2.0 / tailles[couche]);
+            poids[couche] = new float[tailles[couche + 1] * tailles[couche]];
+            for (int i = 0; i < poids[couche].length; i++) {
+                poids[couche][i] = (float) (random.nextGaussian() * ecart);
+            }
+            biais[couche] = new float[tailles[couche + 1]];
+        }
+        return new ReseauNeuronal(tailles.clone(), poids, biais);
+    }
+
+    /**
+     * Écrit le réseau dans un fichier, au format lu par {@link #charger(Path)}.
+     *
+     * @param fichier Le chemin du fichier.
+     * @throws IOException Si le fichier ne peut pas être écrit.
+     */
+    public void ecrire(Path fichier) throws IOException {
+        int taille = 4 * (3 + tailles.length);
+        for (int couche = 0; couche < poids.length; couche++) {
+            taille += 4 * (poids[couche].length + biais[couche].length);
+        }
+        ByteBuffer contenu = ByteBuffer.allocate(taille);
+        contenu.putInt(MAGIQUE).putInt(VERSION).putInt(poids.length);
+        for (int t : tailles) {
+            contenu.putInt(t);
+        }
+        for (int couche = 0; couche < poids.length; couche++) {
+            contenu.asFloatBuffer().put(poids[couche]);
+            contenu.position(contenu.position() + 4 * poids[couche].length);
+            contenu.asFloatBuffer().put(biais[couche]);
+            contenu.position(contenu.position() + 4 * biais[couche].length);
+        }
+        Files.write(fichier, contenu.array());
+    }
+
+    /**
+     * Obtient la taille de l'entrée du réseau.
+     *
+     * @return Le nombre de valeurs attendues en entrée.
+     */
+    public int getTailleEntree() {
+        return tailles[0];
+    }
+
+    /**
+     * Obtient la taille de la sortie du réseau.
+     *
+     * @return Le nombre de scores produits.
+     */
+    public int getTailleSortie() {
+        return tailles[tailles.length - 1];
+    }
+
+    /**
+     * Évalue le réseau.
+     *
+     * @param entree Les valeurs d'entrée, d'au moins {@link #getTailleEntree()} cases.
+     * @return Les scores de sortie, dans un tampon réutilisé par l'évaluation suivante.
+     * @throws IllegalArgumentException Si l'entrée est nulle ou trop courte.
+     */
+    public float[] evaluer(float[] entree) {
+        if (entree == null || entree.length < tailles[0]) {
+            throw new IllegalArgumentException("L'entrée doit compter au moins " + tailles[0] + " valeurs.");
+        }
+        float[] courant = entree;
+        int derniere = poids.length - 1;
+        for (int couche = 0; couche <= derniere; couche++) {
+            float[] sortie = activations[couche];
+            produit(poids[couche], biais[couche], courant, tailles[couche], sortie, couche < derniere);
+            courant = sortie;
+        }
+        return courant;
+    }
+
+    /**
+     * Calcule {@code sortie = poids * entree + biais}, suivi d'un ReLU si demandé. Les poids étant
+     * rangés entrée par entrée, chaque entrée non nulle ajoute sa contribution à toutes les sorties
+     * d'une seule boucle, que le compilateur vectorise ; les entrées nulles, majoritaires dans les
+     * plans du plateau et après un ReLU, sont sautées.
+     */
+    private static void produit(float[] poids, float[] biais, float[] entree, int n, float[] sortie, boolean relu) {
+        int m = sortie.length;
+        System.arraycopy(biais, 0, sortie, 0, m);
+        for (int i = 0; i < n; i++) {
+            float x = entree[i];
+            if (x != 0f) {
+                int ligne = i * m;
+                for (int o = 0; o < m; o++) {
+                    sortie[o] += poids[ligne + o] * x;
+                }
+            }
+        }
+        if (relu) {
+            for (int o = 0; o < m; o++) {
+                if (sortie[o] < 0f) {
+                    sortie[o] = 0f;
+                }
+            }
+        }
+    }
+}
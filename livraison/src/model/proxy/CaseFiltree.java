@@ -0,0 +1,183 @@
+package model.proxy;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import model.Case;
+import model.Combattant;
+import model.Explosif;
+import model.Grille;
+import model.Pastille;
+import model.Position;
+
+/**
+ * Case vue par un joueur à travers sa {@link ProxyGrille}.
+ * <p>
+ * La case ne copie rien : les murs, l'occupant et la pastille sont lus sur la case réelle au moment
+ * de l'appel, et l'explosif n'est rendu que si son bit est levé dans l'ensemble des explosifs
+ * visibles du joueur ({@link model.ExplosifsVisibles}). Avec le brouillard de guerre, l'occupant
+ * et la pastille d'une case hors du champ de vision du joueur ne sont pas rendus. La vue reste donc à jour
+ * d'un tour à l'autre sans être reconstruite. Elle est en lecture seule : les modifications passent
+ * par la grille réelle.
+ */
+final class CaseFiltree extends Case {
+
+    private final ProxyGrille vue;
+    private final Case caseReelle;
+
+    /**
+     * Constructeur de la classe CaseFiltree.
+     *
+     * @param vue        La vue du joueur à laquelle appartient la case.
+     * @param caseReelle La case correspondante de la grille réelle.
+     */
+    CaseFiltree(ProxyGrille vue, Case caseReelle) {
+        super(caseReelle.getPosition(), caseReelle.getGrille());
+        this.vue = vue;
+        this.caseReelle = caseReelle;
+    }
+
+    @Override
+    public Grille getGrille() {
+        return caseReelle.getGrille();
+    }
+
+    @Override
+    public Position getPosition() {
+        return caseReelle.getPosition();
+    }
+
+    @Override
+    public Combattant getOccupant() {
+        return voitCase() ? caseReelle.getOccupant() : null;
+    }
+
+    /**
+     * Obtient l'explosif de la case s'il est visible pour le joueur de la vue.
+     *
+     * @return L'explosif visible, ou null.
+     */
+    @Override
+    public Explosif getExplosif() {
+        Position position = caseReelle.getPosition();
+        return vue.voitExplosif(position.getX(), position.getY()) ? caseReelle.getExplosif() : null;
+    }
+
+    @Override
+    public Pastille getPastilleEnergie() {
+        return voitCase() ? caseReelle.getPastilleEnergie() : null;
+    }
+
+    @Override
+    public boolean contientPastilleEnergie() {
+        return voitCase() && caseReelle.contientPastilleEnergie();
+    }
+
+    @Override
+    public boolean estOccupee(boolean inclureExplosifs) {
+        return caseReelle.estUnMur() || getOccupant() != null
+                || inclureExplosifs && vue.voitExplosif(caseReelle.getPosition().getX(), caseReelle.getPosition().getY());
+    }
+
+    @Override
+    public boolean estUnMur() {
+        return caseReelle.estUnMur();
+    }
+
+    /**
+     * Obtient les cases voisines, telles que les voit le joueur.
+     *
+     * @return La liste des cases voisines filtrées.
+     */
+    @Override
+    public List<Case> getCasesVoisines() {
+        List<Case> casesVoisines = new ArrayList<>(8);
+        int x = getPosition().getX();
+        int y = getPosition().getY();
+        for (int dx = -1; dx <= 1; dx++) {
+            for (int dy = -1; dy <= 1; dy++) {
+                if (dx == 0 && dy == 0) continue;
+                Case caseVoisine = vue.getCase(x + dx, y + dy);
+                if (caseVoisine != null) {
+                    casesVoisines.add(caseVoisine);
+                }
+            }
+        }
+        return casesVoisines;
+    }
+
+    @Override
+    public Case copierAvecFiltrage(Combattant combattant) {
+        return caseReelle.copierAvecFiltrage(combattant);
+    }
+
+    @Override
+    public void setOccupant(Combattant occupant) {
+        throw lectureSeule();
+    }
+
+    @Override
+    public void ajouterExplosif(Explosif explosif) {
+        throw lectureSeule();
+    }
+
+    @Override
+    public void retirerExplosif() {
+        throw lectureSeule();
+    }
+
+    @Override
+    public void setExplosif(Explosif explosif) {
+        throw lectureSeule();
+    }
+
+    @Override
+    public void setContientPastilleEnergie(Pastille pastilleEnergie) {
+        throw lectureSeule();
+    }
+
+    @Override
+    public void setContientPastilleEnergie(boolean contientPastilleEnergie) {
+        throw lectureSeule();
+    }
+
+    @Override
+    public void setEstMur(boolean estMur) {
+        throw lectureSeule();
+    }
+
+    private boolean voitCase() {
+        return vue.voitCase(caseReelle.getPosition().getX(), caseReelle.getPosition().getY());
+    }
+
+    private static UnsupportedOperationException lectureSeule() {
+        return new UnsupportedOperationException("La vue d'un joueur ne peut pas modifier la grille.");
+    }
+
+    /**
+     * Retourne une représentation textuelle de la case, sans les explosifs invisibles ; une case
+     * hors du champ de vision est représentée par {@code ?}.
+     *
+     * @return Un caractère représentant l'état de la case.
+     */
+    @Override
+    public String toString() {
+        if (estUnMur()) {
+            return "#";
+        }
+        if (!voitCase()) {
+            return getExplosif() != null ? getExplosif().toString() : "?";
+        }
+        if (getOccupant() != null) {
+            return getOccupant().toString();
+        }
+        Explosif explosif = getExplosif();
+        if (explosif != null) {
+            return explosif.toString();
+        }
+        if (getPastilleEnergie() != null) {
+            return getPastilleEnergie().toString();
+        }
+        return ".";
+    }
+}
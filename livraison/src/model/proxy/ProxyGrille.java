@@ -1,12 +1,12 @@
 package model.proxy;
 
-import java.util.HashMap;
-import java.util.Map;
-
 import model.Case;
 import model.Combattant;
+import model.Explosif;
+import model.ExplosifsVisibles;
 import model.Grille;
 import model.Position;
+import utils.configuration.Parametres;
 
 /**
  * Classe Proxy pour la grille de jeu, implémentant le pattern Proxy.
@@ -14,6 +14,15 @@ import model.Position;
  * Cette classe permet de contrôler l'accès à la grille réelle en fournissant
  * une vue filtrée pour un joueur spécifique. Elle cache certaines informations
  * selon le contexte du joueur, par exemple pour gérer la visibilité dans le jeu.
+ * <p>
+ * La vue ne copie pas la grille : chaque case rendue est une {@link CaseFiltree} qui lit la case
+ * réelle au moment de l'appel. Les cases filtrées sont créées à la première lecture puis réutilisées,
+ * si bien que la vue reste valable d'un tour à l'autre et qu'une lecture coûte à peu près autant
+ * qu'une lecture sur la grille réelle.
+ * <p>
+ * Avec le brouillard de guerre ({@code <vision><brouillard>} de {@code config.xml}), le joueur ne
+ * voit le contenu que des cases de son champ de vision ({@link model.ChampsDeVision}) ; les murs
+ * restent connus partout, et ses propres explosifs restent visibles hors de son champ.
  */
 public class ProxyGrille implements GrilleInterface {
 
@@ -23,18 +32,39 @@ public class ProxyGrille implements GrilleInterface {
     /** Le joueur pour lequel la vue filtrée est générée. */
     private Combattant joueur;  
 
-    /** Cache des cases filtrées pour optimiser les performances. */
-    private Map<Position, Case> cacheCasesFiltrees = new HashMap<>();
+    /** Cases filtrées déjà rendues, indexées par {@link Grille#indexDe}, allouées à la première lecture. */
+    private CaseFiltree[] casesFiltrees;
+
+    /** Cases où le joueur voit un explosif, tenues à jour par la grille (cf. {@link ExplosifsVisibles}). */
+    private long[] explosifsVisibles;
+
+    /** Rayon de vision du joueur, ou {@link #SANS_BROUILLARD}. */
+    private final int rayonVision;
+
+    /** Rayon de vision d'une vue sans brouillard de guerre. */
+    public static final int SANS_BROUILLARD = -1;
 
     /**
-     * Constructeur de la classe ProxyGrille.
+     * Constructeur de la classe ProxyGrille, avec le brouillard de guerre de la configuration.
      *
      * @param grilleReelle La grille réelle à laquelle le proxy donne accès.
      * @param joueur       Le joueur pour lequel la vue filtrée est générée.
      */
     public ProxyGrille(Grille grilleReelle, Combattant joueur) {
+        this(grilleReelle, joueur, Parametres.brouillard ? Parametres.rayonVision : SANS_BROUILLARD);
+    }
+
+    /**
+     * Constructeur de la classe ProxyGrille avec un rayon de vision donné.
+     *
+     * @param grilleReelle La grille réelle à laquelle le proxy donne accès.
+     * @param joueur       Le joueur pour lequel la vue filtrée est générée.
+     * @param rayonVision  Le rayon de vision du joueur, ou {@link #SANS_BROUILLARD}.
+     */
+    public ProxyGrille(Grille grilleReelle, Combattant joueur, int rayonVision) {
         this.grilleReelle = grilleReelle;
         this.joueur = joueur;
+        this.rayonVision = rayonVision < 0 ? SANS_BROUILLARD : rayonVision;
     }
 
     /**
@@ -45,26 +75,81 @@ public class ProxyGrille implements GrilleInterface {
      */
     @Override
     public Case getCase(Position position) {
-        if (cacheCasesFiltrees.containsKey(position)) {
-            return cacheCasesFiltrees.get(position);
-        }
+        return position == null ? null : getCase(position.getX(), position.getY());
+    }
 
-        Case caseReelle = grilleReelle.getCase(position);
+    /**
+     * Obtient la case filtrée à des coordonnées données pour le joueur.
+     *
+     * @param x La coordonnée x.
+     * @param y La coordonnée y.
+     * @return La case filtrée pour le joueur, ou null si les coordonnées sont hors de la grille.
+     */
+    public Case getCase(int x, int y) {
+        Case caseReelle = grilleReelle.getCase(x, y);
         if (caseReelle == null) {
-            return null; 
+            return null;
+        }
+        if (casesFiltrees == null) {
+            casesFiltrees = new CaseFiltree[grilleReelle.getLargeur() * grilleReelle.getLongueur()];
+        }
+        int index = grilleReelle.indexDe(x, y);
+        CaseFiltree caseFiltree = casesFiltrees[index];
+        if (caseFiltree == null) {
+            caseFiltree = new CaseFiltree(this, caseReelle);
+            casesFiltrees[index] = caseFiltree;
         }
-
-        Case caseFiltree = caseReelle.copierAvecFiltrage(joueur);
-        cacheCasesFiltrees.put(position, caseFiltree);
         return caseFiltree;
     }
 
     /**
-     * Vide le cache des cases filtrées.
-     * À utiliser si l'état de la grille a changé et que le cache doit être mis à jour.
+     * Vérifie si une case est dans le champ de vision du joueur. Sans brouillard de guerre, toutes
+     * les cases de la grille le sont.
+     *
+     * @param x La coordonnée x.
+     * @param y La coordonnée y.
+     * @return true si le joueur voit le contenu de la case, false sinon (y compris hors de la grille).
+     */
+    public boolean voitCase(int x, int y) {
+        if (rayonVision == SANS_BROUILLARD) {
+            return x >= 0 && x < grilleReelle.getLargeur() && y >= 0 && y < grilleReelle.getLongueur();
+        }
+        return grilleReelle.getChampsDeVision().estVisible(joueur, rayonVision, x, y);
+    }
+
+    /**
+     * Vérifie si le joueur voit un explosif sur une case, par un test de bit (et, avec le brouillard
+     * de guerre, un test de champ de vision pour les explosifs qu'il n'a pas posés).
+     *
+     * @param x La coordonnée x.
+     * @param y La coordonnée y.
+     * @return true si la case porte un explosif visible pour le joueur, false sinon
+     *         (y compris hors de la grille).
+     */
+    public boolean voitExplosif(int x, int y) {
+        if (x < 0 || x >= grilleReelle.getLargeur() || y < 0 || y >= grilleReelle.getLongueur()) {
+            return false;
+        }
+        if (explosifsVisibles == null) {
+            explosifsVisibles = grilleReelle.getExplosifsVisibles().pour(joueur);
+        }
+        if (!ExplosifsVisibles.contient(explosifsVisibles, grilleReelle.indexDe(x, y))) {
+            return false;
+        }
+        if (rayonVision == SANS_BROUILLARD) {
+            return true;
+        }
+        Explosif explosif = grilleReelle.getCase(x, y).getExplosif();
+        return explosif.getPorteur() == joueur || voitCase(x, y);
+    }
+
+    /**
+     * Obtient le rayon de vision du joueur.
+     *
+     * @return Le rayon de vision, ou {@link #SANS_BROUILLARD}.
      */
-    public void clearCache() {
-        cacheCasesFiltrees.clear();
+    public int getRayonVision() {
+        return rayonVision;
     }
 
     /**
@@ -81,7 +166,7 @@ public class ProxyGrille implements GrilleInterface {
 
             for (int y = 0; y < grilleReelle.getLongueur(); y++) {
                 for (int x = 0; x < grilleReelle.getLargeur(); x++) {
-                    Case caseFiltree = getCase(new Position(x, y));
+                    Case caseFiltree = getCase(x, y);
                     grilleRepresentation.append(" ").append(caseFiltree).append(" ");
                 }
                 grilleRepresentation.append("\n");
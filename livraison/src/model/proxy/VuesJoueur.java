@@ -0,0 +1,55 @@
+package model.proxy;
+
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+import model.Combattant;
+import model.Grille;
+
+/**
+ * Vues filtrées des combattants d'un joueur, conservées d'un tour à l'autre.
+ * <p>
+ * Une {@link ProxyGrille} lit toujours la grille réelle au moment de l'appel : elle n'a jamais à
+ * être invalidée, seulement à être retrouvée. Les stratégies obtiennent donc la vue de chaque
+ * combattant auprès de ce registre au lieu de la reconstruire à chaque changement de combattant,
+ * et ses cases filtrées déjà créées sont réutilisées. Le registre est vidé lorsqu'une autre grille
+ * lui est présentée (nouvelle partie).
+ */
+public final class VuesJoueur {
+
+    private final Map<Combattant, ProxyGrille> vues = new IdentityHashMap<>();
+    private Grille grille;
+
+    /**
+     * Obtient la vue filtrée d'un combattant sur une grille, en la créant à la première demande.
+     *
+     * @param combattant Le combattant qui observe.
+     * @param grille     La grille réelle du jeu.
+     * @return La vue filtrée du combattant.
+     * @throws IllegalArgumentException Si le combattant ou la grille est nul.
+     */
+    public ProxyGrille pour(Combattant combattant, Grille grille) {
+        if (combattant == null || grille == null) {
+            throw new IllegalArgumentException("Le combattant et la grille ne peuvent pas être nuls.");
+        }
+        if (grille != this.grille) {
+            vues.clear();
+            this.grille = grille;
+        }
+        ProxyGrille vue = vues.get(combattant);
+        if (vue == null) {
+            vue = new ProxyGrille(grille, combattant);
+            vues.put(combattant, vue);
+        }
+        return vue;
+    }
+
+    /**
+     * Obtient le nombre de vues conservées.
+     *
+     * @return Le nombre de combattants dont la vue est conservée.
+     */
+    public int getNombre() {
+        return vues.size();
+    }
+}
@@ -0,0 +1,381 @@
+package model.simulation;
+
+import java.nio.FloatBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import model.Combattant;
+import model.Grille;
+import model.combattantFactory.CombattantFactory;
+import model.factoryJoueur.JoueurFactory.TypeJoueurEnum;
+import model.factoryJoueur.TypeJoueur;
+import model.ia.Coup;
+import model.ia.Difficulte;
+import model.ia.EncodeurPlateau;
+import model.simulation.PartieAutomatique.Siege;
+import utils.configuration.ConfigLoader;
+import utils.configuration.Parametres;
+import utils.strategyMessage.MessageHandler;
+import utils.strategyMessage.SilencieuxMessageHandler;
+
+/**
+ * Environnements d'apprentissage par renforcement : plusieurs parties indépendantes avancées d'un
+ * tour à chaque appel, à la manière d'un « VecEnv ».
+ * <p>
+ * Chaque environnement est une partie sans affichage où l'agent contrôle le combattant du premier
+ * siège et joue le coup qu'on lui donne ; les autres sièges sont joués par leurs stratégies, comme
+ * dans {@link PartieAutomatique}. Un appel à {@link #avancer(int[])} applique un code de coup
+ * ({@link Coup}) par environnement, joue le tour des adversaires, puis écrit dans des tableaux
+ * alloués une fois pour toutes :
+ * <ul>
+ *   <li>l'observation de l'agent, codée par {@link EncodeurPlateau}, à l'index {@code k * getTailleObservation()} ;</li>
+ *   <li>les coups légaux de l'agent, à l'index {@code k * Coup.NOMBRE} ;</li>
+ *   <li>la récompense : 1 si l'agent a gagné, -1 s'il a été éliminé ou si un adversaire a gagné, 0 sinon ;</li>
+ *   <li>la fin de partie, victoire, élimination ou nombre maximal de tours atteint.</li>
+ * </ul>
+ * Un coup illégal est remplacé par {@link Coup#ATTENDRE}. Une partie terminée est aussitôt
+ * remplacée par une nouvelle partie, dont la grille est générée à partir de la graine
+ * {@code graine + partie * nombre + k} : l'observation rendue est alors celle de la nouvelle partie.
+ * <p>
+ * Les environnements sont répartis entre des threads de travail, chacun avançant toujours les mêmes
+ * environnements. Aucune classe d'affichage n'est chargée : la classe s'utilise depuis une simple
+ * boucle d'entraînement Java. Une instance ne doit être utilisée que par un thread à la fois.
+ */
+public class EnvironnementsParalleles implements AutoCloseable {
+
+    /**
+     * Partie d'un environnement.
+     */
+    private static final class Environnement {
+
+        private final MessageHandler messageHandler = new SilencieuxMessageHandler();
+        private Grille grille;
+        private Combattant agent;
+        private List<TypeJoueur> adversaires;
+        private int tours;
+        private long parties;
+    }
+
+    private final List<Siege> adversaires;
+    private final int nombre;
+    private final long graine;
+    private final int toursMax;
+    private final int tailleObservation;
+    private final Environnement[] environnements;
+
+    private final float[] observations;
+    private final FloatBuffer tamponObservations;
+    private final boolean[] masques;
+    private final float[] recompenses;
+    private final boolean[] terminees;
+
+    private final ExecutorService executeur;
+    private final List<Callable<Void>> taches = new ArrayList<>();
+    private int[] actions;
+
+    /**
+     * Constructeur de la classe EnvironnementsParalleles.
+     *
+     * @param adversaires Les sièges des adversaires de l'agent, dans l'ordre de jeu après lui.
+     * @param nombre      Le nombre d'environnements.
+     * @param graine      La graine de la génération des parties.
+     * @param threads     Le nombre de threads de travail.
+     * @param toursMax    Le nombre maximal de tours d'une partie.
+     * @throws IllegalArgumentException Si aucun adversaire n'est donné ou si un nombre n'est pas positif.
+     */
+    public EnvironnementsParalleles(List<Siege> adversaires, int nombre, long graine, int threads, int toursMax) {
+        if (adversaires == null || adversaires.isEmpty()) {
+            throw new IllegalArgumentException("L'agent doit affronter au moins un adversaire.");
+        }
+        if (nombre <= 0 || threads <= 0 || toursMax <= 0) {
+            throw new IllegalArgumentException("Le nombre d'environnements, de threads et de tours doivent être positifs.");
+        }
+        this.adversaires = new ArrayList<>(adversaires);
+        this.nombre = nombre;
+        this.graine = graine;
+        this.toursMax = toursMax;
+        this.tailleObservation = EncodeurPlateau.taille(Parametres.largeur, Parametres.longueur);
+        this.environnements = new Environnement[nombre];
+        for (int k = 0; k < nombre; k++) {
+            environnements[k] = new Environnement();
+        }
+        this.observations = new float[nombre * tailleObservation];
+        this.tamponObservations = FloatBuffer.wrap(observations);
+        this.masques = new boolean[nombre * Coup.NOMBRE];
+        this.recompenses = new float[nombre];
+        this.terminees = new boolean[nombre];
+
+        int parThread = (nombre + threads - 1) / threads;
+        for (int debut = 0; debut < nombre; debut += parThread) {
+            int premier = debut;
+            int dernier = Math.min(nombre, debut + parThread);
+            taches.add(() -> {
+                for (int k = premier; k < dernier; k++) {
+                    avancerEnvironnement(k);
+                }
+                return null;
+            });
+        }
+        this.executeur = taches.size() > 1 ? Executors.newFixedThreadPool(taches.size(), travail -> {
+            Thread thread = new Thread(travail, "environnement");
+            thread.setDaemon(true);
+            return thread;
+        }) : null;
+    }
+
+    /**
+     * Commence une nouvelle partie dans chaque environnement.
+     */
+    public void reinitialiser() {
+        for (int k = 0; k < nombre; k++) {
+            environnements[k].parties = 0;
+            demarrer(k);
+            observer(k);
+        }
+        Arrays.fill(recompenses, 0f);
+        Arrays.fill(terminees, false);
+    }
+
+    /**
+     * Avance chaque environnement d'un tour.
+     *
+     * @param actions Le code du coup de l'agent dans chaque environnement.
+     * @throws IllegalArgumentException Si le nombre d'actions ne correspond pas au nombre d'environnements.
+     * @throws IllegalStateException    Si {@link #reinitialiser()} n'a pas été appelée ou si un tour échoue.
+     */
+    public void avancer(int[] actions) {
+        if (actions == null || actions.length != nombre) {
+            throw new IllegalArgumentException("Il faut une action par environnement (" + nombre + ").");
+        }
+        if (environnements[0].grille == null) {
+            throw new IllegalStateException("Les environnements doivent être réinitialisés avant d'avancer.");
+        }
+        this.actions = actions;
+        try {
+            if (executeur == null) {
+                taches.get(0).call();
+            } else {
+                for (Future<Void> resultat : executeur.invokeAll(taches)) {
+                    resultat.get();
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Tour interrompu.", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Échec du tour d'un environnement : " + e.getCause(), e.getCause());
+        } catch (Exception e) {
+            throw new IllegalStateException("Échec du tour d'un environnement : " + e, e);
+        }
+    }
+
+    /**
+     * Joue le tour de l'agent puis celui des adversaires dans un environnement.
+     */
+    private void avancerEnvironnement(int k) {
+        Environnement environnement = environnements[k];
+        Grille grille = environnement.grille;
+        Combattant agent = environnement.agent;
+
+        int coup = actions[k];
+        if (coup < 0 || coup >= Coup.NOMBRE || !Coup.estLegal(coup, agent, grille) || !Coup.appliquer(coup, agent, grille)) {
+            agent.attendre();
+        }
+        grille.gererExplosionsDifferrees();
+        for (TypeJoueur adversaire : environnement.adversaires) {
+            if (grille.isOver() || !agent.estEnVie()) {
+                break;
+            }
+            adversaire.jouerTour(grille);
+            grille.gererExplosionsDifferrees();
+        }
+        environnement.tours++;
+
+        Combattant gagnant = grille.isOver() ? grille.getWinner() : null;
+        boolean terminee = grille.isOver() || !agent.estEnVie() || environnement.tours >= toursMax;
+        recompenses[k] = gagnant == agent && agent.estEnVie() ? 1f : !agent.estEnVie() || gagnant != null ? -1f : 0f;
+        terminees[k] = terminee;
+        if (terminee) {
+            environnement.parties++;
+            demarrer(k);
+        }
+        observer(k);
+    }
+
+    /**
+     * Génère une nouvelle partie dans un environnement, comme {@link PartieAutomatique#jouer(long)}
+     * avec l'agent au premier siège.
+     */
+    private void demarrer(int k) {
+        Environnement environnement = environnements[k];
+        long graineCourante = graine + environnement.parties * nombre + k;
+        MessageHandler messageHandler = environnement.messageHandler;
+        Random random = new Random(graineCourante);
+        Grille grille = new Grille(messageHandler, graineCourante);
+        grille.placerMurs();
+        grille.placerPastillesEnergie();
+
+        List<Combattant> combattantsAgent = CombattantFactory.creerListeCombattants(1, grille, messageHandler, random);
+        List<TypeJoueur> joueurs = new ArrayList<>();
+        for (Siege siege : adversaires) {
+            joueurs.add(siege.creerJoueur(CombattantFactory.creerListeCombattants(1, grille, messageHandler, random), messageHandler,
+                    new Random(random.nextLong())));
+        }
+        grille.placerCombattants(combattantsAgent);
+        for (TypeJoueur joueur : joueurs) {
+            grille.placerCombattants(joueur.getCombattants());
+        }
+
+        environnement.grille = grille;
+        environnement.agent = combattantsAgent.get(0);
+        environnement.adversaires = joueurs;
+        environnement.tours = 0;
+    }
+
+    /**
+     * Écrit l'observation et les coups légaux de l'agent d'un environnement.
+     */
+    private void observer(int k) {
+        Environnement environnement = environnements[k];
+        EncodeurPlateau.encoder(environnement.agent, null, environnement.grille, tamponObservations, k * tailleObservation);
+        int debut = k * Coup.NOMBRE;
+        for (int coup = 0; coup < Coup.NOMBRE; coup++) {
+            masques[debut + coup] = Coup.estLegal(coup, environnement.agent, environnement.grille);
+        }
+    }
+
+    /**
+     * Obtient les observations de l'agent, {@link #getTailleObservation()} valeurs par environnement.
+     *
+     * @return Le tableau des observations, mis à jour à chaque tour.
+     */
+    public float[] getObservations() {
+        return observations;
+    }
+
+    /**
+     * Obtient les coups légaux de l'agent, {@link Coup#NOMBRE} booléens par environnement.
+     *
+     * @return Le tableau des coups légaux, mis à jour à chaque tour.
+     */
+    public boolean[] getMasques() {
+        return masques;
+    }
+
+    /**
+     * Obtient la récompense du dernier tour de chaque environnement.
+     *
+     * @return Le tableau des récompenses, mis à jour à chaque tour.
+     */
+    public float[] getRecompenses() {
+        return recompenses;
+    }
+
+    /**
+     * Indique pour chaque environnement si la partie s'est terminée au dernier tour.
+     *
+     * @return Le tableau des fins de partie, mis à jour à chaque tour.
+     */
+    public boolean[] getTerminees() {
+        return terminees;
+    }
+
+    /**
+     * Obtient le nombre de valeurs d'une observation.
+     *
+     * @return La taille d'une observation.
+     */
+    public int getTailleObservation() {
+        return tailleObservation;
+    }
+
+    /**
+     * Obtient le nombre d'environnements.
+     *
+     * @return Le nombre d'environnements.
+     */
+    public int getNombre() {
+        return nombre;
+    }
+
+    /**
+     * Obtient le nombre de parties terminées dans un environnement depuis sa réinitialisation.
+     *
+     * @param k L'index de l'environnement.
+     * @return Le nombre de parties terminées.
+     */
+    public long getParties(int k) {
+        return environnements[k].parties;
+    }
+
+    /**
+     * Arrête les threads de travail.
+     */
+    @Override
+    public void close() {
+        if (executeur != null) {
+            executeur.shutdownNow();
+        }
+    }
+
+    /**
+     * Point d'entrée : avance des environnements avec des coups légaux tirés au hasard et affiche le
+     * débit en tours par seconde.
+     *
+     * @param args [environnements] [tours] [threads] [siège adverse...]
+     */
+    public static void main(String[] args) throws Exception {
+        ConfigLoader.load();
+
+        int nombre = args.length > 0 ? Integer.parseInt(args[0]) : 64;
+        int pas = args.length > 1 ? Integer.parseInt(args[1]) : 10_000;
+        int threads = args.length > 2 ? Integer.parseInt(args[2]) : Runtime.getRuntime().availableProcessors();
+        List<Siege> adversaires = new ArrayList<>();
+        for (int i = 3; i < args.length; i++) {
+            adversaires.add(Siege.depuisTexte(args[i]));
+        }
+        if (adversaires.isEmpty()) {
+            adversaires.add(new Siege(TypeJoueurEnum.AI, Difficulte.FACILE));
+        }
+
+        Random random = new Random(1);
+        int[] actions = new int[nombre];
+        long victoires = 0;
+        long parties = 0;
+        try (EnvironnementsParalleles environnements = new EnvironnementsParalleles(adversaires, nombre, 1, threads,
+                PartieAutomatique.TOURS_MAX_DEFAUT)) {
+            environnements.reinitialiser();
+            boolean[] masques = environnements.getMasques();
+            long debut = System.nanoTime();
+            for (int p = 0; p < pas; p++) {
+                for (int k = 0; k < nombre; k++) {
+                    int legaux = 0;
+                    int choisi = Coup.ATTENDRE;
+                    for (int coup = 0; coup < Coup.NOMBRE; coup++) {
+                        if (masques[k * Coup.NOMBRE + coup] && random.nextInt(++legaux) == 0) {
+                            choisi = coup;
+                        }
+                    }
+                    actions[k] = choisi;
+                }
+                environnements.avancer(actions);
+                for (int k = 0; k < nombre; k++) {
+                    if (environnements.getTerminees()[k]) {
+                        parties++;
+                        victoires += environnements.getRecompenses()[k] > 0 ? 1 : 0;
+                    }
+                }
+            }
+            double secondes = (System.nanoTime() - debut) / 1e9;
+            System.out.println(String.format("%n%d environnements x %d tours en %.2f s (%.0f tours/s), %d partie(s) dont %d victoire(s) de l'agent",
+                    nombre, pas, secondes, (double) nombre * pas / secondes, parties, victoires));
+        }
+    }
+}
@@ -0,0 +1,219 @@
+package model.simulation;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.FloatBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Collection;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import model.Combattant;
+import model.Grille;
+import model.ia.EncodeurPlateau;
+import model.proxy.ProxyGrille;
+
+/**
+ * Fichier d'observations pour l'entraînement hors ligne : états codés par {@link EncodeurPlateau},
+ * écrits directement dans un fichier projeté en mémoire.
+ * <p>
+ * Chaque état occupe un enregistrement de taille fixe : les valeurs du codage, puis le coup joué
+ * ({@link #COUP_INCONNU} s'il n'est pas connu) et le résultat de la partie pour le joueur
+ * observateur (1 victoire, -1 défaite, 0 partie nulle ou inconnue). Le codage est écrit en place
+ * dans la projection, sans tableau intermédiaire ; les enregistrements sont réservés par un compteur
+ * atomique, si bien que plusieurs parties peuvent écrire en parallèle dans le même fichier.
+ * <p>
+ * Format du fichier (petit-boutiste, pour être lu tel quel par les outils d'entraînement) :
+ * <ul>
+ *   <li>en-tête de {@value #TAILLE_ENTETE} octets : nombre magique, version, largeur et longueur de
+ *       la grille, nombre de plans, nombre de valeurs de l'observateur, nombre d'états écrits, un
+ *       entier réservé ;</li>
+ *   <li>les enregistrements, en flottants sur 4 octets, dans l'ordre de leur réservation.</li>
+ * </ul>
+ * Le fichier est dimensionné pour la capacité donnée à sa création ; seuls les états comptés dans
+ * l'en-tête, écrit à la fermeture, sont valides. La projection est découpée en segments d'au plus
+ * 1 Go, ce qui permet d'enregistrer des millions d'états dans un seul fichier.
+ */
+public final class FichierObservations implements Closeable {
+
+    /** Taille de l'en-tête, en octets. */
+    public static final int TAILLE_ENTETE = 32;
+
+    /** Nombre de valeurs ajoutées au codage dans chaque enregistrement : le coup et le résultat. */
+    public static final int VALEURS_SUPPLEMENTAIRES = 2;
+
+    /** Coup enregistré lorsque le coup joué n'est pas connu. */
+    public static final int COUP_INCONNU = -1;
+
+    /** Nombre magique en tête de fichier ("OBSV"). */
+    private static final int MAGIQUE = 0x4F425356;
+    private static final int VERSION = 1;
+    private static final long TAILLE_SEGMENT_MAX = 1L << 30;
+
+    private final FileChannel canal;
+    private final int largeur;
+    private final int longueur;
+    private final int valeursParEtat;
+    private final int capacite;
+    private final int etatsParSegment;
+    private final MappedByteBuffer[] projections;
+    private final FloatBuffer[] segments;
+    private final AtomicInteger reserves = new AtomicInteger();
+
+    private FichierObservations(FileChannel canal, int largeur, int longueur, int capacite) throws IOException {
+        this.canal = canal;
+        this.largeur = largeur;
+        this.longueur = longueur;
+        this.valeursParEtat = EncodeurPlateau.taille(largeur, longueur) + VALEURS_SUPPLEMENTAIRES;
+        this.capacite = capacite;
+        long octetsParEtat = 4L * valeursParEtat;
+        this.etatsParSegment = (int) Math.max(1, Math.min(capacite, TAILLE_SEGMENT_MAX / octetsParEtat));
+        int nombreSegments = (capacite + etatsParSegment - 1) / etatsParSegment;
+        this.projections = new MappedByteBuffer[nombreSegments];
+        this.segments = new FloatBuffer[nombreSegments];
+        for (int k = 0; k < nombreSegments; k++) {
+            int etats = Math.min(etatsParSegment, capacite - k * etatsParSegment);
+            projections[k] = canal.map(FileChannel.MapMode.READ_WRITE,
+                    TAILLE_ENTETE + (long) k * etatsParSegment * octetsParEtat, etats * octetsParEtat);
+            projections[k].order(ByteOrder.LITTLE_ENDIAN);
+            segments[k] = projections[k].asFloatBuffer();
+        }
+    }
+
+    /**
+     * Crée un fichier d'observations, en remplaçant le fichier existant.
+     *
+     * @param fichier  Le chemin du fichier.
+     * @param largeur  La largeur des grilles observées.
+     * @param longueur La longueur des grilles observées.
+     * @param capacite Le nombre maximal d'états.
+     * @return Le fichier ouvert en écriture.
+     * @throws IOException Si le fichier ne peut pas être créé.
+     * @throws IllegalArgumentException Si les dimensions ou la capacité ne sont pas positives.
+     */
+    public static FichierObservations creer(Path fichier, int largeur, int longueur, int capacite) throws IOException {
+        if (largeur <= 0 || longueur <= 0 || capacite <= 0) {
+            throw new IllegalArgumentException("Les dimensions de la grille et la capacité doivent être positives.");
+        }
+        FileChannel canal = FileChannel.open(fichier, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING,
+                StandardOpenOption.READ, StandardOpenOption.WRITE);
+        try {
+            return new FichierObservations(canal, largeur, longueur, capacite);
+        } catch (IOException | RuntimeException e) {
+            canal.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Enregistre la position telle que la voit un combattant.
+     *
+     * @param observateur Le combattant qui joue.
+     * @param equipe      Les combattants du même joueur, ou null si l'observateur est seul.
+     * @param grille      La grille réelle du jeu.
+     * @param coup        Le code du coup joué, ou {@link #COUP_INCONNU}.
+     * @return L'index de l'état enregistré, ou -1 si le fichier est plein.
+     * @throws IllegalArgumentException Si la grille n'a pas les dimensions du fichier.
+     */
+    public int ajouter(Combattant observateur, Collection<Combattant> equipe, Grille grille, int coup) {
+        if (grille == null || grille.getLargeur() != largeur || grille.getLongueur() != longueur) {
+            throw new IllegalArgumentException("La grille doit mesurer " + largeur + " x " + longueur + ".");
+        }
+        int index = reserves.getAndIncrement();
+        if (index >= capacite) {
+            return -1;
+        }
+        FloatBuffer segment = segments[index / etatsParSegment];
+        int debut = (index % etatsParSegment) * valeursParEtat;
+        EncodeurPlateau.encoder(observateur, equipe, grille, segment, debut);
+        int fin = debut + valeursParEtat;
+        segment.put(fin - 2, coup);
+        segment.put(fin - 1, 0f);
+        return index;
+    }
+
+    /**
+     * Enregistre la vue filtrée d'un combattant.
+     *
+     * @param vue    La vue filtrée du combattant.
+     * @param equipe Les combattants du même joueur, ou null si l'observateur est seul.
+     * @param coup   Le code du coup joué, ou {@link #COUP_INCONNU}.
+     * @return L'index de l'état enregistré, ou -1 si le fichier est plein.
+     * @throws IllegalArgumentException Si la vue est nulle ou si sa grille n'a pas les dimensions du fichier.
+     */
+    public int ajouter(ProxyGrille vue, Collection<Combattant> equipe, int coup) {
+        if (vue == null) {
+            throw new IllegalArgumentException("La vue ne peut pas être nulle.");
+        }
+        return ajouter(vue.getJoueur(), equipe, vue.getGrilleReelle(), coup);
+    }
+
+    /**
+     * Renseigne le résultat de la partie pour un état déjà enregistré.
+     *
+     * @param index    L'index de l'état.
+     * @param resultat Le résultat pour le joueur observateur.
+     * @throws IllegalArgumentException Si l'index ne désigne pas un état enregistré.
+     */
+    public void setResultat(int index, float resultat) {
+        if (index < 0 || index >= getNombre()) {
+            throw new IllegalArgumentException("État inconnu : " + index);
+        }
+        segments[index / etatsParSegment].put((index % etatsParSegment + 1) * valeursParEtat - 1, resultat);
+    }
+
+    /**
+     * Obtient le nombre d'états enregistrés.
+     *
+     * @return Le nombre d'états.
+     */
+    public int getNombre() {
+        return Math.min(reserves.get(), capacite);
+    }
+
+    /**
+     * Obtient le nombre maximal d'états du fichier.
+     *
+     * @return La capacité.
+     */
+    public int getCapacite() {
+        return capacite;
+    }
+
+    /**
+     * Obtient le nombre de flottants d'un enregistrement.
+     *
+     * @return Les valeurs du codage, plus le coup et le résultat.
+     */
+    public int getValeursParEtat() {
+        return valeursParEtat;
+    }
+
+    /**
+     * Écrit l'en-tête, force l'écriture des états sur le disque et ferme le fichier.
+     *
+     * @throws IOException En cas de problème d'écriture.
+     */
+    @Override
+    public void close() throws IOException {
+        try {
+            for (MappedByteBuffer projection : projections) {
+                projection.force();
+            }
+            ByteBuffer entete = ByteBuffer.allocate(TAILLE_ENTETE).order(ByteOrder.LITTLE_ENDIAN);
+            entete.putInt(MAGIQUE).putInt(VERSION).putInt(largeur).putInt(longueur)
+                    .putInt(EncodeurPlateau.CANAUX).putInt(EncodeurPlateau.SCALAIRES).putInt(getNombre()).putInt(0);
+            entete.flip();
+            while (entete.hasRemaining()) {
+                canal.write(entete, entete.position());
+            }
+            canal.force(true);
+        } finally {
+            canal.close();
+        }
+    }
+}
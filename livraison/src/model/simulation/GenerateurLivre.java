@@ -0,0 +1,234 @@
+package model.simulation;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import model.Combattant;
+import model.Grille;
+import model.factoryJoueur.JoueurFactory.TypeJoueurEnum;
+import model.factoryJoueur.JoueurStrategy;
+import model.factoryJoueur.TypeJoueur;
+import model.ia.Coup;
+import model.ia.Difficulte;
+import model.ia.Empreinte;
+import model.ia.EvaluateurLineaire;
+import model.ia.LivreOuvertures;
+import model.ia.RechercheCoups;
+import model.simulation.PartieAutomatique.Siege;
+import utils.configuration.ConfigLoader;
+import utils.strategyMessage.MessageHandler;
+
+/**
+ * Génération hors ligne des livres d'ouvertures des joueurs IA.
+ * <p>
+ * Le générateur joue les premiers tours de parties sans affichage, avec les mêmes sièges et les
+ * mêmes graines que {@link PartieAutomatique}. À chaque décision d'un siège IA qui s'appuie sur
+ * une recherche pendant les premiers tours, le coup choisi par la recherche est compté sous
+ * l'empreinte locale de la situation du combattant ({@link Empreinte#calculerLocale}) ; le livre
+ * retient, pour chaque empreinte, le coup le plus souvent choisi. Chaque graine est jouée en
+ * plusieurs variantes : la grille et les combattants ne dépendent que de la graine, et les tirages
+ * des stratégies de la graine et du numéro de variante, de sorte que les variantes divergent tout
+ * en restant reproductibles. Un livre est écrit par niveau de difficulté présent parmi les sièges,
+ * dans le répertoire {@code repertoireLivres} de la configuration.
+ * <p>
+ * Utilisation : {@code java model.simulation.GenerateurLivre [parties] [graine] [tours] [variantes] [threads] [siège...]}.
+ */
+public class GenerateurLivre {
+
+    /**
+     * Stratégie d'un siège IA pendant la génération : recherche le coup et, dans les premiers tours,
+     * le compte sous l'empreinte locale de la situation.
+     */
+    private static final class StrategieEnregistree implements JoueurStrategy {
+
+        private final RechercheCoups recherche;
+        private final Map<Long, int[]> votes;
+        private final int tours;
+
+        StrategieEnregistree(RechercheCoups recherche, Map<Long, int[]> votes, int tours) {
+            this.recherche = recherche;
+            this.votes = votes;
+            this.tours = tours;
+        }
+
+        @Override
+        public void appliquerStrategie(Combattant combattant, Grille grille) {
+            int coup = recherche.choisirCoup(combattant, grille);
+            if (grille.getTourCourant() < tours) {
+                votes.compute(Empreinte.calculerLocale(combattant, grille), (empreinte, compte) -> {
+                    int[] resultat = compte != null ? compte : new int[Coup.NOMBRE];
+                    resultat[coup]++;
+                    return resultat;
+                });
+            }
+            if (!Coup.appliquer(coup, combattant, grille)) {
+                combattant.attendre();
+            }
+        }
+    }
+
+    private final List<Siege> sieges;
+    private final int tours;
+    private final Map<Difficulte, Map<Long, int[]>> votesParDifficulte = new EnumMap<>(Difficulte.class);
+
+    /**
+     * Constructeur de la classe GenerateurLivre.
+     *
+     * @param sieges Les sièges des parties, dans l'ordre de jeu.
+     * @param tours  Le nombre de tours de joueur couverts depuis le début de la partie.
+     * @throws IllegalArgumentException Si le nombre de tours n'est pas positif ou si aucun siège n'utilise de recherche.
+     */
+    public GenerateurLivre(List<Siege> sieges, int tours) {
+        if (tours <= 0) {
+            throw new IllegalArgumentException("Le nombre de tours doit être positif.");
+        }
+        this.sieges = new ArrayList<>(sieges);
+        this.tours = tours;
+        for (Siege siege : this.sieges) {
+            if (siege.rechercheEnInformationComplete()) {
+                votesParDifficulte.putIfAbsent(siege.getDifficulte(), new ConcurrentHashMap<>());
+            }
+        }
+        if (votesParDifficulte.isEmpty()) {
+            throw new IllegalArgumentException("Aucun siège IA n'utilise de recherche : il n'y a pas de livre à produire.");
+        }
+    }
+
+    /**
+     * Joue les premiers tours d'une partie en comptant les coups des sièges IA.
+     *
+     * @param graine   La graine de la partie, qui fixe la grille et les combattants.
+     * @param variante Le numéro de la variante, qui fixe avec la graine les tirages des stratégies.
+     */
+    public void explorer(long graine, int variante) {
+        Random aleaVariante = new Random(graine * 0x9E3779B97F4A7C15L + variante);
+        int toursComplets = (tours + sieges.size() - 1) / sieges.size();
+        PartieAutomatique partie = new PartieAutomatique(sieges, toursComplets) {
+            @Override
+            protected TypeJoueur creerJoueur(int indexSiege, List<Combattant> combattants, MessageHandler messageHandler, Random random) {
+                Siege siege = sieges.get(indexSiege);
+                Random aleaSiege = new Random(aleaVariante.nextLong());
+                if (!siege.rechercheEnInformationComplete() || siege.getParametres() != null) {
+                    return super.creerJoueur(indexSiege, combattants, messageHandler, aleaSiege);
+                }
+                try {
+                    RechercheCoups recherche = new RechercheCoups(siege.getDifficulte(),
+                            EvaluateurLineaire.depuisConfiguration(), aleaSiege);
+                    return new TypeJoueur(siege.getType(), combattants,
+                            new StrategieEnregistree(recherche, votesParDifficulte.get(siege.getDifficulte()), tours));
+                } catch (Exception e) {
+                    throw new IllegalStateException("Poids d'évaluation indisponibles : " + e.getMessage(), e);
+                }
+            }
+        };
+        partie.jouer(graine);
+    }
+
+    /**
+     * Écrit un livre par niveau de difficulté.
+     *
+     * @return Les fichiers écrits, par difficulté.
+     * @throws Exception En cas de problème d'écriture.
+     */
+    public Map<Difficulte, Path> ecrire() throws Exception {
+        Map<Difficulte, Path> fichiers = new EnumMap<>(Difficulte.class);
+        for (Map.Entry<Difficulte, Map<Long, int[]>> entree : votesParDifficulte.entrySet()) {
+            Path fichier = LivreOuvertures.fichier(entree.getKey());
+            LivreOuvertures.ecrire(fichier, entree.getKey(), tours, coupsMajoritaires(entree.getValue()));
+            fichiers.put(entree.getKey(), fichier);
+        }
+        return fichiers;
+    }
+
+    /**
+     * Retient pour chaque empreinte le coup le plus souvent choisi, le plus petit code l'emportant
+     * en cas d'égalité.
+     *
+     * @param votes Le nombre de choix de chaque coup, par empreinte.
+     * @return Le coup majoritaire, par empreinte.
+     */
+    private static Map<Long, Integer> coupsMajoritaires(Map<Long, int[]> votes) {
+        Map<Long, Integer> coups = new HashMap<>();
+        for (Map.Entry<Long, int[]> entree : votes.entrySet()) {
+            int[] compte = entree.getValue();
+            int meilleur = 0;
+            for (int coup = 1; coup < compte.length; coup++) {
+                if (compte[coup] > compte[meilleur]) {
+                    meilleur = coup;
+                }
+            }
+            coups.put(entree.getKey(), meilleur);
+        }
+        return coups;
+    }
+
+    /**
+     * Obtient le nombre d'états retenus pour un niveau de difficulté.
+     *
+     * @param difficulte Le niveau de difficulté.
+     * @return Le nombre d'empreintes locales distinctes.
+     */
+    public int getNombreEtats(Difficulte difficulte) {
+        Map<Long, int[]> votes = votesParDifficulte.get(difficulte);
+        return votes == null ? 0 : votes.size();
+    }
+
+    /**
+     * Point d'entrée : explore les premiers tours d'une série de parties et écrit les livres.
+     *
+     * @param args [parties] [graine] [tours] [variantes] [threads] [siège...]
+     */
+    public static void main(String[] args) throws Exception {
+        ConfigLoader.load();
+
+        int parties = args.length > 0 ? Integer.parseInt(args[0]) : 100;
+        long graine = args.length > 1 ? Long.parseLong(args[1]) : 1;
+        int tours = args.length > 2 ? Integer.parseInt(args[2]) : 8;
+        int variantes = args.length > 3 ? Integer.parseInt(args[3]) : 8;
+        int threads = args.length > 4 ? Integer.parseInt(args[4]) : Runtime.getRuntime().availableProcessors();
+        List<Siege> sieges = new ArrayList<>();
+        for (int i = 5; i < args.length; i++) {
+            sieges.add(Siege.depuisTexte(args[i]));
+        }
+        if (sieges.isEmpty()) {
+            sieges.add(new Siege(TypeJoueurEnum.AI, Difficulte.NORMAL));
+            sieges.add(new Siege(TypeJoueurEnum.AI, Difficulte.FACILE));
+            sieges.add(new Siege(TypeJoueurEnum.ALEATOIRE, Difficulte.FACILE));
+        }
+
+        GenerateurLivre generateur = new GenerateurLivre(sieges, tours);
+        ExecutorService executeur = Executors.newFixedThreadPool(threads);
+        long debut = System.nanoTime();
+        try {
+            List<Future<?>> explorations = new ArrayList<>();
+            for (int i = 0; i < parties; i++) {
+                for (int v = 0; v < variantes; v++) {
+                    long graineCourante = graine + i;
+                    int variante = v;
+                    explorations.add(executeur.submit(() -> generateur.explorer(graineCourante, variante)));
+                }
+            }
+            for (Future<?> exploration : explorations) {
+                exploration.get();
+            }
+        } finally {
+            executeur.shutdown();
+        }
+        double secondes = (System.nanoTime() - debut) / 1e9;
+
+        System.out.println(String.format("%nExploration : %d parties x %d variantes en %.2f s", parties, variantes, secondes));
+        for (Map.Entry<Difficulte, Path> entree : generateur.ecrire().entrySet()) {
+            System.out.println("  " + entree.getKey() + " : " + generateur.getNombreEtats(entree.getKey())
+                    + " état(s) écrits dans " + entree.getValue().toAbsolutePath());
+        }
+    }
+}
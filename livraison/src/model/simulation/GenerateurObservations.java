@@ -0,0 +1,192 @@
+package model.simulation;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import model.Combattant;
+import model.Grille;
+import model.factoryJoueur.JoueurFactory.TypeJoueurEnum;
+import model.factoryJoueur.JoueurStrategy;
+import model.factoryJoueur.TypeJoueur;
+import model.ia.Coup;
+import model.ia.Difficulte;
+import model.ia.EvaluateurLineaire;
+import model.ia.RechercheCoups;
+import model.simulation.PartieAutomatique.Siege;
+import utils.configuration.ConfigLoader;
+import utils.configuration.Parametres;
+import utils.strategyMessage.MessageHandler;
+
+/**
+ * Génération hors ligne d'observations pour l'entraînement d'un réseau de neurones.
+ * <p>
+ * Le générateur joue des parties sans affichage, avec les mêmes sièges et les mêmes graines que
+ * {@link PartieAutomatique}, et enregistre dans un {@link FichierObservations} la position vue par
+ * chaque combattant avant chacune de ses décisions. Les sièges IA qui s'appuient sur une recherche
+ * jouent le coup de la recherche, qui est enregistré avec la position ; le coup des autres sièges
+ * n'est pas connu. À la fin de chaque partie, son résultat est reporté sur toutes les positions
+ * enregistrées de chaque siège.
+ * <p>
+ * Utilisation : {@code java model.simulation.GenerateurObservations [parties] [graine] [capacité] [threads] [fichier] [siège...]}.
+ */
+public class GenerateurObservations {
+
+    /**
+     * Stratégie d'un siège pendant la génération : enregistre la position de chaque combattant,
+     * puis joue le coup de la recherche ou délègue à la stratégie habituelle du siège.
+     */
+    private final class StrategieObservee implements JoueurStrategy {
+
+        private final JoueurStrategy strategie;
+        private final RechercheCoups recherche;
+        private final List<Integer> etats;
+        private List<Combattant> equipe = Collections.emptyList();
+
+        StrategieObservee(JoueurStrategy strategie, RechercheCoups recherche, List<Integer> etats) {
+            this.strategie = strategie;
+            this.recherche = recherche;
+            this.etats = etats;
+        }
+
+        @Override
+        public void preparerTour(List<Combattant> combattants, Grille grille) {
+            equipe = combattants;
+            if (strategie != null) {
+                strategie.preparerTour(combattants, grille);
+            }
+        }
+
+        @Override
+        public void appliquerStrategie(Combattant combattant, Grille grille) {
+            int coup = recherche != null ? recherche.choisirCoup(combattant, grille) : FichierObservations.COUP_INCONNU;
+            int index = fichier.ajouter(combattant, equipe, grille, coup);
+            if (index >= 0) {
+                etats.add(index);
+            }
+            if (recherche == null) {
+                strategie.appliquerStrategie(combattant, grille);
+            } else if (!Coup.appliquer(coup, combattant, grille)) {
+                combattant.attendre();
+            }
+        }
+    }
+
+    private final List<Siege> sieges;
+    private final FichierObservations fichier;
+    private final int toursMax;
+
+    /**
+     * Constructeur de la classe GenerateurObservations.
+     *
+     * @param sieges   Les sièges des parties, dans l'ordre de jeu.
+     * @param fichier  Le fichier où enregistrer les positions.
+     * @param toursMax Le nombre maximal de tours complets d'une partie.
+     * @throws IllegalArgumentException Si le fichier est nul.
+     */
+    public GenerateurObservations(List<Siege> sieges, FichierObservations fichier, int toursMax) {
+        if (fichier == null) {
+            throw new IllegalArgumentException("Le fichier d'observations ne peut pas être nul.");
+        }
+        this.sieges = new ArrayList<>(sieges);
+        this.fichier = fichier;
+        this.toursMax = toursMax;
+    }
+
+    /**
+     * Joue une partie en enregistrant les positions de tous les sièges.
+     *
+     * @param graine La graine de la partie.
+     * @return false si le fichier est plein, true sinon.
+     */
+    public boolean enregistrer(long graine) {
+        if (fichier.getNombre() >= fichier.getCapacite()) {
+            return false;
+        }
+        List<List<Integer>> etatsParSiege = new ArrayList<>();
+        for (int i = 0; i < sieges.size(); i++) {
+            etatsParSiege.add(new ArrayList<>());
+        }
+        PartieAutomatique partie = new PartieAutomatique(sieges, toursMax) {
+            @Override
+            protected TypeJoueur creerJoueur(int indexSiege, List<Combattant> combattants, MessageHandler messageHandler, Random random) {
+                Siege siege = sieges.get(indexSiege);
+                List<Integer> etats = etatsParSiege.get(indexSiege);
+                if (!siege.rechercheEnInformationComplete() || siege.getParametres() != null) {
+                    TypeJoueur joueur = super.creerJoueur(indexSiege, combattants, messageHandler, random);
+                    return new TypeJoueur(siege.getType(), combattants, new StrategieObservee(joueur.getStrategie(), null, etats));
+                }
+                try {
+                    RechercheCoups recherche = new RechercheCoups(siege.getDifficulte(),
+                            EvaluateurLineaire.depuisConfiguration(), random);
+                    return new TypeJoueur(siege.getType(), combattants, new StrategieObservee(null, recherche, etats));
+                } catch (Exception e) {
+                    throw new IllegalStateException("Poids d'évaluation indisponibles : " + e.getMessage(), e);
+                }
+            }
+        };
+        int gagnant = partie.jouer(graine);
+
+        for (int i = 0; i < etatsParSiege.size(); i++) {
+            float resultat = gagnant < 0 ? 0f : gagnant == i ? 1f : -1f;
+            for (int index : etatsParSiege.get(i)) {
+                fichier.setResultat(index, resultat);
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Point d'entrée : joue une série de parties et enregistre leurs positions.
+     *
+     * @param args [parties] [graine] [capacité] [threads] [fichier] [siège...]
+     */
+    public static void main(String[] args) throws Exception {
+        ConfigLoader.load();
+
+        int parties = args.length > 0 ? Integer.parseInt(args[0]) : 1000;
+        long graine = args.length > 1 ? Long.parseLong(args[1]) : 1;
+        int capacite = args.length > 2 ? Integer.parseInt(args[2]) : 1_000_000;
+        int threads = args.length > 3 ? Integer.parseInt(args[3]) : Runtime.getRuntime().availableProcessors();
+        Path chemin = Paths.get(args.length > 4 ? args[4] : "observations.bin");
+        List<Siege> sieges = new ArrayList<>();
+        for (int i = 5; i < args.length; i++) {
+            sieges.add(Siege.depuisTexte(args[i]));
+        }
+        if (sieges.isEmpty()) {
+            sieges.add(new Siege(TypeJoueurEnum.AI, Difficulte.NORMAL));
+            sieges.add(new Siege(TypeJoueurEnum.AI, Difficulte.FACILE));
+            sieges.add(new Siege(TypeJoueurEnum.ALEATOIRE, Difficulte.FACILE));
+        }
+
+        long debut = System.nanoTime();
+        int etats;
+        try (FichierObservations fichier = FichierObservations.creer(chemin, Parametres.largeur, Parametres.longueur, capacite)) {
+            GenerateurObservations generateur = new GenerateurObservations(sieges, fichier, PartieAutomatique.TOURS_MAX_DEFAUT);
+            ExecutorService executeur = Executors.newFixedThreadPool(threads);
+            try {
+                List<Future<Boolean>> enregistrements = new ArrayList<>();
+                for (int i = 0; i < parties; i++) {
+                    long graineCourante = graine + i;
+                    enregistrements.add(executeur.submit(() -> generateur.enregistrer(graineCourante)));
+                }
+                for (Future<Boolean> enregistrement : enregistrements) {
+                    enregistrement.get();
+                }
+            } finally {
+                executeur.shutdown();
+            }
+            etats = fichier.getNombre();
+        }
+        double secondes = (System.nanoTime() - debut) / 1e9;
+
+        System.out.println(String.format("%nObservations : %d état(s) de %d parties en %.2f s (%.0f états/s), écrits dans %s",
+                etats, parties, secondes, etats / secondes, chemin.toAbsolutePath()));
+    }
+}
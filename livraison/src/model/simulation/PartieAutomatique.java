@@ -0,0 +1,318 @@
+package model.simulation;
+
+import java.io.IOException;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.TreeMap;
+
+import model.Combattant;
+import model.Grille;
+import model.combattantFactory.CombattantFactory;
+import model.factoryJoueur.AIJoueur;
+import model.factoryJoueur.JoueurFactory;
+import model.factoryJoueur.JoueurFactory.TypeJoueurEnum;
+import model.factoryJoueur.Mode;
+import model.factoryJoueur.TypeJoueur;
+import model.ia.Difficulte;
+import model.ia.ParametresIA;
+import utils.configuration.ConfigLoader;
+import utils.configuration.Parametres;
+import utils.strategyMessage.MessageHandler;
+import utils.strategyMessage.SilencieuxMessageHandler;
+
+/**
+ * Partie sans affichage entre joueurs automatiques (IA et aléatoires).
+ * <p>
+ * Chaque joueur occupe un siège défini par son type et, pour une IA, son niveau de difficulté.
+ * La partie se déroule comme dans le mode console : chaque joueur joue son tour, puis les
+ * explosions différées sont gérées, jusqu'à ce qu'il ne reste qu'un combattant ou que le nombre
+ * maximal de tours soit atteint. Une graine rend la génération de la grille et des combattants
+ * reproductible, ainsi que les tirages des stratégies, qui reçoivent chacune un générateur dérivé
+ * de cette graine.
+ * <p>
+ * Utilisation : {@code java model.simulation.PartieAutomatique [parties] [graine] [siège...]},
+ * où un siège s'écrit {@code AI:EXPERT}, {@code AI} (niveau FACILE), {@code ALEATOIRE} ou {@code RESEAU}. Un siège
+ * AI peut utiliser un autre profil de paramètres que {@code config/ia.xml} : {@code AI:FACILE@profil.xml}, et
+ * fixer l'information disponible pour sa recherche : {@code AI:DIFFICILE:IMPARFAITE} (vue filtrée seule).
+ * <p>
+ * Une instance ne conserve aucun état entre deux parties : plusieurs parties peuvent être jouées
+ * en parallèle avec la même instance.
+ */
+public class PartieAutomatique {
+
+    /** Nombre maximal de tours complets avant de déclarer la partie nulle. */
+    public static final int TOURS_MAX_DEFAUT = 300;
+
+    /**
+     * Siège d'une partie automatique : type de joueur et niveau de difficulté.
+     */
+    public static class Siege {
+
+        private final TypeJoueurEnum type;
+        private final Difficulte difficulte;
+        private final ParametresIA parametres;
+        private final Boolean informationImparfaite;
+
+        /**
+         * Constructeur de la classe Siege, avec le profil de paramètres par défaut.
+         *
+         * @param type       Le type de joueur (AI, ALEATOIRE ou RESEAU).
+         * @param difficulte Le niveau de difficulté, utilisé pour les joueurs AI.
+         * @throws IllegalArgumentException Si le type est nul ou humain.
+         */
+        public Siege(TypeJoueurEnum type, Difficulte difficulte) {
+            this(type, difficulte, null);
+        }
+
+        /**
+         * Constructeur de la classe Siege.
+         *
+         * @param type       Le type de joueur (AI, ALEATOIRE ou RESEAU).
+         * @param difficulte Le niveau de difficulté, utilisé pour les joueurs AI.
+         * @param parametres Le profil des règles heuristiques des joueurs AI, ou null pour {@code config/ia.xml}.
+         * @throws IllegalArgumentException Si le type est nul ou humain.
+         */
+        public Siege(TypeJoueurEnum type, Difficulte difficulte, ParametresIA parametres) {
+            this(type, difficulte, parametres, null);
+        }
+
+        /**
+         * Constructeur de la classe Siege, avec le choix de l'information disponible pour la recherche.
+         *
+         * @param type                  Le type de joueur (AI, ALEATOIRE ou RESEAU).
+         * @param difficulte            Le niveau de difficulté, utilisé pour les joueurs AI.
+         * @param parametres            Le profil des règles heuristiques des joueurs AI, ou null pour {@code config/ia.xml}.
+         * @param informationImparfaite true pour une IA qui ne joue que sur sa vue filtrée, false pour une IA
+         *                              qui voit toute la grille, null pour le réglage de la configuration.
+         * @throws IllegalArgumentException Si le type est nul ou humain.
+         */
+        public Siege(TypeJoueurEnum type, Difficulte difficulte, ParametresIA parametres, Boolean informationImparfaite) {
+            if (type == null || difficulte == null) {
+                throw new IllegalArgumentException("Le type et la difficulté du siège ne peuvent pas être nuls.");
+            }
+            if (type == TypeJoueurEnum.HUMAIN) {
+                throw new IllegalArgumentException("Un joueur humain ne peut pas participer à une partie sans affichage.");
+            }
+            this.type = type;
+            this.difficulte = difficulte;
+            this.parametres = parametres;
+            this.informationImparfaite = informationImparfaite;
+        }
+
+        /**
+         * Lit un siège écrit sous la forme {@code TYPE}, {@code TYPE:DIFFICULTE} ou {@code TYPE:DIFFICULTE@profil.xml},
+         * la difficulté pouvant être suivie de {@code :IMPARFAITE} ou {@code :COMPLETE} pour fixer l'information
+         * disponible pour la recherche.
+         *
+         * @param texte Le texte du siège (ex : "AI:DIFFICILE").
+         * @return Le siège correspondant.
+         * @throws IllegalArgumentException Si le type, la difficulté, l'information ou le profil est invalide.
+         */
+        public static Siege depuisTexte(String texte) {
+            String[] siegeEtProfil = texte.split("@", 2);
+            String[] parties = siegeEtProfil[0].split(":");
+            TypeJoueurEnum type = TypeJoueurEnum.fromString(parties[0].trim());
+            Difficulte difficulte = parties.length > 1 ? Difficulte.fromString(parties[1]) : Difficulte.PAR_DEFAUT;
+            Boolean informationImparfaite = null;
+            if (parties.length > 2) {
+                String information = parties[2].trim().toUpperCase();
+                if (!information.equals("IMPARFAITE") && !information.equals("COMPLETE")) {
+                    throw new IllegalArgumentException("Information inconnue : " + parties[2] + " (IMPARFAITE ou COMPLETE).");
+                }
+                informationImparfaite = information.equals("IMPARFAITE");
+            }
+            ParametresIA parametres = null;
+            if (siegeEtProfil.length > 1) {
+                try {
+                    parametres = ParametresIA.charger(Paths.get(siegeEtProfil[1]));
+                } catch (IOException e) {
+                    throw new IllegalArgumentException("Profil IA invalide : " + siegeEtProfil[1], e);
+                }
+            }
+            return new Siege(type, difficulte, parametres, informationImparfaite);
+        }
+
+        public TypeJoueurEnum getType() {
+            return type;
+        }
+
+        public Difficulte getDifficulte() {
+            return difficulte;
+        }
+
+        public ParametresIA getParametres() {
+            return parametres;
+        }
+
+        public Boolean getInformationImparfaite() {
+            return informationImparfaite;
+        }
+
+        /**
+         * Indique si le joueur de ce siège choisit ses coups par une recherche qui voit toute la
+         * grille, seule à consulter les livres d'ouvertures.
+         *
+         * @return true pour un joueur AI à recherche en information complète.
+         */
+        boolean rechercheEnInformationComplete() {
+            boolean imparfaite = informationImparfaite != null ? informationImparfaite : Parametres.informationImparfaiteIA;
+            return type == TypeJoueurEnum.AI && difficulte.utiliseRecherche() && !imparfaite;
+        }
+
+        /**
+         * Crée le joueur occupant ce siège.
+         *
+         * @param combattants    Les combattants du joueur.
+         * @param messageHandler Le gestionnaire de messages de la partie.
+         * @param random         Le générateur de tous les tirages de la stratégie, dérivé de la graine
+         *                       de la partie pour que deux parties de même graine se jouent à l'identique.
+         * @return Le joueur.
+         */
+        TypeJoueur creerJoueur(List<Combattant> combattants, MessageHandler messageHandler, Random random) {
+            if (type == TypeJoueurEnum.AI) {
+                return new TypeJoueur(type, combattants, new AIJoueur(messageHandler, Mode.SIMULATION, difficulte,
+                        parametres != null ? parametres : ParametresIA.depuisConfiguration(),
+                        informationImparfaite != null ? informationImparfaite : Parametres.informationImparfaiteIA, random));
+            }
+            return JoueurFactory.creerJoueurAvecStrategie(type, combattants, Mode.SIMULATION, difficulte, random);
+        }
+
+        @Override
+        public String toString() {
+            String texte = type == TypeJoueurEnum.AI ? type + ":" + difficulte : type.toString();
+            if (type == TypeJoueurEnum.AI && informationImparfaite != null) {
+                texte += informationImparfaite ? ":IMPARFAITE" : ":COMPLETE";
+            }
+            return parametres != null ? texte + "@profil" : texte;
+        }
+    }
+
+    private final List<Siege> sieges;
+    private final int toursMax;
+
+    /**
+     * Constructeur de la classe PartieAutomatique.
+     *
+     * @param sieges   Les sièges de la partie, dans l'ordre de jeu.
+     * @param toursMax Le nombre maximal de tours complets.
+     * @throws IllegalArgumentException Si moins de deux sièges sont fournis ou si le nombre de tours est invalide.
+     */
+    public PartieAutomatique(List<Siege> sieges, int toursMax) {
+        if (sieges == null || sieges.size() < 2) {
+            throw new IllegalArgumentException("Une partie nécessite au moins deux sièges.");
+        }
+        if (toursMax <= 0) {
+            throw new IllegalArgumentException("Le nombre maximal de tours doit être positif.");
+        }
+        this.sieges = new ArrayList<>(sieges);
+        this.toursMax = toursMax;
+    }
+
+    /**
+     * Joue une partie complète.
+     *
+     * @param graine La graine de génération de la grille et des combattants.
+     * @return L'index du siège gagnant, ou -1 si la partie est nulle.
+     */
+    public int jouer(long graine) {
+        MessageHandler messageHandler = new SilencieuxMessageHandler();
+        Random random = new Random(graine);
+        Grille grille = new Grille(messageHandler, graine);
+        grille.placerMurs();
+        grille.placerPastillesEnergie();
+
+        List<TypeJoueur> joueurs = new ArrayList<>();
+        for (int i = 0; i < sieges.size(); i++) {
+            List<Combattant> combattants = CombattantFactory.creerListeCombattants(1, grille, messageHandler, random);
+            joueurs.add(creerJoueur(i, combattants, messageHandler, new Random(random.nextLong())));
+        }
+        for (TypeJoueur joueur : joueurs) {
+            grille.placerCombattants(joueur.getCombattants());
+        }
+
+        for (int tour = 0; tour < toursMax; tour++) {
+            for (TypeJoueur joueur : joueurs) {
+                joueur.jouerTour(grille);
+                grille.gererExplosionsDifferrees();
+                if (grille.isOver()) {
+                    return indexGagnant(joueurs, grille.getWinner());
+                }
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Crée le joueur d'un siège au début d'une partie. Les sous-classes peuvent remplacer la
+     * stratégie d'un siège, par exemple pour observer ses décisions.
+     *
+     * @param indexSiege     L'index du siège.
+     * @param combattants    Les combattants du joueur.
+     * @param messageHandler Le gestionnaire de messages de la partie.
+     * @param random         Le générateur de la stratégie, dérivé de la graine de la partie.
+     * @return Le joueur.
+     */
+    protected TypeJoueur creerJoueur(int indexSiege, List<Combattant> combattants, MessageHandler messageHandler, Random random) {
+        return sieges.get(indexSiege).creerJoueur(combattants, messageHandler, random);
+    }
+
+    /**
+     * Retrouve le siège du combattant gagnant.
+     */
+    private static int indexGagnant(List<TypeJoueur> joueurs, Combattant gagnant) {
+        for (int i = 0; i < joueurs.size(); i++) {
+            if (joueurs.get(i).getCombattants().contains(gagnant)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Obtient les sièges de la partie.
+     *
+     * @return Les sièges, dans l'ordre de jeu.
+     */
+    public List<Siege> getSieges() {
+        return new ArrayList<>(sieges);
+    }
+
+    /**
+     * Point d'entrée : joue une série de parties et affiche les victoires par siège.
+     *
+     * @param args [parties] [graine] [siège...]
+     */
+    public static void main(String[] args) throws Exception {
+        ConfigLoader.load();
+
+        int parties = args.length > 0 ? Integer.parseInt(args[0]) : 100;
+        long graine = args.length > 1 ? Long.parseLong(args[1]) : System.nanoTime();
+        List<Siege> sieges = new ArrayList<>();
+        for (int i = 2; i < args.length; i++) {
+            sieges.add(Siege.depuisTexte(args[i]));
+        }
+        if (sieges.isEmpty()) {
+            sieges.add(new Siege(TypeJoueurEnum.AI, Difficulte.NORMAL));
+            sieges.add(new Siege(TypeJoueurEnum.AI, Difficulte.FACILE));
+            sieges.add(new Siege(TypeJoueurEnum.ALEATOIRE, Difficulte.FACILE));
+        }
+
+        PartieAutomatique partie = new PartieAutomatique(sieges, TOURS_MAX_DEFAUT);
+        Map<Integer, Integer> victoires = new TreeMap<>();
+        long debut = System.nanoTime();
+        for (int i = 0; i < parties; i++) {
+            victoires.merge(partie.jouer(graine + i), 1, Integer::sum);
+        }
+        double secondes = (System.nanoTime() - debut) / 1e9;
+
+        System.out.println("\nParties : " + parties + " en " + String.format("%.2f", secondes) + " s ("
+                + String.format("%.1f", parties / secondes) + " parties/s)");
+        for (int i = 0; i < sieges.size(); i++) {
+            System.out.println("  Siège " + i + " (" + sieges.get(i) + ") : " + victoires.getOrDefault(i, 0) + " victoire(s)");
+        }
+        System.out.println("  Parties nulles : " + victoires.getOrDefault(-1, 0));
+    }
+}
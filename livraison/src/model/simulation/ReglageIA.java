@@ -0,0 +1,227 @@
+package model.simulation;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import model.factoryJoueur.JoueurFactory.TypeJoueurEnum;
+import model.ia.Difficulte;
+import model.ia.ParametresIA;
+import model.simulation.PartieAutomatique.Siege;
+import utils.configuration.ConfigLoader;
+
+/**
+ * Réglage automatique des paramètres des règles heuristiques de l'IA par parties simulées.
+ * <p>
+ * Le réglage suit la méthode SPSA (approximation stochastique par perturbations simultanées) :
+ * à chaque itération, le vecteur normalisé des paramètres ({@link ParametresIA#versVecteur()})
+ * est perturbé dans les deux sens selon une direction aléatoire, les deux candidats jouent le même
+ * lot de parties (mêmes graines) contre des adversaires de référence, et l'écart de taux de victoire
+ * donne une estimation du gradient. Les stratégies de tous les sièges tirent leurs coups de
+ * générateurs dérivés de la graine de la partie : les deux candidats affrontent donc les mêmes
+ * aléas, et seul leur profil explique l'écart. Les parties d'une itération sont réparties sur tous les cœurs.
+ * <p>
+ * Le candidat occupe tour à tour chaque siège, face à deux IA au profil {@code config/ia.xml} et
+ * un joueur aléatoire. À la fin, le profil réglé est comparé au profil de départ sur un lot de
+ * validation et le meilleur des deux est écrit dans un fichier lisible par {@link ParametresIA#charger(Path)}.
+ * <p>
+ * Utilisation : {@code java model.simulation.ReglageIA [itérations] [parties] [threads] [fichier]}.
+ */
+public class ReglageIA {
+
+    /** Coefficients usuels de décroissance des pas de SPSA. */
+    private static final double ALPHA = 0.602;
+    private static final double GAMMA = 0.101;
+
+    /** Pas initial de mise à jour et amplitude initiale des perturbations, en valeurs normalisées. */
+    private static final double PAS = 0.2;
+    private static final double PERTURBATION = 0.1;
+
+    private final int iterations;
+    private final int partiesParEvaluation;
+    private final ExecutorService executeur;
+    private final int threads;
+    private final Random random;
+
+    private long partiesJouees;
+    private long dureeNanos;
+
+    /**
+     * Constructeur de la classe ReglageIA.
+     *
+     * @param iterations           Le nombre d'itérations de SPSA.
+     * @param partiesParEvaluation Le nombre de parties jouées pour évaluer un candidat.
+     * @param threads              Le nombre de parties jouées en parallèle.
+     * @param graine               La graine des perturbations et des parties.
+     * @throws IllegalArgumentException Si l'un des nombres n'est pas positif.
+     */
+    public ReglageIA(int iterations, int partiesParEvaluation, int threads, long graine) {
+        if (iterations <= 0 || partiesParEvaluation <= 0 || threads <= 0) {
+            throw new IllegalArgumentException("Les itérations, les parties et les threads doivent être positifs.");
+        }
+        this.iterations = iterations;
+        this.partiesParEvaluation = partiesParEvaluation;
+        this.threads = threads;
+        this.executeur = Executors.newFixedThreadPool(threads);
+        this.random = new Random(graine);
+    }
+
+    /**
+     * Règle un profil à partir d'un profil de départ.
+     *
+     * @param depart Le profil de départ.
+     * @return Le profil réglé.
+     * @throws Exception Si une partie échoue.
+     */
+    public ParametresIA regler(ParametresIA depart) throws Exception {
+        double[] theta = depart.versVecteur();
+        int dimension = theta.length;
+        double stabilite = iterations / 10.0;
+
+        for (int k = 0; k < iterations; k++) {
+            double pas = PAS / Math.pow(k + 1 + stabilite, ALPHA);
+            double perturbation = PERTURBATION / Math.pow(k + 1, GAMMA);
+
+            double[] delta = new double[dimension];
+            double[] plus = new double[dimension];
+            double[] moins = new double[dimension];
+            for (int i = 0; i < dimension; i++) {
+                delta[i] = random.nextBoolean() ? 1 : -1;
+                plus[i] = borner(theta[i] + perturbation * delta[i]);
+                moins[i] = borner(theta[i] - perturbation * delta[i]);
+            }
+
+            long graine = random.nextLong();
+            double[] scores = evaluer(graine, partiesParEvaluation,
+                    ParametresIA.depuisVecteur(plus), ParametresIA.depuisVecteur(moins));
+
+            for (int i = 0; i < dimension; i++) {
+                double gradient = (scores[0] - scores[1]) / (2 * perturbation * delta[i]);
+                theta[i] = borner(theta[i] + pas * gradient);
+            }
+
+            System.out.println(String.format("Itération %d/%d : victoires + %.3f, - %.3f, débit %.1f parties/s",
+                    k + 1, iterations, scores[0], scores[1], getPartiesParSeconde()));
+        }
+
+        return ParametresIA.depuisVecteur(theta);
+    }
+
+    /**
+     * Évalue plusieurs profils sur le même lot de parties, en parallèle.
+     *
+     * @param graine  La graine du lot de parties.
+     * @param parties Le nombre de parties par profil.
+     * @param profils Les profils à évaluer.
+     * @return Le taux de victoire de chaque profil.
+     * @throws Exception Si une partie échoue.
+     */
+    public double[] evaluer(long graine, int parties, ParametresIA... profils) throws Exception {
+        long debut = System.nanoTime();
+        List<List<Future<Boolean>>> resultats = new ArrayList<>();
+        for (ParametresIA profil : profils) {
+            List<Future<Boolean>> victoires = new ArrayList<>();
+            for (int j = 0; j < parties; j++) {
+                long graineCourante = graine + j;
+                int siegeCandidat = j % 4;
+                victoires.add(executeur.submit(() -> jouerPartie(profil, siegeCandidat, graineCourante)));
+            }
+            resultats.add(victoires);
+        }
+
+        double[] scores = new double[profils.length];
+        for (int p = 0; p < profils.length; p++) {
+            int victoires = 0;
+            for (Future<Boolean> victoire : resultats.get(p)) {
+                if (victoire.get()) {
+                    victoires++;
+                }
+            }
+            scores[p] = (double) victoires / parties;
+        }
+
+        partiesJouees += (long) parties * profils.length;
+        dureeNanos += System.nanoTime() - debut;
+        return scores;
+    }
+
+    /**
+     * Joue une partie du candidat contre les adversaires de référence.
+     *
+     * @return true si le candidat gagne.
+     */
+    private static boolean jouerPartie(ParametresIA candidat, int siegeCandidat, long graine) {
+        List<Siege> sieges = new ArrayList<>();
+        sieges.add(new Siege(TypeJoueurEnum.AI, Difficulte.FACILE));
+        sieges.add(new Siege(TypeJoueurEnum.AI, Difficulte.FACILE));
+        sieges.add(new Siege(TypeJoueurEnum.ALEATOIRE, Difficulte.FACILE));
+        sieges.add(siegeCandidat, new Siege(TypeJoueurEnum.AI, Difficulte.FACILE, candidat));
+        PartieAutomatique partie = new PartieAutomatique(sieges, PartieAutomatique.TOURS_MAX_DEFAUT);
+        return partie.jouer(graine) == siegeCandidat;
+    }
+
+    /**
+     * Obtient le débit moyen depuis le début du réglage.
+     *
+     * @return Le nombre de parties jouées par seconde.
+     */
+    public double getPartiesParSeconde() {
+        return dureeNanos == 0 ? 0 : partiesJouees / (dureeNanos / 1e9);
+    }
+
+    /**
+     * Obtient le débit moyen par cœur depuis le début du réglage.
+     *
+     * @return Le nombre de parties jouées par seconde et par thread.
+     */
+    public double getPartiesParSecondeParCoeur() {
+        return getPartiesParSeconde() / threads;
+    }
+
+    /**
+     * Arrête les threads de jeu.
+     */
+    public void arreter() {
+        executeur.shutdown();
+    }
+
+    private static double borner(double valeur) {
+        return Math.max(0, Math.min(1, valeur));
+    }
+
+    /**
+     * Point d'entrée : règle le profil {@code config/ia.xml} et écrit le meilleur profil trouvé.
+     *
+     * @param args [itérations] [parties] [threads] [fichier]
+     */
+    public static void main(String[] args) throws Exception {
+        ConfigLoader.load();
+
+        int iterations = args.length > 0 ? Integer.parseInt(args[0]) : 50;
+        int parties = args.length > 1 ? Integer.parseInt(args[1]) : 64;
+        int threads = args.length > 2 ? Integer.parseInt(args[2]) : Runtime.getRuntime().availableProcessors();
+        Path fichier = Paths.get(args.length > 3 ? args[3] : "ia-reglee.xml");
+
+        ReglageIA reglage = new ReglageIA(iterations, parties, threads, System.nanoTime());
+        try {
+            ParametresIA depart = ParametresIA.depuisConfiguration();
+            ParametresIA regle = reglage.regler(depart);
+
+            double[] validation = reglage.evaluer(reglage.random.nextLong(), parties * 4, regle, depart);
+            ParametresIA meilleur = validation[0] >= validation[1] ? regle : depart;
+            meilleur.enregistrer(fichier);
+
+            System.out.println(String.format("%nValidation : profil réglé %.3f, profil de départ %.3f", validation[0], validation[1]));
+            System.out.println("Profil écrit dans " + fichier.toAbsolutePath() + " : " + meilleur);
+            System.out.println(String.format("Débit : %.1f parties/s sur %d thread(s), soit %.1f parties/s par cœur",
+                    reglage.getPartiesParSeconde(), threads, reglage.getPartiesParSecondeParCoeur()));
+        } finally {
+            reglage.arreter();
+        }
+    }
+}
@@ -28,6 +28,9 @@ public class ConfigLoader extends DefaultHandler {
         propertyNameToEnum.put("impactEnergieExplosif", ProprieteEquipement.IMPACT_ENERGIE);
         propertyNameToEnum.put("impactEnergieAvecBouclierExplosif", ProprieteEquipement.ENERGIE_AVEC_BOUCLIER);
         propertyNameToEnum.put("visibiliteExplosif", ProprieteEquipement.VISIBILITE);
+        propertyNameToEnum.put("rayonSouffleExplosif", ProprieteEquipement.RAYON_SOUFFLE);
+        propertyNameToEnum.put("formeSouffleExplosif", ProprieteEquipement.FORME_SOUFFLE);
+        propertyNameToEnum.put("attenuationSouffleExplosif", ProprieteEquipement.ATTENUATION_SOUFFLE);
     }
 
     /**
@@ -99,9 +102,15 @@ public class ConfigLoader extends DefaultHandler {
                 ", nombreMinMurs=" + Parametres.nombreMinMurs + ", nombreMaxMurs=" + Parametres.nombreMaxMurs +
                 "\nPastilles : nombreMinPastilles=" + Parametres.nombreMinPastilles + ", nombreMaxPastilles=" + Parametres.nombreMaxPastilles +
                 ", energiePastille=" + Parametres.energiePastille +
+                ", renaissance=" + Parametres.renaissancePastilles + " (délai " + Parametres.delaiMinRenaissancePastilles +
+                "-" + Parametres.delaiMaxRenaissancePastilles + ", plafond=" + Parametres.plafondPastilles + ")" +
                 "\nCombattants : energieInitiale=" + Parametres.energieInitiale +
                 "\nCoûts des actions : déplacement=" + Parametres.coutDeplacement + ", bouclier=" + Parametres.coutUtilisationBouclier +
-                "\nMunitions limite=" + Parametres.munitionLimite +
+                "\nVision : brouillard=" + Parametres.brouillard + ", rayonVision=" + Parametres.rayonVision +
+                "\nMunitions limite=" + Parametres.munitionLimite + ", réaction en chaîne=" + Parametres.reactionEnChaine +
+                "\nIA : plafondMillisecondes=" + Parametres.plafondMillisecondesIA + ", informationImparfaite=" + Parametres.informationImparfaiteIA +
+                ", repertoireLivres=" + Parametres.repertoireLivresIA + ", reflexion=" + Parametres.reflexionIA +
+                ", reseau=" + Parametres.fichierReseauIA +
                 "\nÉquipements : " + Parametres.equipements+"\n";
     }
 
@@ -154,6 +163,22 @@ public class ConfigLoader extends DefaultHandler {
                 Parametres.energiePastille = Integer.parseInt(value);
                 break;
 
+            case "renaissancePastilles":
+                Parametres.renaissancePastilles = Boolean.parseBoolean(value);
+                break;
+
+            case "delaiMinRenaissance":
+                Parametres.delaiMinRenaissancePastilles = Integer.parseInt(value);
+                break;
+
+            case "delaiMaxRenaissance":
+                Parametres.delaiMaxRenaissancePastilles = Integer.parseInt(value);
+                break;
+
+            case "plafondPastilles":
+                Parametres.plafondPastilles = Integer.parseInt(value);
+                break;
+
             case "energieInitiale":
                 Parametres.energieInitiale = Integer.parseInt(value);
                 break;
@@ -166,10 +191,42 @@ public class ConfigLoader extends DefaultHandler {
                 Parametres.coutUtilisationBouclier = Integer.parseInt(value);
                 break;
 
+            case "brouillard":
+                Parametres.brouillard = Boolean.parseBoolean(value);
+                break;
+
+            case "rayonVision":
+                Parametres.rayonVision = Integer.parseInt(value);
+                break;
+
+            case "reactionEnChaine":
+                Parametres.reactionEnChaine = Boolean.parseBoolean(value);
+                break;
+
             case "nombreLimite":
                 Parametres.munitionLimite = Integer.parseInt(value);
                 break;
 
+            case "plafondMillisecondes":
+                Parametres.plafondMillisecondesIA = Integer.parseInt(value);
+                break;
+
+            case "informationImparfaite":
+                Parametres.informationImparfaiteIA = Boolean.parseBoolean(value);
+                break;
+
+            case "repertoireLivres":
+                Parametres.repertoireLivresIA = value;
+                break;
+
+            case "reflexion":
+                Parametres.reflexionIA = Boolean.parseBoolean(value);
+                break;
+
+            case "reseau":
+                Parametres.fichierReseauIA = value;
+                break;
+
             default:
                 if (propertyNameToEnum.containsKey(currentElement)) {
                     if (currentEquipement != null) {
@@ -195,6 +252,7 @@ public class ConfigLoader extends DefaultHandler {
         try {
             switch (propriete) {
                 case VISIBILITE:
+                case FORME_SOUFFLE:
                     return value; 
                 default:
                     return Integer.parseInt(value); 
@@ -18,6 +18,13 @@ public class Parametres {
     public static int nombreMaxPastilles;
     public static int energiePastille;
 
+    // Les pastilles ramassées réapparaissent sur une case libre après un délai tiré entre min et max,
+    // en tours de joueur, tant que la grille compte moins de plafondPastilles pastilles
+    public static boolean renaissancePastilles;
+    public static int delaiMinRenaissancePastilles = 5;
+    public static int delaiMaxRenaissancePastilles = 15;
+    public static int plafondPastilles = 15;
+
     public static int energieInitiale;
 
     public static int coutDeplacement;
@@ -25,6 +32,28 @@ public class Parametres {
 
     public static int munitionLimite;
 
+    // Un explosif qui détone fait détoner les explosifs des cases voisines
+    public static boolean reactionEnChaine;
+
+    // Brouillard de guerre : chaque combattant ne voit que les cases en ligne de vue dans son rayon de vision
+    public static boolean brouillard;
+    public static int rayonVision = 5;
+
+    // Durée maximale d'une décision des joueurs IA, quel que soit leur niveau (0 : aucun plafond)
+    public static int plafondMillisecondesIA;
+
+    // Les joueurs IA ne voient que leur vue filtrée : les mines ennemies leur sont cachées
+    public static boolean informationImparfaiteIA;
+
+    // Répertoire des livres d'ouvertures des joueurs IA, un fichier par niveau de difficulté
+    public static String repertoireLivresIA = "livres";
+
+    // Les joueurs IA réfléchissent à leur prochain tour pendant celui des autres joueurs
+    public static boolean reflexionIA = false;
+
+    // Fichier des poids du réseau de neurones des joueurs RESEAU
+    public static String fichierReseauIA = "reseaux/politique.bin";
+
     // Équipements (armes, explosifs, pastilles)
     public static Map<TypeEquipement, Map<ProprieteEquipement, Object>> equipements = new HashMap<>();
 
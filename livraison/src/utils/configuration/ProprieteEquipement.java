@@ -16,6 +16,9 @@ public enum ProprieteEquipement {
     IMPACT_ENERGIE,
     IMPACT_ENERGIE_AVEC_BOUCLIER,
     VISIBILITE,
+    RAYON_SOUFFLE,
+    FORME_SOUFFLE,
+    ATTENUATION_SOUFFLE,
 
     // Propriétés spécifiques aux pastilles
     NOMBRE_MIN,
@@ -0,0 +1,89 @@
+package utils.configuration;
+
+import org.xml.sax.Attributes;
+import org.xml.sax.SAXException;
+import org.xml.sax.helpers.DefaultHandler;
+import javax.xml.parsers.SAXParser;
+import javax.xml.parsers.SAXParserFactory;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.io.InputStream;
+import java.io.FileNotFoundException;
+
+/**
+ * Chargeur de fichiers XML de valeurs numériques (poids d'évaluation, profils d'IA, etc.).
+ * <p>
+ * Chaque élément feuille est enregistré sous son nom d'élément, quelle que soit sa profondeur dans
+ * le document ; son contenu doit être un nombre.
+ */
+public class ValeursLoader extends DefaultHandler {
+
+    private String currentElement;
+    private final Map<String, Double> valeurs = new LinkedHashMap<>();
+
+    /**
+     * Charge un fichier de valeurs depuis le classpath.
+     *
+     * @param cheminRessource Chemin du fichier dans le classpath (ex : "config/evaluation.xml").
+     * @return Les valeurs lues, indexées par nom d'élément.
+     * @throws SAXException En cas de problème de lecture ou de parsing.
+     * @throws IllegalArgumentException Si le contenu d'un élément n'est pas un nombre.
+     */
+    public static Map<String, Double> load(String cheminRessource) throws SAXException {
+        try (InputStream inputStream = ValeursLoader.class.getClassLoader().getResourceAsStream(cheminRessource)) {
+            if (inputStream == null) {
+                throw new FileNotFoundException("Fichier '" + cheminRessource + "' non trouvé dans le classpath.");
+            }
+            return load(inputStream);
+        } catch (SAXException | IllegalArgumentException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new SAXException("Erreur lors du chargement du fichier '" + cheminRessource + "' : " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Charge un fichier de valeurs depuis un flux.
+     *
+     * @param inputStream Le flux XML à lire.
+     * @return Les valeurs lues, indexées par nom d'élément.
+     * @throws SAXException En cas de problème de lecture ou de parsing.
+     * @throws IllegalArgumentException Si le contenu d'un élément n'est pas un nombre.
+     */
+    public static Map<String, Double> load(InputStream inputStream) throws SAXException {
+        try {
+            ValeursLoader handler = new ValeursLoader();
+            SAXParser saxParser = SAXParserFactory.newInstance().newSAXParser();
+            saxParser.parse(inputStream, handler);
+            return handler.valeurs;
+        } catch (SAXException | IllegalArgumentException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new SAXException("Erreur lors de la lecture des valeurs : " + e.getMessage(), e);
+        }
+    }
+
+    @Override
+    public void startElement(String uri, String localName, String qName, Attributes attributes) throws SAXException {
+        currentElement = (localName != null && !localName.isEmpty()) ? localName : qName;
+    }
+
+    @Override
+    public void characters(char[] ch, int start, int length) throws SAXException {
+        String value = new String(ch, start, length).trim();
+        if (value.isEmpty() || currentElement == null) {
+            return;
+        }
+
+        try {
+            valeurs.put(currentElement, Double.parseDouble(value));
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Valeur non numérique pour l'élément " + currentElement + " : " + value, e);
+        }
+    }
+
+    @Override
+    public void endElement(String uri, String localName, String qName) throws SAXException {
+        currentElement = null;
+    }
+}
@@ -0,0 +1,32 @@
+package utils.strategyMessage;
+
+import java.util.List;
+
+/**
+ * Implémentation de l'interface MessageHandler qui n'affiche rien.
+ * <p>
+ * Utilisée pour les parties sans affichage (simulations, bancs d'essai, entraînement des IA).
+ * Les demandes d'entrée reçoivent une réponse vide et les choix retiennent la première option.
+ */
+public class SilencieuxMessageHandler implements MessageHandler {
+
+    @Override
+    public void afficherMessage(String message) {
+        // Aucun affichage
+    }
+
+    @Override
+    public void afficherErreur(String erreur) {
+        // Aucun affichage
+    }
+
+    @Override
+    public String demanderInput(String prompt) {
+        return "";
+    }
+
+    @Override
+    public String demanderChoixParmiOptions(String message, List<String> options) {
+        return options.isEmpty() ? null : options.get(0);
+    }
+}
@@ -0,0 +1,121 @@
+package vue;
+
+import java.util.Arrays;
+import java.util.List;
+
+import javax.swing.Timer;
+
+import model.Detonation;
+import model.Position;
+
+/**
+ * Animation des explosions de la grille graphique.
+ * <p>
+ * À la fin de chaque tour, le contrôleur transmet les détonations du tour publiées par la grille.
+ * Chaque case de leur zone de souffle affiche l'image d'explosion pendant {@link #DUREE_MILLISECONDES}
+ * millisecondes. Toutes les explosions en cours sont avancées par un seul minuteur Swing, qui ne
+ * tourne que lorsqu'une explosion est affichée ; la grille n'est redessinée qu'au début d'une
+ * animation et lorsqu'au moins une case a fini d'exploser.
+ */
+public class AnimationExplosions {
+
+    /** Durée d'affichage d'une explosion sur une case. */
+    public static final int DUREE_MILLISECONDES = 1000;
+
+    /** Période du minuteur qui fait avancer les explosions. */
+    private static final int PERIODE_MILLISECONDES = 100;
+
+    private final Timer minuteur;
+    private final Runnable rafraichir;
+
+    /** Temps d'affichage restant de chaque case, indexée par y * largeur + x. */
+    private int[] restants = new int[0];
+    private int largeur;
+    private int actives;
+
+    /**
+     * Constructeur de la classe AnimationExplosions.
+     *
+     * @param rafraichir L'action qui redessine la grille, appelée sur le thread Swing.
+     */
+    public AnimationExplosions(Runnable rafraichir) {
+        this.rafraichir = rafraichir;
+        this.minuteur = new Timer(PERIODE_MILLISECONDES, e -> avancer());
+    }
+
+    /**
+     * Démarre l'explosion des zones de souffle des détonations d'un tour.
+     * Une case déjà en train d'exploser repart pour une durée complète.
+     *
+     * @param detonations Les détonations du tour.
+     * @param largeur     La largeur de la grille.
+     * @param longueur    La longueur de la grille.
+     */
+    public void demarrer(List<Detonation> detonations, int largeur, int longueur) {
+        if (largeur != this.largeur || restants.length != largeur * longueur) {
+            this.largeur = largeur;
+            this.restants = new int[largeur * longueur];
+            this.actives = 0;
+        }
+        if (detonations.isEmpty()) {
+            return;
+        }
+        for (Detonation detonation : detonations) {
+            for (Position position : detonation.getZone()) {
+                int index = position.getY() * largeur + position.getX();
+                if (restants[index] == 0) {
+                    actives++;
+                }
+                restants[index] = DUREE_MILLISECONDES;
+            }
+        }
+        if (!minuteur.isRunning()) {
+            minuteur.start();
+        }
+        rafraichir.run();
+    }
+
+    /**
+     * Indique si une case affiche actuellement une explosion.
+     *
+     * @param x La coordonnée en x.
+     * @param y La coordonnée en y.
+     * @return true si la case est en train d'exploser.
+     */
+    public boolean estActive(int x, int y) {
+        int index = y * largeur + x;
+        return x >= 0 && x < largeur && index >= 0 && index < restants.length && restants[index] > 0;
+    }
+
+    /**
+     * Arrête toutes les explosions en cours, par exemple lorsque la fenêtre est fermée.
+     */
+    public void arreter() {
+        minuteur.stop();
+        Arrays.fill(restants, 0);
+        actives = 0;
+    }
+
+    /**
+     * Avance toutes les explosions d'une période et redessine la grille si certaines sont terminées.
+     */
+    private void avancer() {
+        boolean terminees = false;
+        for (int i = 0; i < restants.length; i++) {
+            if (restants[i] > 0) {
+                restants[i] -= PERIODE_MILLISECONDES;
+                if (restants[i] <= 0) {
+                    restants[i] = 0;
+                    actives--;
+                    terminees = true;
+                }
+            }
+        }
+        if (actives == 0) {
+            minuteur.stop();
+        }
+        if (terminees) {
+            rafraichir.run();
+        }
+    }
+}
@@ -4,7 +4,9 @@ import javax.imageio.ImageIO;
 import javax.swing.*;
 import java.awt.*;
 import java.io.File;
+import java.util.List;
 import controle.Controleur;
+import model.Detonation;
 
 /**
  * La classe Frame représente la fenêtre principale de l'application.
@@ -21,6 +23,9 @@ public class Frame extends JFrame {
     private CardLayout cardLayout;
     private  Panels panels;
 
+    // Animation des explosions de la grille, avancée par un seul minuteur
+    private final AnimationExplosions animationExplosions = new AnimationExplosions(() -> panels.mettreAJourAffichage());
+
     // Tableau pour représenter les cases (grille d'images)
     private JLabel[][] grilleImages;
 
@@ -112,6 +117,32 @@ public class Frame extends JFrame {
 
 
 
+    /**
+     * Anime les explosions des détonations du dernier tour.
+     *
+     * @param detonations Les détonations publiées par la grille.
+     */
+    public void animerDetonations(List<Detonation> detonations) {
+        animationExplosions.demarrer(detonations, controleur.getLargeurGrille(), controleur.getLongueurGrille());
+    }
+
+    /**
+     * Indique si une case de la grille affiche actuellement une explosion.
+     *
+     * @param x La coordonnée X de la case.
+     * @param y La coordonnée Y de la case.
+     * @return true si la case est en train d'exploser.
+     */
+    public boolean estExplosionAffichee(int x, int y) {
+        return animationExplosions.estActive(x, y);
+    }
+
+    @Override
+    public void dispose() {
+        animationExplosions.arreter();
+        super.dispose();
+    }
+
     /**
      * Change la vue affichée dans le CardLayout.
      *
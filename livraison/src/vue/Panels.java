@@ -9,12 +9,17 @@ import javax.swing.table.JTableHeader;
 import java.awt.*;
 import java.beans.PropertyChangeEvent;
 import java.beans.PropertyChangeListener;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import controle.Controleur;
 
 public class Panels extends JPanel implements PropertyChangeListener {
     private static final long serialVersionUID = 1L;
 
+    // Images des cases déjà chargées et redimensionnées, par chemin et par taille
+    private static final Map<String, ImageIcon> IMAGES = new HashMap<>();
+
     private JTable table;
     private DefaultTableModel tableModel;
     private Controleur controleur;
@@ -163,6 +168,8 @@ public class Panels extends JPanel implements PropertyChangeListener {
                     ImageIcon imageIcon = redimensionnerImage(imagePath, cellWidth, cellHeight + 10);
                     if (imageIcon != null) {
                         JLabel label = new JLabel(imageIcon);
+                        // Une case cachée par le brouillard de guerre est grisée
+                        label.setEnabled(controleur.estCaseVisible(x, y));
                         cell.setLayout(new BorderLayout());
                         cell.add(label, BorderLayout.CENTER);
                     } else {
@@ -180,10 +187,17 @@ public class Panels extends JPanel implements PropertyChangeListener {
 
 
     private static ImageIcon redimensionnerImage(String imagePath, int largeur, int hauteur) {
+        String cle = imagePath + "@" + largeur + "x" + hauteur;
+        ImageIcon dejaChargee = IMAGES.get(cle);
+        if (dejaChargee != null) {
+            return dejaChargee;
+        }
         try {
             ImageIcon icon = new ImageIcon(imagePath);
             Image image = icon.getImage().getScaledInstance(largeur, hauteur, Image.SCALE_SMOOTH);
-            return new ImageIcon(image);
+            ImageIcon redimensionnee = new ImageIcon(image);
+            IMAGES.put(cle, redimensionnee);
+            return redimensionnee;
         } catch (Exception e) {
             System.err.println("Erreur lors du redimensionnement de l'image : " + e.getMessage());
             return null;
@@ -0,0 +1,76 @@
+package model;
+
+import model.combattantFactory.Guerrier;
+import model.factoryJoueur.AIJoueur;
+import model.factoryJoueur.Mode;
+import model.ia.Difficulte;
+import utils.configuration.ConfigLoader;
+import utils.configuration.TypeEquipement;
+import utils.strategyMessage.MessageHandler;
+
+import org.junit.Before;
+import org.junit.Test;
+import static org.junit.Assert.*;
+import static org.mockito.Mockito.*;
+
+public class AIJoueurTest {
+
+    private Grille grille;
+    private MessageHandler messageHandler;
+    private AIJoueur strategie;
+
+    @Before
+    public void setUp() {
+
+        try {
+            ConfigLoader.load();
+        } catch (Exception e) {
+            e.printStackTrace();
+            fail("Erreur lors du chargement de la configuration : " + e.getMessage());
+        }
+
+        messageHandler = mock(MessageHandler.class);
+        grille = new Grille(messageHandler);
+        strategie = new AIJoueur(messageHandler, Mode.SIMULATION, Difficulte.FACILE);
+    }
+
+    private Guerrier placerGuerrier(String nom, Position position) {
+        Guerrier guerrier = new Guerrier(nom, position, messageHandler, grille);
+        grille.getCase(position).setOccupant(guerrier);
+        grille.inscrireCombattant(guerrier);
+        return guerrier;
+    }
+
+    private Guerrier placerEquipier(String nom, Position position, int equipe) {
+        Guerrier guerrier = placerGuerrier(nom, position);
+        guerrier.setEquipe(equipe);
+        return guerrier;
+    }
+
+    @Test
+    public void testRegles_JamaisDeTirSurUnAllie() {
+        Guerrier tireur = placerEquipier("Tireur", new Position(2, 2), 1);
+        Arme pistolet = new Arme(TypeEquipement.PISTOLET);
+        tireur.ajouterArme(pistolet);
+        Guerrier allie = placerEquipier("Allié", new Position(4, 2), 1);
+        placerEquipier("Ennemi", new Position(9, 9), 2);
+        int energieAllie = allie.getEnergie();
+        int munitions = pistolet.getMunition();
+
+        strategie.appliquerStrategie(tireur, grille);
+
+        assertEquals("L'allié ne doit pas être visé.", energieAllie, allie.getEnergie());
+        assertEquals(munitions, pistolet.getMunition());
+    }
+
+    @Test
+    public void testRegles_SeRapprocheDeLEnnemiPlutotQueDeLAllie() {
+        Guerrier joueur = placerEquipier("Joueur", new Position(2, 2), 1);
+        placerEquipier("Allié", new Position(2, 5), 1);
+        placerEquipier("Ennemi", new Position(8, 2), 2);
+
+        strategie.appliquerStrategie(joueur, grille);
+
+        assertEquals("Le joueur doit se rapprocher de l'ennemi, pas de son allié.", new Position(3, 2), joueur.getPosition());
+    }
+}
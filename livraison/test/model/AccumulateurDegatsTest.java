@@ -0,0 +1,120 @@
+package model;
+
+import model.combattantFactory.Guerrier;
+import utils.configuration.ConfigLoader;
+import utils.configuration.TypeEquipement;
+import utils.strategyMessage.MessageHandler;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.Before;
+import org.junit.Test;
+import static org.junit.Assert.*;
+import static org.mockito.Mockito.*;
+
+public class AccumulateurDegatsTest {
+
+    private Grille grille;
+    private MessageHandler messageHandler;
+    private AccumulateurDegats accumulateur;
+
+    @Before
+    public void setUp() {
+
+        try {
+            ConfigLoader.load();
+        } catch (Exception e) {
+            e.printStackTrace();
+            fail("Erreur lors du chargement de la configuration : " + e.getMessage());
+        }
+
+        messageHandler = mock(MessageHandler.class);
+        grille = new Grille(messageHandler);
+        accumulateur = grille.getAccumulateurDegats();
+    }
+
+    private Guerrier placerGuerrier(String nom, Position position) {
+        Guerrier guerrier = new Guerrier(nom, position, messageHandler, grille);
+        grille.getCase(position).setOccupant(guerrier);
+        grille.inscrireCombattant(guerrier);
+        return guerrier;
+    }
+
+    @Test
+    public void testAppliquer_UnRapportParVictimeEtBouclier() {
+        Guerrier expose = placerGuerrier("Exposé", new Position(1, 1));
+        Guerrier protege = placerGuerrier("Protégé", new Position(5, 5));
+        protege.setBouclierActif(true);
+        int energieExpose = expose.getEnergie();
+        int energieProtege = protege.getEnergie();
+        List<String> rapports = new ArrayList<>();
+
+        accumulateur.ajouter(expose, 6, 3);
+        accumulateur.ajouter(protege, 6, 3);
+        accumulateur.ajouter(expose, 4, 2);
+        accumulateur.ajouter(protege, 4, 2);
+
+        assertEquals(2, accumulateur.appliquer((victime, degats) -> rapports.add(victime.getNom() + "=" + degats)));
+
+        assertEquals(energieExpose - 10, expose.getEnergie());
+        assertEquals("Le bouclier doit s'appliquer au cumul.", energieProtege - 5, protege.getEnergie());
+        assertEquals("Un seul rapport par victime, dans l'ordre du premier coup.", Arrays.asList("Exposé=10", "Protégé=5"), rapports);
+        assertEquals(0, accumulateur.getNombreVictimes());
+    }
+
+    @Test
+    public void testAppliquer_EliminationsApresToutesLesPertes() {
+        Guerrier victime = placerGuerrier("Victime", new Position(2, 2));
+        Guerrier survivant = placerGuerrier("Survivant", new Position(3, 3));
+        int energie = victime.getEnergie();
+        List<String> ordre = new ArrayList<>();
+
+        accumulateur.ajouter(victime, energie, energie);
+        accumulateur.ajouter(survivant, 1, 1);
+        accumulateur.appliquer((combattant, degats) -> {
+            ordre.add(combattant.getNom());
+            assertEquals("Toutes les pertes doivent être infligées avant les rapports.", energie - 1, survivant.getEnergie());
+        });
+
+        assertEquals(Arrays.asList("Victime", "Survivant"), ordre);
+        assertFalse(victime.estEnVie());
+        assertNull("La victime éliminée doit libérer sa case.", grille.getCase(2, 2).getOccupant());
+        assertSame(survivant, grille.getCase(3, 3).getOccupant());
+    }
+
+    @Test
+    public void testDeclencher_VictimeDUneExplosionEliminee() {
+        Guerrier poseur = placerGuerrier("Poseur", new Position(9, 9));
+        Guerrier voisin = placerGuerrier("Voisin", new Position(4, 5));
+        voisin.perdreEnergie(voisin.getEnergie() - 1);
+        grille.getCase(4, 4).setExplosif(new Bombe(poseur, TypeEquipement.BOMBE));
+
+        grille.getReactionEnChaine().declencher(grille.getCase(4, 4), null);
+
+        assertFalse(voisin.estEnVie());
+        assertNull("Un combattant tué par une explosion doit quitter sa case.", grille.getCase(4, 5).getOccupant());
+        assertEquals(0, accumulateur.getNombreVictimes());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testAjouter_DegatsNegatifs() {
+        accumulateur.ajouter(placerGuerrier("Soigné", new Position(0, 0)), -1, 0);
+    }
+
+    @Test
+    public void testDeplacer_MortSurUneMineNOccupeAucuneCase() {
+        Guerrier poseur = placerGuerrier("Poseur", new Position(8, 8));
+        Guerrier marcheur = placerGuerrier("Marcheur", new Position(2, 2));
+        marcheur.setEnergie(10);
+        grille.getCase(3, 2).setExplosif(new Mine(poseur, TypeEquipement.MINE));
+
+        assertTrue(marcheur.deplacer(grille.getCase(3, 2)));
+
+        assertFalse("La mine doit avoir éliminé le marcheur.", marcheur.estEnVie());
+        assertNull("La case de départ doit être libérée.", grille.getCase(2, 2).getOccupant());
+        assertNull("Le marcheur éliminé ne doit pas occuper la case de la mine.", grille.getCase(3, 2).getOccupant());
+        assertFalse(grille.getCase(3, 2).estOccupee(true));
+    }
+}
@@ -0,0 +1,173 @@
+package model;
+
+import model.combattantFactory.Guerrier;
+import model.ia.Caracteristique;
+import utils.configuration.ConfigLoader;
+import utils.configuration.Parametres;
+import utils.configuration.TypeEquipement;
+import utils.strategyMessage.MessageHandler;
+
+import java.util.Random;
+
+import org.junit.Before;
+import org.junit.Test;
+import static org.junit.Assert.*;
+import static org.mockito.Mockito.*;
+
+public class CaracteristiqueTest {
+
+    private Grille grille;
+    private MessageHandler messageHandler;
+
+    @Before
+    public void setUp() {
+
+        try {
+            ConfigLoader.load();
+        } catch (Exception e) {
+            e.printStackTrace();
+            fail("Erreur lors du chargement de la configuration : " + e.getMessage());
+        }
+
+        messageHandler = mock(MessageHandler.class);
+        grille = new Grille(messageHandler);
+    }
+
+    private Guerrier placerGuerrier(String nom, Position position) {
+        Guerrier guerrier = new Guerrier(nom, position, messageHandler, grille);
+        grille.getCase(position).setOccupant(guerrier);
+        grille.inscrireCombattant(guerrier);
+        return guerrier;
+    }
+
+    private Guerrier placerEquipier(String nom, Position position, int equipe, int energie) {
+        Guerrier guerrier = placerGuerrier(nom, position);
+        guerrier.setEquipe(equipe);
+        guerrier.setEnergie(energie);
+        return guerrier;
+    }
+
+    @Test
+    public void testDifferenceEnergie_SansLesAllies() {
+        Guerrier joueur = placerEquipier("Joueur", new Position(1, 1), 1, 50);
+        placerEquipier("Allié", new Position(2, 1), 1, 20);
+        placerEquipier("Ennemi", new Position(8, 8), 2, 30);
+
+        assertEquals("L'allié ne doit pas compter dans l'énergie moyenne des ennemis.", 20.0,
+                Caracteristique.DIFFERENCE_ENERGIE.calculer(joueur, grille), 1e-9);
+    }
+
+    @Test
+    public void testDifferenceEnergie_SansEquipeTousLesAutres() {
+        Guerrier joueur = placerEquipier("Joueur", new Position(1, 1), 0, 50);
+        placerEquipier("Autre", new Position(2, 1), 0, 20);
+        placerEquipier("Ennemi", new Position(8, 8), 0, 30);
+
+        assertEquals(25.0, Caracteristique.DIFFERENCE_ENERGIE.calculer(joueur, grille), 1e-9);
+    }
+
+    @Test
+    public void testDifferenceEnergie_PlusDEnnemiVivant() {
+        Guerrier joueur = placerEquipier("Joueur", new Position(1, 1), 1, 50);
+        placerEquipier("Allié", new Position(2, 1), 1, 20);
+
+        assertEquals(50.0, Caracteristique.DIFFERENCE_ENERGIE.calculer(joueur, grille), 1e-9);
+    }
+
+    @Test
+    public void testDistanceEnnemi_IgnoreLesAllies() {
+        Guerrier joueur = placerEquipier("Joueur", new Position(1, 1), 1, 50);
+        placerEquipier("Allié", new Position(2, 1), 1, 50);
+        placerEquipier("Ennemi", new Position(1, 5), 2, 50);
+
+        assertEquals(4.0, Caracteristique.DISTANCE_ENNEMI.calculer(joueur, grille), 1e-9);
+    }
+
+    @Test
+    public void testMobiliteEtInventaire() {
+        Guerrier joueur = placerEquipier("Joueur", new Position(0, 0), 1, 50);
+        grille.getCase(1, 0).setEstMur(true);
+        joueur.ajouterArme(new Arme(TypeEquipement.PISTOLET));
+
+        assertEquals(1.0, Caracteristique.MOBILITE.calculer(joueur, grille), 1e-9);
+        assertEquals(joueur.getMunitionsTotales(), Caracteristique.MUNITIONS.calculer(joueur, grille), 1e-9);
+        assertEquals(0.0, Caracteristique.EXPLOSIFS.calculer(joueur, grille), 1e-9);
+    }
+
+    @Test
+    public void testTotaux_EgauxAuDecompteApresDeplacementsDegatsEtEliminations() {
+        Random random = new Random(7);
+        Guerrier[] combattants = new Guerrier[4];
+        for (int i = 0; i < combattants.length; i++) {
+            combattants[i] = placerEquipier("C" + i, new Position(2 * i + 1, 2 * i + 1), i % 2 + 1, Parametres.energieInitiale);
+            combattants[i].ajouterArme(new Arme(TypeEquipement.PISTOLET));
+        }
+        for (int i = 0; i < 6; i++) {
+            grille.getCase(random.nextInt(grille.getLargeur()), 0).setContientPastilleEnergie(true);
+        }
+        verifierTotaux();
+
+        for (int etape = 0; etape < 300; etape++) {
+            Guerrier combattant = combattants[random.nextInt(combattants.length)];
+            if (!combattant.estEnVie()) {
+                continue;
+            }
+            Position position = combattant.getPosition();
+            switch (random.nextInt(4)) {
+                case 0:
+                    int direction = random.nextInt(4);
+                    Case cible = grille.getCase(position.getX() + LignesDeTir.DX[direction], position.getY() + LignesDeTir.DY[direction]);
+                    if (cible != null) {
+                        combattant.deplacer(cible);
+                    }
+                    break;
+                case 1:
+                    combattant.perdreEnergie(random.nextInt(15));
+                    combattant.verifierElimination();
+                    break;
+                case 2:
+                    boolean horizontal = random.nextBoolean();
+                    Case visee = grille.getCase(horizontal ? grille.getLargeur() - 1 : position.getX(),
+                            horizontal ? position.getY() : grille.getLongueur() - 1);
+                    if (!combattant.getArmes().isEmpty()) {
+                        combattant.tirer(combattant.getArmes().get(0), visee,
+                                horizontal ? Direction.HORIZONTAL : Direction.VERTICAL);
+                    }
+                    break;
+                default:
+                    combattant.setEnergie(combattant.getEnergie() + random.nextInt(10));
+                    break;
+            }
+            grille.gererExplosionsDifferrees();
+            verifierTotaux();
+        }
+
+        Grille copie = grille.copier(messageHandler);
+        assertEquals(grille.getEnergieTotale(), copie.getEnergieTotale());
+        assertEquals(grille.getNombreVivants(), copie.getNombreVivants());
+        assertEquals(grille.getEnergieEquipe(1), copie.getEnergieEquipe(1));
+        assertEquals(grille.getNombreVivantsEquipe(2), copie.getNombreVivantsEquipe(2));
+
+        combattants[0].setEquipe(2);
+        verifierTotaux();
+    }
+
+    private void verifierTotaux() {
+        int energie = 0;
+        int vivants = 0;
+        int[] energieEquipes = new int[3];
+        int[] vivantsEquipes = new int[3];
+        for (Combattant combattant : grille.getAllCombattants()) {
+            energie += combattant.getEnergie();
+            vivants += combattant.estEnVie() ? 1 : 0;
+            energieEquipes[combattant.getEquipe()] += combattant.getEnergie();
+            vivantsEquipes[combattant.getEquipe()] += combattant.estEnVie() ? 1 : 0;
+        }
+        assertEquals("L'énergie totale doit égaler le décompte.", energie, grille.getEnergieTotale());
+        assertEquals("Le nombre de vivants doit égaler le décompte.", vivants, grille.getNombreVivants());
+        for (int equipe = 1; equipe < 3; equipe++) {
+            assertEquals("L'énergie de l'équipe doit égaler le décompte.", energieEquipes[equipe], grille.getEnergieEquipe(equipe));
+            assertEquals("Les vivants de l'équipe doivent égaler le décompte.", vivantsEquipes[equipe], grille.getNombreVivantsEquipe(equipe));
+        }
+    }
+}
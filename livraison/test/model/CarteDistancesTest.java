@@ -0,0 +1,69 @@
+package model;
+
+import model.Grille;
+import model.Position;
+import utils.strategyMessage.MessageHandler;
+import utils.configuration.ConfigLoader;
+
+import org.junit.Before;
+import org.junit.Test;
+import static org.junit.Assert.*;
+import static org.mockito.Mockito.*;
+
+public class CarteDistancesTest {
+
+    private Grille grille;
+    private CarteDistances carteDistances;
+
+    @Before
+    public void setUp() {
+
+        try {
+            ConfigLoader.load();
+        } catch (Exception e) {
+            e.printStackTrace();
+            fail("Erreur lors du chargement de la configuration : " + e.getMessage());
+        }
+
+        // Grille vide, sans murs ni pastilles
+        MessageHandler messageHandler = mock(MessageHandler.class);
+        grille = new Grille(messageHandler);
+        carteDistances = grille.getCarteDistances();
+    }
+
+    @Test
+    public void testDistancesPastilles_GrilleVide() {
+        grille.getCase(new Position(0, 0)).setContientPastilleEnergie(true);
+
+        short[] distances = carteDistances.distancesPastilles();
+
+        assertEquals("La case de la pastille doit être à distance 0.", 0, carteDistances.distance(distances, new Position(0, 0)));
+        assertEquals("La distance doit être la distance de Manhattan sans obstacle.", 7, carteDistances.distance(distances, new Position(3, 4)));
+    }
+
+    @Test
+    public void testDistancesPastilles_ContournementMur() {
+        grille.getCase(new Position(0, 0)).setContientPastilleEnergie(true);
+        grille.getCase(new Position(1, 0)).setEstMur(true);
+        grille.getCase(new Position(1, 1)).setEstMur(true);
+
+        short[] distances = carteDistances.distancesPastilles();
+
+        assertEquals("Un mur n'est jamais accessible.", CarteDistances.INACCESSIBLE, carteDistances.distance(distances, new Position(1, 0)));
+        assertEquals("Le chemin doit contourner les murs.", 6, carteDistances.distance(distances, new Position(2, 0)));
+    }
+
+    @Test
+    public void testCache_InvalideUniquementSurModification() {
+        grille.getCase(new Position(0, 0)).setContientPastilleEnergie(true);
+
+        short[] premiere = carteDistances.distancesPastilles();
+        assertSame("La carte doit être réutilisée tant que la grille ne change pas.", premiere, carteDistances.distancesPastilles());
+
+        grille.getCase(new Position(5, 5)).setContientPastilleEnergie(true);
+        short[] seconde = carteDistances.distancesPastilles();
+
+        assertNotSame("La carte doit être recalculée après l'ajout d'une pastille.", premiere, seconde);
+        assertEquals("La nouvelle pastille doit être prise en compte.", 0, carteDistances.distance(seconde, new Position(5, 5)));
+    }
+}
@@ -0,0 +1,129 @@
+package model;
+
+import model.combattantFactory.Guerrier;
+import utils.configuration.ConfigLoader;
+import utils.configuration.TypeEquipement;
+import utils.strategyMessage.MessageHandler;
+
+import org.junit.Before;
+import org.junit.Test;
+import static org.junit.Assert.*;
+import static org.mockito.Mockito.*;
+
+public class CarteMenacesTest {
+
+    private Grille grille;
+    private MessageHandler messageHandler;
+    private CarteMenaces carteMenaces;
+    private Guerrier poseur;
+
+    @Before
+    public void setUp() {
+
+        try {
+            ConfigLoader.load();
+        } catch (Exception e) {
+            e.printStackTrace();
+            fail("Erreur lors du chargement de la configuration : " + e.getMessage());
+        }
+
+        messageHandler = mock(MessageHandler.class);
+        grille = new Grille(messageHandler);
+        carteMenaces = grille.getCarteMenaces();
+        poseur = placerGuerrier("Poseur", new Position(9, 9));
+    }
+
+    private Guerrier placerGuerrier(String nom, Position position) {
+        Guerrier guerrier = new Guerrier(nom, position, messageHandler, grille);
+        grille.getCase(position).setOccupant(guerrier);
+        grille.inscrireCombattant(guerrier);
+        return guerrier;
+    }
+
+    private Guerrier placerTireur(String nom, Position position, int munitions) {
+        Guerrier tireur = placerGuerrier(nom, position);
+        Arme pistolet = new Arme(TypeEquipement.PISTOLET);
+        pistolet.setMunition(munitions);
+        tireur.ajouterArme(pistolet);
+        return tireur;
+    }
+
+    @Test
+    public void testZoneBombe_DegatsEtDelai() {
+        Bombe bombe = new Bombe(poseur, TypeEquipement.BOMBE);
+        bombe.setDelaiExplosion(2);
+        grille.getCase(4, 4).setExplosif(bombe);
+        int impact = bombe.getImpactEnergie();
+
+        assertEquals(impact, carteMenaces.getDegatsExplosifs(4, 4));
+        assertEquals("La case en diagonale est dans le souffle carré.", impact, carteMenaces.getDegatsExplosifs(5, 5));
+        assertEquals(0, carteMenaces.getDegatsExplosifs(6, 4));
+        assertEquals(2, carteMenaces.getDelaiExplosion(5, 5));
+        assertEquals(CarteMenaces.AUCUN_DELAI, carteMenaces.getDelaiExplosion(6, 4));
+        assertFalse(carteMenaces.estExplosionImminente(5, 5));
+
+        grille.gererExplosionsDifferrees();
+        assertEquals("Le délai doit suivre le décompte sans mise à jour.", 1, carteMenaces.getDelaiExplosion(5, 5));
+        assertTrue(carteMenaces.estExplosionImminente(5, 5));
+
+        grille.getCase(4, 4).setExplosif(null);
+        assertEquals(0, carteMenaces.getDegatsExplosifs(5, 5));
+        assertEquals(CarteMenaces.AUCUN_DELAI, carteMenaces.getDelaiExplosion(5, 5));
+    }
+
+    @Test
+    public void testMineCachee_HorsDeLaZoneCommune() {
+        grille.getCase(2, 2).setExplosif(new Mine(poseur, TypeEquipement.MINE));
+
+        assertEquals(0, carteMenaces.getDegatsExplosifs(2, 3));
+        assertEquals(CarteMenaces.AUCUN_DELAI, carteMenaces.getDelaiExplosion(2, 3));
+    }
+
+    @Test
+    public void testLignesDeTir_PorteeEtMurs() {
+        Guerrier tireur = placerTireur("Tireur", new Position(2, 2), 5);
+        int degats = tireur.getArmes().get(0).getCoutEnergie();
+        grille.getCase(2, 4).setEstMur(true);
+
+        assertEquals(degats, carteMenaces.getDegatsTirs(5, 2, null));
+        assertEquals("Au-delà de la portée, la case n'est pas menacée.", 0, carteMenaces.getDegatsTirs(6, 2, null));
+        assertEquals("Une case en diagonale n'est pas dans une ligne de tir.", 0, carteMenaces.getDegatsTirs(3, 3, null));
+        assertEquals(degats, carteMenaces.getDegatsTirs(2, 3, null));
+        assertEquals("Le mur doit arrêter la ligne de tir.", 0, carteMenaces.getDegatsTirs(2, 5, null));
+    }
+
+    @Test
+    public void testDegatsTirs_SansSesPropresTirs() {
+        Guerrier tireur = placerTireur("Tireur", new Position(2, 2), 5);
+        Guerrier autre = placerGuerrier("Autre", new Position(7, 7));
+        int degats = tireur.getArmes().get(0).getCoutEnergie();
+
+        assertEquals(degats, carteMenaces.getDegatsTirs(4, 2, autre));
+        assertEquals("Le tireur ne doit pas être menacé par ses propres tirs.", 0, carteMenaces.getDegatsTirs(4, 2, tireur));
+    }
+
+    @Test
+    public void testDegatsTirs_SansLesTirsDesAllies() {
+        Guerrier tireur = placerTireur("Tireur", new Position(2, 2), 5);
+        Guerrier allie = placerGuerrier("Allié", new Position(7, 7));
+        Guerrier ennemi = placerGuerrier("Ennemi", new Position(8, 8));
+        tireur.setEquipe(1);
+        allie.setEquipe(1);
+        ennemi.setEquipe(2);
+        int degats = tireur.getArmes().get(0).getCoutEnergie();
+
+        assertEquals("Les lignes de tir d'un allié ne doivent pas menacer.", 0, carteMenaces.getDegatsTirs(4, 2, allie));
+        assertEquals(degats, carteMenaces.getDegatsTirs(4, 2, ennemi));
+    }
+
+    @Test
+    public void testDerniereMunition_MenaceRetireeDansLeTour() {
+        Guerrier tireur = placerTireur("Tireur", new Position(2, 2), 1);
+        Arme pistolet = tireur.getArmes().get(0);
+        assertEquals(pistolet.getCoutEnergie(), carteMenaces.getDegatsTirs(4, 2, null));
+
+        assertTrue(tireur.tirer(pistolet, grille.getCase(4, 2), Direction.HORIZONTAL));
+
+        assertEquals("Une arme vidée en cours de tour ne doit plus menacer.", 0, carteMenaces.getDegatsTirs(4, 2, null));
+    }
+}
@@ -0,0 +1,102 @@
+package model;
+
+import model.combattantFactory.Guerrier;
+import model.proxy.ProxyGrille;
+import utils.configuration.ConfigLoader;
+import utils.configuration.TypeEquipement;
+import utils.strategyMessage.MessageHandler;
+
+import org.junit.Before;
+import org.junit.Test;
+import static org.junit.Assert.*;
+import static org.mockito.Mockito.*;
+
+public class ChampsDeVisionTest {
+
+    private Grille grille;
+    private MessageHandler messageHandler;
+    private Guerrier observateur;
+    private Guerrier ennemi;
+    private ChampsDeVision champs;
+
+    @Before
+    public void setUp() {
+
+        try {
+            ConfigLoader.load();
+        } catch (Exception e) {
+            e.printStackTrace();
+            fail("Erreur lors du chargement de la configuration : " + e.getMessage());
+        }
+
+        messageHandler = mock(MessageHandler.class);
+        grille = new Grille(messageHandler);
+        observateur = placerGuerrier("Observateur", new Position(1, 5));
+        ennemi = placerGuerrier("Ennemi", new Position(6, 5));
+        champs = grille.getChampsDeVision();
+    }
+
+    private Guerrier placerGuerrier(String nom, Position position) {
+        Guerrier guerrier = new Guerrier(nom, position, messageHandler, grille);
+        grille.getCase(position).setOccupant(guerrier);
+        grille.inscrireCombattant(guerrier);
+        return guerrier;
+    }
+
+    @Test
+    public void testEstVisible_RayonDeVision() {
+        assertTrue("Le combattant doit voir sa propre case.", champs.estVisible(observateur, 3, 1, 5));
+        assertTrue(champs.estVisible(observateur, 3, 4, 5));
+        assertTrue(champs.estVisible(observateur, 3, 3, 7));
+        assertFalse("Une case au-delà du rayon ne doit pas être visible.", champs.estVisible(observateur, 3, 5, 5));
+        assertFalse(champs.estVisible(observateur, 3, -1, 5));
+    }
+
+    @Test
+    public void testEstVisible_MurBloqueLaVue() {
+        grille.getCase(3, 5).setEstMur(true);
+
+        assertTrue(champs.estVisible(observateur, 6, 2, 5));
+        assertTrue("Le mur lui-même doit être visible.", champs.estVisible(observateur, 6, 3, 5));
+        assertFalse("La case derrière le mur doit être cachée.", champs.estVisible(observateur, 6, 4, 5));
+        assertFalse(champs.estVisible(observateur, 6, 6, 5));
+        assertTrue("Les cases hors de l'ombre du mur doivent rester visibles.", champs.estVisible(observateur, 6, 4, 3));
+    }
+
+    @Test
+    public void testPour_RecalculSeulementSiNecessaire() {
+        champs.pour(observateur, 4);
+        long calculs = champs.getNombreCalculs();
+
+        champs.pour(observateur, 4);
+        grille.getCase(9, 0).setEstMur(true);
+        champs.pour(observateur, 4);
+        assertEquals("Ni une nouvelle consultation ni un mur lointain ne doivent recalculer le champ.", calculs, champs.getNombreCalculs());
+
+        grille.getCase(2, 6).setEstMur(true);
+        champs.pour(observateur, 4);
+        assertEquals("Un mur à portée de vue doit recalculer le champ.", calculs + 1, champs.getNombreCalculs());
+
+        assertTrue(observateur.deplacer(grille.getCase(1, 4)));
+        assertFalse(champs.estVisible(observateur, 4, 1, 9));
+        assertEquals("Un déplacement doit recalculer le champ.", calculs + 2, champs.getNombreCalculs());
+    }
+
+    @Test
+    public void testProxyGrille_BrouillardDeGuerre() {
+        observateur.ajouterExplosif(new Mine(observateur, TypeEquipement.MINE));
+        assertTrue(observateur.deposerMine(grille.getCase(0, 4)));
+        grille.getCase(8, 8).setExplosif(new Bombe(ennemi, TypeEquipement.BOMBE));
+
+        ProxyGrille vue = new ProxyGrille(grille, observateur, 2);
+
+        assertNull("Un ennemi hors du champ de vision doit être caché.", vue.getCase(6, 5).getOccupant());
+        assertEquals("?", vue.getCase(6, 5).toString());
+        assertFalse(vue.getCase(6, 5).estOccupee(false));
+        assertNull("Une bombe hors du champ de vision doit être cachée.", vue.getCase(8, 8).getExplosif());
+        assertNotNull("Le combattant doit voir sa propre mine.", vue.getCase(0, 4).getExplosif());
+
+        assertSame("Sans brouillard, l'ennemi doit être visible.", ennemi,
+                new ProxyGrille(grille, observateur, ProxyGrille.SANS_BROUILLARD).getCase(6, 5).getOccupant());
+    }
+}
@@ -0,0 +1,103 @@
+package model;
+
+import model.combattantFactory.Guerrier;
+import model.ia.CoordinateurEquipe;
+import model.ia.CoordinateurEquipe.Objectif;
+import utils.configuration.ConfigLoader;
+import utils.configuration.TypeEquipement;
+import utils.strategyMessage.MessageHandler;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.Before;
+import org.junit.Test;
+import static org.junit.Assert.*;
+import static org.mockito.Mockito.*;
+
+public class CoordinateurEquipeTest {
+
+    private Grille grille;
+    private MessageHandler messageHandler;
+    private CoordinateurEquipe coordinateur;
+
+    @Before
+    public void setUp() {
+
+        try {
+            ConfigLoader.load();
+        } catch (Exception e) {
+            e.printStackTrace();
+            fail("Erreur lors du chargement de la configuration : " + e.getMessage());
+        }
+
+        messageHandler = mock(MessageHandler.class);
+        grille = new Grille(messageHandler);
+        coordinateur = new CoordinateurEquipe();
+    }
+
+    private Guerrier placerGuerrier(String nom, Position position) {
+        Guerrier guerrier = new Guerrier(nom, position, messageHandler, grille);
+        grille.getCase(position).setOccupant(guerrier);
+        grille.inscrireCombattant(guerrier);
+        return guerrier;
+    }
+
+    private Guerrier placerTireur(String nom, Position position) {
+        Guerrier guerrier = placerGuerrier(nom, position);
+        guerrier.ajouterArme(new Arme(TypeEquipement.PISTOLET));
+        return guerrier;
+    }
+
+    @Test
+    public void testAffecter_EnnemisAffaiblisRepartis() {
+        Guerrier premier = placerTireur("Premier", new Position(1, 1));
+        Guerrier second = placerTireur("Second", new Position(1, 3));
+        Guerrier proche = placerTireur("Proche", new Position(3, 1));
+        Guerrier autre = placerTireur("Autre", new Position(8, 8));
+        proche.setEnergie(5);
+        autre.setEnergie(5);
+
+        Map<Combattant, Objectif> objectifs = coordinateur.affecter(Arrays.asList(premier, second), grille, 0);
+
+        assertSame("Le combattant qui atteint l'ennemi doit le viser.", proche, objectifs.get(premier).getCible());
+        assertSame("Un ennemi achevé d'un tir ne doit pas être visé deux fois.", autre, objectifs.get(second).getCible());
+    }
+
+    @Test
+    public void testAffecter_PastillePourLeCombattantAffaibli() {
+        Guerrier affaibli = placerTireur("Affaibli", new Position(1, 1));
+        Guerrier valide = placerTireur("Valide", new Position(5, 5));
+        placerTireur("Ennemi", new Position(8, 8));
+        affaibli.setEnergie(10);
+        grille.getCase(new Position(1, 4)).setContientPastilleEnergie(true);
+
+        Map<Combattant, Objectif> objectifs = coordinateur.affecter(Arrays.asList(affaibli, valide), grille, 20);
+
+        assertNull("Le combattant affaibli doit être envoyé vers la pastille.", objectifs.get(affaibli).getCible());
+        assertEquals("La pastille doit être l'objectif du combattant affaibli.", new Position(1, 4), objectifs.get(affaibli).getPosition());
+        assertNotNull("Le combattant valide doit viser l'ennemi.", objectifs.get(valide).getCible());
+    }
+
+    @Test
+    public void testAffecter_DureeEpuiseeRepartitionGloutonne() {
+        List<Combattant> equipe = new ArrayList<>();
+        for (int x = 0; x < grille.getLargeur(); x++) {
+            equipe.add(placerTireur("Membre" + x, new Position(x, 0)));
+            placerTireur("Ennemi" + x, new Position(x, grille.getLongueur() - 1));
+        }
+        CoordinateurEquipe presse = new CoordinateurEquipe(1);
+
+        Map<Combattant, Objectif> objectifs = presse.affecter(equipe, grille, 0);
+
+        assertEquals("Chaque combattant doit recevoir un objectif malgré l'échéance.", equipe.size(), objectifs.size());
+        assertTrue("L'échéance doit écourter la méthode hongroise.", presse.getCombattantsOptimaux() < equipe.size());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testAffecter_EquipeNulle() {
+        coordinateur.affecter(null, grille, 0);
+    }
+}
@@ -0,0 +1,109 @@
+package model;
+
+import model.combattantFactory.Guerrier;
+import model.factoryJoueur.AleatoireJoueur;
+import model.factoryJoueur.Mode;
+import model.ia.Coup;
+import utils.configuration.ConfigLoader;
+import utils.configuration.TypeEquipement;
+import utils.strategyMessage.MessageHandler;
+
+import java.util.Random;
+
+import org.junit.Before;
+import org.junit.Test;
+import static org.junit.Assert.*;
+import static org.mockito.Mockito.*;
+
+public class CoupTest {
+
+    private Grille grille;
+    private MessageHandler messageHandler;
+
+    @Before
+    public void setUp() {
+
+        try {
+            ConfigLoader.load();
+        } catch (Exception e) {
+            e.printStackTrace();
+            fail("Erreur lors du chargement de la configuration : " + e.getMessage());
+        }
+
+        messageHandler = mock(MessageHandler.class);
+        grille = new Grille(messageHandler);
+    }
+
+    private Guerrier placerGuerrier(String nom, Position position) {
+        Guerrier guerrier = new Guerrier(nom, position, messageHandler, grille);
+        grille.getCase(position).setOccupant(guerrier);
+        grille.inscrireCombattant(guerrier);
+        return guerrier;
+    }
+
+    private void verifierMasque(Combattant combattant) {
+        long masque = Coup.masqueLegaux(combattant, grille);
+        for (int coup = 0; coup < Coup.NOMBRE; coup++) {
+            assertEquals("Le masque doit suivre estLegal pour " + Coup.decrire(coup) + ".",
+                    Coup.estLegal(coup, combattant, grille), (masque & (1L << coup)) != 0);
+        }
+    }
+
+    @Test
+    public void testMasqueLegaux_IdentiqueAEstLegal() {
+        Guerrier joueur = placerGuerrier("Joueur", new Position(0, 0));
+        verifierMasque(joueur);
+
+        joueur.ajouterArme(new Arme(TypeEquipement.PISTOLET));
+        joueur.ajouterArme(new Arme(TypeEquipement.FUSIL));
+        joueur.ajouterExplosif(new Mine(joueur, TypeEquipement.MINE));
+        grille.getCase(1, 0).setEstMur(true);
+        placerGuerrier("Voisin", new Position(0, 1));
+        verifierMasque(joueur);
+
+        Guerrier central = placerGuerrier("Central", new Position(5, 5));
+        central.ajouterExplosif(new Bombe(central, TypeEquipement.BOMBE));
+        central.ajouterArme(new Arme(TypeEquipement.BAZOOKA));
+        grille.getCase(6, 6).ajouterExplosif(new Mine(joueur, TypeEquipement.MINE));
+        verifierMasque(central);
+
+        central.activerBouclier();
+        central.setEnergie(0);
+        verifierMasque(central);
+    }
+
+    @Test
+    public void testTirerAuHasard_UniformeParmiLesCoupsLegaux() {
+        Guerrier joueur = placerGuerrier("Joueur", new Position(4, 4));
+        joueur.ajouterArme(new Arme(TypeEquipement.PISTOLET));
+        int[] legaux = new int[Coup.NOMBRE];
+        int nombre = Coup.lister(joueur, grille, legaux);
+        int[] tirages = new int[Coup.NOMBRE];
+        Random random = new Random(1);
+
+        int essais = 2000 * nombre;
+        for (int i = 0; i < essais; i++) {
+            int coup = Coup.tirerAuHasard(joueur, grille, random);
+            assertTrue("Le coup tiré doit être légal.", Coup.estLegal(coup, joueur, grille));
+            tirages[coup]++;
+        }
+        for (int i = 0; i < nombre; i++) {
+            assertTrue("Chaque coup légal doit être tiré environ une fois sur " + nombre + ".",
+                    Math.abs(tirages[legaux[i]] - 2000) < 300);
+        }
+    }
+
+    @Test
+    public void testAppliquerStrategie_CombattantEncercle() {
+        Guerrier joueur = placerGuerrier("Joueur", new Position(0, 0));
+        grille.getCase(1, 0).setEstMur(true);
+        grille.getCase(0, 1).setEstMur(true);
+        grille.getCase(1, 1).setEstMur(true);
+        AleatoireJoueur strategie = new AleatoireJoueur(messageHandler, Mode.SIMULATION);
+
+        for (int i = 0; i < 20; i++) {
+            strategie.appliquerStrategie(joueur, grille);
+            assertEquals("Le combattant encerclé ne peut pas bouger.", new Position(0, 0), joueur.getPosition());
+        }
+    }
+}
@@ -0,0 +1,180 @@
+package model;
+
+import model.combattantFactory.Guerrier;
+import model.ia.Coup;
+import model.ia.CroyanceMines;
+import model.proxy.ProxyGrille;
+import utils.configuration.ConfigLoader;
+import utils.configuration.TypeEquipement;
+import utils.strategyMessage.MessageHandler;
+
+import java.util.Random;
+
+import org.junit.Before;
+import org.junit.Test;
+import static org.junit.Assert.*;
+import static org.mockito.Mockito.*;
+
+public class CroyanceMinesTest {
+
+    private Grille grille;
+    private MessageHandler messageHandler;
+    private Guerrier observateur;
+    private Guerrier ennemi;
+    private CroyanceMines croyance;
+
+    @Before
+    public void setUp() {
+
+        try {
+            ConfigLoader.load();
+        } catch (Exception e) {
+            e.printStackTrace();
+            fail("Erreur lors du chargement de la configuration : " + e.getMessage());
+        }
+
+        messageHandler = mock(MessageHandler.class);
+        grille = new Grille(messageHandler);
+        observateur = placerGuerrier("Observateur", new Position(1, 1));
+        ennemi = placerGuerrier("Ennemi", new Position(5, 5));
+        ennemi.ajouterExplosif(new Mine(ennemi, TypeEquipement.MINE));
+        croyance = new CroyanceMines(observateur);
+    }
+
+    private Guerrier placerGuerrier(String nom, Position position) {
+        Guerrier guerrier = new Guerrier(nom, position, messageHandler, grille);
+        grille.getCase(position).setOccupant(guerrier);
+        grille.inscrireCombattant(guerrier);
+        return guerrier;
+    }
+
+    @Test
+    public void testObserver_DepotCacheDeduitDeLInventaire() {
+        croyance.observer(new ProxyGrille(grille, observateur));
+        assertEquals("Aucun dépôt ne doit être suspecté avant que l'ennemi n'ait joué.", 0, croyance.getNombreDepots());
+
+        assertTrue(ennemi.deposerMine(grille.getCase(new Position(6, 5))));
+        croyance.observer(new ProxyGrille(grille, observateur));
+
+        assertEquals("La mine déposée doit être suspectée.", 1, croyance.getNombreDepots());
+    }
+
+    @Test
+    public void testConstruireVue_RetireLesMinesCachees() {
+        assertTrue(ennemi.deposerMine(grille.getCase(new Position(6, 5))));
+
+        Grille vue = croyance.construireVue(new ProxyGrille(grille, observateur), messageHandler);
+
+        assertNull("La vue de l'observateur ne doit pas contenir la mine ennemie.", vue.getCase(6, 5).getExplosif());
+        assertNotNull("La grille réelle doit conserver la mine.", grille.getCase(6, 5).getExplosif());
+    }
+
+    @Test
+    public void testEchantillonner_ChaqueTiragePlaceLaMineAutourDuPoseur() {
+        croyance.observer(new ProxyGrille(grille, observateur));
+        assertTrue(ennemi.deposerMine(grille.getCase(new Position(6, 5))));
+        ProxyGrille proxy = new ProxyGrille(grille, observateur);
+        croyance.observer(proxy);
+        Grille vue = croyance.construireVue(proxy, messageHandler);
+        Random random = new Random(3);
+
+        for (int tirage = 0; tirage < 20; tirage++) {
+            Grille echantillon = croyance.echantillonner(vue, messageHandler, random);
+            int mines = 0;
+            for (int x = 0; x < echantillon.getLargeur(); x++) {
+                for (int y = 0; y < echantillon.getLongueur(); y++) {
+                    if (echantillon.getCase(x, y).getExplosif() instanceof Mine) {
+                        mines++;
+                        assertTrue("La mine doit être voisine du poseur.",
+                                new Position(x, y).estVoisine(ennemi.getPosition(), true));
+                    }
+                }
+            }
+            assertEquals("Chaque tirage doit placer exactement une mine.", 1, mines);
+        }
+        assertNull("Les tirages ne doivent pas modifier la vue.", vue.getCase(6, 5).getExplosif());
+    }
+
+    @Test
+    public void testPlacerDepots_MemeGraineMemeTirageSurDesCopiesPreparees() {
+        croyance.observer(new ProxyGrille(grille, observateur));
+        assertTrue(ennemi.deposerMine(grille.getCase(new Position(6, 5))));
+        ProxyGrille proxy = new ProxyGrille(grille, observateur);
+        croyance.observer(proxy);
+        Grille vue = croyance.construireVue(proxy, messageHandler);
+
+        for (long graine = 0; graine < 10; graine++) {
+            Grille premiere = vue.copier(messageHandler);
+            Grille seconde = vue.copier(messageHandler);
+            croyance.placerDepots(premiere, new Random(graine));
+            croyance.placerDepots(seconde, new Random(graine));
+
+            for (Case voisine : vue.getCase(ennemi.getPosition()).getCasesVoisines()) {
+                Position position = voisine.getPosition();
+                assertEquals("Deux tirages de même graine doivent placer la mine au même endroit.",
+                        premiere.getCase(position).getExplosif() instanceof Mine,
+                        seconde.getCase(position).getExplosif() instanceof Mine);
+            }
+        }
+        assertNull("Les tirages ne doivent pas modifier la vue.", vue.getCase(6, 5).getExplosif());
+    }
+
+    @Test
+    public void testObserver_EmplacementsOccupesEcartes() {
+        croyance.observer(new ProxyGrille(grille, observateur));
+        assertTrue(ennemi.deposerMine(grille.getCase(new Position(6, 5))));
+        croyance.observer(new ProxyGrille(grille, observateur));
+
+        for (Case voisine : grille.getCase(ennemi.getPosition()).getCasesVoisines()) {
+            if (!voisine.getPosition().equals(new Position(6, 5))) {
+                voisine.setOccupant(new Guerrier("Passant", voisine.getPosition(), messageHandler, grille));
+            }
+        }
+        ProxyGrille proxy = new ProxyGrille(grille, observateur);
+        croyance.observer(proxy);
+        Grille echantillon = croyance.echantillonner(croyance.construireVue(proxy, messageHandler), messageHandler, new Random(1));
+
+        assertTrue("Seul l'emplacement encore libre doit rester possible.", echantillon.getCase(6, 5).getExplosif() instanceof Mine);
+    }
+
+    @Test
+    public void testObserver_DepotHorsDeVueIgnore() {
+        croyance.observer(new ProxyGrille(grille, observateur, 2));
+        assertTrue(ennemi.deposerMine(grille.getCase(new Position(6, 5))));
+        croyance.observer(new ProxyGrille(grille, observateur, 2));
+
+        assertEquals("Un dépôt fait hors du champ de vision ne peut pas être déduit.", 0, croyance.getNombreDepots());
+    }
+
+    @Test
+    public void testConstruireVue_BrouillardCacheEnnemisEtPastilles() {
+        grille.getCase(6, 6).setContientPastilleEnergie(true);
+        ProxyGrille proxy = new ProxyGrille(grille, observateur, 2);
+        croyance.observer(proxy);
+
+        Grille vue = croyance.construireVue(proxy, messageHandler);
+
+        assertNull("L'ennemi caché ne doit pas rester à sa place réelle.", vue.getCase(5, 5).getOccupant());
+        assertEquals("Un ennemi jamais vu doit être placé au plus loin de l'observateur.",
+                new Position(9, 9), vue.getAllCombattants().get(1).getPosition());
+        assertSame(vue.getAllCombattants().get(1), vue.getCase(9, 9).getOccupant());
+        assertFalse("La pastille hors de vue doit être retirée.", vue.getCase(6, 6).contientPastilleEnergie());
+        assertEquals("La grille réelle ne doit pas changer.", new Position(5, 5), ennemi.getPosition());
+        assertTrue(grille.getCase(6, 6).contientPastilleEnergie());
+    }
+
+    @Test
+    public void testConstruireVue_BrouillardEnnemiASaDernierePositionVue() {
+        croyance.observer(new ProxyGrille(grille, observateur, 8));
+        assertTrue(Coup.appliquer(Coup.deplacer(LignesDeTir.EST), ennemi, grille));
+        assertTrue(Coup.appliquer(Coup.deplacer(LignesDeTir.EST), ennemi, grille));
+        ProxyGrille proxy = new ProxyGrille(grille, observateur, 2);
+        croyance.observer(proxy);
+
+        Grille vue = croyance.construireVue(proxy, messageHandler);
+
+        assertNull(vue.getCase(7, 5).getOccupant());
+        assertEquals("L'ennemi caché doit être placé à sa dernière position vue.",
+                new Position(5, 5), vue.getAllCombattants().get(1).getPosition());
+    }
+}
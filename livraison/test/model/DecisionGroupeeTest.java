@@ -0,0 +1,140 @@
+package model;
+
+import model.combattantFactory.Guerrier;
+import model.ia.Caracteristique;
+import model.ia.Coup;
+import model.ia.DecisionGroupee;
+import model.ia.EvaluateurLineaire;
+import utils.configuration.ConfigLoader;
+import utils.configuration.TypeEquipement;
+import utils.strategyMessage.MessageHandler;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import org.junit.Before;
+import org.junit.Test;
+import static org.junit.Assert.*;
+import static org.mockito.Mockito.*;
+
+public class DecisionGroupeeTest {
+
+    private Grille grille;
+    private MessageHandler messageHandler;
+    private DecisionGroupee decision;
+
+    @Before
+    public void setUp() {
+
+        try {
+            ConfigLoader.load();
+            decision = new DecisionGroupee(EvaluateurLineaire.depuisConfiguration());
+        } catch (Exception e) {
+            e.printStackTrace();
+            fail("Erreur lors du chargement de la configuration : " + e.getMessage());
+        }
+
+        messageHandler = mock(MessageHandler.class);
+        grille = new Grille(messageHandler);
+    }
+
+    private Guerrier placerGuerrier(String nom, Position position) {
+        Guerrier guerrier = new Guerrier(nom, position, messageHandler, grille);
+        grille.getCase(position).setOccupant(guerrier);
+        grille.inscrireCombattant(guerrier);
+        return guerrier;
+    }
+
+    @Test
+    public void testChoisirCoups_UnCoupLegalParCombattant() {
+        Guerrier premier = placerGuerrier("Premier", new Position(1, 1));
+        Guerrier second = placerGuerrier("Second", new Position(6, 3));
+        placerGuerrier("Ennemi", new Position(4, 7));
+        premier.ajouterArme(new Arme(TypeEquipement.PISTOLET));
+        second.ajouterExplosif(new Bombe(second, TypeEquipement.BOMBE));
+        List<Combattant> equipe = Arrays.asList(premier, second);
+
+        int[] coups = decision.choisirCoups(equipe, grille, new Random(1));
+
+        assertEquals("Un coup doit être choisi pour chaque combattant.", 2, coups.length);
+        for (int j = 0; j < coups.length; j++) {
+            assertTrue("Le coup choisi doit être légal.", Coup.estLegal(coups[j], equipe.get(j), grille));
+        }
+    }
+
+    @Test
+    public void testChoisirCoups_TirDecisifRetenu() {
+        Guerrier tireur = placerGuerrier("Tireur", new Position(2, 2));
+        Guerrier ennemi = placerGuerrier("Ennemi", new Position(4, 2));
+        tireur.ajouterArme(new Arme(TypeEquipement.PISTOLET));
+        ennemi.setEnergie(5);
+
+        int[] coups = decision.choisirCoups(Arrays.asList(tireur), grille, new Random(1));
+
+        assertEquals("Le tir qui élimine le dernier ennemi doit être choisi.",
+                Coup.tirer(0, LignesDeTir.EST), coups[0]);
+    }
+
+    @Test
+    public void testChoisirCoups_PasDeTirSurUnCoequipier() {
+        Guerrier tireur = placerGuerrier("Tireur", new Position(2, 2));
+        Guerrier coequipier = placerGuerrier("Coéquipier", new Position(4, 2));
+        placerGuerrier("Ennemi", new Position(8, 8));
+        tireur.ajouterArme(new Arme(TypeEquipement.PISTOLET));
+        coequipier.setEnergie(5);
+
+        int[] coups = decision.choisirCoups(Arrays.asList(tireur, coequipier), grille, new Random(1));
+
+        assertNotEquals("Le tireur ne doit pas viser son coéquipier.", Coup.tirer(0, LignesDeTir.EST), coups[0]);
+    }
+
+    @Test
+    public void testChoisirCoups_PasDeTirSurUnAllieDUneAutreListe() {
+        Guerrier tireur = placerGuerrier("Tireur", new Position(2, 2));
+        Guerrier allie = placerGuerrier("Allié", new Position(4, 2));
+        placerGuerrier("Ennemi", new Position(8, 8)).setEquipe(2);
+        tireur.setEquipe(1);
+        allie.setEquipe(1);
+        tireur.ajouterArme(new Arme(TypeEquipement.PISTOLET));
+        allie.setEnergie(5);
+
+        int[] coups = decision.choisirCoups(Arrays.asList(tireur), grille, new Random(1));
+
+        assertNotEquals("Le tireur ne doit pas viser un allié, même hors de sa liste.", Coup.tirer(0, LignesDeTir.EST), coups[0]);
+    }
+
+    @Test
+    public void testChoisirCoups_SeRapprocheDeLEnnemiPlutotQueDuCoequipier() {
+        Guerrier joueur = placerGuerrier("Joueur", new Position(5, 5));
+        Guerrier coequipier = placerGuerrier("Coéquipier", new Position(2, 5));
+        placerGuerrier("Ennemi", new Position(9, 5));
+        Map<String, Double> poids = new HashMap<>();
+        poids.put(Caracteristique.DISTANCE_ENNEMI.getCle(), -1.0);
+
+        int[] coups = new DecisionGroupee(new EvaluateurLineaire(poids))
+                .choisirCoups(Arrays.asList(joueur, coequipier), grille, new Random(1));
+
+        assertEquals("Le joueur doit se rapprocher de l'ennemi, pas de son coéquipier.",
+                Coup.deplacer(LignesDeTir.EST), coups[0]);
+    }
+
+    @Test
+    public void testChoisirCoups_CombattantElimineAttend() {
+        Guerrier vivant = placerGuerrier("Vivant", new Position(1, 1));
+        Guerrier elimine = placerGuerrier("Éliminé", new Position(5, 5));
+        placerGuerrier("Ennemi", new Position(8, 8));
+        elimine.setEnergie(0);
+
+        int[] coups = decision.choisirCoups(Arrays.asList(vivant, elimine), grille, new Random(1));
+
+        assertEquals("Un combattant éliminé doit attendre.", Coup.ATTENDRE, coups[1]);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testChoisirCoups_GrilleNulle() {
+        decision.choisirCoups(Arrays.asList(placerGuerrier("Seul", new Position(1, 1))), null, new Random(1));
+    }
+}
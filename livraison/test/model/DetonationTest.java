@@ -0,0 +1,107 @@
+package model;
+
+import model.combattantFactory.Guerrier;
+import utils.configuration.ConfigLoader;
+import utils.configuration.Parametres;
+import utils.configuration.TypeEquipement;
+import utils.strategyMessage.MessageHandler;
+
+import java.util.List;
+
+import org.junit.Before;
+import org.junit.Test;
+import static org.junit.Assert.*;
+import static org.mockito.Mockito.*;
+
+public class DetonationTest {
+
+    private Grille grille;
+    private MessageHandler messageHandler;
+    private Guerrier poseur;
+
+    @Before
+    public void setUp() {
+
+        try {
+            ConfigLoader.load();
+        } catch (Exception e) {
+            e.printStackTrace();
+            fail("Erreur lors du chargement de la configuration : " + e.getMessage());
+        }
+
+        Parametres.reactionEnChaine = true;
+        messageHandler = mock(MessageHandler.class);
+        grille = new Grille(messageHandler);
+        poseur = placerGuerrier("Poseur", new Position(9, 9));
+    }
+
+    private Guerrier placerGuerrier(String nom, Position position) {
+        Guerrier guerrier = new Guerrier(nom, position, messageHandler, grille);
+        grille.getCase(position).setOccupant(guerrier);
+        grille.inscrireCombattant(guerrier);
+        return guerrier;
+    }
+
+    @Test
+    public void testDetonationsDernierTour_SeulesLesDetonationsEffectives() {
+        Bombe bombe = new Bombe(poseur, TypeEquipement.BOMBE);
+        bombe.setDelaiExplosion(0);
+        grille.getCase(2, 2).setExplosif(bombe);
+        grille.getCase(3, 3).setExplosif(new Mine(poseur, TypeEquipement.MINE));
+        grille.getCase(7, 7).setExplosif(new Bombe(poseur, TypeEquipement.BOMBE));
+
+        assertTrue(grille.getDetonationsDernierTour().isEmpty());
+        grille.gererExplosionsDifferrees();
+
+        List<Detonation> detonations = grille.getDetonationsDernierTour();
+        assertEquals("La bombe échue et la mine emportée par la chaîne doivent être publiées.", 2, detonations.size());
+        assertEquals(new Position(2, 2), detonations.get(0).getPosition());
+        assertEquals(TypeEquipement.MINE, detonations.get(1).getType());
+        assertEquals(0, detonations.get(0).getTour());
+
+        grille.gererExplosionsDifferrees();
+        assertTrue("La liste ne doit couvrir que le dernier tour.", grille.getDetonationsDernierTour().isEmpty());
+    }
+
+    @Test
+    public void testDetonationsDernierTour_NonEnregistreesSurUneCopie() {
+        Bombe bombe = new Bombe(poseur, TypeEquipement.BOMBE);
+        bombe.setDelaiExplosion(0);
+        grille.getCase(2, 2).setExplosif(bombe);
+        Grille copie = grille.copier(messageHandler);
+
+        copie.gererExplosionsDifferrees();
+
+        assertNull("La bombe doit avoir explosé sur la copie.", copie.getCase(2, 2).getExplosif());
+        assertTrue("Une copie de simulation ne doit pas enregistrer de détonation.", copie.getDetonationsDernierTour().isEmpty());
+        grille.gererExplosionsDifferrees();
+        assertEquals(1, grille.getDetonationsDernierTour().size());
+    }
+
+    @Test
+    public void testDetonationsDernierTour_ActionsDuJoueurComprises() {
+        grille.getCase(4, 4).setExplosif(new Mine(poseur, TypeEquipement.MINE));
+        Guerrier victime = placerGuerrier("Victime", new Position(4, 5));
+
+        grille.getCase(4, 4).getExplosif().explose(victime, grille.getCase(4, 4));
+        assertTrue("Le tour n'est pas encore terminé.", grille.getDetonationsDernierTour().isEmpty());
+        grille.gererExplosionsDifferrees();
+
+        assertEquals(1, grille.getDetonationsDernierTour().size());
+        assertEquals(new Position(4, 4), grille.getDetonationsDernierTour().get(0).getPosition());
+    }
+
+    @Test
+    public void testGetZone_BorneeALaGrille() {
+        Bombe bombe = new Bombe(poseur, TypeEquipement.BOMBE);
+        bombe.setDelaiExplosion(0);
+        grille.getCase(0, 0).setExplosif(bombe);
+        grille.gererExplosionsDifferrees();
+
+        List<Position> zone = grille.getDetonationsDernierTour().get(0).getZone();
+
+        assertEquals("Le coin et ses trois voisines.", 4, zone.size());
+        assertTrue(zone.contains(new Position(0, 0)));
+        assertTrue(zone.contains(new Position(1, 1)));
+    }
+}
@@ -0,0 +1,116 @@
+package model;
+
+import model.combattantFactory.Guerrier;
+import utils.configuration.ConfigLoader;
+import utils.configuration.TypeEquipement;
+import utils.strategyMessage.MessageHandler;
+
+import org.junit.Before;
+import org.junit.Test;
+import static org.junit.Assert.*;
+import static org.mockito.Mockito.*;
+
+public class EcheancierBombesTest {
+
+    private Grille grille;
+    private MessageHandler messageHandler;
+    private Guerrier poseur;
+
+    @Before
+    public void setUp() {
+
+        try {
+            ConfigLoader.load();
+        } catch (Exception e) {
+            e.printStackTrace();
+            fail("Erreur lors du chargement de la configuration : " + e.getMessage());
+        }
+
+        messageHandler = mock(MessageHandler.class);
+        grille = new Grille(messageHandler);
+        poseur = placerGuerrier("Poseur", new Position(9, 0));
+    }
+
+    private Guerrier placerGuerrier(String nom, Position position) {
+        Guerrier guerrier = new Guerrier(nom, position, messageHandler, grille);
+        grille.getCase(position).setOccupant(guerrier);
+        grille.inscrireCombattant(guerrier);
+        return guerrier;
+    }
+
+    private Bombe poserBombe(int x, int y, int delai) {
+        Bombe bombe = new Bombe(poseur, TypeEquipement.BOMBE);
+        bombe.setDelaiExplosion(delai);
+        grille.getCase(x, y).setExplosif(bombe);
+        return bombe;
+    }
+
+    @Test
+    public void testDecompte_UnTourDeJoueurParAppel() {
+        Bombe bombe = poserBombe(2, 2, 3);
+        Guerrier voisin = placerGuerrier("Voisin", new Position(3, 3));
+        int energie = voisin.getEnergie();
+
+        for (int delai = 3; delai >= 0; delai--) {
+            assertEquals(delai, bombe.getDelaiExplosion());
+            assertEquals("La carte des menaces doit suivre le décompte.", delai, grille.getCarteMenaces().getDelaiExplosion(3, 3));
+            grille.gererExplosionsDifferrees();
+        }
+
+        assertNull("La bombe doit exploser à l'appel où son délai est nul.", grille.getCase(2, 2).getExplosif());
+        assertTrue(voisin.getEnergie() < energie);
+        assertEquals(CarteMenaces.AUCUN_DELAI, grille.getCarteMenaces().getDelaiExplosion(3, 3));
+    }
+
+    @Test
+    public void testDeclencher_SeulesLesBombesEchuesExplosent() {
+        poserBombe(1, 1, 0);
+        Bombe tardive = poserBombe(5, 5, 2);
+
+        grille.gererExplosionsDifferrees();
+
+        assertNull(grille.getCase(1, 1).getExplosif());
+        assertSame("Une bombe non échue doit rester en place.", tardive, grille.getCase(5, 5).getExplosif());
+        assertEquals(1, tardive.getDelaiExplosion());
+    }
+
+    @Test
+    public void testDeclencher_BombeRetireeOuReplanifiee() {
+        poserBombe(1, 1, 0);
+        grille.getCase(1, 1).retirerExplosif();
+        Bombe avancee = poserBombe(5, 5, 4);
+        avancee.setDelaiExplosion(0);
+
+        assertEquals("Seule la bombe replanifiée doit être échue.", 1, grille.getEcheancierBombes().declencherEchues());
+        assertNull(grille.getCase(5, 5).getExplosif());
+
+        grille.gererExplosionsDifferrees();
+        for (int i = 0; i < 4; i++) {
+            assertEquals("L'ancienne échéance doit être ignorée.", 0, grille.getEcheancierBombes().declencherEchues());
+            grille.gererExplosionsDifferrees();
+        }
+    }
+
+    @Test
+    public void testPlanifier_LongDelaiEtCopieDeGrille() {
+        Bombe bombe = poserBombe(4, 4, 20);
+        for (int i = 0; i < 12; i++) {
+            grille.gererExplosionsDifferrees();
+        }
+
+        Grille copie = grille.copier(messageHandler);
+        assertEquals("La copie doit conserver le délai restant.", 8, copie.getCase(4, 4).getExplosif().getDelaiExplosion());
+
+        for (int i = 0; i < 8; i++) {
+            grille.gererExplosionsDifferrees();
+            copie.gererExplosionsDifferrees();
+        }
+        assertSame(bombe, grille.getCase(4, 4).getExplosif());
+        assertEquals(0, bombe.getDelaiExplosion());
+
+        grille.gererExplosionsDifferrees();
+        copie.gererExplosionsDifferrees();
+        assertNull(grille.getCase(4, 4).getExplosif());
+        assertNull("La copie doit exploser au même tour.", copie.getCase(4, 4).getExplosif());
+    }
+}
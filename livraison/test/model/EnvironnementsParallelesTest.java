@@ -0,0 +1,106 @@
+package model;
+
+import model.factoryJoueur.JoueurFactory.TypeJoueurEnum;
+import model.ia.Coup;
+import model.ia.Difficulte;
+import model.simulation.EnvironnementsParalleles;
+import model.simulation.PartieAutomatique.Siege;
+import utils.configuration.ConfigLoader;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.Before;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+public class EnvironnementsParallelesTest {
+
+    private List<Siege> adversaires;
+
+    @Before
+    public void setUp() {
+
+        try {
+            ConfigLoader.load();
+        } catch (Exception e) {
+            e.printStackTrace();
+            fail("Erreur lors du chargement de la configuration : " + e.getMessage());
+        }
+
+        adversaires = Collections.singletonList(new Siege(TypeJoueurEnum.AI, Difficulte.FACILE));
+    }
+
+    @Test
+    public void testReinitialiser_ObservationsEtMasques() {
+        try (EnvironnementsParalleles environnements = new EnvironnementsParalleles(adversaires, 3, 1, 1, 50)) {
+            environnements.reinitialiser();
+
+            int taille = environnements.getTailleObservation();
+            float[] observations = environnements.getObservations();
+            assertEquals(3 * taille, observations.length);
+            for (int k = 0; k < 3; k++) {
+                assertTrue("Attendre doit toujours être légal.", environnements.getMasques()[k * Coup.NOMBRE + Coup.ATTENDRE]);
+                float somme = 0;
+                for (int i = 0; i < taille; i++) {
+                    somme += Math.abs(observations[k * taille + i]);
+                }
+                assertTrue("L'observation de chaque environnement doit être remplie.", somme > 0);
+                assertEquals(0, environnements.getParties(k));
+            }
+        }
+    }
+
+    @Test
+    public void testAvancer_PartiesTermineesRelancees() {
+        int toursMax = 3;
+        try (EnvironnementsParalleles environnements = new EnvironnementsParalleles(adversaires, 4, 1, 2, toursMax)) {
+            environnements.reinitialiser();
+            int[] actions = new int[4];
+            Arrays.fill(actions, Coup.ATTENDRE);
+
+            for (int t = 0; t < toursMax; t++) {
+                environnements.avancer(actions);
+                for (int k = 0; k < 4; k++) {
+                    if (!environnements.getTerminees()[k]) {
+                        assertEquals("Une partie en cours ne rapporte rien.", 0f, environnements.getRecompenses()[k], 0f);
+                    }
+                }
+            }
+            for (int k = 0; k < 4; k++) {
+                assertTrue("Chaque partie doit avoir été terminée au plus tard au dernier tour.", environnements.getParties(k) >= 1);
+                assertTrue("La partie relancée doit laisser attendre l'agent.", environnements.getMasques()[k * Coup.NOMBRE + Coup.ATTENDRE]);
+            }
+        }
+    }
+
+    @Test
+    public void testAvancer_CoupIllegalRemplaceParAttendre() {
+        try (EnvironnementsParalleles environnements = new EnvironnementsParalleles(adversaires, 2, 1, 1, 50)) {
+            environnements.reinitialiser();
+            environnements.avancer(new int[] { -1, Coup.NOMBRE + 5 });
+            assertEquals(2, environnements.getTerminees().length);
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testAvancer_NombreDActionsIncorrect() {
+        try (EnvironnementsParalleles environnements = new EnvironnementsParalleles(adversaires, 2, 1, 1, 50)) {
+            environnements.reinitialiser();
+            environnements.avancer(new int[1]);
+        }
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void testAvancer_SansReinitialisation() {
+        try (EnvironnementsParalleles environnements = new EnvironnementsParalleles(adversaires, 2, 1, 1, 50)) {
+            environnements.avancer(new int[2]);
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testConstructeur_SansAdversaire() {
+        new EnvironnementsParalleles(Collections.<Siege>emptyList(), 2, 1, 1, 50);
+    }
+}
@@ -0,0 +1,109 @@
+package model;
+
+import model.combattantFactory.Guerrier;
+import model.ia.Caracteristique;
+import model.ia.EvaluateurLineaire;
+import utils.configuration.ConfigLoader;
+import utils.configuration.TypeEquipement;
+import utils.configuration.ValeursLoader;
+import utils.strategyMessage.MessageHandler;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.junit.Before;
+import org.junit.Test;
+import static org.junit.Assert.*;
+import static org.mockito.Mockito.*;
+
+public class EvaluateurLineaireTest {
+
+    private Grille grille;
+    private MessageHandler messageHandler;
+
+    @Before
+    public void setUp() {
+
+        try {
+            ConfigLoader.load();
+        } catch (Exception e) {
+            e.printStackTrace();
+            fail("Erreur lors du chargement de la configuration : " + e.getMessage());
+        }
+
+        messageHandler = mock(MessageHandler.class);
+        grille = new Grille(messageHandler);
+    }
+
+    private Guerrier placerGuerrier(String nom, Position position) {
+        Guerrier guerrier = new Guerrier(nom, position, messageHandler, grille);
+        grille.getCase(position).setOccupant(guerrier);
+        grille.inscrireCombattant(guerrier);
+        return guerrier;
+    }
+
+    @Test
+    public void testValeursLoader_FeuillesNumeriquesAToutesProfondeurs() throws Exception {
+        String xml = "<racine><a>1.5</a><groupe><b>-2</b></groupe></racine>";
+
+        Map<String, Double> valeurs = ValeursLoader.load(new ByteArrayInputStream(xml.getBytes(StandardCharsets.UTF_8)));
+
+        assertEquals(1.5, valeurs.get("a"), 1e-9);
+        assertEquals(-2.0, valeurs.get("b"), 1e-9);
+    }
+
+    @Test
+    public void testValeursLoader_ValeurNonNumeriqueRefusee() throws Exception {
+        String xml = "<racine><a>1.5</a><texte>abc</texte></racine>";
+
+        try {
+            ValeursLoader.load(new ByteArrayInputStream(xml.getBytes(StandardCharsets.UTF_8)));
+            fail("Une valeur non numérique doit être refusée.");
+        } catch (IllegalArgumentException e) {
+            assertTrue("Le message doit nommer l'élément.", e.getMessage().contains("texte"));
+        }
+    }
+
+    @Test
+    public void testDepuisConfiguration_PoidsDuFichier() throws Exception {
+        EvaluateurLineaire evaluateur = EvaluateurLineaire.depuisConfiguration();
+        Map<String, Double> poids = ValeursLoader.load(EvaluateurLineaire.FICHIER_POIDS);
+
+        for (Caracteristique caracteristique : Caracteristique.values()) {
+            assertEquals(caracteristique.getCle(), poids.getOrDefault(caracteristique.getCle(), 0.0),
+                    evaluateur.getPoids(caracteristique), 1e-9);
+        }
+    }
+
+    @Test
+    public void testEvaluer_SommePonderee() {
+        Guerrier joueur = placerGuerrier("Joueur", new Position(0, 0));
+        joueur.ajouterArme(new Arme(TypeEquipement.PISTOLET));
+        grille.getCase(1, 0).setEstMur(true);
+        Map<String, Double> poids = new HashMap<>();
+        poids.put(Caracteristique.MUNITIONS.getCle(), 2.0);
+        poids.put(Caracteristique.MOBILITE.getCle(), -1.0);
+
+        EvaluateurLineaire evaluateur = new EvaluateurLineaire(poids);
+
+        assertEquals(0.0, evaluateur.getPoids(Caracteristique.MENACE), 1e-9);
+        assertEquals(2.0 * joueur.getMunitionsTotales() - 1.0, evaluateur.evaluer(joueur, grille), 1e-9);
+    }
+
+    @Test
+    public void testEvaluer_CombattantElimineAuPlusBas() {
+        Guerrier joueur = placerGuerrier("Joueur", new Position(0, 0));
+        joueur.setEnergie(0);
+        Map<String, Double> poids = new HashMap<>();
+        poids.put(Caracteristique.DIFFERENCE_ENERGIE.getCle(), 1.0);
+
+        assertEquals(-Double.MAX_VALUE, new EvaluateurLineaire(poids).evaluer(joueur, grille), 0);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testPoidsNuls() {
+        new EvaluateurLineaire(null);
+    }
+}
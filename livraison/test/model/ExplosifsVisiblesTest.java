@@ -0,0 +1,107 @@
+package model;
+
+import model.combattantFactory.Guerrier;
+import utils.configuration.ConfigLoader;
+import utils.configuration.TypeEquipement;
+import utils.strategyMessage.MessageHandler;
+
+import java.util.Random;
+
+import org.junit.Before;
+import org.junit.Test;
+import static org.junit.Assert.*;
+import static org.mockito.Mockito.*;
+
+public class ExplosifsVisiblesTest {
+
+    private Grille grille;
+    private MessageHandler messageHandler;
+    private Guerrier observateur;
+    private Guerrier ennemi;
+
+    @Before
+    public void setUp() {
+
+        try {
+            ConfigLoader.load();
+        } catch (Exception e) {
+            e.printStackTrace();
+            fail("Erreur lors du chargement de la configuration : " + e.getMessage());
+        }
+
+        messageHandler = mock(MessageHandler.class);
+        grille = new Grille(messageHandler);
+        observateur = placerGuerrier("Observateur", new Position(1, 1));
+        ennemi = placerGuerrier("Ennemi", new Position(5, 5));
+    }
+
+    private Guerrier placerGuerrier(String nom, Position position) {
+        Guerrier guerrier = new Guerrier(nom, position, messageHandler, grille);
+        grille.getCase(position).setOccupant(guerrier);
+        grille.inscrireCombattant(guerrier);
+        return guerrier;
+    }
+
+    @Test
+    public void testPour_MineVisibleSeulementPourSonPoseur() {
+        long[] vueObservateur = grille.getExplosifsVisibles().pour(observateur);
+        grille.getCase(6, 5).setExplosif(new Mine(ennemi, TypeEquipement.MINE));
+
+        int index = grille.indexDe(6, 5);
+        assertFalse("La mine ennemie ne doit pas être visible.", ExplosifsVisibles.contient(vueObservateur, index));
+        assertTrue("Le poseur doit voir sa mine, même si son ensemble est créé après la pose.",
+                grille.getExplosifsVisibles().estVisible(ennemi, 6, 5));
+
+        grille.getCase(6, 5).retirerExplosif();
+        assertFalse(grille.getExplosifsVisibles().estVisible(ennemi, 6, 5));
+    }
+
+    @Test
+    public void testPour_BombeVisiblePourTous() {
+        long[] vueObservateur = grille.getExplosifsVisibles().pour(observateur);
+        grille.getCase(3, 3).setExplosif(new Bombe(ennemi, TypeEquipement.BOMBE));
+
+        assertTrue("L'ensemble déjà obtenu doit être mis à jour en place.",
+                ExplosifsVisibles.contient(vueObservateur, grille.indexDe(3, 3)));
+        assertTrue(grille.getExplosifsVisibles().estVisible(ennemi, 3, 3));
+
+        grille.getCase(3, 3).setExplosif(new Mine(observateur, TypeEquipement.MINE));
+        assertTrue(grille.getExplosifsVisibles().estVisible(observateur, 3, 3));
+        assertFalse("La bombe remplacée par une mine cachée ne doit plus être visible.",
+                grille.getExplosifsVisibles().estVisible(ennemi, 3, 3));
+    }
+
+    @Test
+    public void testPour_IdentiqueAEstVisiblePour() {
+        Combattant[] combattants = { observateur, ennemi };
+        for (Combattant combattant : combattants) {
+            grille.getExplosifsVisibles().pour(combattant);
+        }
+        Random random = new Random(5);
+
+        for (int i = 0; i < 500; i++) {
+            Case c = grille.getCase(random.nextInt(grille.getLargeur()), random.nextInt(grille.getLongueur()));
+            Combattant poseur = combattants[random.nextInt(2)];
+            switch (random.nextInt(3)) {
+                case 0:
+                    c.setExplosif(new Mine(poseur, TypeEquipement.MINE));
+                    break;
+                case 1:
+                    c.setExplosif(new Bombe(poseur, TypeEquipement.BOMBE));
+                    break;
+                default:
+                    c.retirerExplosif();
+            }
+        }
+
+        for (Combattant combattant : combattants) {
+            for (int x = 0; x < grille.getLargeur(); x++) {
+                for (int y = 0; y < grille.getLongueur(); y++) {
+                    Explosif explosif = grille.getCase(x, y).getExplosif();
+                    assertEquals(explosif != null && explosif.estVisiblePour(combattant),
+                            grille.getExplosifsVisibles().estVisible(combattant, x, y));
+                }
+            }
+        }
+    }
+}
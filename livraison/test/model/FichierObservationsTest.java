@@ -0,0 +1,121 @@
+package model;
+
+import model.combattantFactory.Guerrier;
+import model.ia.Coup;
+import model.ia.EncodeurPlateau;
+import model.simulation.FichierObservations;
+import utils.configuration.ConfigLoader;
+import utils.configuration.TypeEquipement;
+import utils.strategyMessage.MessageHandler;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.FloatBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+import org.junit.Before;
+import org.junit.Test;
+import static org.junit.Assert.*;
+import static org.mockito.Mockito.*;
+
+public class FichierObservationsTest {
+
+    private Grille grille;
+    private MessageHandler messageHandler;
+    private Guerrier joueur;
+    private Guerrier allie;
+
+    @Before
+    public void setUp() {
+
+        try {
+            ConfigLoader.load();
+        } catch (Exception e) {
+            e.printStackTrace();
+            fail("Erreur lors du chargement de la configuration : " + e.getMessage());
+        }
+
+        messageHandler = mock(MessageHandler.class);
+        grille = new Grille(messageHandler);
+        joueur = placerGuerrier("Joueur", new Position(2, 2));
+        allie = placerGuerrier("Allié", new Position(3, 2));
+        placerGuerrier("Ennemi", new Position(7, 7));
+        joueur.ajouterArme(new Arme(TypeEquipement.PISTOLET));
+    }
+
+    private Guerrier placerGuerrier(String nom, Position position) {
+        Guerrier guerrier = new Guerrier(nom, position, messageHandler, grille);
+        grille.getCase(position).setOccupant(guerrier);
+        grille.inscrireCombattant(guerrier);
+        return guerrier;
+    }
+
+    @Test
+    public void testAjouter_EnregistrementsRelusDansLeFichier() throws IOException {
+        Path chemin = Files.createTempFile("observations", ".bin");
+        try {
+            int valeurs;
+            try (FichierObservations fichier = FichierObservations.creer(chemin, grille.getLargeur(), grille.getLongueur(), 4)) {
+                valeurs = fichier.getValeursParEtat();
+                assertEquals(0, fichier.ajouter(joueur, Arrays.<Combattant>asList(joueur, allie), grille, Coup.BOUCLIER));
+                assertEquals(1, fichier.ajouter(allie, null, grille, FichierObservations.COUP_INCONNU));
+                fichier.setResultat(0, 1f);
+            }
+
+            ByteBuffer contenu = ByteBuffer.wrap(Files.readAllBytes(chemin)).order(ByteOrder.LITTLE_ENDIAN);
+            assertEquals("Le nombre d'états doit figurer dans l'en-tête.", 2, contenu.getInt(24));
+            assertEquals(grille.getLargeur(), contenu.getInt(8));
+            assertEquals(EncodeurPlateau.CANAUX, contenu.getInt(16));
+
+            contenu.position(FichierObservations.TAILLE_ENTETE);
+            FloatBuffer etats = contenu.slice().order(ByteOrder.LITTLE_ENDIAN).asFloatBuffer();
+            float[] attendu = new float[EncodeurPlateau.taille(grille)];
+            EncodeurPlateau.encoder(joueur, Arrays.<Combattant>asList(joueur, allie), grille, FloatBuffer.wrap(attendu), 0);
+            for (int i = 0; i < attendu.length; i++) {
+                assertEquals("Le codage doit être écrit tel quel.", attendu[i], etats.get(i), 0f);
+            }
+            assertEquals("Le coup doit suivre le codage.", Coup.BOUCLIER, etats.get(valeurs - 2), 0f);
+            assertEquals("Le résultat doit terminer l'enregistrement.", 1f, etats.get(valeurs - 1), 0f);
+            assertEquals(FichierObservations.COUP_INCONNU, etats.get(2 * valeurs - 2), 0f);
+        } finally {
+            Files.deleteIfExists(chemin);
+        }
+    }
+
+    @Test
+    public void testEncoder_AlliesEtEnnemisSepares() {
+        int cases = grille.getLargeur() * grille.getLongueur();
+        float[] entree = new float[EncodeurPlateau.taille(grille)];
+
+        EncodeurPlateau.encoder(joueur, Arrays.<Combattant>asList(joueur, allie), grille, FloatBuffer.wrap(entree), 0);
+
+        int caseAllie = 2 * grille.getLargeur() + 3;
+        assertEquals("L'allié doit figurer dans le plan des alliés.", 1f, entree[3 * cases + caseAllie], 0f);
+        assertEquals("L'allié ne doit pas figurer dans le plan des ennemis.", 0f, entree[4 * cases + caseAllie], 0f);
+    }
+
+    @Test
+    public void testAjouter_FichierPlein() throws IOException {
+        Path chemin = Files.createTempFile("observations", ".bin");
+        try (FichierObservations fichier = FichierObservations.creer(chemin, grille.getLargeur(), grille.getLongueur(), 1)) {
+            assertEquals(0, fichier.ajouter(joueur, null, grille, Coup.ATTENDRE));
+            assertEquals("Un fichier plein doit refuser l'état.", -1, fichier.ajouter(joueur, null, grille, Coup.ATTENDRE));
+            assertEquals(1, fichier.getNombre());
+        } finally {
+            Files.deleteIfExists(chemin);
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testAjouter_DimensionsDifferentes() throws IOException {
+        Path chemin = Files.createTempFile("observations", ".bin");
+        try (FichierObservations fichier = FichierObservations.creer(chemin, grille.getLargeur() + 1, grille.getLongueur(), 1)) {
+            fichier.ajouter(joueur, null, grille, Coup.ATTENDRE);
+        } finally {
+            Files.deleteIfExists(chemin);
+        }
+    }
+}
@@ -2,6 +2,7 @@ package model;
 
 import model.Grille;
 import model.Combattant;
+import model.combattantFactory.CombattantFactory;
 import utils.strategyMessage.MessageHandler;
 import utils.configuration.ConfigLoader;
 
@@ -11,6 +12,7 @@ import static org.junit.Assert.*;
 import static org.mockito.Mockito.*;
 
 import java.util.Arrays;
+import java.util.List;
 
 public class GrilleTest {
 
@@ -70,4 +72,55 @@ public class GrilleTest {
 
         assertTrue("Le jeu doit être terminé lorsqu'il ne reste aucun combattant en vie.", grille.isOver());
     }
+
+    @Test
+    public void testCopier_CopieIndependante() {
+        grille.getCase(new Position(0, 0)).setEstMur(true);
+        List<Combattant> combattants = CombattantFactory.creerListeCombattants(2, grille, messageHandler);
+        grille.placerCombattants(combattants);
+
+        Grille copie = grille.copier(messageHandler);
+        Combattant original = grille.getAllCombattants().get(0);
+        Combattant copieCombattant = copie.getAllCombattants().get(0);
+
+        assertTrue("Les murs doivent être copiés.", copie.getCase(new Position(0, 0)).estUnMur());
+        assertNotSame("Les combattants doivent être copiés.", original, copieCombattant);
+        assertEquals("La copie doit occuper la même case.", original.getPosition(), copieCombattant.getPosition());
+        assertSame("La case de la copie doit être occupée par la copie.", copieCombattant,
+                copie.getCase(copieCombattant.getPosition()).getOccupant());
+        assertEquals("Les munitions doivent être copiées.", original.getMunitionsTotales(), copieCombattant.getMunitionsTotales());
+
+        copieCombattant.perdreEnergie(10);
+
+        assertEquals("La grille d'origine ne doit pas être affectée.", original.getEnergie() - 10, copieCombattant.getEnergie());
+        assertEquals("Les totaux de la copie doivent suivre ses combattants.", grille.getEnergieTotale() - 10, copie.getEnergieTotale());
+    }
+
+    @Test
+    public void testCopier_SansConsommerLeGenerateur() {
+        Grille temoin = new Grille(messageHandler, 5L);
+        Grille copiee = new Grille(messageHandler, 5L);
+        copiee.copier(messageHandler);
+        copiee.copier(messageHandler);
+
+        temoin.placerPastillesEnergie();
+        copiee.placerPastillesEnergie();
+        Grille secondeCopie = copiee.copier(messageHandler);
+        Grille copieTemoin = temoin.copier(messageHandler);
+
+        for (int x = 0; x < temoin.getLargeur(); x++) {
+            for (int y = 0; y < temoin.getLongueur(); y++) {
+                assertEquals("Copier ne doit pas changer les tirages de la grille d'origine.",
+                        temoin.getCase(x, y).contientPastilleEnergie(), copiee.getCase(x, y).contientPastilleEnergie());
+            }
+        }
+        secondeCopie.placerPastillesEnergie();
+        copieTemoin.placerPastillesEnergie();
+        for (int x = 0; x < temoin.getLargeur(); x++) {
+            for (int y = 0; y < temoin.getLongueur(); y++) {
+                assertEquals("Deux copies d'une même grille au même tour doivent tirer les mêmes nombres.",
+                        copieTemoin.getCase(x, y).contientPastilleEnergie(), secondeCopie.getCase(x, y).contientPastilleEnergie());
+            }
+        }
+    }
 }
@@ -0,0 +1,69 @@
+package model;
+
+import model.Grille;
+import model.Position;
+import model.combattantFactory.Guerrier;
+import utils.strategyMessage.MessageHandler;
+import utils.configuration.ConfigLoader;
+
+import org.junit.Before;
+import org.junit.Test;
+import static org.junit.Assert.*;
+import static org.mockito.Mockito.*;
+
+public class LignesDeTirTest {
+
+    private Grille grille;
+    private MessageHandler messageHandler;
+    private LignesDeTir lignesDeTir;
+
+    @Before
+    public void setUp() {
+
+        try {
+            ConfigLoader.load();
+        } catch (Exception e) {
+            e.printStackTrace();
+            fail("Erreur lors du chargement de la configuration : " + e.getMessage());
+        }
+
+        messageHandler = mock(MessageHandler.class);
+        grille = new Grille(messageHandler);
+        lignesDeTir = grille.getLignesDeTir();
+    }
+
+    private Guerrier placerGuerrier(String nom, Position position) {
+        Guerrier guerrier = new Guerrier(nom, position, messageHandler, grille);
+        grille.getCase(position).setOccupant(guerrier);
+        grille.inscrireCombattant(guerrier);
+        return guerrier;
+    }
+
+    @Test
+    public void testCasesLibres_MiseAJourApresAjoutMur() {
+        assertEquals("Sans mur, la ligne doit aller jusqu'au bord.", grille.getLargeur() - 1,
+                lignesDeTir.getCasesLibres(0, 2, LignesDeTir.EST));
+
+        grille.getCase(new Position(4, 2)).setEstMur(true);
+
+        assertEquals("Le mur doit arrêter la ligne vers l'est.", 3, lignesDeTir.getCasesLibres(0, 2, LignesDeTir.EST));
+        assertEquals("Le mur doit arrêter la ligne vers l'ouest.", 0, lignesDeTir.getCasesLibres(5, 2, LignesDeTir.OUEST));
+        assertEquals("La colonne du mur doit aussi être mise à jour.", 1, lignesDeTir.getCasesLibres(4, 0, LignesDeTir.SUD));
+    }
+
+    @Test
+    public void testPremiereCible_BloqueeParMur() {
+        Guerrier cible = placerGuerrier("Cible", new Position(3, 2));
+
+        assertSame("La cible alignée et à portée doit être touchée.", cible,
+                lignesDeTir.premiereCible(new Position(0, 2), LignesDeTir.EST, 3));
+        assertNull("La cible hors de portée ne doit pas être touchée.",
+                lignesDeTir.premiereCible(new Position(0, 2), LignesDeTir.EST, 2));
+
+        grille.getCase(new Position(2, 2)).setEstMur(true);
+
+        assertNull("Le mur doit protéger la cible.", lignesDeTir.premiereCible(new Position(0, 2), LignesDeTir.EST, 3));
+        assertEquals("Le mur bloquant doit être identifié.", new Position(2, 2),
+                lignesDeTir.murBloquant(new Position(0, 2), LignesDeTir.EST, 3));
+    }
+}
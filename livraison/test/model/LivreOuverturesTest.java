@@ -0,0 +1,152 @@
+package model;
+
+import model.combattantFactory.CombattantFactory;
+import model.combattantFactory.Guerrier;
+import model.ia.Coup;
+import model.ia.Difficulte;
+import model.ia.Empreinte;
+import model.ia.LivreOuvertures;
+import utils.strategyMessage.MessageHandler;
+import utils.configuration.ConfigLoader;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.Before;
+import org.junit.Test;
+import static org.junit.Assert.*;
+import static org.mockito.Mockito.*;
+
+public class LivreOuverturesTest {
+
+    private Grille grille;
+    private MessageHandler messageHandler;
+    private List<Combattant> combattants;
+
+    @Before
+    public void setUp() {
+
+        try {
+            ConfigLoader.load();
+        } catch (Exception e) {
+            e.printStackTrace();
+            fail("Erreur lors du chargement de la configuration : " + e.getMessage());
+        }
+
+        messageHandler = mock(MessageHandler.class);
+        grille = new Grille(messageHandler, 42);
+        grille.placerMurs();
+        grille.placerPastillesEnergie();
+        combattants = CombattantFactory.creerListeCombattants(2, grille, messageHandler);
+        grille.placerCombattants(combattants);
+    }
+
+    private Guerrier placerGuerrier(Grille grilleCible, String nom, Position position) {
+        Guerrier guerrier = new Guerrier(nom, position, messageHandler, grilleCible);
+        grilleCible.getCase(position).setOccupant(guerrier);
+        grilleCible.inscrireCombattant(guerrier);
+        return guerrier;
+    }
+
+    @Test
+    public void testEmpreinte_IdentiqueSurUneCopie() {
+        Grille copie = grille.copier(messageHandler);
+
+        assertEquals("Une copie dans le même état doit avoir la même empreinte.",
+                Empreinte.calculer(combattants.get(0), grille),
+                Empreinte.calculer(copie.getAllCombattants().get(0), copie));
+    }
+
+    @Test
+    public void testEmpreinte_DependDuJoueurEtDeLEtat() {
+        long empreinte = Empreinte.calculer(combattants.get(0), grille);
+
+        assertNotEquals("L'empreinte doit dépendre du combattant qui joue.",
+                empreinte, Empreinte.calculer(combattants.get(1), grille));
+
+        combattants.get(0).setEnergie(combattants.get(0).getEnergie() - 1);
+        assertNotEquals("L'empreinte doit dépendre de l'énergie des combattants.",
+                empreinte, Empreinte.calculer(combattants.get(0), grille));
+    }
+
+    @Test
+    public void testEmpreinteLocale_IndependanteDeLaPositionAbsolue() {
+        Grille autre = new Grille(messageHandler, 7);
+        Grille vide = new Grille(messageHandler, 8);
+        Combattant joueur = placerGuerrier(autre, "Joueur", new Position(4, 4));
+        placerGuerrier(autre, "Ennemi", new Position(4, 7));
+        autre.getCase(5, 4).setEstMur(true);
+        Combattant deplace = placerGuerrier(vide, "Joueur", new Position(5, 3));
+        placerGuerrier(vide, "Ennemi", new Position(5, 6));
+        vide.getCase(6, 3).setEstMur(true);
+
+        assertEquals("La même situation à un autre endroit de la carte doit avoir la même empreinte locale.",
+                Empreinte.calculerLocale(joueur, autre), Empreinte.calculerLocale(deplace, vide));
+
+        vide.getCase(0, 9).setContientPastilleEnergie(true);
+        assertEquals("Une case hors de la fenêtre ne doit pas compter.",
+                Empreinte.calculerLocale(joueur, autre), Empreinte.calculerLocale(deplace, vide));
+
+        vide.getCase(4, 3).setEstMur(true);
+        assertNotEquals("Une case de la fenêtre doit compter.",
+                Empreinte.calculerLocale(joueur, autre), Empreinte.calculerLocale(deplace, vide));
+    }
+
+    @Test
+    public void testEcrireOuvrir_RetrouveLesCoups() throws IOException {
+        Map<Long, Integer> coups = new HashMap<>();
+        for (long empreinte = -50; empreinte < 50; empreinte += 3) {
+            coups.put(empreinte * 1_000_003L, Math.floorMod(empreinte, Coup.NOMBRE));
+        }
+        coups.put(Empreinte.calculerLocale(combattants.get(0), grille), Coup.BOUCLIER);
+
+        Path fichier = Files.createTempFile("ouvertures", ".bin");
+        try {
+            LivreOuvertures.ecrire(fichier, Difficulte.DIFFICILE, 4, coups);
+            LivreOuvertures livre = LivreOuvertures.ouvrir(fichier);
+
+            assertEquals(Difficulte.DIFFICILE, livre.getDifficulte());
+            assertEquals(coups.size(), livre.getNombre());
+            for (Map.Entry<Long, Integer> entree : coups.entrySet()) {
+                assertEquals((int) entree.getValue(), livre.chercher(entree.getKey()));
+            }
+            assertEquals(LivreOuvertures.ABSENT, livre.chercher(1L));
+            assertEquals(Coup.BOUCLIER, livre.chercher(combattants.get(0), grille));
+        } finally {
+            Files.deleteIfExists(fichier);
+        }
+    }
+
+    @Test
+    public void testChercher_AbsentApresLesToursCouverts() throws IOException {
+        Map<Long, Integer> coups = new HashMap<>();
+        coups.put(Empreinte.calculerLocale(combattants.get(0), grille), Coup.BOUCLIER);
+
+        Path fichier = Files.createTempFile("ouvertures", ".bin");
+        try {
+            LivreOuvertures.ecrire(fichier, Difficulte.NORMAL, 1, coups);
+            LivreOuvertures livre = LivreOuvertures.ouvrir(fichier);
+            grille.gererExplosionsDifferrees();
+
+            assertEquals("Le livre ne doit plus être consulté après les tours couverts.",
+                    LivreOuvertures.ABSENT, livre.chercher(combattants.get(0), grille));
+        } finally {
+            Files.deleteIfExists(fichier);
+        }
+    }
+
+    @Test(expected = IOException.class)
+    public void testOuvrir_FichierInvalide() throws IOException {
+        Path fichier = Files.createTempFile("ouvertures", ".bin");
+        try {
+            Files.write(fichier, new byte[]{1, 2, 3});
+            LivreOuvertures.ouvrir(fichier);
+        } finally {
+            Files.deleteIfExists(fichier);
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package model;
+
+import model.ia.ParametresIA;
+import model.ia.ParametresIA.Parametre;
+import model.ia.ParametresIA.Regle;
+import utils.configuration.ValeursLoader;
+import utils.configuration.ConfigLoader;
+
+import java.io.ByteArrayInputStream;
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.junit.Before;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+public class ParametresIATest {
+
+    @Before
+    public void setUp() {
+
+        try {
+            ConfigLoader.load();
+        } catch (Exception e) {
+            e.printStackTrace();
+            fail("Erreur lors du chargement de la configuration : " + e.getMessage());
+        }
+    }
+
+    @Test
+    public void testDefaut_OrdreHistoriqueDesRegles() {
+        ParametresIA parametres = ParametresIA.defaut();
+
+        assertArrayEquals("Le profil par défaut doit reproduire l'ordre historique des règles.",
+                new Regle[]{Regle.TIR, Regle.FUITE, Regle.BOUCLIER, Regle.EXPLOSIF, Regle.DEPLACEMENT},
+                parametres.getOrdreRegles());
+        assertEquals(5, parametres.getRayonEnnemis());
+        assertEquals(20, parametres.getSeuilBouclier());
+        assertEquals(3, parametres.getRayonExplosif());
+    }
+
+    @Test
+    public void testDepuisValeurs_BornesEtOrdre() {
+        Map<String, Double> valeurs = new HashMap<>();
+        valeurs.put("rayonEnnemis", 100.0);
+        valeurs.put("prioriteDeplacement", 0.0);
+
+        ParametresIA parametres = ParametresIA.depuisValeurs(valeurs);
+
+        assertEquals("Une valeur hors bornes doit être ramenée au maximum.",
+                Parametre.RAYON_ENNEMIS.getMax(), parametres.get(Parametre.RAYON_ENNEMIS), 1e-9);
+        assertEquals("La règle de plus petite priorité doit être essayée en premier.",
+                Regle.DEPLACEMENT, parametres.getOrdreRegles()[0]);
+    }
+
+    @Test
+    public void testVecteur_AllerRetour() {
+        ParametresIA parametres = ParametresIA.defaut();
+
+        ParametresIA copie = ParametresIA.depuisVecteur(parametres.versVecteur());
+
+        assertEquals(parametres.versValeurs(), copie.versValeurs());
+    }
+
+    @Test
+    public void testEcrire_RelisibleParValeursLoader() throws Exception {
+        double[] vecteur = ParametresIA.defaut().versVecteur();
+        vecteur[Parametre.SEUIL_PASTILLE.ordinal()] = 0.75;
+        ParametresIA parametres = ParametresIA.depuisVecteur(vecteur);
+
+        StringWriter writer = new StringWriter();
+        parametres.ecrire(writer);
+        ParametresIA relu = ParametresIA.depuisValeurs(ValeursLoader.load(
+                new ByteArrayInputStream(writer.toString().getBytes(StandardCharsets.UTF_8))));
+
+        assertEquals(parametres.get(Parametre.SEUIL_PASTILLE), relu.get(Parametre.SEUIL_PASTILLE), 1e-3);
+        assertArrayEquals(parametres.getOrdreRegles(), relu.getOrdreRegles());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testDepuisVecteur_TailleInvalide() {
+        ParametresIA.depuisVecteur(new double[2]);
+    }
+}
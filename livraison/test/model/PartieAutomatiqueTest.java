@@ -0,0 +1,79 @@
+package model;
+
+import model.factoryJoueur.JoueurFactory.TypeJoueurEnum;
+import model.factoryJoueur.JoueurStrategy;
+import model.factoryJoueur.TypeJoueur;
+import model.ia.Difficulte;
+import model.simulation.PartieAutomatique;
+import model.simulation.PartieAutomatique.Siege;
+import utils.configuration.ConfigLoader;
+import utils.strategyMessage.MessageHandler;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.Before;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+public class PartieAutomatiqueTest {
+
+    private List<Siege> sieges;
+
+    @Before
+    public void setUp() {
+
+        try {
+            ConfigLoader.load();
+        } catch (Exception e) {
+            e.printStackTrace();
+            fail("Erreur lors du chargement de la configuration : " + e.getMessage());
+        }
+
+        sieges = Arrays.asList(
+                new Siege(TypeJoueurEnum.AI, Difficulte.FACILE),
+                new Siege(TypeJoueurEnum.ALEATOIRE, Difficulte.FACILE),
+                new Siege(TypeJoueurEnum.ALEATOIRE, Difficulte.FACILE));
+    }
+
+    /**
+     * Joue une partie en relevant la position et l'énergie de chaque combattant après chacun de ses coups.
+     */
+    private List<String> deroulement(long graine) {
+        List<String> releves = new ArrayList<>();
+        PartieAutomatique partie = new PartieAutomatique(sieges, 40) {
+            @Override
+            protected TypeJoueur creerJoueur(int indexSiege, List<Combattant> combattants, MessageHandler messageHandler, Random random) {
+                TypeJoueur joueur = super.creerJoueur(indexSiege, combattants, messageHandler, random);
+                JoueurStrategy strategie = joueur.getStrategie();
+                return new TypeJoueur(joueur.getType(), combattants, new JoueurStrategy() {
+                    @Override
+                    public void preparerTour(List<Combattant> equipe, Grille grille) {
+                        strategie.preparerTour(equipe, grille);
+                    }
+
+                    @Override
+                    public void appliquerStrategie(Combattant combattant, Grille grille) {
+                        strategie.appliquerStrategie(combattant, grille);
+                        releves.add(combattant.getNom() + "@" + combattant.getPosition() + ":" + combattant.getEnergie());
+                    }
+                });
+            }
+        };
+        releves.add("gagnant=" + partie.jouer(graine));
+        return releves;
+    }
+
+    @Test
+    public void testJouer_MemeGraineMemeDeroulement() {
+        for (long graine = 1; graine <= 3; graine++) {
+            List<String> premiere = deroulement(graine);
+
+            assertTrue("La partie doit comporter des coups.", premiere.size() > 1);
+            assertEquals("Deux parties de même graine doivent se jouer à l'identique, stratégies comprises.",
+                    premiere, deroulement(graine));
+        }
+    }
+}
@@ -0,0 +1,108 @@
+package model;
+
+import model.combattantFactory.Guerrier;
+import model.proxy.ProxyGrille;
+import model.proxy.VuesJoueur;
+import utils.configuration.ConfigLoader;
+import utils.configuration.TypeEquipement;
+import utils.strategyMessage.MessageHandler;
+
+import org.junit.Before;
+import org.junit.Test;
+import static org.junit.Assert.*;
+import static org.mockito.Mockito.*;
+
+public class ProxyGrilleTest {
+
+    private Grille grille;
+    private MessageHandler messageHandler;
+    private Guerrier observateur;
+    private Guerrier ennemi;
+
+    @Before
+    public void setUp() {
+
+        try {
+            ConfigLoader.load();
+        } catch (Exception e) {
+            e.printStackTrace();
+            fail("Erreur lors du chargement de la configuration : " + e.getMessage());
+        }
+
+        messageHandler = mock(MessageHandler.class);
+        grille = new Grille(messageHandler);
+        observateur = placerGuerrier("Observateur", new Position(1, 1));
+        ennemi = placerGuerrier("Ennemi", new Position(5, 5));
+        ennemi.ajouterExplosif(new Mine(ennemi, TypeEquipement.MINE));
+    }
+
+    private Guerrier placerGuerrier(String nom, Position position) {
+        Guerrier guerrier = new Guerrier(nom, position, messageHandler, grille);
+        grille.getCase(position).setOccupant(guerrier);
+        grille.inscrireCombattant(guerrier);
+        return guerrier;
+    }
+
+    @Test
+    public void testGetCase_MineEnnemieCachee() {
+        assertTrue(ennemi.deposerMine(grille.getCase(new Position(6, 5))));
+
+        Case vueObservateur = new ProxyGrille(grille, observateur).getCase(6, 5);
+        Case vueEnnemi = new ProxyGrille(grille, ennemi).getCase(new Position(6, 5));
+
+        assertNull("La mine ennemie doit être cachée à l'observateur.", vueObservateur.getExplosif());
+        assertFalse(vueObservateur.estOccupee(true));
+        assertEquals(".", vueObservateur.toString());
+        assertNotNull("Le poseur doit voir sa mine.", vueEnnemi.getExplosif());
+        assertTrue(vueEnnemi.estOccupee(true));
+    }
+
+    @Test
+    public void testGetCase_VueAJourSansReconstruction() {
+        ProxyGrille vue = new ProxyGrille(grille, ennemi);
+        Case caseVue = vue.getCase(6, 5);
+        assertNull(caseVue.getExplosif());
+
+        assertTrue(ennemi.deposerMine(grille.getCase(new Position(6, 5))));
+        grille.getCase(2, 2).setEstMur(true);
+
+        assertSame("La vue doit réutiliser la même case.", caseVue, vue.getCase(new Position(6, 5)));
+        assertNotNull("La vue doit refléter la mine posée après sa création.", caseVue.getExplosif());
+        assertTrue(vue.getCase(2, 2).estUnMur());
+        assertSame(ennemi, vue.getCase(5, 5).getOccupant());
+        assertNull("Une position hors de la grille n'a pas de case.", vue.getCase(-1, 0));
+    }
+
+    @Test
+    public void testGetCasesVoisines_Filtrees() {
+        assertTrue(ennemi.deposerMine(grille.getCase(new Position(6, 5))));
+        ProxyGrille vue = new ProxyGrille(grille, observateur);
+
+        for (Case voisine : vue.getCase(5, 5).getCasesVoisines()) {
+            assertNull("Les voisines doivent aussi être filtrées.", voisine.getExplosif());
+        }
+        assertEquals(8, vue.getCase(5, 5).getCasesVoisines().size());
+    }
+
+    @Test
+    public void testVuesJoueur_VueConserveeParCombattant() {
+        VuesJoueur vues = new VuesJoueur();
+        ProxyGrille vue = vues.pour(observateur, grille);
+        Case caseVue = vue.getCase(3, 3);
+
+        vues.pour(ennemi, grille);
+
+        assertSame("La vue d'un combattant doit être retrouvée, pas reconstruite.", vue, vues.pour(observateur, grille));
+        assertSame(caseVue, vues.pour(observateur, grille).getCase(3, 3));
+        assertEquals(2, vues.getNombre());
+
+        Grille autrePartie = new Grille(messageHandler);
+        assertSame(autrePartie, vues.pour(observateur, autrePartie).getGrilleReelle());
+        assertEquals("Une nouvelle grille doit vider le registre.", 1, vues.getNombre());
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void testSetEstMur_VueEnLectureSeule() {
+        new ProxyGrille(grille, observateur).getCase(3, 3).setEstMur(true);
+    }
+}
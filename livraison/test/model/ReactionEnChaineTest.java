@@ -0,0 +1,122 @@
+package model;
+
+import model.combattantFactory.Guerrier;
+import utils.configuration.ConfigLoader;
+import utils.configuration.Parametres;
+import utils.configuration.ProprieteEquipement;
+import utils.configuration.TypeEquipement;
+import utils.strategyMessage.MessageHandler;
+
+import org.junit.Before;
+import org.junit.Test;
+import static org.junit.Assert.*;
+import static org.mockito.Mockito.*;
+
+public class ReactionEnChaineTest {
+
+    private Grille grille;
+    private MessageHandler messageHandler;
+    private Guerrier poseur;
+
+    @Before
+    public void setUp() {
+
+        try {
+            ConfigLoader.load();
+        } catch (Exception e) {
+            e.printStackTrace();
+            fail("Erreur lors du chargement de la configuration : " + e.getMessage());
+        }
+
+        Parametres.reactionEnChaine = true;
+        messageHandler = mock(MessageHandler.class);
+        grille = new Grille(messageHandler);
+        poseur = placerGuerrier("Poseur", new Position(9, 0));
+    }
+
+    private Guerrier placerGuerrier(String nom, Position position) {
+        Guerrier guerrier = new Guerrier(nom, position, messageHandler, grille);
+        grille.getCase(position).setOccupant(guerrier);
+        grille.inscrireCombattant(guerrier);
+        return guerrier;
+    }
+
+    private void poserBombe(int x, int y) {
+        grille.getCase(x, y).setExplosif(new Bombe(poseur, TypeEquipement.BOMBE));
+    }
+
+    @Test
+    public void testDeclencher_ExplosifsVoisinsDetonent() {
+        poserBombe(2, 2);
+        poserBombe(3, 2);
+        poserBombe(4, 2);
+        grille.getCase(5, 3).setExplosif(new Mine(poseur, TypeEquipement.MINE));
+        Guerrier loin = placerGuerrier("Loin", new Position(6, 4));
+        Guerrier proche = placerGuerrier("Proche", new Position(1, 1));
+        int energie = loin.getEnergie();
+
+        int detonations = grille.getReactionEnChaine().declencher(grille.getCase(2, 2), null);
+
+        assertEquals("Toute la chaîne doit détoner.", 4, detonations);
+        for (int x = 2; x <= 5; x++) {
+            assertNull(grille.getCase(x, x == 5 ? 3 : 2).getExplosif());
+        }
+        assertEquals("La mine atteinte par la chaîne doit toucher son voisin.",
+                energie - (int) Parametres.getPropriete(TypeEquipement.MINE, ProprieteEquipement.IMPACT_ENERGIE),
+                loin.getEnergie());
+        assertTrue(proche.getEnergie() < energie);
+    }
+
+    @Test
+    public void testDeclencher_DegatsCumulesParCombattant() {
+        poserBombe(2, 2);
+        poserBombe(4, 2);
+        poserBombe(3, 1);
+        Guerrier cible = placerGuerrier("Cible", new Position(3, 2));
+        int energie = cible.getEnergie();
+        int impact = new Bombe(poseur, TypeEquipement.BOMBE).getImpactEnergie();
+
+        assertEquals(3, grille.getReactionEnChaine().declencher(grille.getCase(2, 2), null));
+
+        assertEquals("La cible doit subir la somme des trois souffles.", Math.max(0, energie - 3 * impact), cible.getEnergie());
+    }
+
+    @Test
+    public void testDeclencher_SansReactionEnChaine() {
+        Parametres.reactionEnChaine = false;
+        poserBombe(2, 2);
+        poserBombe(3, 2);
+
+        assertEquals(1, grille.getReactionEnChaine().declencher(grille.getCase(2, 2), null));
+        assertNotNull("Sans réaction en chaîne, la bombe voisine doit rester.", grille.getCase(3, 2).getExplosif());
+    }
+
+    @Test
+    public void testDeclencher_ChampDeMinesComplet() {
+        int explosifs = 0;
+        for (int x = 0; x < grille.getLargeur(); x++) {
+            for (int y = 0; y < grille.getLongueur(); y++) {
+                if (!grille.getCase(x, y).estOccupee(false)) {
+                    grille.getCase(x, y).setExplosif(new Mine(poseur, TypeEquipement.MINE));
+                    explosifs++;
+                }
+            }
+        }
+
+        assertEquals("Chaque mine doit détoner une seule fois.", explosifs,
+                grille.getReactionEnChaine().declencher(grille.getCase(0, 9), null));
+        assertEquals("Le poseur ne doit subir qu'un cumul de dégâts.", 0, poseur.getEnergie());
+        assertEquals(0, grille.getReactionEnChaine().declencher(grille.getCase(0, 9), null));
+    }
+
+    @Test
+    public void testDeplacer_MineDeclencheLaBombeVoisine() {
+        Guerrier marcheur = placerGuerrier("Marcheur", new Position(0, 5));
+        grille.getCase(1, 5).setExplosif(new Mine(poseur, TypeEquipement.MINE));
+        poserBombe(2, 5);
+
+        assertTrue(marcheur.deplacer(grille.getCase(1, 5)));
+
+        assertNull("La bombe voisine de la mine doit avoir détoné.", grille.getCase(2, 5).getExplosif());
+    }
+}
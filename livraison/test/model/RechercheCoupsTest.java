@@ -0,0 +1,110 @@
+package model;
+
+import model.combattantFactory.Guerrier;
+import model.ia.Coup;
+import model.ia.Difficulte;
+import model.ia.EvaluateurLineaire;
+import model.ia.RechercheCoups;
+import utils.configuration.ConfigLoader;
+import utils.configuration.TypeEquipement;
+import utils.strategyMessage.MessageHandler;
+
+import java.util.Random;
+
+import org.junit.Before;
+import org.junit.Test;
+import static org.junit.Assert.*;
+import static org.mockito.Mockito.*;
+
+public class RechercheCoupsTest {
+
+    private Grille grille;
+    private MessageHandler messageHandler;
+    private RechercheCoups recherche;
+
+    @Before
+    public void setUp() {
+
+        try {
+            ConfigLoader.load();
+            recherche = new RechercheCoups(Difficulte.NORMAL, EvaluateurLineaire.depuisConfiguration(), new Random(1));
+        } catch (Exception e) {
+            e.printStackTrace();
+            fail("Erreur lors du chargement de la configuration : " + e.getMessage());
+        }
+
+        messageHandler = mock(MessageHandler.class);
+        grille = new Grille(messageHandler);
+    }
+
+    private Guerrier placerGuerrier(String nom, Position position) {
+        Guerrier guerrier = new Guerrier(nom, position, messageHandler, grille);
+        grille.getCase(position).setOccupant(guerrier);
+        grille.inscrireCombattant(guerrier);
+        return guerrier;
+    }
+
+    private Guerrier placerTireur(String nom, Position position, int equipe) {
+        Guerrier guerrier = placerGuerrier(nom, position);
+        guerrier.setEquipe(equipe);
+        guerrier.ajouterArme(new Arme(TypeEquipement.PISTOLET));
+        return guerrier;
+    }
+
+    @Test
+    public void testCibleDuTir_PremierCombattantDansLaLigne() {
+        Guerrier tireur = placerTireur("Tireur", new Position(2, 2), 1);
+        Guerrier cible = placerTireur("Cible", new Position(4, 2), 2);
+
+        assertSame(cible, Coup.cibleDuTir(Coup.tirer(0, LignesDeTir.EST), tireur, grille));
+        assertNull(Coup.cibleDuTir(Coup.tirer(0, LignesDeTir.OUEST), tireur, grille));
+        assertNull("Un coup qui n'est pas un tir n'a pas de cible.", Coup.cibleDuTir(Coup.ATTENDRE, tireur, grille));
+    }
+
+    @Test
+    public void testEvaluerCoups_JamaisDeTirSurUnAllie() {
+        Guerrier tireur = placerTireur("Tireur", new Position(2, 2), 1);
+        placerTireur("Coéquipier", new Position(4, 2), 1);
+        placerTireur("Ennemi", new Position(2, 5), 2);
+        double[] sommes = new double[Coup.NOMBRE];
+        int[] visites = new int[Coup.NOMBRE];
+
+        recherche.evaluerCoups(tireur, grille, Long.MAX_VALUE, sommes, visites);
+
+        assertEquals("Le tir sur le coéquipier ne doit pas être simulé.", 0, visites[Coup.tirer(0, LignesDeTir.EST)]);
+        assertTrue("Le tir sur l'ennemi doit être simulé.", visites[Coup.tirer(0, LignesDeTir.SUD)] > 0);
+        assertNotEquals(Coup.tirer(0, LignesDeTir.EST), recherche.choisirCoup(tireur, grille));
+    }
+
+    @Test
+    public void testEvaluerCoups_NeModifiePasLaGrille() {
+        Guerrier tireur = placerTireur("Tireur", new Position(2, 2), 1);
+        placerTireur("Ennemi", new Position(2, 5), 2);
+        int energie = grille.getEnergieTotale();
+
+        recherche.choisirCoup(tireur, grille);
+
+        assertEquals(energie, grille.getEnergieTotale());
+        assertEquals(new Position(2, 2), tireur.getPosition());
+        assertEquals(0, grille.getTourCourant());
+    }
+
+    @Test
+    public void testEvaluerCoups_ArretSurInterruption() {
+        Guerrier tireur = placerTireur("Tireur", new Position(2, 2), 1);
+        placerTireur("Ennemi", new Position(2, 5), 2);
+        double[] sommes = new double[Coup.NOMBRE];
+        int[] visites = new int[Coup.NOMBRE];
+
+        Thread.currentThread().interrupt();
+        try {
+            recherche.evaluerCoups(tireur, grille, Long.MAX_VALUE, sommes, visites);
+        } finally {
+            assertTrue("L'interruption doit rester signalée.", Thread.interrupted());
+        }
+
+        for (int visite : visites) {
+            assertEquals("Aucun coup ne doit être simulé une fois le thread interrompu.", 0, visite);
+        }
+    }
+}
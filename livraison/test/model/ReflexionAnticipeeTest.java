@@ -0,0 +1,114 @@
+package model;
+
+import model.combattantFactory.Guerrier;
+import model.ia.Coup;
+import model.ia.Difficulte;
+import model.ia.Empreinte;
+import model.ia.EvaluateurLineaire;
+import model.ia.ReflexionAnticipee;
+import utils.configuration.ConfigLoader;
+import utils.configuration.TypeEquipement;
+import utils.strategyMessage.MessageHandler;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.Before;
+import org.junit.Test;
+import static org.junit.Assert.*;
+import static org.mockito.Mockito.*;
+
+public class ReflexionAnticipeeTest {
+
+    private Grille grille;
+    private MessageHandler messageHandler;
+    private ReflexionAnticipee reflexion;
+    private Guerrier joueur;
+    private Guerrier adversaire;
+
+    @Before
+    public void setUp() {
+
+        try {
+            ConfigLoader.load();
+            reflexion = new ReflexionAnticipee(Difficulte.NORMAL, EvaluateurLineaire.depuisConfiguration(), new Random(1));
+        } catch (Exception e) {
+            e.printStackTrace();
+            fail("Erreur lors du chargement de la configuration : " + e.getMessage());
+        }
+
+        messageHandler = mock(MessageHandler.class);
+        grille = new Grille(messageHandler);
+        joueur = placerGuerrier("Joueur", new Position(2, 2));
+        adversaire = placerGuerrier("Adversaire", new Position(6, 6));
+        joueur.ajouterArme(new Arme(TypeEquipement.PISTOLET));
+        adversaire.ajouterArme(new Arme(TypeEquipement.PISTOLET));
+    }
+
+    private Guerrier placerGuerrier(String nom, Position position) {
+        Guerrier guerrier = new Guerrier(nom, position, messageHandler, grille);
+        grille.getCase(position).setOccupant(guerrier);
+        grille.inscrireCombattant(guerrier);
+        return guerrier;
+    }
+
+    private void attendrePositions() throws InterruptedException {
+        for (int essai = 0; essai < 500 && reflexion.getNombrePositions() == 0; essai++) {
+            Thread.sleep(10);
+        }
+        reflexion.arreter();
+    }
+
+    @Test
+    public void testLancer_PositionCourantePrevue() throws InterruptedException {
+        long empreinte = Empreinte.calculer(joueur, grille);
+
+        reflexion.lancer(Arrays.asList(joueur), Collections.<List<Combattant>>emptyList(), grille);
+        attendrePositions();
+
+        int coup = reflexion.chercher(joueur, grille);
+        assertNotEquals("La position courante doit avoir été prévue.", ReflexionAnticipee.ABSENT, coup);
+        assertTrue("Le coup prévu doit être légal.", Coup.estLegal(coup, joueur, grille));
+        assertEquals("La réflexion ne doit pas modifier la grille réelle.", empreinte, Empreinte.calculer(joueur, grille));
+    }
+
+    @Test
+    public void testLancer_GrilleReelleIntacteApresTourAdverse() throws InterruptedException {
+        long empreinte = Empreinte.calculer(adversaire, grille);
+
+        reflexion.lancer(Arrays.asList(joueur), Arrays.asList(Arrays.<Combattant>asList(adversaire)), grille);
+        attendrePositions();
+
+        assertTrue("Au moins une position doit avoir été prévue.", reflexion.getNombrePositions() > 0);
+        assertEquals("Le tour simulé de l'adversaire ne doit pas toucher la grille réelle.",
+                empreinte, Empreinte.calculer(adversaire, grille));
+        assertEquals("L'adversaire doit rester à sa place.", new Position(6, 6), adversaire.getPosition());
+    }
+
+    @Test
+    public void testChercher_PositionInconnue() {
+        assertEquals("Sans réflexion, aucune position ne doit être prévue.", ReflexionAnticipee.ABSENT,
+                reflexion.chercher(joueur, grille));
+    }
+
+    @Test
+    public void testFermer_CoupsConservesEtReflexionRelancable() throws InterruptedException {
+        reflexion.lancer(Arrays.asList(joueur), Collections.<List<Combattant>>emptyList(), grille);
+        attendrePositions();
+        int coup = reflexion.chercher(joueur, grille);
+
+        reflexion.fermer();
+
+        assertEquals("Les coups retenus doivent survivre à la fermeture.", coup, reflexion.chercher(joueur, grille));
+        assertTrue(Coup.appliquer(Coup.deplacer(LignesDeTir.EST), adversaire, grille));
+        reflexion.lancer(Arrays.asList(joueur), Collections.<List<Combattant>>emptyList(), grille);
+        for (int essai = 0; essai < 500 && reflexion.chercher(joueur, grille) == ReflexionAnticipee.ABSENT; essai++) {
+            Thread.sleep(10);
+        }
+        reflexion.fermer();
+        assertNotEquals("Une réflexion lancée après la fermeture doit reprendre.", ReflexionAnticipee.ABSENT,
+                reflexion.chercher(joueur, grille));
+    }
+}
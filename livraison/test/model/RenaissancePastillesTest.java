@@ -0,0 +1,153 @@
+package model;
+
+import model.combattantFactory.Guerrier;
+import utils.configuration.ConfigLoader;
+import utils.configuration.Parametres;
+import utils.strategyMessage.MessageHandler;
+
+import org.junit.Before;
+import org.junit.Test;
+import static org.junit.Assert.*;
+import static org.mockito.Mockito.*;
+
+public class RenaissancePastillesTest {
+
+    private Grille grille;
+    private MessageHandler messageHandler;
+
+    @Before
+    public void setUp() {
+
+        try {
+            ConfigLoader.load();
+        } catch (Exception e) {
+            e.printStackTrace();
+            fail("Erreur lors du chargement de la configuration : " + e.getMessage());
+        }
+
+        Parametres.renaissancePastilles = true;
+        Parametres.delaiMinRenaissancePastilles = 3;
+        Parametres.delaiMaxRenaissancePastilles = 3;
+        Parametres.plafondPastilles = 2;
+        messageHandler = mock(MessageHandler.class);
+        grille = new Grille(messageHandler, 42L);
+    }
+
+    private Guerrier placerGuerrier(String nom, Position position) {
+        Guerrier guerrier = new Guerrier(nom, position, messageHandler, grille);
+        grille.getCase(position).setOccupant(guerrier);
+        grille.inscrireCombattant(guerrier);
+        return guerrier;
+    }
+
+    private void poserPastille(int x, int y) {
+        Case caseCible = grille.getCase(x, y);
+        caseCible.setContientPastilleEnergie(new Pastille(caseCible.getPosition(), grille));
+    }
+
+    @Test
+    public void testPastilleRamassee_ReapparaitApresLeDelai() {
+        RenaissancePastilles renaissance = grille.getRenaissancePastilles();
+        poserPastille(2, 2);
+        grille.getCase(2, 2).setContientPastilleEnergie(null);
+
+        assertEquals(0, renaissance.getNombrePastilles());
+        assertEquals(1, renaissance.getNombreEnAttente());
+        for (int tour = 0; tour < 3; tour++) {
+            grille.gererExplosionsDifferrees();
+            assertEquals("Aucune pastille ne doit réapparaître avant le délai.", 0, renaissance.getNombrePastilles());
+        }
+
+        grille.gererExplosionsDifferrees();
+        assertEquals(1, renaissance.getNombrePastilles());
+        assertEquals(0, renaissance.getNombreEnAttente());
+        assertEquals(1, compterPastilles());
+    }
+
+    @Test
+    public void testPlafond_ReapparitionAbandonnee() {
+        RenaissancePastilles renaissance = grille.getRenaissancePastilles();
+        poserPastille(1, 1);
+        grille.getCase(1, 1).setContientPastilleEnergie(null);
+        poserPastille(3, 3);
+        poserPastille(4, 4);
+
+        for (int tour = 0; tour <= 3; tour++) {
+            grille.gererExplosionsDifferrees();
+        }
+
+        assertEquals("Le plafond doit limiter le nombre de pastilles.", 2, compterPastilles());
+        assertEquals(0, renaissance.getNombreEnAttente());
+    }
+
+    @Test
+    public void testCasesLibres_SansMurNiOccupantNiPastille() {
+        RenaissancePastilles renaissance = grille.getRenaissancePastilles();
+        int cases = grille.getLargeur() * grille.getLongueur();
+        assertEquals(cases, renaissance.getNombreLibres());
+
+        grille.getCase(0, 0).setEstMur(true);
+        placerGuerrier("Occupant", new Position(1, 0));
+        poserPastille(2, 0);
+        assertEquals(cases - 3, renaissance.getNombreLibres());
+
+        grille.getCase(0, 0).setEstMur(false);
+        assertEquals(cases - 2, renaissance.getNombreLibres());
+    }
+
+    @Test
+    public void testReapparition_SurUneCaseLibre() {
+        int largeur = grille.getLargeur();
+        int longueur = grille.getLongueur();
+        for (int x = 0; x < largeur; x++) {
+            for (int y = 0; y < longueur; y++) {
+                if (x != 5 || y != 5) {
+                    grille.getCase(x, y).setEstMur(true);
+                }
+            }
+        }
+        poserPastille(5, 5);
+        grille.getCase(5, 5).setContientPastilleEnergie(null);
+        assertEquals(1, grille.getRenaissancePastilles().getNombreLibres());
+
+        for (int tour = 0; tour <= 3; tour++) {
+            grille.gererExplosionsDifferrees();
+        }
+
+        assertTrue("La seule case libre doit recevoir la pastille.", grille.getCase(5, 5).contientPastilleEnergie());
+    }
+
+    @Test
+    public void testRegleInactive_AucuneReapparition() {
+        Parametres.renaissancePastilles = false;
+        grille = new Grille(messageHandler, 42L);
+        poserPastille(2, 2);
+        grille.getCase(2, 2).setContientPastilleEnergie(null);
+
+        for (int tour = 0; tour < 20; tour++) {
+            grille.gererExplosionsDifferrees();
+        }
+
+        assertFalse(grille.getRenaissancePastilles().estActive());
+        assertEquals(0, compterPastilles());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testDelaisIncoherents() {
+        Parametres.delaiMinRenaissancePastilles = 10;
+        Parametres.delaiMaxRenaissancePastilles = 5;
+        new Grille(messageHandler, 42L);
+    }
+
+    private int compterPastilles() {
+        int total = 0;
+        for (int x = 0; x < grille.getLargeur(); x++) {
+            for (int y = 0; y < grille.getLongueur(); y++) {
+                if (grille.getCase(x, y).contientPastilleEnergie()) {
+                    total++;
+                }
+            }
+        }
+        return total;
+    }
+}
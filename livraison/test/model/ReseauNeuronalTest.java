@@ -0,0 +1,166 @@
+package model;
+
+import model.combattantFactory.Guerrier;
+import model.factoryJoueur.Mode;
+import model.factoryJoueur.ReseauJoueur;
+import model.ia.Coup;
+import model.ia.EncodeurPlateau;
+import model.ia.ReseauNeuronal;
+import model.proxy.ProxyGrille;
+import utils.configuration.ConfigLoader;
+import utils.configuration.TypeEquipement;
+import utils.strategyMessage.MessageHandler;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
+
+import org.junit.Before;
+import org.junit.Test;
+import static org.junit.Assert.*;
+import static org.mockito.Mockito.*;
+
+public class ReseauNeuronalTest {
+
+    private Grille grille;
+    private MessageHandler messageHandler;
+    private Guerrier joueur;
+
+    @Before
+    public void setUp() {
+
+        try {
+            ConfigLoader.load();
+        } catch (Exception e) {
+            e.printStackTrace();
+            fail("Erreur lors du chargement de la configuration : " + e.getMessage());
+        }
+
+        messageHandler = mock(MessageHandler.class);
+        grille = new Grille(messageHandler);
+        joueur = placerGuerrier("Joueur", new Position(4, 4));
+        joueur.ajouterArme(new Arme(TypeEquipement.PISTOLET));
+        placerGuerrier("Adversaire", new Position(8, 8));
+    }
+
+    private Guerrier placerGuerrier(String nom, Position position) {
+        Guerrier guerrier = new Guerrier(nom, position, messageHandler, grille);
+        grille.getCase(position).setOccupant(guerrier);
+        grille.inscrireCombattant(guerrier);
+        return guerrier;
+    }
+
+    /**
+     * Écrit un réseau d'une couche aux poids nuls, dont les sorties valent les biais donnés.
+     */
+    private Path ecrireReseauConstant(int entrees, float[] biais) throws IOException {
+        ByteBuffer contenu = ByteBuffer.allocate(4 * (5 + entrees * biais.length + biais.length));
+        contenu.putInt(0x5245534E).putInt(1).putInt(1).putInt(entrees).putInt(biais.length);
+        contenu.position(contenu.position() + 4 * entrees * biais.length);
+        for (float b : biais) {
+            contenu.putFloat(b);
+        }
+        Path fichier = Files.createTempFile("reseau", ".bin");
+        Files.write(fichier, contenu.array());
+        return fichier;
+    }
+
+    @Test
+    public void testEcrireCharger_MemesSorties() throws IOException {
+        ReseauNeuronal reseau = ReseauNeuronal.aleatoire(new Random(1), EncodeurPlateau.taille(grille), 16, Coup.NOMBRE);
+        float[] entree = new float[EncodeurPlateau.taille(grille)];
+        EncodeurPlateau.encoder(joueur, grille, entree);
+        float[] attendu = reseau.evaluer(entree).clone();
+
+        Path fichier = Files.createTempFile("reseau", ".bin");
+        try {
+            reseau.ecrire(fichier);
+            ReseauNeuronal relu = ReseauNeuronal.charger(fichier);
+
+            assertEquals(EncodeurPlateau.taille(grille), relu.getTailleEntree());
+            assertEquals(Coup.NOMBRE, relu.getTailleSortie());
+            assertArrayEquals("Le réseau relu doit donner les mêmes scores.", attendu, relu.evaluer(entree), 0f);
+        } finally {
+            Files.deleteIfExists(fichier);
+        }
+    }
+
+    @Test
+    public void testChoisirCoup_MeilleurCoupLegal() throws IOException {
+        float[] biais = new float[Coup.NOMBRE];
+        biais[Coup.deplacer(LignesDeTir.EST)] = 2f;
+        biais[Coup.deplacer(LignesDeTir.NORD)] = 1f;
+        Path fichier = ecrireReseauConstant(EncodeurPlateau.taille(grille), biais);
+        try {
+            ReseauJoueur strategie = new ReseauJoueur(messageHandler, Mode.SIMULATION, ReseauNeuronal.charger(fichier));
+
+            assertEquals("Le coup de meilleur score doit être choisi.",
+                    Coup.deplacer(LignesDeTir.EST), strategie.choisirCoup(joueur, grille));
+
+            grille.getCase(5, 4).setEstMur(true);
+            assertEquals("Un coup illégal doit être écarté malgré son score.",
+                    Coup.deplacer(LignesDeTir.NORD), strategie.choisirCoup(joueur, grille));
+        } finally {
+            Files.deleteIfExists(fichier);
+        }
+    }
+
+    @Test
+    public void testChoisirCoup_ReseauIncompatibleCoupLegal() {
+        ReseauJoueur strategie = new ReseauJoueur(messageHandler, Mode.SIMULATION,
+                ReseauNeuronal.aleatoire(new Random(1), 3, Coup.NOMBRE));
+
+        assertTrue("Un réseau de mauvaise taille doit laisser place à un coup légal.",
+                Coup.estLegal(strategie.choisirCoup(joueur, grille), joueur, grille));
+    }
+
+    @Test
+    public void testEncoder_PlansEtValeurs() {
+        grille.getCase(1, 2).setContientPastilleEnergie(true);
+        int cases = grille.getLargeur() * grille.getLongueur();
+        float[] entree = new float[EncodeurPlateau.taille(grille)];
+
+        EncodeurPlateau.encoder(joueur, grille, entree);
+
+        assertEquals("La pastille doit figurer dans son plan.", 1f, entree[cases + 2 * grille.getLargeur() + 1], 0f);
+        assertEquals("L'observateur doit figurer dans son plan.", 1f, entree[2 * cases + 4 * grille.getLargeur() + 4], 0f);
+        assertEquals("L'adversaire doit figurer avec son énergie relative.", 1f, entree[4 * cases + 8 * grille.getLargeur() + 8], 0f);
+        assertEquals("L'énergie de l'observateur doit suivre les plans.", 1f, entree[EncodeurPlateau.CANAUX * cases], 0f);
+    }
+
+    @Test
+    public void testEncoder_BrouillardMasqueLesCasesHorsDeVue() {
+        grille.getCase(8, 7).setContientPastilleEnergie(true);
+        int cases = grille.getLargeur() * grille.getLongueur();
+        float[] entree = new float[EncodeurPlateau.taille(grille)];
+
+        EncodeurPlateau.encoder(new ProxyGrille(grille, joueur, 2), entree);
+
+        assertEquals("L'adversaire hors de vue ne doit pas être codé.", 0f, entree[4 * cases + 8 * grille.getLargeur() + 8], 0f);
+        assertEquals("La pastille hors de vue ne doit pas être codée.", 0f, entree[cases + 7 * grille.getLargeur() + 8], 0f);
+        assertEquals("L'observateur doit rester codé.", 1f, entree[2 * cases + 4 * grille.getLargeur() + 4], 0f);
+
+        EncodeurPlateau.encoder(new ProxyGrille(grille, joueur, ProxyGrille.SANS_BROUILLARD), entree);
+
+        assertEquals(1f, entree[4 * cases + 8 * grille.getLargeur() + 8], 0f);
+        assertEquals(1f, entree[cases + 7 * grille.getLargeur() + 8], 0f);
+    }
+
+    @Test(expected = IOException.class)
+    public void testCharger_FichierInvalide() throws IOException {
+        Path fichier = Files.createTempFile("reseau", ".bin");
+        try {
+            Files.write(fichier, new byte[]{1, 2, 3});
+            ReseauNeuronal.charger(fichier);
+        } finally {
+            Files.deleteIfExists(fichier);
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testEvaluer_EntreeTropCourte() {
+        ReseauNeuronal.aleatoire(new Random(1), 8, 4).evaluer(new float[4]);
+    }
+}
@@ -0,0 +1,124 @@
+package model;
+
+import model.combattantFactory.Guerrier;
+import utils.configuration.ConfigLoader;
+import utils.configuration.Parametres;
+import utils.configuration.ProprieteEquipement;
+import utils.configuration.TypeEquipement;
+import utils.strategyMessage.MessageHandler;
+
+import org.junit.Before;
+import org.junit.Test;
+import static org.junit.Assert.*;
+import static org.mockito.Mockito.*;
+
+public class SouffleTest {
+
+    private Grille grille;
+    private MessageHandler messageHandler;
+    private Guerrier poseur;
+
+    @Before
+    public void setUp() {
+
+        try {
+            ConfigLoader.load();
+        } catch (Exception e) {
+            e.printStackTrace();
+            fail("Erreur lors du chargement de la configuration : " + e.getMessage());
+        }
+
+        messageHandler = mock(MessageHandler.class);
+        grille = new Grille(messageHandler);
+        poseur = placerGuerrier("Poseur", new Position(9, 9));
+    }
+
+    private Guerrier placerGuerrier(String nom, Position position) {
+        Guerrier guerrier = new Guerrier(nom, position, messageHandler, grille);
+        grille.getCase(position).setOccupant(guerrier);
+        grille.inscrireCombattant(guerrier);
+        return guerrier;
+    }
+
+    private void configurerBombe(String forme, int rayon, int attenuation) {
+        Parametres.ajouterPropriete(TypeEquipement.BOMBE, ProprieteEquipement.FORME_SOUFFLE, forme);
+        Parametres.ajouterPropriete(TypeEquipement.BOMBE, ProprieteEquipement.RAYON_SOUFFLE, rayon);
+        Parametres.ajouterPropriete(TypeEquipement.BOMBE, ProprieteEquipement.ATTENUATION_SOUFFLE, attenuation);
+    }
+
+    private static int compterCases(Souffle souffle) {
+        int cases = 0;
+        for (int dx = -souffle.getRayon(); dx <= souffle.getRayon(); dx++) {
+            for (int dy = -souffle.getRayon(); dy <= souffle.getRayon(); dy++) {
+                if (souffle.atteint(dx, dy)) {
+                    cases++;
+                }
+            }
+        }
+        return cases;
+    }
+
+    @Test
+    public void testPour_ConfigurationParDefautHuitVoisines() {
+        Souffle souffle = Souffle.pour(TypeEquipement.BOMBE);
+
+        assertEquals(Souffle.Forme.CARRE, souffle.getForme());
+        assertEquals(1, souffle.getRayon());
+        assertEquals("Le centre et ses huit voisines doivent être atteints.", 9, compterCases(souffle));
+        assertEquals(20, souffle.attenuer(20, 1));
+        assertSame("Le gabarit doit être réutilisé.", souffle, new Bombe(poseur, TypeEquipement.BOMBE).getSouffle());
+    }
+
+    @Test
+    public void testGabarits_FormesEtAttenuation() {
+        assertEquals(25, compterCases(new Souffle(Souffle.Forme.CARRE, 2, 0)));
+        assertEquals(13, compterCases(new Souffle(Souffle.Forme.LOSANGE, 2, 0)));
+        assertEquals(9, compterCases(new Souffle(Souffle.Forme.CROIX, 2, 0)));
+
+        Souffle souffle = new Souffle(Souffle.Forme.LOSANGE, 3, 40);
+        assertEquals(2, souffle.distance(1, -1));
+        assertEquals(100, souffle.attenuer(100, 1));
+        assertEquals(60, souffle.attenuer(100, 2));
+        assertEquals(20, souffle.attenuer(100, 3));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testSouffle_RayonInvalide() {
+        new Souffle(Souffle.Forme.CROIX, 0, 0);
+    }
+
+    @Test
+    public void testDeclencher_SouffleConfigure() {
+        Parametres.reactionEnChaine = true;
+        configurerBombe("losange", 2, 50);
+        grille.getCase(4, 4).setExplosif(new Bombe(poseur, TypeEquipement.BOMBE));
+        grille.getCase(4, 6).setExplosif(new Bombe(poseur, TypeEquipement.BOMBE));
+        Guerrier proche = placerGuerrier("Proche", new Position(5, 4));
+        Guerrier diagonale = placerGuerrier("Diagonale", new Position(3, 3));
+        Guerrier horsZone = placerGuerrier("Hors zone", new Position(6, 3));
+        int energie = proche.getEnergie();
+        int impact = new Bombe(poseur, TypeEquipement.BOMBE).getImpactEnergie();
+
+        assertEquals("Le souffle doit atteindre la bombe à deux cases.", 2,
+                grille.getReactionEnChaine().declencher(grille.getCase(4, 4), null));
+
+        assertEquals(energie - impact, proche.getEnergie());
+        assertEquals("La diagonale est à distance 2 dans un losange.", energie - impact / 2, diagonale.getEnergie());
+        assertEquals(energie, horsZone.getEnergie());
+    }
+
+    @Test
+    public void testCarteMenaces_SouffleConfigure() {
+        configurerBombe("croix", 3, 50);
+        grille.getCase(4, 4).setExplosif(new Bombe(poseur, TypeEquipement.BOMBE));
+        int impact = new Bombe(poseur, TypeEquipement.BOMBE).getImpactEnergie();
+
+        assertEquals(impact, grille.getCarteMenaces().getDegatsExplosifs(4, 4));
+        assertEquals(impact / 2, grille.getCarteMenaces().getDegatsExplosifs(4, 6));
+        assertEquals(0, grille.getCarteMenaces().getDegatsExplosifs(4, 7));
+        assertEquals("La croix ne couvre pas les diagonales.", 0, grille.getCarteMenaces().getDegatsExplosifs(5, 5));
+
+        grille.getCase(4, 4).retirerExplosif();
+        assertEquals(0, grille.getCarteMenaces().getDegatsExplosifs(4, 6));
+    }
+}